@@ -0,0 +1,43 @@
+
+package bytecode;
+
+// StringBuilder FastIntSet replaced in current.Utils, kept to compare bytecode
+public class OldFastIntSet {
+    public StringBuilder keys;
+    public int size;
+
+    public OldFastIntSet() {
+        keys = new StringBuilder();
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(int i) {
+        String key = String.valueOf((char) i);
+        if (keys.indexOf(key) < 0) {
+            keys.append(key);
+            size++;
+        }
+    }
+
+    public void remove(int i) {
+        String key = String.valueOf((char) i);
+        int index;
+        if ((index = keys.indexOf(key)) >= 0) {
+            keys.deleteCharAt(index);
+            size--;
+        }
+    }
+
+    public boolean contains(int i) {
+        return keys.indexOf(String.valueOf((char) i)) >= 0;
+    }
+
+    public void clear() {
+        size = 0;
+        keys = new StringBuilder();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package bytecode;
+
+import current.Communication.Communication;
+import current.Utils.IntLIFO;
+
+// MessageLIFO replaced by current.Communication.MessageQueue, kept to compare bytecode
+public class OldMessageLIFO {
+    public static IntLIFO buffer2 = new IntLIFO(); // Emergency
+    public static IntLIFO buffer1 = new IntLIFO(); // Important
+    public static IntLIFO buffer0 = new IntLIFO(); // Common
+
+    public static void add(int msg, int priority){
+        switch (priority){
+            case 2: buffer2.add(msg); return;
+            case 1: buffer1.add(msg); return;
+            case 0: buffer0.add(msg); return;
+            default:
+                System.out.println("ERR: Message priority should be in [0, 3] 0 is LOW, 3 is CRIT, got " + priority);
+        }
+    }
+
+    public static int pop(){
+        if(buffer2.size > 0){return buffer2.pop();}
+        if(buffer1.size > 0){return buffer1.pop();}
+        if(buffer0.size > 0){return buffer0.pop();}
+        return 0;
+    }
+
+    // Pop the most recent message of this type (cf Communication.MASK_TYPE), 0 if none
+    public static int popType(int type){
+        int msg = popType(buffer2, type);
+        if(msg != 0){return msg;}
+        msg = popType(buffer1, type);
+        if(msg != 0){return msg;}
+        return popType(buffer0, type);
+    }
+
+    static int popType(IntLIFO buffer, int type){
+        int[] content = buffer.content;
+        for(int i = buffer.size - 1; i >= 0; i--){
+            if((content[i] & Communication.MASK_TYPE) == type){
+                int msg = content[i];
+                // Keep order of other messages
+                System.arraycopy(content, i + 1, content, i, buffer.size - i - 1);
+                buffer.size--;
+                return msg;
+            }
+        }
+        return 0;
+    }
+}
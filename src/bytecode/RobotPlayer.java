@@ -1,7 +1,24 @@
 package bytecode;
 
 import battlecode.common.*;
+import current.Communication.Communication;
+import current.Communication.MessageFilter;
+import current.Communication.MessageQueue;
+import current.Communication.Messages;
+import current.Communication.RingAccess;
+import current.Robots.Robot;
+import current.States.Code;
+import current.States.Result;
+import current.Utils.BugNavLmx;
+import current.Utils.FastIntSet;
+import current.Utils.FastIterableLocSet;
+import current.Utils.MapLocations;
 import current.Utils.MapLocationsWithId;
+import current.Utils.Micro;
+import current.Utils.PackedLocationsWithId;
+
+import java.util.Arrays;
+import java.util.Random;
 
 public class RobotPlayer {
     public static String msg;
@@ -240,6 +257,124 @@ public class RobotPlayer {
         int baseClear = end();
 
 
+        /////////// Fast sets, array vs StringBuilder ///////////////////////////////////////
+        // Same operations on N elements, StringBuilder versions first as base
+        System.out.println("\n\nFast sets construction (array vs StringBuilder)");
+        start("new OldFastIntSet()");
+        new OldFastIntSet();
+        base = end();
+
+        start("new FastIntSet(100)");
+        new FastIntSet(100);
+        endCompare(base);
+
+        start("new OldFastIterableLocSet(100)");
+        new OldFastIterableLocSet(100);
+        base = end();
+
+        start("new FastIterableLocSet(100)");
+        FastIterableLocSet boundsSet = new FastIterableLocSet(100);
+        endCompare(base);
+
+        boolean outOfRange = boundsSet.add(64, 0) || boundsSet.add(-1, 5) || boundsSet.add(new MapLocation(3, 70))
+                || boundsSet.contains(0, 64) || boundsSet.contains(-64, 0) || new FastIntSet().contains(4096);
+        System.out.println("Out of range locations or keys accepted : " + outOfRange);
+
+        for (int n : new int[]{10, 50, 100}) {
+            System.out.println("\n\nFast sets on " + n + " elements (array vs StringBuilder)");
+            OldFastIntSet oldIntSet = new OldFastIntSet();
+            FastIntSet intSet = new FastIntSet(100);
+            OldFastIterableLocSet oldLocSet = new OldFastIterableLocSet(100);
+            FastIterableLocSet locSet = new FastIterableLocSet(100);
+
+            start("Old FastIntSet add");
+            for (int k = 0; k < n; k++) {
+                oldIntSet.add(k * 37);
+            }
+            base = end();
+
+            start("FastIntSet add");
+            for (int k = 0; k < n; k++) {
+                intSet.add(k * 37);
+            }
+            endCompare(base);
+
+            start("Old FastIntSet contains");
+            for (int k = 0; k < n; k++) {
+                oldIntSet.contains(k * 37);
+            }
+            base = end();
+
+            start("FastIntSet contains");
+            for (int k = 0; k < n; k++) {
+                intSet.contains(k * 37);
+            }
+            endCompare(base);
+
+            start("Old FastIntSet remove");
+            for (int k = 0; k < n; k++) {
+                oldIntSet.remove(k * 37);
+            }
+            base = end();
+
+            start("FastIntSet remove");
+            for (int k = 0; k < n; k++) {
+                intSet.remove(k * 37);
+            }
+            endCompare(base);
+
+            start("Old FastIterableLocSet add");
+            for (int k = 0; k < n; k++) {
+                oldLocSet.add(k % 60, k / 60 + 3);
+            }
+            base = end();
+
+            start("FastIterableLocSet add");
+            for (int k = 0; k < n; k++) {
+                locSet.add(k % 60, k / 60 + 3);
+            }
+            endCompare(base);
+
+            start("Old FastIterableLocSet contains");
+            for (int k = 0; k < n; k++) {
+                oldLocSet.contains(k % 60, k / 60 + 3);
+            }
+            base = end();
+
+            start("FastIterableLocSet contains");
+            for (int k = 0; k < n; k++) {
+                locSet.contains(k % 60, k / 60 + 3);
+            }
+            endCompare(base);
+
+            start("Old FastIterableLocSet iterate");
+            oldLocSet.updateIterable();
+            for (int k = oldLocSet.size - 1; k >= 0; k--) {
+                foo(oldLocSet.locs[k]);
+            }
+            base = end();
+
+            start("FastIterableLocSet iterate");
+            locSet.updateIterable();
+            for (int k = locSet.size - 1; k >= 0; k--) {
+                foo(locSet.locs[k]);
+            }
+            endCompare(base);
+
+            start("Old FastIterableLocSet remove");
+            for (int k = 0; k < n; k++) {
+                oldLocSet.remove(k % 60, k / 60 + 3);
+            }
+            base = end();
+
+            start("FastIterableLocSet remove");
+            for (int k = 0; k < n; k++) {
+                locSet.remove(k % 60, k / 60 + 3);
+            }
+            endCompare(base);
+        }
+
+
         /////////// MapLocations ///////////////////////////////////////
         System.out.println("\n\nMapLocations");
         start("new MapLocations(100)");
@@ -253,11 +388,11 @@ public class RobotPlayer {
 
         System.out.println();
         start("Add      x, y");
-        mapLocations.add(1, 2);
+        mapLocations.add(1 + (2 << 6));
         endCompare(baseAddXandY);
 
         start("Add      x, y already existing");
-        mapLocations.add(1, 2);
+        mapLocations.add(1 + (2 << 6));
         endCompare(baseAddMapLocation);
 
         start("Contains x, y");
@@ -265,24 +400,24 @@ public class RobotPlayer {
         endCompare(baseContainsXandY);
 
         start("Remove   x, y");
-        mapLocations.remove(1, 2);
+        mapLocations.remove(new MapLocation(1, 2));
         endCompare(baseRemoveXandY);
 
         System.out.println();
         start("Add      xy");
-        mapLocations.add(122); // 2 + 60*2
+        mapLocations.add(122); // 58 + (1 << 6)
         endCompare(baseAddXandY);
 
         start("Add      xy already exist");
-        mapLocations.add(122); // 2 + 60*2
+        mapLocations.add(122); // 58 + (1 << 6)
         endCompare(baseAddXandY);
 
         start("Contains xy");
-        mapLocations.contains(122); // 2 + 60*2
+        mapLocations.contains(58, 1);
         endCompare(baseContainsXandY);
 
         start("Remove   xy");
-        mapLocations.remove(122); // 2 + 60*2
+        mapLocations.remove(new MapLocation(58, 1));
         endCompare(baseRemoveXandY);
 
         System.out.println();
@@ -293,19 +428,19 @@ public class RobotPlayer {
         MapLocationsWithId mapLocationsWithId = new MapLocationsWithId((char)100, true); // MaxSize, FlushWhenTrue
         end();
 
-        MapLocation loc = new MapLocation(0, 0);
+        MapLocation locWithId = new MapLocation(0, 0);
         int id = 13;
         start("Add MapLocation");
-        mapLocationsWithId.add(loc, id);
+        mapLocationsWithId.add(locWithId, id);
         endCompare(baseAddMapLocation);
 
         System.out.println();
         start("Add      x, y");
-        mapLocations.add(1, 2);
+        mapLocations.add(1 + (2 << 6));
         endCompare(baseAddXandY);
 
         start("Add      x, y already existing");
-        mapLocations.add(1, 2);
+        mapLocations.add(1 + (2 << 6));
         endCompare(baseAddMapLocation);
 
         start("Contains x, y");
@@ -313,24 +448,24 @@ public class RobotPlayer {
         endCompare(baseContainsXandY);
 
         start("Remove   x, y");
-        mapLocations.remove(1, 2);
+        mapLocations.remove(new MapLocation(1, 2));
         endCompare(baseRemoveXandY);
 
         System.out.println();
         start("Add      xy");
-        mapLocations.add(122); // 2 + 60*2
+        mapLocations.add(122); // 58 + (1 << 6)
         endCompare(baseAddXandY);
 
         start("Add      xy already exist");
-        mapLocations.add(122); // 2 + 60*2
+        mapLocations.add(122); // 58 + (1 << 6)
         endCompare(baseAddXandY);
 
         start("Contains xy");
-        mapLocations.contains(122); // 2 + 60*2
+        mapLocations.contains(58, 1);
         endCompare(baseContainsXandY);
 
         start("Remove   xy");
-        mapLocations.remove(122); // 2 + 60*2
+        mapLocations.remove(new MapLocation(58, 1));
         endCompare(baseRemoveXandY);
 
         System.out.println();
@@ -339,7 +474,7 @@ public class RobotPlayer {
         // Setup 10 elements
         mapLocations.clear();
         for (int i = 0; i < 10; i++) {
-            mapLocations.add(i + 60*i);
+            mapLocations.add(i + (i << 6));
         }
 
         start("Update iterable on 10 elements");
@@ -357,6 +492,523 @@ public class RobotPlayer {
         mapLocations.clear();
         endCompare(baseClear);
 
+        /////////// PackedLocationsWithId buckets ///////////////////////////////////////
+        // nearestAndClear with and without the bucket index, on the same random units around the robot.
+        // Both must keep the same units and find the same nearest distance (ties may pick another unit).
+        System.out.println("\n\nPackedLocationsWithId nearestAndClear (linear vs buckets)");
+        Robot.rc = rc;
+        MapLocation here = rc.getLocation();
+        int mapWidth = rc.getMapWidth();
+        int mapHeight = rc.getMapHeight();
+        Random bucketRandom = new Random(22);
+        int bucketMismatches = 0;
+        int bucketTests = 50;
+        for (int t = 0; t < bucketTests; t++) {
+            PackedLocationsWithId linear = new PackedLocationsWithId((char) 100, true);
+            PackedLocationsWithId buckets = new PackedLocationsWithId((char) 100, true, true);
+            int unitCount = 1 + bucketRandom.nextInt(100);
+            for (int k = 0; k < unitCount; k++) {
+                int ux = Math.max(0, Math.min(mapWidth - 1, here.x + bucketRandom.nextInt(41) - 20));
+                int uy = Math.max(0, Math.min(mapHeight - 1, here.y + bucketRandom.nextInt(41) - 20));
+                int unitId = bucketRandom.nextInt(4096);
+                linear.add(ux | (uy << 6), unitId);
+                buckets.add(ux | (uy << 6), unitId);
+            }
+            int maxDist = (t % 2 == 0) ? 100 : 200;
+            int linearIndex = linear.nearestAndClear(here, maxDist);
+            int bucketIndex = buckets.nearestAndClear(here, maxDist);
+            int linearDist = linearIndex < 0 ? -1 : linear.distanceSquared(linearIndex, here.x, here.y);
+            int bucketDist = bucketIndex < 0 ? -1 : buckets.distanceSquared(bucketIndex, here.x, here.y);
+            boolean sameUnits = linear.size == buckets.size;
+            for (int k = 0; k < linear.size && sameUnits; k++) {
+                sameUnits = buckets.contains(linear.ids[k]);
+            }
+            if (!sameUnits || linearDist != bucketDist) {
+                bucketMismatches++;
+                System.out.println("Mismatch on " + unitCount + " units : kept " + linear.size + " / " + buckets.size
+                        + ", nearest distance " + linearDist + " / " + bucketDist);
+            }
+        }
+        System.out.println("Mismatches on " + bucketTests + " random sets : " + bucketMismatches);
+
+        for (int n : new int[]{10, 30, 100}) {
+            PackedLocationsWithId linear = new PackedLocationsWithId((char) 100, true);
+            PackedLocationsWithId buckets = new PackedLocationsWithId((char) 100, true, true);
+            for (int k = 0; k < n; k++) {
+                int ux = bucketRandom.nextInt(mapWidth);
+                int uy = bucketRandom.nextInt(mapHeight);
+                linear.add(ux | (uy << 6), k);
+                buckets.add(ux | (uy << 6), k);
+            }
+            Clock.yield(); // Sensing is measured, start with a full budget
+
+            start("Linear, " + n + " units on the map");
+            linear.nearestAndClear(here, 100);
+            base = end();
+
+            start("Buckets, " + n + " units on the map");
+            buckets.nearestAndClear(here, 100);
+            endCompare(base);
+        }
+
+        /////////// State dispatch ///////////////////////////////////////
+        System.out.println("\n\nState dispatch (one transition)");
+        String stateName = "Explore";
+        start("Switch on state name");
+        a = switch (stateName) {
+            case "Init" -> 1;
+            case "AvoidCat" -> 2;
+            case "AttackEnemy" -> 3;
+            case "ThrowToWalls" -> 4;
+            case "BecomeKing" -> 5;
+            case "AttackCat" -> 6;
+            case "CheeseToKing" -> 7;
+            case "PlaceTrap" -> 8;
+            case "CollectCheese" -> 9;
+            case "Explore" -> 10;
+            case "EndTurn" -> 0;
+            default -> -1;
+        };
+        base = end();
+
+        int[] transitions = new int[16];
+        int stateId = 9;
+        start("Transition table");
+        a = transitions[stateId];
+        if(a < -1){
+            a = 0;
+        }
+        endCompare(base);
+
+        /////////// Results and debug messages ///////////////////////////////////////
+        System.out.println("\n\nResults and debug messages (Robot.DEBUG = " + Robot.DEBUG + ")");
+        MapLocation target = new MapLocation(12, 34);
+        Result result;
+        start("new Result with concatenation");
+        result = new Result(Code.OK, "Moving to " + target);
+        base = end();
+
+        start("Result.of, message behind DEBUG");
+        result = Result.of(Code.OK, Robot.DEBUG ? "Moving to " + target : "");
+        endCompare(base);
+
+        start("print with concatenation");
+        Robot.print("Moving to " + target);
+        base = end();
+
+        start("print behind DEBUG");
+        if(Robot.DEBUG) Robot.print("Moving to " + target);
+        endCompare(base);
+
+        /////////// Micro ////////////////////////////////////////////////
+        System.out.println("\n\nMicro (AttackEnemy.initScore)");
+        Micro.init(rc);
+        Random random = new Random(26);
+        MapLocation me = new MapLocation(20, 20);
+        MapLocation[] enemies = new MapLocation[10];
+        char[] enemiesDir = new char[10];
+        for (int k = 0; k < enemies.length; k++) {
+            // Cells in Micro radius (34)
+            do {
+                enemies[k] = me.translate(random.nextInt(11) - 5, random.nextInt(11) - 5);
+            } while (me.distanceSquaredTo(enemies[k]) > 34);
+            enemiesDir[k] = (char) random.nextInt(8);
+        }
+
+        Micro.reset();
+        start("Micro.addMicroScore");
+        Micro.addMicroScore(me, enemies[0], enemiesDir[0], 10, 100);
+        end();
+
+        start("Micro.addThrowMicroScore");
+        Micro.addThrowMicroScore(me, enemies[0], Micro.ATTACK_THROW);
+        end();
+
+        // Fights of 1 to 10 enemies in range, one call per enemy like the AttackEnemy loop
+        for (int crowdSize : new int[]{1, 2, 4, 6, 10}) {
+            Micro.reset();
+            start("Micro, throw + attack, " + crowdSize + " enemies");
+            for (int k = 0; k < crowdSize; k++) {
+                Micro.addThrowMicroScore(me, enemies[k], Micro.ATTACK_THROW);
+                Micro.addMicroScore(me, enemies[k], enemiesDir[k], 10, 100);
+            }
+            end();
+        }
+
+        /////////// Message dedupe ///////////////////////////////////////
+        System.out.println("\n\nMessage dedupe (MessageFilter vs char[65536])");
+        start("new char[65536] (old lastTimeSeenMessage)");
+        char[] lastTimeSeen = new char[65536];
+        base = end();
+
+        start("MessageFilter class init");
+        MessageFilter.rotate(0);
+        endCompare(base);
+
+        int message = (4 << 24) | 12 | (34 << 6);
+        start("Old check and set");
+        if(lastTimeSeen[message & 0b11111111111111] <= 10){
+            lastTimeSeen[message & 0b11111111111111] = 12;
+        }
+        base = end();
+
+        start("MessageFilter.contains + add");
+        if(!MessageFilter.contains(message)){
+            MessageFilter.add(message);
+        }
+        endCompare(base);
+
+        start("MessageFilter.rotate");
+        MessageFilter.rotate(MessageFilter.PERIOD);
+        end();
+
+        // False positives over 100 rounds, for several numbers of new messages per round.
+        // A baby decodes about 20 records per round from the ring in a big fight, plus squeaks.
+        // Messages look like real ones (type, id, position), each round checks 100 messages never added.
+        Random filterRandom = new Random(12);
+        for (int perRound : new int[]{10, 20, 40, 80}) {
+            int falsePositives = 0;
+            int tests = 0;
+            for (int filterRound = 0; filterRound < 100; filterRound++) {
+                MessageFilter.rotate(1000 * perRound + filterRound);
+                for (int k = 0; k < perRound; k++) {
+                    MessageFilter.add(((1 + filterRandom.nextInt(13)) << 24) | (filterRandom.nextInt(4096) << 12)
+                            | filterRandom.nextInt(60) | (filterRandom.nextInt(60) << 6));
+                }
+                for (int k = 0; k < 100; k++) {
+                    // Type 14 is never sent, so these messages were never added
+                    if (MessageFilter.contains((14 << 24) | (filterRandom.nextInt(4096) << 12)
+                            | filterRandom.nextInt(60) | (filterRandom.nextInt(60) << 6))) {
+                        falsePositives++;
+                    }
+                    tests++;
+                }
+            }
+            System.out.println(String.format("False positives, %2d messages per round : %4d / %d",
+                    perRound, falsePositives, tests));
+        }
+
+        /////////// Message queue ///////////////////////////////////////
+        // Same messages in both, priorities 0..2, a third are mines. MessageQueue also dedupes and ages messages.
+        System.out.println("\n\nMessage queue (MessageLIFO vs MessageQueue)");
+        Random queueRandom = new Random(14);
+        for (int queued : new int[]{10, 64}) {
+            int[] queueMessages = new int[queued];
+            int[] queuePriorities = new int[queued];
+            for (int k = 0; k < queued; k++) {
+                int type = (k % 3 == 0) ? 4 : 1 + queueRandom.nextInt(11);
+                queueMessages[k] = (type << 24) | (queueRandom.nextInt(4096) << 12) | queueRandom.nextInt(60) | (queueRandom.nextInt(60) << 6);
+                queuePriorities[k] = queueRandom.nextInt(3);
+            }
+
+            start("MessageLIFO add " + queued);
+            for (int k = 0; k < queued; k++) {
+                OldMessageLIFO.add(queueMessages[k], queuePriorities[k]);
+            }
+            base = end();
+
+            start("MessageQueue add " + queued);
+            for (int k = 0; k < queued; k++) {
+                MessageQueue.add(queueMessages[k], queuePriorities[k]);
+            }
+            endCompare(base);
+
+            start("MessageQueue add " + queued + " already queued");
+            for (int k = 0; k < queued; k++) {
+                MessageQueue.add(queueMessages[k], queuePriorities[k]);
+            }
+            endCompare(base);
+
+            start("MessageLIFO popType mine");
+            OldMessageLIFO.popType(Communication.TYPE_MINE);
+            base = end();
+
+            start("MessageQueue popType mine");
+            MessageQueue.popType(Communication.TYPE_MINE);
+            endCompare(base);
+
+            start("MessageLIFO pop " + (queued - 1));
+            while (OldMessageLIFO.pop() != 0) {
+            }
+            base = end();
+
+            start("MessageQueue pop " + (queued - 1));
+            while (MessageQueue.pop() != 0) {
+            }
+            endCompare(base);
+        }
+
+        /////////// Multi-king writes ///////////////////////////////////////
+        // Kings with always full queues and a baby playing after each of them, every robot has its own copy of the
+        // shared array and copies the slots like readMessages and writeToArray. Records are real ones (KING first,
+        // DEFEND and units near the king, SECTOR from the first king, MINE), babies check them against the write log.
+        // A baby is lapped when more than the ring was written between two of its turns.
+        System.out.println("\n\nMulti-king writes (ring of " + Communication.RING_BITS + " bits)");
+        for (int kingCount = 3; kingCount <= 5; kingCount++) {
+            for (int budgeted = 0; budgeted < 2; budgeted++) {
+                Random kingRandom = new Random(kingCount);
+                int[] engineArray = new int[64];
+                int[][] robotArrays = new int[2 * kingCount][64]; // King k then its baby
+                int[] lastEnds = new int[kingCount];
+                int[] written = new int[kingCount];   // Records per king
+                int[] readAt = new int[kingCount];    // Write log index of the next record expected by each baby
+                int[] readIndexes = new int[kingCount];
+                int[] writeLog = new int[200 * kingCount * Communication.RING_BITS / Communication.MIN_RECORD_BITS];
+                int logSize = 0;
+                int sectorIndex = 0;
+                int decodedRecords = 0;
+                int missedRecords = 0;
+                int wrongRecords = 0;
+                int resyncs = 0;
+                for (int kingRound = 0; kingRound < 200; kingRound++) {
+                    for (int k = 0; k < kingCount; k++) {
+                        // King, writeToArray
+                        int kingX = 12 + 9 * k;
+                        int kingY = 48 - 8 * k;
+                        int startBit = engineArray[0];
+                        int bitsLeft = Communication.RING_BITS;
+                        if (budgeted == 1) {
+                            int others = (kingRound == 0) ? (kingCount - 1) * (Communication.RING_BITS / kingCount)
+                                    : Communication.ringDistance(lastEnds[k], startBit);
+                            bitsLeft = Communication.writeBudget(others, kingCount);
+                        }
+                        if (bitsLeft >= 2 * Communication.MAX_RECORD_BITS) {
+                            int[] kingArray = robotArrays[2 * k];
+                            kingArray[RingAccess.firstSlot(startBit)] = engineArray[RingAccess.firstSlot(startBit)];
+                            RingAccess.select(kingArray);
+                            RingAccess.seek(startBit);
+                            int sent = Messages.encodeKing(kingX, kingY, 100 + k);
+                            for (; ; ) {
+                                bitsLeft -= RingAccess.write(sent);
+                                writeLog[logSize++] = sent;
+                                written[k]++;
+                                if (bitsLeft < 2 * Communication.MAX_RECORD_BITS) {
+                                    break;
+                                }
+                                int dx = kingRandom.nextInt(11) - 5;
+                                int dy = kingRandom.nextInt(11) - 5;
+                                sent = switch (kingRandom.nextInt(6)) {
+                                    case 0, 1 -> Messages.encodeDefend(kingX + dx, kingY + dy, kingRandom.nextInt(4096));
+                                    case 2 -> Messages.encodeMine(kingRandom.nextInt(60), kingRandom.nextInt(60));
+                                    case 3 -> Messages.encodeEnemyRat(kingX + 2 * dx, kingY + 2 * dy, kingRandom.nextInt(4096));
+                                    case 4 -> Messages.encodeCat(kingRandom.nextInt(60), kingRandom.nextInt(60), kingRandom.nextInt(4096));
+                                    default -> {
+                                        if (k > 0) {
+                                            yield Messages.encodeMine(kingRandom.nextInt(60), kingRandom.nextInt(60));
+                                        }
+                                        sectorIndex = (sectorIndex + 1) & 31;
+                                        yield Messages.encodeSector(kingRandom.nextInt(9) | (kingRandom.nextInt(9) << 12),
+                                                (sectorIndex >> 1) & 7, sectorIndex & 1, sectorIndex >> 4);
+                                    }
+                                };
+                            }
+                            for (int slot = RingAccess.firstSlot(startBit); ; slot = (slot == 63) ? 1 : slot + 1) {
+                                engineArray[slot] = kingArray[slot];
+                                if (slot == RingAccess.lastSlot(RingAccess.position())) {
+                                    break;
+                                }
+                            }
+                            engineArray[0] = RingAccess.position();
+                        }
+                        lastEnds[k] = engineArray[0];
+
+                        // Baby, readMessages and readFromSharedArray
+                        int[] babyArray = robotArrays[2 * k + 1];
+                        int indexTo = engineArray[0];
+                        if (indexTo != readIndexes[k]) {
+                            for (int slot = RingAccess.firstSlot(readIndexes[k]); ; slot = (slot == 63) ? 1 : slot + 1) {
+                                babyArray[slot] = engineArray[slot];
+                                if (slot == RingAccess.lastSlot(indexTo)) {
+                                    break;
+                                }
+                            }
+                        }
+                        RingAccess.select(babyArray);
+                        RingAccess.seek(readIndexes[k]);
+                        int expected = readAt[k];
+                        while (RingAccess.position() != indexTo) {
+                            int decoded = RingAccess.next(indexTo);
+                            if (decoded == -1) {
+                                resyncs++;
+                                break;
+                            }
+                            if (decoded == 0) {
+                                continue;
+                            }
+                            if (expected < logSize && decoded == writeLog[expected]) {
+                                decodedRecords++;
+                                expected++;
+                            } else {
+                                wrongRecords++;
+                            }
+                        }
+                        missedRecords += logSize - expected;
+                        readAt[k] = logSize;
+                        readIndexes[k] = RingAccess.position();
+                    }
+                }
+                System.out.println(String.format("%d kings, %-9s : decoded %5d, not decoded %5d, wrong %4d, resyncs %3d, records per king %s",
+                        kingCount, budgeted == 1 ? "budget" : "no budget", decodedRecords, missedRecords, wrongRecords, resyncs,
+                        Arrays.toString(written)));
+            }
+        }
+
+        /////////// Shared array records ///////////////////////////////////////
+        // Random records of every type, written by a king and read back by a baby, a KING record and 9 others per turn.
+        // Units near the KING and consecutive SECTOR use the short encodings, SECTOR hints are 0..8 like SectorHints.
+        System.out.println("\n\nShared array records (round trip)");
+        Random recordRandom = new Random(11);
+        int[] records = new int[9000];
+        int lastKing = 0;
+        int lastSector = 0;
+        for (int k = 0; k < records.length; k++) {
+            int type = (k % 10 == 0) ? 2 : 1 + recordRandom.nextInt(13);
+            int payload = recordRandom.nextInt(1 << Messages.PAYLOAD_BITS[type]);
+            if ((type == 1 || type == 3 || type == 5 || type == 6 || type == 9) && recordRandom.nextBoolean()) {
+                int radius = (type == 9) ? Communication.NEAR_RADIUS : Communication.WIDE_RADIUS;
+                int nearX = Math.max(0, Math.min(59, (lastKing & 0b111111) + recordRandom.nextInt(2 * radius + 1) - radius));
+                int nearY = Math.max(0, Math.min(59, ((lastKing >> 6) & 0b111111) + recordRandom.nextInt(2 * radius + 1) - radius));
+                payload = (payload & 0xFFF000) | nearX | (nearY << 6);
+            }
+            if (type == 10) {
+                lastSector = recordRandom.nextBoolean() ? (lastSector + 1) & 31 : recordRandom.nextInt(32);
+                int hints = 0;
+                for (int h = 0; h < 4; h++) {
+                    hints |= recordRandom.nextInt(9) << (h << 2);
+                }
+                payload = Messages.encodeSector(hints, (lastSector >> 1) & 7, lastSector & 1, lastSector >> 4) & 0xFFFFFF;
+            }
+            records[k] = (type << 24) | payload;
+            if (type == 2) {
+                lastKing = payload;
+            }
+        }
+        int[] kingArray = new int[64];
+        int[] babyArray = new int[64];
+        int recordErrors = 0;
+        int readIndex = 0;
+        start("Round trip of " + records.length + " records");
+        for (int k = 0; k < records.length; k += 10) {
+            RingAccess.select(kingArray);
+            int writeStart = kingArray[0];
+            RingAccess.seek(writeStart);
+            for (int r = k; r < k + 10; r++) {
+                RingAccess.write(records[r]);
+            }
+            kingArray[0] = RingAccess.position();
+
+            // Engine copy of the slots written, as readMessages reads them
+            for (int slot = RingAccess.firstSlot(writeStart); ; slot = (slot == 63) ? 1 : slot + 1) {
+                babyArray[slot] = kingArray[slot];
+                if (slot == RingAccess.lastSlot(kingArray[0])) {
+                    break;
+                }
+            }
+            babyArray[0] = kingArray[0];
+
+            RingAccess.select(babyArray);
+            RingAccess.seek(readIndex);
+            int next = k;
+            while (RingAccess.position() != babyArray[0]) {
+                int record = RingAccess.next(babyArray[0]);
+                if (record == -1) {
+                    break;
+                }
+                if (record == 0) {
+                    continue;
+                }
+                if (next >= k + 10 || record != records[next]) {
+                    recordErrors++;
+                }
+                next++;
+            }
+            recordErrors += Math.max(0, k + 10 - next); // Records lost by the reader
+            readIndex = RingAccess.position();
+        }
+        end();
+        System.out.println("Records not decoded as written : " + recordErrors + " / " + records.length);
+
+        // A reader out of sync can start anywhere, it must not read past slot 63
+        for (int bit = Communication.RING_BITS - Communication.MAX_RECORD_BITS; bit < Communication.RING_BITS; bit++) {
+            RingAccess.seek(bit);
+            RingAccess.next(0);
+        }
+
+        // A turn ending exactly at the end of the ring: header and next slots must start again at bit 0
+        int[] edgeRecords = new int[]{Messages.encodeKing(30, 30, 7), Messages.encodeSector(0x8765, 2, 1, 0)};
+        int edgeStart = Communication.RING_BITS - 26 - 21;
+        Arrays.fill(kingArray, 0);
+        Arrays.fill(babyArray, 0);
+        RingAccess.select(kingArray);
+        RingAccess.seek(edgeStart);
+        for (int record : edgeRecords) {
+            RingAccess.write(record);
+        }
+        kingArray[0] = RingAccess.position();
+        int edgeFirst = RingAccess.firstSlot(edgeStart);
+        int edgeLast = RingAccess.lastSlot(kingArray[0]);
+        for (int slot = edgeFirst; ; slot = (slot == 63) ? 1 : slot + 1) {
+            babyArray[slot] = kingArray[slot];
+            if (slot == edgeLast) {
+                break;
+            }
+        }
+        babyArray[0] = kingArray[0];
+        RingAccess.select(babyArray);
+        RingAccess.seek(edgeStart);
+        int edgeDecoded = 0;
+        while (RingAccess.position() != babyArray[0]) {
+            int record = RingAccess.next(babyArray[0]);
+            if (record > 0 && edgeDecoded < edgeRecords.length && record == edgeRecords[edgeDecoded]) {
+                edgeDecoded++;
+            } else if (record != 0) {
+                break;
+            }
+        }
+        System.out.println("Turn ending at bit " + Communication.RING_BITS + " : header " + babyArray[0]
+                + ", slots " + edgeFirst + ".." + edgeLast + ", next turn from slot " + RingAccess.firstSlot(babyArray[0])
+                + ", decoded " + edgeDecoded + " / " + edgeRecords.length);
+
+        /////////// Shared array density ///////////////////////////////////////
+        // Messages fitting in one ring for the turns of a king, 20 before (3 slots per message).
+        // Units in vision are near the KING, tracked ones are anywhere. Uniform is every type the kings write, anywhere.
+        System.out.println("\n\nShared array density (messages per ring of " + Communication.RING_BITS + " bits, 20 before)");
+        int densityKing = Messages.encodeKing(30, 30, 100);
+        String[] densityNames = new String[]{"quiet", "fight", "scouting", "mines", "uniform"};
+        int[][] densityTurns = new int[][]{
+            {densityKing, Messages.encodeSector(0x1234, 0, 0, 0), Messages.encodeSector(0x5678, 0, 1, 0)},
+            {densityKing, Messages.encodeDefend(32, 28, 1), Messages.encodeDefend(27, 31, 2), Messages.encodeDefend(30, 34, 3),
+                Messages.encodeDefend(33, 33, 4), Messages.encodeDefend(26, 29, 5), Messages.encodeDefend(31, 26, 6)},
+            {densityKing, Messages.encodeSector(0x1234, 0, 0, 0), Messages.encodeSector(0x5678, 0, 1, 0),
+                Messages.encodeCat(35, 24, 11), Messages.encodeEnemyRat(27, 33, 12), Messages.encodeEnemyKing(50, 55, 13),
+                Messages.encodeMine(10, 40), Messages.encodeMine(44, 12)},
+            {densityKing, Messages.encodeMine(10, 40), Messages.encodeMine(44, 12), Messages.encodeMine(3, 3),
+                Messages.encodeMine(57, 20), Messages.encodeMine(20, 57), Messages.encodeMine(38, 38)},
+            {densityKing, Messages.encodeCat(5, 50, 11), Messages.encodeEnemyKing(50, 5, 13), Messages.encodeMine(10, 40),
+                Messages.encodeEnemyRat(55, 12, 12), Messages.encodeMakeKing(14, 44), Messages.encodeDefend(2, 58, 14),
+                Messages.encodeSector(0x1234, 5, 1, 1), Messages.encodeSectorTarget(40, 40, 1)},
+        };
+        for (int w = 0; w < densityNames.length; w++) {
+            Arrays.fill(kingArray, 0);
+            RingAccess.select(kingArray);
+            RingAccess.seek(0);
+            int facts = 0;
+            int bits = 0;
+            for (int turn = 0; bits < Communication.RING_BITS; turn++) {
+                for (int record : densityTurns[w]) {
+                    bits += RingAccess.write(record);
+                    if (bits > Communication.RING_BITS) {
+                        break; // Padded, next record is in the next ring
+                    }
+                    facts++;
+                    if (bits == Communication.RING_BITS) {
+                        break;
+                    }
+                }
+            }
+            System.out.println(String.format("%-9s : %2d messages, %+d%%", densityNames[w], facts, (facts - 20) * 100 / 20));
+        }
+
         /////////// Operations ///////////////////////////////////////
         System.out.println("\n\nOperations:");
         int x = 1;
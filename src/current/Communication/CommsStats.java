@@ -0,0 +1,98 @@
+package current.Communication;
+
+import current.Robots.Robot;
+
+/**
+ * Bandwidth and latency of communications, per message type, for babies and kings.
+ * One row per (robot type, message type) in primitive arrays, same layout as BytecodeStats.
+ *
+ * - sent        : messages squeaked or written in the shared array
+ * - queueAge    : rounds spent in MessageQueue by sent messages
+ * - received    : messages decoded
+ * - duplicates  : decoded messages already seen recently (MessageFilter, only when cooldowns are not 0)
+ * - transitAge  : rounds between the squeak and its decoding (shared array is counted as 1 round)
+ * - read / send : bytecode of readMessages() and sendMessages()
+ * */
+public class CommsStats {
+    public static boolean enabled = Robot.DEBUG; // Local games only, printed with BytecodeStats
+    static final int TYPES = 32;
+
+    public static int[] sentSqueak  = new int[2 * TYPES];
+    public static int[] sentArray   = new int[2 * TYPES];
+    public static int[] queueAge    = new int[2 * TYPES];     // Sum, divided by sent messages from the queue
+    public static int[] queued      = new int[2 * TYPES];
+    public static int[] received    = new int[2 * TYPES];
+    public static int[] duplicates  = new int[2 * TYPES];
+    public static int[] transitAge  = new int[2 * TYPES];     // Sum, divided by received
+
+    // Index 0 for babies, 1 for kings
+    public static int[] readCalls    = new int[2];
+    public static int[] readTotal    = new int[2];
+    public static int[] readMaximum  = new int[2];
+    public static int[] sendCalls    = new int[2];
+    public static int[] sendTotal    = new int[2];
+    public static int[] sendMaximum  = new int[2];
+
+    static int row(int msg, boolean isKing){
+        return (isKing ? TYPES : 0) + ((msg & Communication.MASK_TYPE) >> 24);
+    }
+
+    // age < 0 if the message didn't come from MessageQueue
+    public static void sent(int msg, boolean isKing, boolean isArray, int age){
+        int row = row(msg, isKing);
+        if(isArray){
+            sentArray[row]++;
+        }else{
+            sentSqueak[row]++;
+        }
+        if(age >= 0){
+            queueAge[row] += age;
+            queued[row]++;
+        }
+    }
+
+    public static void received(int msg, boolean isKing, int age){
+        int row = row(msg, isKing);
+        received[row]++;
+        transitAge[row] += age;
+        if(MessageFilter.contains(msg)){
+            duplicates[row]++;
+        }
+    }
+
+    public static void read(boolean isKing, int bytecode){
+        int row = isKing ? 1 : 0;
+        readCalls[row]++;
+        readTotal[row] += bytecode;
+        if(bytecode > readMaximum[row]){readMaximum[row] = bytecode;}
+    }
+
+    public static void send(boolean isKing, int bytecode){
+        int row = isKing ? 1 : 0;
+        sendCalls[row]++;
+        sendTotal[row] += bytecode;
+        if(bytecode > sendMaximum[row]){sendMaximum[row] = bytecode;}
+    }
+
+    public static void dump(int round, boolean isKing, int robotId){
+        String type = isKing ? "KING" : "BABY";
+        int k = isKing ? 1 : 0;
+        System.out.println("[CS] " + type + " " + robotId + " round " + round
+                + " : readMessages calls " + readCalls[k] + " avg " + (readCalls[k] == 0 ? 0 : readTotal[k] / readCalls[k]) + " max " + readMaximum[k]
+                + ", sendMessages calls " + sendCalls[k] + " avg " + (sendCalls[k] == 0 ? 0 : sendTotal[k] / sendCalls[k]) + " max " + sendMaximum[k]);
+        System.out.println("[CS] type squeak array queueAge received duplicates transitAge");
+        for(int t = 0; t < TYPES; t++){
+            int row = (isKing ? TYPES : 0) + t;
+            if(sentSqueak[row] == 0 && sentArray[row] == 0 && received[row] == 0){
+                continue;
+            }
+            System.out.println("[CS] " + t
+                    + " " + sentSqueak[row]
+                    + " " + sentArray[row]
+                    + " " + (queued[row] == 0 ? 0 : (float) queueAge[row] / queued[row])
+                    + " " + received[row]
+                    + " " + duplicates[row]
+                    + " " + (received[row] == 0 ? 0 : (float) transitAge[row] / received[row]));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package current.Communication;
+
+import java.util.HashSet;
+
+/**
+ * Messages seen recently, to avoid sending again what allies already know.
+ * Replace a char[65536] of rounds indexed by the 14 low bits of messages (different types were colliding).
+ *
+ * Two bloom filters of 2048 bits (2 hashes of type and payload), current one become previous every PERIOD rounds.
+ * A message added at round r is seen at least until r + PERIOD, at most until r + 2 * PERIOD.
+ * */
+public class MessageFilter {
+    public static final int MASK_MESSAGE = 0x1FFFFFFF; // Type and payload, without direction of the sender
+    public static int PERIOD = 2;                        // Same as COOLDOWN_SEND_AGAIN_SQUEAK
+    static final int WORDS = 64;                         // 2048 bits
+
+    static int[] current = new int[WORDS];
+    static int[] previous = new int[WORDS];
+    static int rotateRound = 0;
+
+    // Exact sets next to the filters to count false positives, for local games only
+    public static final boolean MEASURE = false;
+    static HashSet<Integer> currentExact = MEASURE ? new HashSet<>() : null;
+    static HashSet<Integer> previousExact = MEASURE ? new HashSet<>() : null;
+    public static int checks = 0;
+    public static int positives = 0;
+    public static int falsePositives = 0;
+
+    public static void rotate(int round){
+        if(round < rotateRound + PERIOD){
+            return;
+        }
+
+        // Nothing added for more than a period, previous is already too old
+        previous = (round < rotateRound + 2 * PERIOD) ? current : new int[WORDS];
+        current = new int[WORDS];
+        rotateRound = round;
+
+        if(MEASURE){
+            previousExact = currentExact;
+            currentExact = new HashSet<>();
+        }
+    }
+
+    public static void add(int msg){
+        int h = (msg & MASK_MESSAGE) * 0x9E3779B1;
+        int i = h >>> 21;
+        int j = (h >>> 10) & 2047;
+        current[i >> 5] |= 1 << i; // Shift use only the 5 low bits
+        current[j >> 5] |= 1 << j;
+
+        if(MEASURE){
+            currentExact.add(msg & MASK_MESSAGE);
+        }
+    }
+
+    public static boolean contains(int msg){
+        int h = (msg & MASK_MESSAGE) * 0x9E3779B1;
+        int i = h >>> 21;
+        int j = (h >>> 10) & 2047;
+        int bitI = 1 << i;
+        int bitJ = 1 << j;
+        boolean seen = ((current[i >> 5] & bitI) != 0 && (current[j >> 5] & bitJ) != 0)
+                    || ((previous[i >> 5] & bitI) != 0 && (previous[j >> 5] & bitJ) != 0);
+
+        if(MEASURE){
+            checks++;
+            if(seen){
+                positives++;
+                if(!currentExact.contains(msg & MASK_MESSAGE) && !previousExact.contains(msg & MASK_MESSAGE)){
+                    falsePositives++;
+                }
+            }
+        }
+        return seen;
+    }
+
+    public static void dump(int round, int robotId){
+        System.out.println("[MF] " + robotId + " round " + round + " : checks " + checks
+                + " positives " + positives + " falsePositives " + falsePositives);
+    }
+}
@@ -0,0 +1,228 @@
+package current.Communication;
+
+import current.Robots.Robot;
+
+/**
+ * Outbound messages waiting to be squeaked or written in the shared array.
+ * Replace MessageLIFO (3 stacks of 100 messages, wiped when full).
+ *
+ * - A message already in the queue is not added twice, only refreshed (round and max priority)
+ * - Pop the best score = priority * AGE_WEIGHT + round added, so an old message is demoted bellow newer ones
+ *   of lower priority after AGE_WEIGHT rounds, and dropped after MAX_AGE rounds.
+ * - When full, the worst message is dropped (the new one if it is the worst)
+ *
+ * One ring per priority, messages are appended with increasing rounds so the best of a ring is at its tail
+ * (oldest first for the same round) and the worst at its head. A refreshed or popped message leaves a hole.
+ * Queued messages are found with an index of 4096 entries on a hash of the message (linear probing), no scan of the queue.
+ * */
+public class MessageQueue {
+    public static final int CAPACITY = 64;
+    public static int AGE_WEIGHT = 10;  // Rounds for a message to lose one priority level
+    public static int MAX_AGE = 30;     // Rounds before a message is dropped
+
+    static final int RING = 128;        // Slots per priority, with holes
+    static final int MASK_RING = RING - 1;
+    static int[][] messages = new int[3][RING];    // 0 for a hole
+    static int[][] rounds = new int[3][RING];
+    static int[] heads = new int[3];               // Oldest slot, increasing numbers, slot is head & MASK_RING
+    static int[] tails = new int[3];               // Next slot to fill
+    static char[] index = new char[4096];          // Hash of a message -> priority * RING + slot + 1, 0 if empty
+    static int[] typeCounts = new int[16];         // Number of messages per type
+    public static int size = 0;
+    public static int[] sizes = new int[3];     // Number of messages per priority
+    public static int lastPriority = 0;         // Priority of the last popped message
+    public static int lastRound = 0;            // Round the last popped message was added (or refreshed)
+
+    // Counters per priority for the whole match
+    public static int[] added = new int[3];
+    public static int[] deduped = new int[3];   // Already in queue, or seen recently when popped
+    public static int[] dropped = new int[3];   // Queue full or too old
+    public static int[] sent = new int[3];
+
+    static int hash(int msg){
+        return (msg * 0x9E3779B1) >>> 20;
+    }
+
+    // Entry of msg in index, or the empty entry where to add it
+    static int find(int msg){
+        int h = hash(msg);
+        while(index[h] != 0 && messages[(index[h] - 1) / RING][(index[h] - 1) & MASK_RING] != msg){
+            h = (h + 1) & 4095;
+        }
+        return h;
+    }
+
+    // Empty entry h, and move back the next entries which are after their hash
+    static void unindex(int h){
+        int j = h;
+        for(;;){
+            j = (j + 1) & 4095;
+            if(index[j] == 0){
+                break;
+            }
+            int k = hash(messages[(index[j] - 1) / RING][(index[j] - 1) & MASK_RING]);
+            if(((j - k) & 4095) >= ((j - h) & 4095)){
+                index[h] = index[j];
+                h = j;
+            }
+        }
+        index[h] = 0;
+    }
+
+    public static void add(int msg, int priority){
+        if(priority < 0 || priority > 2){
+            System.out.println("ERR: Message priority should be in [0, 2] 0 is NORMAL, 2 is CRIT, got " + priority);
+            return;
+        }
+        int round = Robot.rc.getRoundNum();
+
+        // Already in queue, refresh it at the tail of its ring
+        int at = index[find(msg)] - 1;
+        if(at >= 0){
+            deduped[priority]++;
+            if(at / RING > priority){
+                priority = at / RING;
+            }
+            remove(at / RING, at & MASK_RING);
+            append(msg, priority, round);
+            return;
+        }
+
+        added[priority]++;
+        if(size == CAPACITY){
+            int worst = -1;
+            int worstScore = Integer.MAX_VALUE;
+            for(int p = 0; p < 3; p++){
+                if(heads[p] < tails[p] && p * AGE_WEIGHT + rounds[p][heads[p] & MASK_RING] < worstScore){
+                    worst = p;
+                    worstScore = p * AGE_WEIGHT + rounds[p][heads[p] & MASK_RING];
+                }
+            }
+            if(worstScore >= priority * AGE_WEIGHT + round){
+                dropped[priority]++;
+                return;
+            }
+            dropped[worst]++;
+            remove(worst, heads[worst] & MASK_RING);
+        }
+        append(msg, priority, round);
+    }
+
+    static void append(int msg, int priority, int round){
+        if(tails[priority] - heads[priority] == RING){
+            // Ring full of holes and messages, drop the oldest (never a hole)
+            dropped[priority]++;
+            remove(priority, heads[priority] & MASK_RING);
+        }
+        int slot = tails[priority] & MASK_RING;
+        messages[priority][slot] = msg;
+        rounds[priority][slot] = round;
+        index[find(msg)] = (char) (priority * RING + slot + 1);
+        tails[priority]++;
+        typeCounts[msg >>> 24 & 15]++;
+        sizes[priority]++;
+        size++;
+    }
+
+    // Pop message with the best score, 0 if none
+    public static int pop(){
+        dropOld();
+        int best = -1;
+        int bestScore = Integer.MIN_VALUE;
+        for(int p = 2; p >= 0; p--){
+            if(heads[p] < tails[p] && p * AGE_WEIGHT + rounds[p][(tails[p] - 1) & MASK_RING] > bestScore){
+                best = p;
+                bestScore = p * AGE_WEIGHT + rounds[p][(tails[p] - 1) & MASK_RING];
+            }
+        }
+        if(best < 0){
+            return 0;
+        }
+
+        // Oldest message of the latest round, only messages added this round are scanned
+        int[] ringMessages = messages[best];
+        int[] ringRounds = rounds[best];
+        int latest = ringRounds[(tails[best] - 1) & MASK_RING];
+        int first = tails[best] - 1;
+        for(int i = first - 1; i >= heads[best]; i--){
+            if(ringMessages[i & MASK_RING] != 0){
+                if(ringRounds[i & MASK_RING] != latest){
+                    break;
+                }
+                first = i;
+            }
+        }
+        return popAt(best, first & MASK_RING);
+    }
+
+    // Pop message of this type (cf Communication.MASK_TYPE) with the best score, 0 if none
+    public static int popType(int type){
+        dropOld();
+        if(typeCounts[type >>> 24] == 0){
+            return 0;
+        }
+        int best = -1;
+        int bestSlot = 0;
+        int bestScore = Integer.MIN_VALUE;
+        for(int p = 2; p >= 0; p--){
+            int[] ringMessages = messages[p];
+            for(int i = tails[p] - 1; i >= heads[p]; i--){
+                if(ringMessages[i & MASK_RING] != 0 && (ringMessages[i & MASK_RING] & Communication.MASK_TYPE) == type){
+                    if(p * AGE_WEIGHT + rounds[p][i & MASK_RING] > bestScore){
+                        best = p;
+                        bestSlot = i & MASK_RING;
+                        bestScore = p * AGE_WEIGHT + rounds[p][i & MASK_RING];
+                    }
+                    break; // Newest message of this type in the ring
+                }
+            }
+        }
+        if(best < 0){
+            return 0;
+        }
+        return popAt(best, bestSlot);
+    }
+
+    static int popAt(int priority, int slot){
+        int msg = messages[priority][slot];
+        lastPriority = priority;
+        lastRound = rounds[priority][slot];
+        remove(priority, slot);
+        return msg;
+    }
+
+    // Messages older than MAX_AGE are at the head of the rings
+    static void dropOld(){
+        int minRound = Robot.rc.getRoundNum() - MAX_AGE;
+        for(int p = 0; p < 3; p++){
+            while(heads[p] < tails[p] && rounds[p][heads[p] & MASK_RING] < minRound){
+                dropped[p]++;
+                remove(p, heads[p] & MASK_RING);
+            }
+        }
+    }
+
+    // Leave a hole, holes at both ends of the ring are skipped
+    static void remove(int priority, int slot){
+        int[] ringMessages = messages[priority];
+        int msg = ringMessages[slot];
+        unindex(find(msg));
+        ringMessages[slot] = 0;
+        typeCounts[msg >>> 24 & 15]--;
+        sizes[priority]--;
+        size--;
+        while(heads[priority] < tails[priority] && ringMessages[heads[priority] & MASK_RING] == 0){
+            heads[priority]++;
+        }
+        while(heads[priority] < tails[priority] && ringMessages[(tails[priority] - 1) & MASK_RING] == 0){
+            tails[priority]--;
+        }
+    }
+
+    public static void dump(int round, int robotId){
+        for(int p = 2; p >= 0; p--){
+            System.out.println("[MQ] " + robotId + " round " + round + " priority " + p
+                    + " : added " + added[p] + " deduped " + deduped[p] + " dropped " + dropped[p] + " sent " + sent[p]);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package current.Communication;
+
+import battlecode.common.*;
+import current.Robots.Robot;
+
+//  Destination: Communication/Messages.java
+
+/**
+ * Types, encoders and decoder of messages, generated from MESSAGES in jinja.py.
+ * A message is its type in bits 24-28 and its fields packed from bit 0, squeaks add the sender direction in bits 29-31.
+ *
+ * New message : add it in MESSAGES, write its handler (Communication.on<Name> by default) then generate.
+ * Encoders check fields only in DEBUG, decode() extract fields and call the handler in a single switch.
+ * */
+public class Messages {
+    public static final int MASK_TYPE = 0b11111 << 24;
+    public static final int TYPE_CAT = 1 << 24; // x (0-5), y (6-11), id (12-23)
+    public static final int TYPE_KING = 2 << 24; // x (0-5), y (6-11), id (12-23)
+    public static final int TYPE_ENEMY_KING = 3 << 24; // x (0-5), y (6-11), id (12-23)
+    public static final int TYPE_MINE = 4 << 24; // x (0-5), y (6-11)
+    public static final int TYPE_ENEMY_RAT = 5 << 24; // x (0-5), y (6-11), id (12-23)
+    public static final int TYPE_ALLY_RAT = 6 << 24; // x (0-5), y (6-11), id (12-23)
+    public static final int TYPE_MICRO = 7 << 24; // relative (0-7), dirTarget (8-10), targetId (11-22)
+    public static final int TYPE_MAKE_KING = 8 << 24; // x (0-5), y (6-11)
+    public static final int TYPE_DEFEND = 9 << 24; // x (0-5), y (6-11), id (12-23)
+    public static final int TYPE_SECTOR = 10 << 24; // hints (0-15), row (16-18), half (19-19), field (20-20)
+    public static final int TYPE_SECTOR_TARGET = 11 << 24; // x (0-5), y (6-11), field (12-12)
+    public static final int TYPE_MINES_PAIR = 12 << 24; // first (0-11), second (12-23)
+    public static final int TYPE_MINES_NEAR = 13 << 24; // near1 (0-7), near2 (8-15), near3 (16-23)
+    
+    // Bits of payload indexed by type, for shared array records
+    public static final int[] PAYLOAD_BITS = { 0, 24, 24, 24, 12, 24, 24, 23, 12, 24, 21, 13, 24, 24, 0, 0 };
+
+    // Fields of messages decoded in Communication.readFromSqueak
+    public static final int SHIFT_MICRO_RELATIVE = 0;
+    public static final int MASK_MICRO_RELATIVE = 0b11111111;
+    public static final int SHIFT_MICRO_DIRTARGET = 8;
+    public static final int MASK_MICRO_DIRTARGET = 0b111;
+    public static final int SHIFT_MICRO_TARGETID = 11;
+    public static final int MASK_MICRO_TARGETID = 0b111111111111;
+    public static final int SHIFT_MINES_PAIR_FIRST = 0;
+    public static final int MASK_MINES_PAIR_FIRST = 0b111111111111;
+    public static final int SHIFT_MINES_PAIR_SECOND = 12;
+    public static final int MASK_MINES_PAIR_SECOND = 0b111111111111;
+    public static final int SHIFT_MINES_NEAR_NEAR1 = 0;
+    public static final int MASK_MINES_NEAR_NEAR1 = 0b11111111;
+    public static final int SHIFT_MINES_NEAR_NEAR2 = 8;
+    public static final int MASK_MINES_NEAR_NEAR2 = 0b11111111;
+    public static final int SHIFT_MINES_NEAR_NEAR3 = 16;
+    public static final int MASK_MINES_NEAR_NEAR3 = 0b11111111;
+    
+    public static int encodeCat(int x, int y, int id){
+        if(Robot.DEBUG && ((x >>> 6) | (y >>> 6) | (id >>> 12)) != 0){
+            Robot.err("ERR: encodeCat field out of range " + x + ", " + y + ", " + id);
+        }
+        return TYPE_CAT | (id << 12) | (y << 6) | x;
+    }
+
+    public static int encodeKing(int x, int y, int id){
+        if(Robot.DEBUG && ((x >>> 6) | (y >>> 6) | (id >>> 12)) != 0){
+            Robot.err("ERR: encodeKing field out of range " + x + ", " + y + ", " + id);
+        }
+        return TYPE_KING | (id << 12) | (y << 6) | x;
+    }
+
+    public static int encodeEnemyKing(int x, int y, int id){
+        if(Robot.DEBUG && ((x >>> 6) | (y >>> 6) | (id >>> 12)) != 0){
+            Robot.err("ERR: encodeEnemyKing field out of range " + x + ", " + y + ", " + id);
+        }
+        return TYPE_ENEMY_KING | (id << 12) | (y << 6) | x;
+    }
+
+    public static int encodeMine(int x, int y){
+        if(Robot.DEBUG && ((x >>> 6) | (y >>> 6)) != 0){
+            Robot.err("ERR: encodeMine field out of range " + x + ", " + y);
+        }
+        return TYPE_MINE | (y << 6) | x;
+    }
+
+    public static int encodeEnemyRat(int x, int y, int id){
+        if(Robot.DEBUG && ((x >>> 6) | (y >>> 6) | (id >>> 12)) != 0){
+            Robot.err("ERR: encodeEnemyRat field out of range " + x + ", " + y + ", " + id);
+        }
+        return TYPE_ENEMY_RAT | (id << 12) | (y << 6) | x;
+    }
+
+    public static int encodeAllyRat(int x, int y, int id){
+        if(Robot.DEBUG && ((x >>> 6) | (y >>> 6) | (id >>> 12)) != 0){
+            Robot.err("ERR: encodeAllyRat field out of range " + x + ", " + y + ", " + id);
+        }
+        return TYPE_ALLY_RAT | (id << 12) | (y << 6) | x;
+    }
+
+    public static int encodeMicro(int relative, int dirTarget, int targetId){
+        if(Robot.DEBUG && ((relative >>> 8) | (dirTarget >>> 3) | (targetId >>> 12)) != 0){
+            Robot.err("ERR: encodeMicro field out of range " + relative + ", " + dirTarget + ", " + targetId);
+        }
+        return TYPE_MICRO | (targetId << 11) | (dirTarget << 8) | relative;
+    }
+
+    public static int encodeMakeKing(int x, int y){
+        if(Robot.DEBUG && ((x >>> 6) | (y >>> 6)) != 0){
+            Robot.err("ERR: encodeMakeKing field out of range " + x + ", " + y);
+        }
+        return TYPE_MAKE_KING | (y << 6) | x;
+    }
+
+    public static int encodeDefend(int x, int y, int id){
+        if(Robot.DEBUG && ((x >>> 6) | (y >>> 6) | (id >>> 12)) != 0){
+            Robot.err("ERR: encodeDefend field out of range " + x + ", " + y + ", " + id);
+        }
+        return TYPE_DEFEND | (id << 12) | (y << 6) | x;
+    }
+
+    public static int encodeSector(int hints, int row, int half, int field){
+        if(Robot.DEBUG && ((hints >>> 16) | (row >>> 3) | (half >>> 1) | (field >>> 1)) != 0){
+            Robot.err("ERR: encodeSector field out of range " + hints + ", " + row + ", " + half + ", " + field);
+        }
+        return TYPE_SECTOR | (field << 20) | (half << 19) | (row << 16) | hints;
+    }
+
+    public static int encodeSectorTarget(int x, int y, int field){
+        if(Robot.DEBUG && ((x >>> 6) | (y >>> 6) | (field >>> 1)) != 0){
+            Robot.err("ERR: encodeSectorTarget field out of range " + x + ", " + y + ", " + field);
+        }
+        return TYPE_SECTOR_TARGET | (field << 12) | (y << 6) | x;
+    }
+
+    public static int encodeMinesPair(int first, int second){
+        if(Robot.DEBUG && ((first >>> 12) | (second >>> 12)) != 0){
+            Robot.err("ERR: encodeMinesPair field out of range " + first + ", " + second);
+        }
+        return TYPE_MINES_PAIR | (second << 12) | first;
+    }
+
+    public static int encodeMinesNear(int near1, int near2, int near3){
+        if(Robot.DEBUG && ((near1 >>> 8) | (near2 >>> 8) | (near3 >>> 8)) != 0){
+            Robot.err("ERR: encodeMinesNear field out of range " + near1 + ", " + near2 + ", " + near3);
+        }
+        return TYPE_MINES_NEAR | (near3 << 16) | (near2 << 8) | near1;
+    }
+
+    public static void decode(int msg, boolean isFromArray) throws GameActionException {
+        switch((msg >> 24) & 0b11111){
+            case 1: Communication.onCat(msg & 0b111111, (msg >> 6) & 0b111111, (msg >> 12) & 0b111111111111); break;
+            case 2: Communication.onKing(msg & 0b111111, (msg >> 6) & 0b111111, (msg >> 12) & 0b111111111111); break;
+            case 3: Communication.onEnemyKing(msg & 0b111111, (msg >> 6) & 0b111111, (msg >> 12) & 0b111111111111); break;
+            case 4: Communication.onMine(msg & 0b111111, (msg >> 6) & 0b111111, isFromArray); break;
+            case 5: Communication.onEnemyRat(msg & 0b111111, (msg >> 6) & 0b111111, (msg >> 12) & 0b111111111111); break;
+            case 6: Communication.onAllyRat(msg & 0b111111, (msg >> 6) & 0b111111, (msg >> 12) & 0b111111111111); break;
+            case 8: Communication.onMakeKing(msg & 0b111111, (msg >> 6) & 0b111111); break;
+            case 9: Communication.onDefend(msg & 0b111111, (msg >> 6) & 0b111111, (msg >> 12) & 0b111111111111); break;
+            case 10: SectorHints.onSector(msg & 0b1111111111111111, (msg >> 16) & 0b111, (msg >> 19) & 0b1, (msg >> 20) & 0b1); break;
+            case 11: SectorHints.onSectorTarget(msg & 0b111111, (msg >> 6) & 0b111111, (msg >> 12) & 0b1); break;
+            case 0: break; // Empty message
+            default:
+                if(Robot.DEBUG) Robot.err("ERR: Message can't be parsed: " + msg + " not recognized.");
+                break;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package current.Communication;
+
+/**
+ * Shared array bitstream of Communication for the bytecode harness, the bot doesn't use it.
+ * Each simulated robot owns a copy of the shared array and its position in the ring,
+ * the harness selects them before each call and copies slots between copies like the engine.
+ * */
+public class RingAccess {
+    // Local copy of the shared array used by next calls, slot 0 is the header
+    public static void select(int[] sharedArray){
+        Communication.sharedArray = sharedArray;
+    }
+
+    // Go to a bit index without frame, as a writer before its KING record or a reader catching up
+    public static void seek(int bit){
+        Communication.bitIndex = bit;
+        Communication.frameX = -1;
+        Communication.lastSector = -1;
+    }
+
+    public static int position(){
+        return Communication.bitIndex;
+    }
+
+    // Write a record like writeToArray, return number of bits used
+    public static int write(int message){
+        return Communication.writeRecord(message);
+    }
+
+    // Read a record like readFromSharedArray, 0 at end of ring, -1 if we are out of sync
+    public static int next(int indexTo){
+        return Communication.nextRecord(indexTo);
+    }
+
+    // Slots copied by readMessages and writeToArray
+    public static int firstSlot(int bit){
+        return Communication.firstSlot(bit);
+    }
+
+    public static int lastSlot(int bit){
+        return Communication.lastSlot(bit);
+    }
+}
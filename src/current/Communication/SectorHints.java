@@ -0,0 +1,131 @@
+package current.Communication;
+
+import battlecode.common.*;
+import current.Robots.Robot;
+import current.Utils.BugNavLmx;
+import current.Utils.FlowField;
+
+/**
+ * Coarse navigation hints published by the king from its FlowField, read by babies.
+ * Map is cut in 8x8 cells sectors (8 x 8 sectors for 64x64), for each sector we share the direction to follow
+ * from its center toward the target of a field: the king itself (field 0) or the first cheese mine (field 1).
+ *
+ * TYPE_SECTOR        : field, half row, row, hints = 4 directions of 4 bits (8 = unknown), cf MESSAGES in jinja.py
+ * TYPE_SECTOR_TARGET : field, target position
+ * */
+public class SectorHints {
+    public static final int FIELDS = 2;
+    public static final char UNKNOWN = 8;
+    public static int MESSAGES_PER_TURN = 2;           // Full refresh every 32 / MESSAGES_PER_TURN turns
+    public static int TARGET_DISTANCE_SQUARED = 8;     // Hints toward a field target are used for destinations this close
+    static final int HINT_STEPS = 4;                   // Cells followed on the field from sector center
+
+    // Baby side, filled when decoding messages
+    public static MapLocation[] targets = new MapLocation[FIELDS];
+    public static char[] directions = "\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008\u0008".toCharArray(); // [field << 6 | sy << 3 | sx]
+
+    // King side, next message to publish: field (1 bit), row (3 bits), half (1 bit)
+    static int nextMessage = 0;
+
+    /////////////////////////////////////// King ///////////////////////////////////////
+    public static void publish() throws GameActionException {
+        RobotController rc = Robot.rc;
+
+        // Only the king with the lowest id publish, hints from several kings would be mixed
+        int myId = rc.getID() % 4096;
+        for(int i = 0; i < Robot.kings.size; i++){
+            if(Robot.kings.ids[i] < myId){
+                return;
+            }
+        }
+
+        int width = rc.getMapWidth();
+        int height = rc.getMapHeight();
+        for(int n = 0; n < MESSAGES_PER_TURN; n++){
+            int field = nextMessage >> 4;
+            int row = (nextMessage >> 1) & 7;
+            int half = nextMessage & 1;
+            nextMessage = (nextMessage + 1) & 31;
+
+            MapLocation target = FlowField.targets[field];
+            if(target == null || (row << 3) >= height || (half << 5) >= width){
+                continue;
+            }
+            if(row == 0 && half == 0){
+                Communication.addMessageSectorTarget(field, target, Robot.PRIORITY_NORMAL);
+            }
+
+            int hints = 0;
+            for(int i = 0; i < 4; i++){
+                hints |= hint(field, (half << 2) + i, row, width, height) << (i << 2);
+            }
+            Communication.addMessageSector(hints, row, half, field, Robot.PRIORITY_NORMAL);
+        }
+    }
+
+    // Direction from center of sector (sx, sy) following the field for a few cells
+    static int hint(int field, int sx, int sy, int width, int height){
+        int x = (sx << 3) + 4;
+        int y = (sy << 3) + 4;
+        if((sx << 3) >= width || (sy << 3) >= height){
+            return UNKNOWN;
+        }
+        if(x >= width){x = width - 1;}
+        if(y >= height){y = height - 1;}
+
+        MapLocation start = new MapLocation(x, y);
+        MapLocation loc = start;
+        for(int i = 0; i < HINT_STEPS; i++){
+            Direction dir = FlowField.bestDirection(field, loc);
+            if(dir == null){
+                break;
+            }
+            loc = loc.add(dir);
+        }
+        if(loc == start){
+            return UNKNOWN;
+        }
+        return start.directionTo(loc).ordinal();
+    }
+
+    /////////////////////////////////////// Baby ///////////////////////////////////////
+    // Called by Messages.decode
+    static void onSectorTarget(int x, int y, int field){
+        MapLocation target = new MapLocation(x, y);
+        if(!target.equals(targets[field])){
+            // New target, previous hints are wrong
+            for(int i = field << 6; i < (field + 1) << 6; i++){
+                directions[i] = UNKNOWN;
+            }
+            targets[field] = target;
+        }
+    }
+
+    static void onSector(int hints, int row, int half, int field){
+        int index = (field << 6) | (row << 3) | (half << 2);
+        directions[index]     = (char) (hints & 0b1111);
+        directions[index + 1] = (char) ((hints >> 4) & 0b1111);
+        directions[index + 2] = (char) ((hints >> 8) & 0b1111);
+        directions[index + 3] = (char) ((hints >> 12) & 0b1111);
+    }
+
+    // Hint to go from loc toward target, null if no field has this target or no hint for this sector
+    public static Direction direction(MapLocation loc, MapLocation target){
+        int sx = loc.x >> 3;
+        int sy = loc.y >> 3;
+        if(sx == target.x >> 3 && sy == target.y >> 3){
+            return null; // Same sector, hint point to the center of the field
+        }
+
+        for(int field = 0; field < FIELDS; field++){
+            MapLocation fieldTarget = targets[field];
+            if(fieldTarget != null && fieldTarget.distanceSquaredTo(target) <= TARGET_DISTANCE_SQUARED){
+                char dir = directions[(field << 6) | (sy << 3) | sx];
+                if(dir < UNKNOWN){
+                    return BugNavLmx.DIRECTIONS[dir];
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -21,12 +21,12 @@ public class SenseForComs extends Robot {
             }
         }
 
-        // MessageLIFO.buffer2 PRIORITY_CRIT   = 3; // King being attacked, rush order
-        // MessageLIFO.buffer1 PRIORITY_HIGH   = 2; // Enemy in view, cat position
-        // MessageLIFO.buffer0 PRIORITY_NORMAL = 1; // King position, cheese mine
+        // MessageQueue.sizes[2] PRIORITY_CRIT   = 2; // King being attacked, rush order
+        // MessageQueue.sizes[1] PRIORITY_HIGH   = 1; // Enemy in view, cat position
+        // MessageQueue.sizes[0] PRIORITY_NORMAL = 0; // King position, cheese mine
 
         // If no messages, create news ones
-        if(MessageLIFO.buffer1.size == 0 && MessageLIFO.buffer2.size == 0) {
+        if(MessageQueue.sizes[PRIORITY_HIGH] == 0 && MessageQueue.sizes[PRIORITY_CRIT] == 0) {
             // Give position of cats
             if(nearestCat != null){
                 Communication.addMessageCat(nearestCat, nearestCatID, PRIORITY_HIGH);
@@ -5,6 +5,8 @@ import battlecode.common.*;
 import current.Params;
 import current.States.*;
 
+import static current.States.State.*;
+
 public class Baby extends Robot {
     State cheeseToKing;
     State collectCheese;
@@ -17,6 +19,11 @@ public class Baby extends Robot {
     State moveKing;
     State spawn;
 
+    // Predicates of conditional transitions
+    static final int AFTER_AVOID_CAT      = -2;
+    static final int AFTER_CHEESE_TO_KING = -3;
+    static final int AFTER_COLLECT_CHEESE = -4;
+
 
     @Override
     public void init() throws GameActionException {
@@ -30,46 +37,67 @@ public class Baby extends Robot {
         this.becomeKing = new BecomeKing();
         this.moveKing = new MoveKing();
         this.spawn = new Spawn();
+
+        register(init);
+        register(avoidCat);
+        register(endTurn);
+        register(attackCat);
+        register(attackEnemy);
+        register(cheeseToKing);
+        register(collectCheese);
+        register(throwToWalls);
+        register(explore);
+        register(placeTrap);
+        register(becomeKing);
+        register(moveKing);
+        register(spawn);
+
+        transitions[ID_INIT]            = ID_AVOID_CAT;
+        transitions[ID_AVOID_CAT]       = AFTER_AVOID_CAT;
+
+        // Only if low on cheese
+        transitions[ID_ATTACK_ENEMY]    = ID_THROW_TO_WALLS;
+        transitions[ID_THROW_TO_WALLS]  = ID_BECOME_KING;
+        transitions[ID_BECOME_KING]     = ID_ATTACK_CAT;
+        transitions[ID_ATTACK_CAT]      = ID_CHEESE_TO_KING;
+
+        // Go back to normal mode
+        transitions[ID_CHEESE_TO_KING]  = AFTER_CHEESE_TO_KING;
+        transitions[ID_PLACE_TRAP]      = ID_COLLECT_CHEESE;
+        transitions[ID_COLLECT_CHEESE]  = AFTER_COLLECT_CHEESE;
+        transitions[ID_EXPLORE]         = ID_END_TURN;
+        transitions[ID_END_TURN]        = ID_INIT;
     }
 
     @Override
-    public void updateState(Result resultBefore){
-        currentState = switch (currentState.name) {
-            case "Init" -> avoidCat;
-            case "AvoidCat" -> {
+    public int nextState(int predicate){
+        switch (predicate) {
+            case AFTER_AVOID_CAT:
                 if (Robot.rc.getRawCheese() > 0) {
-                    yield cheeseToKing;
+                    return ID_CHEESE_TO_KING;
                 }
                 if (Robot.isKingThreatened()) {
                     if (nearestCat != null && nearestKing != null
                         && nearestKing.distanceSquaredTo(nearestCat) <= Robot.KING_THREAT_CAT_RANGE_SQUARED) {
-                        yield attackCat;
+                        return ID_ATTACK_CAT;
                     }
-                    yield attackEnemy;
+                    return ID_ATTACK_ENEMY;
                 }
                 if (Robot.isCheeseEmergency()) {
-                    yield cheeseToKing;
+                    return ID_CHEESE_TO_KING;
                 }
-                yield attackEnemy;
-            }
+                return ID_ATTACK_ENEMY;
 
-            // Only if low on cheese
-            case "AttackEnemy" -> throwToWalls;
-            case "ThrowToWalls" -> becomeKing;
-            case "BecomeKing" -> attackCat;
-            case "AttackCat" -> cheeseToKing;
+            case AFTER_CHEESE_TO_KING: return Robot.isCheeseEmergency() ? ID_COLLECT_CHEESE : ID_PLACE_TRAP;
+            case AFTER_COLLECT_CHEESE: return Robot.rc.getRawCheese() > 0 ? ID_CHEESE_TO_KING : ID_EXPLORE;
+        }
+        return NO_TRANSITION;
+    }
 
-            // Go back to normal mode
-            case "CheeseToKing" -> Robot.isCheeseEmergency() ? collectCheese : placeTrap;
-            case "PlaceTrap" -> collectCheese;
-            case "CollectCheese" -> Robot.rc.getRawCheese() > 0 ? cheeseToKing : explore;
-            case "Explore" -> endTurn;
-            case "EndTurn" -> init;
-            default -> {
-                Robot.err(currentState.name + " don't match any states. Resign to force dev to fix me");
-                rc.resign();
-                yield endTurn;
-            }
-        };
+    @Override
+    public State noTransition() throws GameActionException {
+        if(DEBUG) Robot.err(currentState.name + " don't match any states. Resign to force dev to fix me");
+        rc.resign();
+        return endTurn;
     }
 }
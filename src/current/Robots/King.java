@@ -3,6 +3,8 @@ package current.Robots;
 import battlecode.common.GameActionException;
 import current.States.*;
 
+import static current.States.State.*;
+
 public class King extends Robot {
     State moveKing;
     State spawn;
@@ -11,6 +13,7 @@ public class King extends Robot {
     State kingCheese;
     State attackCat;
     State placeTrap;
+    State kingFlowField;
 
     @Override
     public void init() throws GameActionException {
@@ -23,25 +26,36 @@ public class King extends Robot {
         this.kingCheese = new KingCheese();
         this.attackCat = new AttackCat();
         this.placeTrap = new PlaceTrap();
+        this.kingFlowField = new KingFlowField();
+
+        register(init);
+        register(avoidCat);
+        register(endTurn);
+        register(moveKing);
+        register(askForKing);
+        register(spawn);
+        register(kingDig);
+        register(kingCheese);
+        register(attackCat);
+        register(placeTrap);
+        register(kingFlowField);
+
+        transitions[ID_INIT]         = ID_MOVE_KING;
+        transitions[ID_MOVE_KING]    = ID_AVOID_CAT;
+        transitions[ID_AVOID_CAT]    = ID_ATTACK_CAT;
+        transitions[ID_ATTACK_CAT]   = ID_PLACE_TRAP;
+        transitions[ID_PLACE_TRAP]   = ID_ASK_NEW_KING;
+        transitions[ID_ASK_NEW_KING] = ID_SPAWN;
+        transitions[ID_SPAWN]        = ID_KING_DIG;
+        transitions[ID_KING_DIG]     = ID_KING_CHEESE;
+        transitions[ID_KING_CHEESE]  = ID_KING_FLOW_FIELD;
+        transitions[ID_KING_FLOW_FIELD] = ID_END_TURN;
+        transitions[ID_END_TURN]     = ID_INIT;
     }
 
     @Override
-    public void updateState(Result resultBefore){
-        currentState = switch (currentState.name) {
-            case "Init" -> moveKing;
-            case "MoveKing" -> avoidCat;
-            case "AvoidCat" -> attackCat;
-            case "AttackCat" -> placeTrap;
-            case "PlaceTrap" -> askForKing;
-            case "AskNewKing" -> spawn;
-            case "Spawn" -> kingDig;
-            case "KingDig" -> kingCheese;
-            case "KingCheese" -> endTurn;
-            case "EndTurn" -> init;
-            default -> {
-                Robot.err(currentState.name + " don't match any states. Fallback to init");
-                yield init;
-            }
-        };
+    public State noTransition(){
+        if(DEBUG) Robot.err(currentState.name + " don't match any states. Fallback to init");
+        return init;
     }
 }
@@ -3,8 +3,11 @@ package current.Robots;
 import battlecode.common.*;
 import current.States.*;
 import current.Utils.ArrayUtils;
+import current.Utils.BytecodeStats;
+import current.Utils.EnemyTracker;
 import current.Utils.MapLocations;
 import current.Utils.MapLocationsWithId;
+import current.Utils.PackedLocationsWithId;
 import current.Utils.Tools;
 
 import java.util.Random;
@@ -27,11 +30,13 @@ public class Robot {
     public static boolean forceMovingEndOfTurn = true;
     public static char numberTimesOnPositions[];
     public static int bugnavBugging; // Last turn cycle detected
-    public static char[] isMineDepleted = ArrayUtils.char3600();
+    public static char[] isMineDepleted = ArrayUtils.charGrid();
 
     // Meta variables
     public static boolean moveRandom = false; // Move random direction each 10 moves
     public static boolean competitiveMode = true;
+    public static final boolean DEBUG = false; // Debug messages and results messages, compiled away when false
+    public static boolean budgetScheduler = true; // Skip non critical states when bytecode is missing for EndTurn
     public static final int CHEESE_EMERGENCY_PER_KING = 80;
     public static final int KING_THREAT_CAT_RANGE_SQUARED = 100;
     public static final int KING_THREAT_ENEMY_RANGE_SQUARED = 25;
@@ -62,10 +67,11 @@ public class Robot {
     // Memory
     public static MapLocations cheeseMines = new MapLocations((char) 150);
     public static MapLocations cheeseMinesFromArray = new  MapLocations((char) 150);
-    public static MapLocationsWithId alliesRats = new MapLocationsWithId((char) 100, true);
-    public static MapLocationsWithId enemiesRats = new MapLocationsWithId((char) 30, true);
+    public static PackedLocationsWithId alliesRats = new PackedLocationsWithId((char) 100, true, true);
+    public static EnemyTracker enemiesRats = new EnemyTracker((char) 30);
     public static MapLocationsWithId cats = new MapLocationsWithId((char) 100, true);
     public static MapLocationsWithId kings = new MapLocationsWithId((char) 100, true);
+    public static int kingsBeforeClear = 0; // kings.size when Init last cleared it, kings are found again during the next turns
     public static MapLocationsWithId enemiesKings = new MapLocationsWithId((char) 100, true);
 
     // Direction of units
@@ -125,9 +131,63 @@ public class Robot {
     public State avoidCat;
     public State endTurn;
     public State currentState;
+
+    // Transitions, indexed by state id: next state id, or a negative predicate id resolved by nextState()
+    public static final int NO_TRANSITION = -1;
+    // Static like the rest of the robot state, State subclasses don't get their own copies
+    public static State[] states = new State[State.NUMBER_OF_STATES];
+    public static int[] transitions = new int[State.NUMBER_OF_STATES];
+
     public void onNewTurn(){};
-    public void updateState(Result previousResult){}
     public void init() throws GameActionException {}
+    public int nextState(int predicate){return NO_TRANSITION;}
+    public State noTransition() throws GameActionException {return init;}
+
+    public void register(State state){
+        states[state.id] = state;
+        transitions[state.id] = NO_TRANSITION;
+    }
+
+    public void updateState(Result previousResult) throws GameActionException {
+        int next = transitions[currentState.id];
+        if(next < NO_TRANSITION){
+            next = nextState(next);
+        }
+        currentState = next == NO_TRANSITION ? noTransition() : states[next];
+    }
+
+    /**
+     * Bytecode budget check before running a state.
+     * EndTurn (comms + yield) always keep endTurn.cost bytecode in reserve.
+     * High priority states only need half of their estimated cost, they check bytecode left by themselves.
+     * Only the declared cost is used, so local games (BytecodeStats enabled) skip the same states as the real ones,
+     * and one expensive run can't get a state skipped for the rest of the game.
+     * */
+    public boolean hasBudgetFor(State state){
+        if(state.priority == State.SCHEDULE_CRIT){
+            return true;
+        }
+        int cost = state.cost;
+        if(state.priority == State.SCHEDULE_HIGH){
+            cost = cost / 2;
+        }
+        return Clock.getBytecodesLeft() >= cost + endTurn.cost;
+    }
+
+    public Result runState(State state) throws GameActionException {
+        if(budgetScheduler && !hasBudgetFor(state)){
+            BytecodeStats.skip(state, isKing);
+            return Result.of(Code.OK, DEBUG ? "Skipped, " + Clock.getBytecodesLeft() + " bytecode left" : "");
+        }
+        if(!BytecodeStats.enabled){
+            return state.run();
+        }
+        int roundStart = rc.getRoundNum();
+        int bytecodeStart = Clock.getBytecodeNum();
+        Result result = state.run();
+        BytecodeStats.record(state, isKing, roundStart, bytecodeStart, rc.getRoundNum());
+        return result;
+    }
 
     /////////////////////////////////////// Run ///////////////////////////////////////
 
@@ -146,13 +206,13 @@ public class Robot {
         }
 
         // Init states
-        header("Starting at round " + Clock.getBytecodeNum());
+        if(DEBUG) header("Starting at round " + Clock.getBytecodeNum());
         init = new Init();
         avoidCat = new AvoidCat();
         endTurn = new EndTurn();
         currentState = init;
         init();
-        header("Done init at bytecode " + Clock.getBytecodeNum());
+        if(DEBUG) header("Done init at bytecode " + Clock.getBytecodeNum());
 
         // Playing
         while (true) {
@@ -161,26 +221,26 @@ public class Robot {
             }
 
             // Playing state
-            header("\t" + currentState.name + "\t" + Clock.getBytecodeNum());
-            Result result = currentState.run();
+            if(DEBUG) header("\t" + currentState.name + "\t" + Clock.getBytecodeNum());
+            Result result = runState(currentState);
             if(!result.msg.isEmpty()) {
-                print("<= " + result.code.name() + " " + result.msg);
+                if(DEBUG) print("<= " + result.code.name() + " " + result.msg);
                 print("");
             }
 
             // Continue according to return state
             switch(result.code){
                 case LOCK:
-                    print("Lock: End turn and resume to state.");
-                    rc.setIndicatorString("LOCK " + currentState.name);
-                    endTurn.run();
-                    init.run();
-                    avoidCat.run();
+                    if(DEBUG) print("Lock: End turn and resume to state.");
+                    if(DEBUG) rc.setIndicatorString("LOCK " + currentState.name);
+                    runState(endTurn);
+                    runState(init);
+                    runState(avoidCat);
                     break;
 
                 case END_OF_TURN:
-                    rc.setIndicatorString("END_OF_TURN " + currentState.name);
-                    print("Skipping to end of turn");
+                    if(DEBUG) rc.setIndicatorString("END_OF_TURN " + currentState.name);
+                    if(DEBUG) print("Skipping to end of turn");
                     currentState = endTurn;
                     break;
 
@@ -194,16 +254,16 @@ public class Robot {
 
     /////////////////////////////////////// Debug ///////////////////////////////////////
     public static void _debug(String msg){
-        if(round < 400 && rc.getTeam() == Team.A) {
+        if(DEBUG && round < 400 && rc.getTeam() == Team.A) {
             System.out.println(msg);
         }
     }
     public static void header(String msg)    {_debug(msg);}      // Important informations (state name, round, energy used)
-    public static void print (String msg)    {_debug("\t\t" + msg);}     // Print inside state (target, action, etc.)
-    public static void printBytecode(String msg)    {_debug("\t\t" + msg + " \t" + Clock.getBytecodeNum());}     // Print inside state (target, action, etc.)
-    public static void debug (String msg)    {_debug("\t\t\t" + msg);}   // Debug stuff
-    public static void ddebug(String msg)    {_debug("\t\t\t\t" + msg);} // Debug stuff
+    public static void print (String msg)    {if(DEBUG) _debug("\t\t" + msg);}     // Print inside state (target, action, etc.)
+    public static void printBytecode(String msg)    {if(DEBUG) _debug("\t\t" + msg + " \t" + Clock.getBytecodeNum());}     // Print inside state (target, action, etc.)
+    public static void debug (String msg)    {if(DEBUG) _debug("\t\t\t" + msg);}   // Debug stuff
+    public static void ddebug(String msg)    {if(DEBUG) _debug("\t\t\t\t" + msg);} // Debug stuff
 
-    public static void warn  (String msg)     {_debug(" WW: " + msg);}
-    public static void err(String msg)     {_debug(" EE: " + msg);}
+    public static void warn  (String msg)     {if(DEBUG) _debug(" WW: " + msg);}
+    public static void err(String msg)     {if(DEBUG) _debug(" EE: " + msg);}
 }
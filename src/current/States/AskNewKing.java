@@ -15,6 +15,9 @@ public class AskNewKing extends State {
     public int consecutiveNoKing = 0;
     public AskNewKing(){
         this.name = "AskNewKing";
+        this.id = ID_ASK_NEW_KING;
+        this.cost = 800;
+        this.priority = SCHEDULE_NORMAL;
     }
 
 
@@ -27,7 +30,7 @@ public class AskNewKing extends State {
     public Result run() throws GameActionException {
         if(kings.size >= 2){
             consecutiveNoKing = 0;
-            return new Result(OK, "Already have enough kings");
+            return Result.of(OK, "Already have enough kings");
         }
 
         if(rc.getRoundNum() % 75 <= 30 && nearestMine != null){
@@ -38,18 +41,18 @@ public class AskNewKing extends State {
         for (int i = 0; i < kings.size; i++) {
             if(kings.ids[i] != rc.getID() % 4096){
                 consecutiveNoKing = 0;
-                return new Result(OK, "Already have another king " + kings.ids[i]);
+                return Result.of(OK, DEBUG ? "Already have another king " + kings.ids[i] : "");
             }
         }
 
         consecutiveNoKing++;
         if(consecutiveNoKing < 2){
-            return new Result(OK, "Maybe create new king : consectiveNoKing: " + consecutiveNoKing);
+            return Result.of(OK, DEBUG ? "Maybe create new king : consectiveNoKing: " + consecutiveNoKing : "");
         }
 
         // Wait a little because when spawn, kings array is not initialized
         if(spawnRound + 4 > rc.getRoundNum()){
-            return new Result(OK, "Wait after spawn before asking new king");
+            return Result.of(OK, "Wait after spawn before asking new king");
         }
 
         // Check placement for new king
@@ -80,12 +83,12 @@ public class AskNewKing extends State {
         
         // If no placement found
         if(newKingCenter == null){
-            return new Result(WARN, "No placement found for new king");
+            return Result.of(WARN, "No placement found for new king");
         }
 
         // Else, call for king
         Communication.addMessageCreateKing(newKingCenter, PRIORITY_CRIT);
         rc.setIndicatorLine(rc.getLocation(), newKingCenter, 0, 255, 0);
-        return new Result(WARN, "Ask for king at " + newKingCenter);
+        return Result.of(WARN, DEBUG ? "Ask for king at " + newKingCenter : "");
     };
 }
@@ -15,6 +15,9 @@ import static current.States.Code.*;
 public class AttackCat extends State {
     public AttackCat() {
         this.name = "AttackCat";
+        this.id = ID_ATTACK_CAT;
+        this.cost = 100;
+        this.priority = SCHEDULE_HIGH;
     }
 
     // Cat vision radius squared: sqrt(17) ≈ 4.12, so radius squared = 17
@@ -27,7 +30,7 @@ public class AttackCat extends State {
     @Override
     public Result run() throws GameActionException {
         if (nearestCat == null) {
-            return new Result(OK, "No cat");
+            return Result.of(OK, "No cat");
         }
 
         int catDistance = myLoc.distanceSquaredTo(nearestCat);
@@ -35,7 +38,7 @@ public class AttackCat extends State {
             ? GameConstants.RAT_KING_ATTACK_DISTANCE_SQUARED
             : ATTACK_DISTANCE_SQUARED;
         if (catDistance > attackDistanceSquared) {
-            return new Result(OK, "No cat to attack");
+            return Result.of(OK, "No cat to attack");
         }
 
         // Check if we can attack
@@ -62,7 +65,7 @@ public class AttackCat extends State {
                 PathFinding.addScoresWithoutNormalization(escapeScores);
                 return PathFinding.moveBest();
             }
-            return new Result(OK, "Can't attack");
+            return Result.of(OK, "Can't attack");
         }
 
         // Check cat health to see if we're winning
@@ -110,10 +113,10 @@ public class AttackCat extends State {
             // to avoid giving enemy more points by dealing damage
             if (ourHealth < 30 && catHealth > ourHealth * 3) {
                 // Don't attack again, just move away or accept death
-                return new Result(OK, "Attacked but losing badly, avoiding further engagement");
+                return Result.of(OK, "Attacked but losing badly, avoiding further engagement");
             }
         }
 
-        return new Result(OK, "Attacked cat with " + cheeseToSpend + " cheese");
+        return Result.of(OK, DEBUG ? "Attacked cat with " + cheeseToSpend + " cheese" : "");
     }
 }
@@ -21,6 +21,9 @@ import static java.lang.Math.min;
 public class AttackEnemy extends State {
     public AttackEnemy() {
         this.name = "AttackEnemy";
+        this.id = ID_ATTACK_ENEMY;
+        this.cost = 2400;
+        this.priority = SCHEDULE_HIGH;
     }
 
     // Scoring
@@ -55,7 +58,7 @@ public class AttackEnemy extends State {
         }
 
         if (cheeseEmergency && !kingThreatened) {
-            return new Result(OK, "Cheese emergency, skip attack");
+            return Result.of(OK, "Cheese emergency, skip attack");
         }
 
         if (rc.isActionReady()) {
@@ -64,7 +67,7 @@ public class AttackEnemy extends State {
                 int cheeseToSpend = Math.min(25, rc.getRawCheese() + spareGlobal);
                 if (rc.canAttack(nearestEnemyKing)) {
                     rc.attack(nearestEnemyKing, cheeseToSpend);
-                    return new Result(OK, "Late aggro: attacked enemy king");
+                    return Result.of(OK, "Late aggro: attacked enemy king");
                 }
             }
 
@@ -81,7 +84,7 @@ public class AttackEnemy extends State {
                 int damage = GameConstants.RAT_BITE_DAMAGE + bonus;
                 if (weakest.getHealth() <= damage && rc.canAttack(weakest.getLocation())) {
                     rc.attack(weakest.getLocation(), cheeseToSpend);
-                    return new Result(OK, "Quick kill on low health target");
+                    return Result.of(OK, "Quick kill on low health target");
                 }
             }
         }
@@ -90,14 +93,14 @@ public class AttackEnemy extends State {
             int distToEnemyKing = myLoc.distanceSquaredTo(nearestEnemyKing);
             if (distToEnemyKing > attackRangeSquared && distToEnemyKing <= 100 && rc.isMovementReady()) {
                 Result move = PathFinding.smartMoveTo(nearestEnemyKing);
-                return new Result(END_OF_TURN, "Late aggro: moving to enemy king (" + move.msg + ")");
+                return Result.of(END_OF_TURN, DEBUG ? "Late aggro: moving to enemy king (" + move.msg + ")" : "");
             }
         }
 
         // Check if enemy
         if (nearestEnemyRat == null || myLoc.distanceSquaredTo(nearestEnemyRat) > 25) {
             noAttackStreak = 0;
-            return new Result(OK, "No enemy or too far");
+            return Result.of(OK, "No enemy or too far");
         }
 
         // Play
@@ -114,7 +117,7 @@ public class AttackEnemy extends State {
 
         if(noAttackStreak >= MAX_NO_ATTACK_STREAK){
             noAttackStreak = 0;
-            return new Result(END_OF_TURN, "No attack for a while, cooling down");
+            return Result.of(END_OF_TURN, "No attack for a while, cooling down");
         }
 
         return result;
@@ -133,9 +136,9 @@ public class AttackEnemy extends State {
         boolean canThrow = throwEnable & (rc.getCarrying() != null) && rc.isActionReady();
         int baseDamage = GameConstants.RAT_BITE_DAMAGE;
         int cheeseBonusDamage = Math.min(3, rc.getRawCheese());
-        Team myTeam = rc.getTeam();
+
         while (i < enemiesRats.size) {
-            debug("Rat " + enemiesRats.ids[i] + " at " + enemiesRats.locs[i]);
+            if(DEBUG) debug("Rat " + enemiesRats.ids[i] + " at " + enemiesRats.locs[i]);
 
             // Add thrown score
             MapLocation targetLoc = enemiesRats.locs[i];
@@ -145,13 +148,7 @@ public class AttackEnemy extends State {
 
             // Add micro score
             char targetDir = directionEnemyRats[enemiesRats.ids[i]];
-            int damage = baseDamage + cheeseBonusDamage;
-            if(rc.canSenseLocation(targetLoc)){
-                RobotInfo info = rc.senseRobotAtLocation(targetLoc);
-                if(info != null && info.getTeam() != myTeam && info.getHealth() <= damage){
-                    damage += baseDamage;
-                }
-            }
+            int damage = baseDamage + cheeseBonusDamage; // Not used by micro scores, no need to sense the target
 
             // Add bonus if can ratnap
             long bonusIfCanRatnap = (rc.getCarrying() == null) ? 100 : 0;
@@ -212,10 +209,10 @@ public class AttackEnemy extends State {
         }
         mixedScore[8] = scoresAttack[8] * coefAttack - scoresDanger[8];
 
-        print(String.format("%10s | %6s | %6s | %6s", "Directions", "Danger", "Attack", "Mixed coef " + coefAttack));
+        if(DEBUG) print(String.format("%10s | %6s | %6s | %6s", "Directions", "Danger", "Attack", "Mixed coef " + coefAttack));
         for (Direction dir : Direction.values()) {
             int k = dir.ordinal();
-            print(String.format("%10s | %6s | %6s | %6s ", dir.name(), scoresDanger[k], scoresAttack[k], mixedScore[k]) + directions[attackDirections[k]].name());
+            if(DEBUG) print(String.format("%10s | %6s | %6s | %6s ", dir.name(), scoresDanger[k], scoresAttack[k], mixedScore[k]) + directions[attackDirections[k]].name());
 
             // Indicator stuff
             /*if (rc.onTheMap(myLoc.add(dir))) {
@@ -240,7 +237,7 @@ public class AttackEnemy extends State {
         MapLocation bestDangerLoc = myLoc.add(bestDanger);
         if(scoresDanger[bestDanger.ordinal()] >= Micro.DANGER_IN_REACH * 4 && (scoresAttack[bestDir.ordinal()] + scoresDanger[bestDir.ordinal()] < Micro.ATTACK_THROW) ){
             if(rc.canPlaceRatTrap(bestDangerLoc)) {
-                print("Too much danger, placing trap at " + bestDangerLoc);
+                if(DEBUG) print("Too much danger, placing trap at " + bestDangerLoc);
                 rc.canPlaceRatTrap(bestDangerLoc);
             }
         }
@@ -250,7 +247,7 @@ public class AttackEnemy extends State {
             if (rc.isMovementReady()) {
                 PathFinding.smartMoveTo(nearestEnemyRat);
             }
-            return new Result(END_OF_TURN, "No scores, I am too far or can't move");
+            return Result.of(END_OF_TURN, "No scores, I am too far or can't move");
         }
 
 
@@ -258,7 +255,7 @@ public class AttackEnemy extends State {
         // Else, deactivate throw and update scores
         if(isThrowAction[bestDir.ordinal()]){
             Result resultCheckThrow = checkThrow(bestDir);
-            print("resultCheckThrow : " + resultCheckThrow.msg);
+            if(DEBUG) print("resultCheckThrow : " + resultCheckThrow.msg);
 
             if(resultCheckThrow.code == CANT) {
                 throwEnable = false;
@@ -271,14 +268,14 @@ public class AttackEnemy extends State {
         // If the best combo is attacking from the current cell, attack now,
         if (scoresAttack[8] >= scoresAttack[bestDir.ordinal()] && scoresAttack[8] > 0) {
             Result result = (isThrowAction[8]) ? playThrow() : playAttack();
-            print("Attack result : " + result.msg);
+            if(DEBUG) print("Attack result : " + result.msg);
         }
 
 
         // Else, move
         if (bestDir != Direction.CENTER) {
             if (!rc.canMove(bestDir)) {
-                return new Result(ERR, "Can't move to best dir ! (So, it's not the best dir, we have a bug in updateScore()");
+                return Result.of(ERR, "Can't move to best dir ! (So, it's not the best dir, we have a bug in updateScore()");
             }
 
             PathFinding.move(bestDir);
@@ -290,7 +287,7 @@ public class AttackEnemy extends State {
             return (isThrowAction[8]) ? playThrow() : playAttack();
         }
 
-        return new Result(END_OF_TURN, "End of attack micro");
+        return Result.of(END_OF_TURN, "End of attack micro");
     }
 
     /// ////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -305,15 +302,16 @@ public class AttackEnemy extends State {
 
         // Direction center ?
         if (attackDirection == Direction.CENTER) {
-            return new Result(CANT, "Can't attack center");
+            return Result.of(CANT, "Can't attack center");
         }
 
         // See location
         if (!rc.canSenseLocation(target)) {
-            print("Can't sense target, smartlook : " + VisionUtils.smartLookAt(target).msg);
+            Result look = VisionUtils.smartLookAt(target);
+            if(DEBUG) print("Can't sense target, smartlook : " + look.msg);
 
             if(!rc.canSenseLocation(target)){
-                return new Result(CANT, "Can't sense target");
+                return Result.of(CANT, "Can't sense target");
             }
         }
 
@@ -321,16 +319,16 @@ public class AttackEnemy extends State {
         if (rc.canCarryRat(target)) {
             rc.carryRat(target);
             roundRatnap = rc.getRoundNum();
-            return new Result(OK, "Ratnaped " + target);
+            return Result.of(OK, DEBUG ? "Ratnaped " + target : "");
         }
 
         // Try to attack
         if (rc.canAttack(target)) {
             rc.attack(target, min(3, rc.getRawCheese()));
-            return new Result(OK, "Attacked " + target);
+            return Result.of(OK, DEBUG ? "Attacked " + target : "");
         }
 
-        return new Result(CANT, "Nothing to do !");
+        return Result.of(CANT, "Nothing to do !");
     }
 
 
@@ -353,18 +351,18 @@ public class AttackEnemy extends State {
             ||  (rc.canSenseRobotAtLocation(cellToCheck) && rc.senseRobotAtLocation(cellToCheck).getID() == rc.getID())
             )
         ){
-            return new Result(OK, "Passable or myself");
+            return Result.of(OK, "Passable or myself");
         }
 
         // Turn to direction of throw and try check again
         if(rc.getDirection() == throwDirection){
             ///  Is this case even possible ?
-            return new Result(WARN, "Can't check direction and already oriented to throwDirection");
+            return Result.of(WARN, "Can't check direction and already oriented to throwDirection");
         }
 
         // If can't turn
         if(!rc.canTurn()){
-            return new Result(CANT, "Can't turn to throw direction");
+            return Result.of(CANT, "Can't turn to throw direction");
         }
 
         // Turn and check again
@@ -378,13 +376,13 @@ public class AttackEnemy extends State {
 
         // Direction center ?
         if (attackDirection == Direction.CENTER) {
-            return new Result(CANT, "Can't attack center");
+            return Result.of(CANT, "Can't attack center");
         }
 
         // Looking at direction ?
         if (rc.getDirection() != attackDirection) {
             if (!rc.canTurn()) {
-                return new Result(CANT, "Can't turn to throw direction");
+                return Result.of(CANT, "Can't turn to throw direction");
             }
 
             rc.turn(attackDirection);
@@ -392,10 +390,10 @@ public class AttackEnemy extends State {
 
         // Can throw ?
         if (!rc.canThrowRat()) {
-            return new Result(CANT, "Can't throw rat");
+            return Result.of(CANT, "Can't throw rat");
         }
 
         rc.throwRat();
-        return new Result(CANT, "Rat throw :D " + attackDirection);
+        return Result.of(CANT, DEBUG ? "Rat throw :D " + attackDirection : "");
     }
 }
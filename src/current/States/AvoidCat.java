@@ -16,12 +16,15 @@ public class AvoidCat extends State {
     
     public AvoidCat() {
         this.name = "AvoidCat";
+        this.id = ID_AVOID_CAT;
+        this.cost = 100;
+        this.priority = SCHEDULE_CRIT;
     }
     
     @Override
     public Result run() throws GameActionException {
         if (nearestCat == null) {
-            return new Result(OK, "No cat to avoid");
+            return Result.of(OK, "No cat to avoid");
         }
 
         int safetyDist = isKing ? SAFE_DISTANCE_KING_SQUARED : SAFE_DISTANCE_SQUARED;
@@ -43,6 +46,6 @@ public class AvoidCat extends State {
         }
         PathFinding.addScoresWithNormalization(scores, coefBase);
         
-        return new Result(OK, "Add scores to avoid cat");
+        return Result.of(OK, "Add scores to avoid cat");
     }
 }
@@ -17,36 +17,39 @@ public class BecomeKing extends State {
 
     public BecomeKing() {
         this.name = "BecomeKing";
+        this.id = ID_BECOME_KING;
+        this.cost = 100;
+        this.priority = SCHEDULE_NORMAL;
     }
 
     @Override
     public Result run() throws GameActionException {
         if(kings.size >= 2){
             nearestCallForKing = null;
-            return new Result(OK, "Already have enough kings");
+            return Result.of(OK, "Already have enough kings");
         }
 
         // No one asking
         if(nearestCallForKing == null){
-            return new Result(OK, "No call for king nearby");
+            return Result.of(OK, "No call for king nearby");
         }
 
         // We have one more king
         if(kings.size > lastNumberKing){
             lastNumberKing = kings.size;
             nearestCallForKing = null;
-            return new Result(OK, "Already many kings");
+            return Result.of(OK, "Already many kings");
         }
 
         // Outdated
         if(nearestCallForKingTurn + 10 < rc.getRoundNum()){
             nearestCallForKing = null;
-            return new Result(OK, "Call for king outdated");
+            return Result.of(OK, "Call for king outdated");
         }
 
        // Too far
         if(myLoc.distanceSquaredTo(nearestCallForKing) > 400){
-            return new Result(OK, "Call for king too far");
+            return Result.of(OK, "Call for king too far");
         }
 
         forceMovingEndOfTurn = false;
@@ -54,13 +57,13 @@ public class BecomeKing extends State {
         // if not in the square, move to it
         if(!myLoc.isWithinDistanceSquared(nearestCallForKing, 2)){
             PathFinding.smartMoveTo(nearestCallForKing);
-            return new Result(OK, "Moving to call for king at " + nearestCallForKing);
+            return Result.of(OK, DEBUG ? "Moving to call for king at " + nearestCallForKing : "");
         }
 
         if(myLoc.equals(nearestCallForKing) && rc.canBecomeRatKing()){
             rc.becomeRatKing();
             nearestCallForKing = null;
-            return new Result(END_OF_TURN, "Became rat king at call");
+            return Result.of(END_OF_TURN, "Became rat king at call");
         }
 
         // Add score to stay in the square
@@ -70,12 +73,12 @@ public class BecomeKing extends State {
         }
         PathFinding.addScoresWithNormalization(scores, 100);
         PathFinding.moveBest();
-        return new Result(END_OF_TURN, "Staying in call for king at " + nearestCallForKing);
+        return Result.of(END_OF_TURN, DEBUG ? "Staying in call for king at " + nearestCallForKing : "");
 
         /*
 
         if (rc.getType().isRatKingType()) {
-            return new Result(OK, "Already a king");
+            return Result.of(OK, "Already a king");
         }
 
         MapLocation kingLoc = nearestKing;
@@ -98,21 +101,21 @@ public class BecomeKing extends State {
         }
 
         if (!kingLow) {
-            return new Result(OK, "No low king nearby");
+            return Result.of(OK, "No low king nearby");
         }
 
         if (rc.canBecomeRatKing()) {
             rc.becomeRatKing();
             isKing = true;
-            return new Result(END_OF_TURN, "Became rat king");
+            return Result.of(END_OF_TURN, "Became rat king");
         }
 
         if (kingLoc != null && myLoc.distanceSquaredTo(kingLoc) <= KING_RALLY_RADIUS_SQUARED && rc.getMovementCooldownTurns() == 0) {
             Result moveResult = PathFinding.smartMoveTo(kingLoc);
-            return new Result(moveResult.code, "Rallying to king at " + kingLoc + " (" + moveResult.msg + ")");
+            return Result.of(moveResult.code, DEBUG ? "Rallying to king at " + kingLoc + " (" + moveResult.msg + ")" : "");
         }
 
-        return new Result(OK, "Cannot become rat king");
+        return Result.of(OK, "Cannot become rat king");
         */
     }
 }
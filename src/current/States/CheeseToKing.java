@@ -10,6 +10,9 @@ import static current.States.Code.*;
 public class CheeseToKing extends State {
     public CheeseToKing(){
         this.name = "CheeseToKing";
+        this.id = ID_CHEESE_TO_KING;
+        this.cost = 700;
+        this.priority = SCHEDULE_HIGH;
     }
 
     private Direction bestDirectionCovering(MapLocation target){
@@ -35,17 +38,17 @@ public class CheeseToKing extends State {
 
         int rawCheese = rc.getRawCheese();
         if(rawCheese == 0){
-            return new Result(OK, "");
+            return Result.of(OK, "");
         }
 
         // Check if we have a king to go
         if(nearestKing == null){
-            return new Result(WARN, "I have no king to drop cheese");
+            return Result.of(WARN, "I have no king to drop cheese");
         }
 
         int minCheeseToDeliver = 1;
         if(rawCheese < minCheeseToDeliver){
-            return new Result(OK, "");
+            return Result.of(OK, "");
         }
 
         // Check if we can sense location, and if so, check if king
@@ -69,18 +72,18 @@ public class CheeseToKing extends State {
         // Try to transfer
         if(rc.canTransferCheese(nearestKing, rawCheese)){
             rc.transferCheese(nearestKing, rawCheese);
-            return new Result(OK, "Cheese transferred!");
+            return Result.of(OK, "Cheese transferred!");
         }
 
-        print("Moving to king at " + nearestKing);
+        if(DEBUG) print("Moving to king at " + nearestKing);
         PathFinding.smartMoveTo(nearestKing);
 
         // Try to transfer
         if(rc.canTransferCheese(nearestKing, rawCheese)){
             rc.transferCheese(nearestKing, rawCheese);
-            return new Result(OK, "Cheese transferred!");
+            return Result.of(OK, "Cheese transferred!");
         }
 
-        return new Result(END_OF_TURN, "Can't transfer cheese");
+        return Result.of(END_OF_TURN, "Can't transfer cheese");
     }
 }
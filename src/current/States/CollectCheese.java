@@ -8,7 +8,12 @@ import current.Utils.VisionUtils;
 import static current.States.Code.*;
 
 public class CollectCheese extends State {
-    public CollectCheese(){this.name = "CollectCheese";}
+    public CollectCheese(){
+        this.name = "CollectCheese";
+        this.id = ID_COLLECT_CHEESE;
+        this.cost = 1000;
+        this.priority = SCHEDULE_NORMAL;
+    }
 
     public MapLocation cheeseLoc;
     public MapLocation targetMine; // Target cheese mine to stay near
@@ -38,27 +43,27 @@ public class CollectCheese extends State {
                 int distToMine = myLoc.distanceSquaredTo(targetMine);
                 if(distToMine > MINE_STAY_RADIUS_SQUARED){
                     PathFinding.smartMoveTo(targetMine);
-                    return new Result(END_OF_TURN, "Moving to mine at " + targetMine);
+                    return Result.of(END_OF_TURN, DEBUG ? "Moving to mine at " + targetMine : "");
                 }
-                return new Result(END_OF_TURN, "Holding near mine " + targetMine);
+                return Result.of(END_OF_TURN, DEBUG ? "Holding near mine " + targetMine : "");
             }
 
-            return new Result(OK, "No cheese nearby");
+            return Result.of(OK, "No cheese nearby");
         }
 
         // Try pickup
         if(rc.getLocation().distanceSquaredTo(nearestCheese) <= 2){
             Result r = VisionUtils.smartLookAt(nearestCheese);
             if(r.notOk()){
-                return new Result(r.code, "Looking at cheese : " + r.msg);
+                return Result.of(r.code, DEBUG ? "Looking at cheese : " + r.msg : "");
             }
 
             if(rc.canPickUpCheese(nearestCheese)){
                 rc.pickUpCheese(nearestCheese);
-                return new Result(END_OF_TURN, "Cheese picked up at "  + nearestCheese);
+                return Result.of(END_OF_TURN, DEBUG ? "Cheese picked up at "  + nearestCheese : "");
             }
 
-            return new Result(WARN, "Can't pickupt cheese");
+            return Result.of(WARN, "Can't pickupt cheese");
         }
 
         // Move to cheese
@@ -68,23 +73,23 @@ public class CollectCheese extends State {
         if(rc.getLocation().distanceSquaredTo(nearestCheese) <= 2){
             Result r = VisionUtils.smartLookAt(nearestCheese);
             if(r.notOk()){
-                return new Result(r.code, "Looking at cheese : " + r.msg);
+                return Result.of(r.code, DEBUG ? "Looking at cheese : " + r.msg : "");
             }
 
             if(rc.canPickUpCheese(nearestCheese)){
                 rc.pickUpCheese(nearestCheese);
-                return new Result(END_OF_TURN, "Cheese picked up at "  + nearestCheese);
+                return Result.of(END_OF_TURN, DEBUG ? "Cheese picked up at "  + nearestCheese : "");
             }
 
-            return new Result(WARN, "Can't pickupt cheese");
+            return Result.of(WARN, "Can't pickupt cheese");
         }
 
         rc.setIndicatorLine(rc.getLocation(), nearestCheese, 184, 163, 51);
-        return new Result(END_OF_TURN, "Moving to cheese at " + nearestCheese);
+        return Result.of(END_OF_TURN, DEBUG ? "Moving to cheese at " + nearestCheese : "");
 
 /*        
         if(true){
-            return new Result(CANT, "Need to check this function");
+            return Result.of(CANT, "Need to check this function");
         }
 
         // Priority 1: Find nearest cheese mine if we don't have a target
@@ -142,22 +147,22 @@ public class CollectCheese extends State {
             if(rc.canPickUpCheese(cheeseLoc)){
                 rc.pickUpCheese(cheeseLoc);
                 cheeseLoc = null;
-                return new Result(OK, "Cheese picked up");
+                return Result.of(OK, "Cheese picked up");
             }
             PathFinding.smartMoveTo(cheeseLoc);
             if(rc.canPickUpCheese(cheeseLoc)){
                 rc.pickUpCheese(cheeseLoc);
                 cheeseLoc = null;
-                return new Result(OK, "Cheese picked up after moving");
+                return Result.of(OK, "Cheese picked up after moving");
             }
         }
 
         // If no cheese nearby and we're at mine, explore around mine
         if(targetMine != null && myLoc.distanceSquaredTo(targetMine) <= MINE_STAY_RADIUS_SQUARED){
-            return new Result(OK, "Staying near mine, waiting for cheese");
+            return Result.of(OK, "Staying near mine, waiting for cheese");
         }
 
-        return new Result(OK, "No cheese to collect");
+        return Result.of(OK, "No cheese to collect");
         */
     };
 }
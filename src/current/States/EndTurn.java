@@ -2,6 +2,8 @@ package current.States;
 
 import battlecode.common.*;
 import current.Communication.SenseForComs;
+import current.Utils.BytecodeStats;
+import current.Utils.Grid;
 import current.Utils.PathFinding;
 import current.Utils.VisionUtils;
 import current.Communication.Communication;
@@ -12,6 +14,9 @@ import static current.Utils.Tools.bestDirOfLong9;
 public class EndTurn extends State {
     public EndTurn(){
         this.name = "EndTurn";
+        this.id = ID_END_TURN;
+        this.cost = 2600;
+        this.priority = SCHEDULE_CRIT;
     }
 
     @Override
@@ -35,7 +40,7 @@ public class EndTurn extends State {
         // End turn
         if(lastInitRound != round){
             // Clock.yield() - We are one round behind ! Not skipping it.
-            return new Result(WARN, "Turn start at round " + lastInitRound + " end at " + round + " " + rc.getLocation());
+            return Result.of(WARN, DEBUG ? "Turn start at round " + lastInitRound + " end at " + round + " " + rc.getLocation() : "");
         }
 
         // Debug scores
@@ -50,10 +55,10 @@ public class EndTurn extends State {
                     MapLocation loc = new MapLocation(x, y);
                     if(Clock.getBytecodesLeft() < 2000){
                         Clock.yield();
-                        return new Result(WARN, "Stop debug scores, not enough bytecode");
+                        return Result.of(WARN, "Stop debug scores, not enough bytecode");
                     }
                     if (rc.onTheMap(loc)) {
-                        int score = VisionUtils.scores[x + 68 * y + 552];
+                        int score = VisionUtils.scores[Grid.index(loc)];
                         if(score == VisionUtils.SCORE_NOT_ALREADY_VIEWED){
                             rc.setIndicatorDot(loc, 0, 50, 0);
                         }else{
@@ -64,7 +69,8 @@ public class EndTurn extends State {
             }
         }*/
 
+        BytecodeStats.beforeYield(round);
         Clock.yield();
-        return new Result(OK, "Ending turn gracefully at cell " + rc.getLocation());
+        return Result.of(OK, DEBUG ? "Ending turn gracefully at cell " + rc.getLocation() : "");
     };
 }
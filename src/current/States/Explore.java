@@ -3,6 +3,7 @@ package current.States;
 import battlecode.common.*;
 import current.Robots.Robot;
 import current.Utils.BugNavLmx;
+import current.Utils.Grid;
 import current.Utils.PathFinding;
 import current.Utils.VisionUtils;
 
@@ -35,6 +36,9 @@ public class Explore extends State {
     MapLocation target;
     public Explore(){
         this.name = "Explore";
+        this.id = ID_EXPLORE;
+        this.cost = 1800;
+        this.priority = SCHEDULE_NORMAL;
     
     
         // Init target explore using orientation given at spawn
@@ -54,36 +58,36 @@ public class Explore extends State {
         }
 
         if(rc.getMovementCooldownTurns() != 0){
-            return new Result(CANT, "Can't move");
+            return Result.of(CANT, "Can't move");
         }
 
         // Check if we can turn
         if(rc.getTurningCooldownTurns() != 0){
-            return new Result(CANT, "Can't turn");
+            return Result.of(CANT, "Can't turn");
         }
 
         if(Robot.isCheeseEmergency() || Robot.isKingThreatened()){
             if(nearestKing != null){
                 Result result = PathFinding.smartMoveTo(nearestKing);
-                return new Result(END_OF_TURN, "Emergency: moving to king (" + result.msg + ")");
+                return Result.of(END_OF_TURN, DEBUG ? "Emergency: moving to king (" + result.msg + ")" : "");
             }
             if(nearestMine != null){
                 Result result = PathFinding.smartMoveTo(nearestMine);
-                return new Result(END_OF_TURN, "Emergency: moving to mine (" + result.msg + ")");
+                return Result.of(END_OF_TURN, DEBUG ? "Emergency: moving to mine (" + result.msg + ")" : "");
             }
-            return new Result(OK, "Emergency: holding position");
+            return Result.of(OK, "Emergency: holding position");
         }
 
         // Cheese mine depleted if nearby and no cheese
         if(targetExplore != null && myLoc.distanceSquaredTo(targetExplore) < 8 && nearestCheese == null){
-            isMineDepleted[targetExplore.x + targetExplore.y * 60] = (char) (rc.getRoundNum() + 800);
+            isMineDepleted[Grid.index(targetExplore)] = (char) (rc.getRoundNum() + 800);
             targetExplore = null;
         }
 
         if(targetExplore == null || lastTargetRoundSet + 100 < rc.getRoundNum()){
             // Set previous mine has depleted (force explore another one)
             if(targetExplore != null) {
-                isMineDepleted[targetExplore.x + targetExplore.y * 60] = (char) (rc.getRoundNum() + 800);
+                isMineDepleted[Grid.index(targetExplore)] = (char) (rc.getRoundNum() + 800);
             }
 
             // Take nearest one
@@ -91,7 +95,7 @@ public class Explore extends State {
                 MapLocation loc = cheeseMines.locs[i];
 
                 // Not depleted ?
-                if(isMineDepleted[loc.x + loc.y * 60] <= rc.getRoundNum()){
+                if(isMineDepleted[Grid.index(loc)] <= rc.getRoundNum()){
                     // Nearest ?
                     if(targetExplore == null || myLoc.distanceSquaredTo(loc) < myLoc.distanceSquaredTo(targetExplore)){
                         targetExplore = loc;
@@ -101,7 +105,7 @@ public class Explore extends State {
 
             // Else, take random destinaiton
             if(targetExplore == null){
-                print("Taking random target of dir " + directions[rc.getRoundNum() % 8]);
+                if(DEBUG) print("Taking random target of dir " + directions[rc.getRoundNum() % 8]);
                 targetExplore = getExploreLocation(directions[rc.getRoundNum() % 8]);
             }
 
@@ -111,10 +115,13 @@ public class Explore extends State {
         // Add bonus to target
         if (targetExplore != null) {
             Direction dir = PathFinding.BugNavLmx(targetExplore);
-            if(BugNavLmx.resultCode <= -10 || dir == null){
-                isMineDepleted[targetExplore.x + targetExplore.y * 60] = (char) (rc.getRoundNum() + 400);
+            if(dir == null && BugNavLmx.resultCode == BugNavLmx.RESULT_PENDING){
+                // Path will be finished on next turns, keep target and head to it meanwhile
+                PathFinding.modificatorOrientationSoft(rc.getLocation().directionTo(targetExplore), 5);
+            }else if(BugNavLmx.resultCode <= -10 || dir == null){
+                isMineDepleted[Grid.index(targetExplore)] = (char) (rc.getRoundNum() + 400);
                 targetExplore = null;
-                print("BugNavLmx return " + BugNavLmx.resultCode + ", targetExplore set to null");
+                if(DEBUG) print("BugNavLmx return " + BugNavLmx.resultCode + ", targetExplore set to null");
             }else{
                 PathFinding.modificatorOrientationSoft(dir, 5); // Coef 5
             }
@@ -129,8 +136,8 @@ public class Explore extends State {
         long[] lookScores = new long[]{0, 0, 0, 0, 0, 0, 0, 0, 0};
         for(Direction dir : Direction.values()){
             if(dir != Direction.CENTER){
-                scores[dir.ordinal()] = VisionUtils.getScoreInView(myLoc.add(dir), dir, unitType);
-                lookScores[dir.ordinal()] = VisionUtils.getScoreInView(myLoc, dir, unitType);
+                scores[dir.ordinal()] = VisionUtils.getScoreInView(Grid.myXY + Grid.DIR_SHIFTS[dir.ordinal()], dir, unitType);
+                lookScores[dir.ordinal()] = VisionUtils.getScoreInView(Grid.myXY, dir, unitType);
             }
         }
         PathFinding.addScoresWithNormalization(scores, 1);
@@ -164,7 +171,7 @@ public class Explore extends State {
             rc.turn(bestLookDir);
         }
         Result resultTurn = VisionUtils.smartLook();
-        return new Result(OK, "Move result : " + result.msg + " Turn result : " + resultTurn.msg);
+        return Result.of(OK, DEBUG ? "Move result : " + result.msg + " Turn result : " + resultTurn.msg : "");
 
         // TODOS: Maybe turn, and then, according to new infos, restart from beginning ?
         // TODOS: Check if you need to move after turning
@@ -5,7 +5,10 @@ import current.Communication.SenseForComs;
 import current.Params;
 import current.Robots.Robot;
 import current.Utils.*;
+import current.Communication.CommsStats;
 import current.Communication.Communication;
+import current.Communication.MessageFilter;
+import current.Communication.MessageQueue;
 
 import static current.Communication.Communication.TYPE_KING;
 import static current.States.Code.*;
@@ -14,6 +17,9 @@ import static current.Communication.Communication.TYPE_CAT;
 public class Init extends State {
     public Init() throws GameActionException {
         this.name = "Init";
+        this.id = ID_INIT;
+        this.cost = 6900;
+        this.priority = SCHEDULE_CRIT;
         Robot.spawnLoc = rc.getLocation();
         Robot.spawnRound = rc.getRoundNum();
         Robot.isKing = rc.getType().isRatKingType();
@@ -28,7 +34,7 @@ public class Init extends State {
         }
 
         if(!isKing){
-            numberTimesOnPositions = ArrayUtils.char3600();
+            numberTimesOnPositions = ArrayUtils.charGrid();
         }
 
         // Init utils
@@ -46,6 +52,7 @@ public class Init extends State {
         lastInitRound = round;
         isKing = rc.getType().isRatKingType();
         myLoc = rc.getLocation();
+        Grid.update(myLoc);
         forceMovingEndOfTurn = true;
         nearestDefend = null;
 
@@ -55,14 +62,14 @@ public class Init extends State {
 
         // Reset kings every 10 turn, like that, if one die, it will be cleared
         if(rc.getRoundNum() % 10 == 0){
+            kingsBeforeClear = kings.size;
             kings.clear();
         }
 
         if(!isKing){
-            numberTimesOnPositions[myLoc.x + myLoc.y*60]++;
-            if(numberTimesOnPositions[myLoc.x + myLoc.y*60] > 8){
+            if(++numberTimesOnPositions[Grid.myXY] > 8){
                 bugnavBugging = rc.getRoundNum();
-                numberTimesOnPositions = ArrayUtils.char3600();
+                numberTimesOnPositions = ArrayUtils.charGrid();
             }else{
                 bugnavBugging = -999;
             }
@@ -74,6 +81,13 @@ public class Init extends State {
         else if (round < 1500) { gamePhase = PHASE_MIDLE;}
         else                   { gamePhase = PHASE_FINAL;}
         Params.init();
+        if(BytecodeStats.dumpIfNeeded(round, isKing, rc.getID())){
+            MessageQueue.dump(round, rc.getID());
+            CommsStats.dump(round, isKing, rc.getID());
+            if(MessageFilter.MEASURE){
+                MessageFilter.dump(round, rc.getID());
+            }
+        }
 
         printBytecode("Update communications");
         Communication.readMessages(); // Read messsages
@@ -97,7 +111,7 @@ public class Init extends State {
 
         // Reset score if we can view the cell
         int scoreTurn = (2000 - round) * 100;
-        VisionUtils.setScoreInRatVision(rc.getLocation(), rc.getDirection(), scoreTurn);
+        VisionUtils.setScoreInRatVision(Grid.myXY, rc.getDirection(), scoreTurn);
 
         // Add penalty if some rats are already looking in this direction
         for(RobotInfo info: rc.senseNearbyRobots(-1, rc.getTeam())){
@@ -197,8 +211,8 @@ public class Init extends State {
         if(i == -1){
             nearestAllyRat = null;
         }else{
-            nearestAllyRat = enemiesRats.locs[i];
-            nearestAllyRatID = enemiesRats.ids[i];
+            nearestAllyRat = alliesRats.loc(i);
+            nearestAllyRatID = alliesRats.ids[i];
         }
 
         // debug("Nearest: enemy rat");
@@ -253,6 +267,6 @@ public class Init extends State {
             rc.setIndicatorLine(rc.getLocation(), cheeseMines.locs[j], 0, 255, 0);
         }*/
 
-        return new Result(OK, "");
+        return Result.of(OK, "");
     }
 }
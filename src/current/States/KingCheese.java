@@ -14,6 +14,9 @@ import static current.States.Code.*;
 public class KingCheese extends State {
     public KingCheese(){
         this.name = "KingCheese";
+        this.id = ID_KING_CHEESE;
+        this.cost = 100;
+        this.priority = SCHEDULE_NORMAL;
     }
 
 
@@ -29,9 +32,9 @@ public class KingCheese extends State {
                 if(rc.canPickUpCheese(info.getMapLocation())){
                     rc.pickUpCheese(info.getMapLocation());
                 }
-                return new Result(OK, "Cheese picked up");
+                return Result.of(OK, "Cheese picked up");
             }
         }
-        return new Result(OK, "No cheese nearby");
+        return Result.of(OK, "No cheese nearby");
     };
 }
@@ -9,13 +9,16 @@ import static current.States.Code.*;
 public class KingDig extends State {
     public KingDig(){
         this.name = "KingDig";
+        this.id = ID_KING_DIG;
+        this.cost = 300;
+        this.priority = SCHEDULE_NORMAL;
     }
 
     @Override
     public Result run() throws GameActionException {
         // Action ready
         if(!rc.isActionReady()){
-            return new Result(OK, "Action not ready");
+            return Result.of(OK, "Action not ready");
         }
 
         // Dig somewhere ?
@@ -23,10 +26,10 @@ public class KingDig extends State {
         for(MapInfo infos: rc.senseNearbyMapInfos(8)){
             if(infos.isDirt() && rc.canRemoveDirt(infos.getMapLocation())){
                 rc.removeDirt(infos.getMapLocation());
-                return new Result(OK, "Dirt removed at " + infos.getMapLocation());
+                return Result.of(OK, DEBUG ? "Dirt removed at " + infos.getMapLocation() : "");
             }
         }
 
-        return new Result(OK, "Can't remove dirt");
+        return Result.of(OK, "Can't remove dirt");
     };
 }
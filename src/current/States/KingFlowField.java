@@ -0,0 +1,53 @@
+package current.States;
+
+import battlecode.common.*;
+import current.Communication.SectorHints;
+import current.Utils.FlowField;
+
+import static current.States.Code.*;
+
+public class KingFlowField extends State {
+    // King moved more than this since its field was started, build it again
+    private static final int KING_MOVED_DISTANCE_SQUARED = 8;
+    private static final int RESERVE_BYTECODE = 3500; // EndTurn cost and a margin
+
+    public KingFlowField(){
+        this.name = "KingFlowField";
+        this.id = ID_KING_FLOW_FIELD;
+        this.cost = 8300;
+        this.priority = SCHEDULE_NORMAL;
+    }
+
+    @Override
+    public Result run() throws GameActionException {
+        int round = rc.getRoundNum();
+
+        // Field 0: ourself
+        MapLocation kingTarget = FlowField.targets[0];
+        if(kingTarget == null || kingTarget.distanceSquaredTo(myLoc) > KING_MOVED_DISTANCE_SQUARED){
+            FlowField.setTarget(0, myLoc, round);
+        }else{
+            FlowField.setTarget(0, kingTarget, round);
+        }
+
+        // Others: first known cheese mines
+        for(int field = 1; field < FlowField.MAX_FIELDS; field++){
+            if(field - 1 < cheeseMines.size){
+                FlowField.setTarget(field, cheeseMines.locs[field - 1], round);
+            }else{
+                FlowField.clear(field);
+            }
+        }
+
+        // Share what we have so far with babies
+        SectorHints.publish();
+
+        // Use what is left, before EndTurn reserve
+        for(int field = 0; field < FlowField.MAX_FIELDS; field++){
+            if(!FlowField.build(field, RESERVE_BYTECODE)){
+                return Result.of(OK, DEBUG ? "Building flow field " + field + " to " + FlowField.targets[field] : "");
+            }
+        }
+        return Result.of(OK, "Flow fields complete");
+    }
+}
@@ -2,6 +2,7 @@ package current.States;
 
 import battlecode.common.*;
 import current.Robots.Robot;
+import current.Utils.FlowField;
 import current.Utils.PathFinding;
 
 import static current.States.Code.*;
@@ -18,6 +19,9 @@ public class MoveKing extends State {
 
     public MoveKing(){
         this.name = "MoveKing";
+        this.id = ID_MOVE_KING;
+        this.cost = 600;
+        this.priority = SCHEDULE_HIGH;
     }
 
     @Override
@@ -25,7 +29,7 @@ public class MoveKing extends State {
 
         // Check if we can move and turn
         if(!rc.isMovementReady()){
-            return new Result(CANT, "Can't move");
+            return Result.of(CANT, "Can't move");
         }
 
         boolean onMine = nearestMine != null && nearestMine.equals(myLoc);
@@ -43,7 +47,7 @@ public class MoveKing extends State {
                 }
                 PathFinding.addScoresWithNormalization(scores, 12);
                 Result result = PathFinding.moveBest();
-                return new Result(result.code, "Avoiding cat at " + nearestCat + " (" + result.msg + ")");
+                return Result.of(result.code, DEBUG ? "Avoiding cat at " + nearestCat + " (" + result.msg + ")" : "");
             }
         }
 
@@ -74,12 +78,12 @@ public class MoveKing extends State {
             }
             PathFinding.addScoresWithNormalization(scores, 12);
             Result result = PathFinding.moveBest();
-            return new Result(result.code, "Avoiding enemy at " + nearestThreat + " (" + result.msg + ")");
+            return Result.of(result.code, DEBUG ? "Avoiding enemy at " + nearestThreat + " (" + result.msg + ")" : "");
         }
 
         // If only one king, dont move unless threat handling was needed
         if(Robot.kings.size <= 1){
-            return new Result(OK, "Only one king, playing safe");
+            return Result.of(OK, "Only one king, playing safe");
         }
 
         // Move only if we have the lower id in kings
@@ -92,7 +96,7 @@ public class MoveKing extends State {
             }
         }
         if(!canMove){
-            return new Result(OK, "I am not the lowest ID, not moving");
+            return Result.of(OK, "I am not the lowest ID, not moving");
         }
 
         MapLocation targetMine = nearestMine;
@@ -139,8 +143,16 @@ public class MoveKing extends State {
 
         // Prefer moving toward known cheese mines.
         if(targetMine != null){
+            // Descend the flow field if we reached this cell while building it, else bugnav
+            int field = FlowField.fieldOf(targetMine);
+            Direction fieldDir = field < 0 ? null : FlowField.bestDirection(field, myLoc);
+            if(fieldDir != null){
+                PathFinding.modificatorOrientation(fieldDir);
+                Result result = PathFinding.moveBest();
+                return Result.of(result.code, DEBUG ? "Flow field to mine " + targetMine + " (" + result.msg + ")" : "");
+            }
             Result result = PathFinding.smartMoveTo(targetMine);
-            return new Result(result.code, "Moving to mine " + targetMine + " (" + result.msg + ")");
+            return Result.of(result.code, DEBUG ? "Moving to mine " + targetMine + " (" + result.msg + ")" : "");
         }
 
         // Add a score to move to rats with cheese
@@ -152,6 +164,6 @@ public class MoveKing extends State {
 
         PathFinding.addScoresWithNormalization(scores, 5);
         PathFinding.moveBest();
-        return new Result(OK, "Done updating scores");
+        return Result.of(OK, "Done updating scores");
     };
 }
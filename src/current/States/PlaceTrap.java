@@ -12,6 +12,9 @@ import static current.States.Code.*;
 public class PlaceTrap extends State {
     public PlaceTrap(){
         this.name = "PlaceTrap";
+        this.id = ID_PLACE_TRAP;
+        this.cost = 200;
+        this.priority = SCHEDULE_NORMAL;
     }
 
     private static final int RAT_TRAP_COST = 30;
@@ -22,12 +25,12 @@ public class PlaceTrap extends State {
     public Result run() throws GameActionException {
         // Need action ready to place trap
         if(!rc.isActionReady()){
-            return new Result(OK, "Action not ready");
+            return Result.of(OK, "Action not ready");
         }
 
         boolean cheeseEmergency = Robot.isCheeseEmergency();
         if(cheeseEmergency){
-            return new Result(OK, "Cheese emergency, skip traps");
+            return Result.of(OK, "Cheese emergency, skip traps");
         }
 
         // Check for cat nearby - place cat trap
@@ -41,7 +44,7 @@ public class PlaceTrap extends State {
                     MapLocation trapLoc = myLoc.add(dir);
                     if(rc.canSenseLocation(trapLoc) && rc.canPlaceCatTrap(trapLoc)){
                         rc.placeCatTrap(trapLoc);
-                        return new Result(OK, "Placed cat trap at " + trapLoc);
+                        return Result.of(OK, DEBUG ? "Placed cat trap at " + trapLoc : "");
                     }
                 }
             }
@@ -59,12 +62,12 @@ public class PlaceTrap extends State {
                     MapLocation trapLoc = myLoc.add(dir);
                     if(rc.canSenseLocation(trapLoc) && rc.canPlaceRatTrap(trapLoc)){
                         rc.placeRatTrap(trapLoc);
-                        return new Result(OK, "Placed rat trap at " + trapLoc);
+                        return Result.of(OK, DEBUG ? "Placed rat trap at " + trapLoc : "");
                     }
                 }
             }
         }
 
-        return new Result(OK, "No trap placement needed");
+        return Result.of(OK, "No trap placement needed");
     }
 }
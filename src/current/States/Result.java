@@ -1,16 +1,39 @@
 package current.States;
 
+import current.Robots.Robot;
+
 import static current.States.Code.OK;
 
 public class Result {
     public Code code;
     public String msg;
 
+    // One shared result per code, returned when messages are compiled away
+    static final Result[] SINGLETONS = {
+            new Result(Code.CANT, ""),
+            new Result(Code.OK, ""),
+            new Result(Code.LOCK, ""),
+            new Result(Code.END_OF_TURN, ""),
+            new Result(Code.WARN, ""),
+            new Result(Code.ERR, ""),
+    };
+
     public Result(Code code, String msg){
         this.code = code;
         this.msg = msg;
     }
 
+    /**
+     * Without Robot.DEBUG, no allocation: the preallocated result of the code is returned.
+     * Build messages with `DEBUG ? "..." + x : ""` so the concatenation is removed at compile time.
+     * */
+    public static Result of(Code code, String msg){
+        if(Robot.DEBUG){
+            return new Result(code, msg);
+        }
+        return SINGLETONS[code.ordinal()];
+    }
+
     public Boolean isOk(){return code == OK;}
     public Boolean notOk(){return code != OK;}
 }
@@ -41,6 +41,9 @@ public class Spawn extends State {
 
     public Spawn(){
         this.name = "Spawn";
+        this.id = ID_SPAWN;
+        this.cost = 400;
+        this.priority = SCHEDULE_HIGH;
         width = rc.getMapWidth();
         height = rc.getMapHeight();
 
@@ -65,19 +68,19 @@ public class Spawn extends State {
         int spawnCost = rc.getCurrentRatCost();
 
         if(!isKing){
-            return new Result(ERR, "Unit should be king to spawn rats.");
+            return Result.of(ERR, "Unit should be king to spawn rats.");
         }
 
         if(!needBabies){
             // Rat king consumes 2 cheese per round, so 200 rounds = 400 cheese minimum
             int minCheeseFor200Rounds = 400 * kingCount;
             if(minCheeseFor200Rounds > cheeseStock){
-                return new Result(OK, "Not enough cheese: " + cheeseStock + " (min: " + minCheeseFor200Rounds + ")");
+                return Result.of(OK, DEBUG ? "Not enough cheese: " + cheeseStock + " (min: " + minCheeseFor200Rounds + ")" : "");
             }
         }else{
             int minReserve = kingCount * 10; // keep 5 rounds of cheese per king
             if(cheeseStock < spawnCost + minReserve){
-                return new Result(OK, "Not enough cheese to safely spawn (stock: " + cheeseStock + ")");
+                return Result.of(OK, DEBUG ? "Not enough cheese to safely spawn (stock: " + cheeseStock + ")" : "");
             }
         }
 
@@ -85,7 +88,7 @@ public class Spawn extends State {
         // Don't spawn if costs is too high
         int maxAcceptableCost = 10 + (Params.maxRats / 4)*10 ; // 10 cheese per 4 rats
         if(!needBabies && rc.getCurrentRatCost() >= maxAcceptableCost){
-            return new Result(OK, "Cost too high: " + rc.getCurrentRatCost() + " (max: " + maxAcceptableCost + ")");
+            return Result.of(OK, DEBUG ? "Cost too high: " + rc.getCurrentRatCost() + " (max: " + maxAcceptableCost + ")" : "");
         }
 
         // Move myloc to local scop
@@ -123,12 +126,12 @@ public class Spawn extends State {
 
         // Check if can spawn
         if(spawnLoc == null){
-            return new Result(OK, "No location to spawn rats");
+            return Result.of(OK, "No location to spawn rats");
         }
 
         // If can spawn
         if(!rc.canBuildRat(spawnLoc)){
-            return new Result(OK, "Can't spawn rat at " + spawnLoc);
+            return Result.of(OK, DEBUG ? "Can't spawn rat at " + spawnLoc : "");
         }
 
         // Send direction to rat using his spawning direction
@@ -137,6 +140,6 @@ public class Spawn extends State {
 
         // Add score to scoreSpawnDirection (More far = less malus)
         scoreSpawnDirection[minDir.ordinal()] += 10 + maxDistancePlusMinCost - (long)sqrt(myLoc.distanceSquaredTo(targetExplore));
-        return new Result(WARN, "Spawn a rat at " + spawnLoc);
+        return Result.of(WARN, DEBUG ? "Spawn a rat at " + spawnLoc : "");
     };
 }
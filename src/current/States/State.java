@@ -3,6 +3,34 @@ import battlecode.common.GameActionException;
 import current.Robots.Robot;
 
 public abstract class State extends Robot {
+    // Compact ids, used to index per state tables
+    public static final int ID_INIT            = 0;
+    public static final int ID_AVOID_CAT       = 1;
+    public static final int ID_ATTACK_ENEMY    = 2;
+    public static final int ID_THROW_TO_WALLS  = 3;
+    public static final int ID_BECOME_KING     = 4;
+    public static final int ID_ATTACK_CAT      = 5;
+    public static final int ID_CHEESE_TO_KING  = 6;
+    public static final int ID_PLACE_TRAP      = 7;
+    public static final int ID_COLLECT_CHEESE  = 8;
+    public static final int ID_EXPLORE         = 9;
+    public static final int ID_END_TURN        = 10;
+    public static final int ID_MOVE_KING       = 11;
+    public static final int ID_ASK_NEW_KING    = 12;
+    public static final int ID_SPAWN           = 13;
+    public static final int ID_KING_DIG        = 14;
+    public static final int ID_KING_CHEESE     = 15;
+    public static final int ID_KING_FLOW_FIELD = 16;
+    public static final int NUMBER_OF_STATES   = 17;
+
+    // Scheduling priority of a state (Robot.hasBudgetFor), not related to messages priorities
+    public static final int SCHEDULE_NORMAL = 0;
+    public static final int SCHEDULE_HIGH   = 1; // Needs only half of its cost, checks bytecode left by itself
+    public static final int SCHEDULE_CRIT   = 2; // Never skipped
+
     public String name;
+    public int id;
+    public int cost = 1000;                 // Bytecode for one run, BytecodeStats average rounded up (engine calls not counted)
+    public int priority = SCHEDULE_NORMAL;  // SCHEDULE_CRIT states are never skipped by the scheduler
     public abstract Result run() throws GameActionException;
 }
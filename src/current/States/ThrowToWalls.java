@@ -17,20 +17,23 @@ public class ThrowToWalls extends State {
 
     public ThrowToWalls(){
         this.name = "ThrowToWalls";
+        this.id = ID_THROW_TO_WALLS;
+        this.cost = 100;
+        this.priority = SCHEDULE_NORMAL;
     }
 
     @Override
     public Result run() throws GameActionException {
         if(rc.getCarrying() == null){
-            return new Result(OK, "");
+            return Result.of(OK, "");
         }
 
         if(!rc.isActionReady() && !rc.canTurn()){
-            return new Result(OK, "Not action ready");
+            return Result.of(OK, "Not action ready");
         }
 
         if(rc.getRoundNum() - roundRatnap <= 5){
-            return new Result(OK, "Too soon to throw");
+            return Result.of(OK, "Too soon to throw");
         }
 
         int score = checkDirectionThrow(rc.getDirection());
@@ -66,7 +69,7 @@ public class ThrowToWalls extends State {
             return playThrow(bestDir);
         }
 
-        return new Result(OK, "Can't throw to walls s=" + score);
+        return Result.of(OK, DEBUG ? "Can't throw to walls s=" + score : "");
     };
 
     public static Result playThrow(Direction dir) throws GameActionException {
@@ -75,14 +78,14 @@ public class ThrowToWalls extends State {
             if(rc.canTurn()){
                 rc.turn(dir);
             }else{
-                return new Result(ERR, "Need turn to throw to " + dir);
+                return Result.of(ERR, DEBUG ? "Need turn to throw to " + dir : "");
             }
         }
 
         // Update score
         int score = checkDirectionThrow(rc.getDirection());
         if(score >= 10){
-            return new Result(OK, "Can't throw to walls s=" + score);
+            return Result.of(OK, DEBUG ? "Can't throw to walls s=" + score : "");
         }
 
         // Moving back for 1
@@ -99,7 +102,7 @@ public class ThrowToWalls extends State {
 
         // can't throw ?
         if(!rc.canThrowRat()){
-            return new Result(ERR, "Can't throw ???!!!");
+            return Result.of(ERR, "Can't throw ???!!!");
         }
 
         // Add enemies rats back to the list of enemies on the map (especialy the one we are throwing)
@@ -109,7 +112,7 @@ public class ThrowToWalls extends State {
         enemiesRats.add(enemyLoc, rc.getCarrying().getID());
 
         rc.throwRat();
-        return new Result(OK, "Enemy throw !");
+        return Result.of(OK, "Enemy throw !");
     }
 
     public static int checkDirectionThrow(Direction dir) throws GameActionException {
@@ -123,7 +126,7 @@ public class ThrowToWalls extends State {
         // 13: Out of the map
         MapLocation loc = myLoc.add(dir);
         char[] mapCosts = BugNavLmx.mapCosts;
-        int xy = myLoc.x + (myLoc.y<<7) + 129;
+        int xy = myLoc.x + (myLoc.y<<7) + 1032;
         int SCORE_CELL_WALL = BugNavLmx.SCORE_CELL_WALL;
 
         switch(dir){
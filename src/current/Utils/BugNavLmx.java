@@ -34,11 +34,56 @@ public class BugNavLmx {
     // -1: Not enought bytecode
     //-10: Border both side split mode
     //-11: Circle arround target without finding a way
+    // -2: Pending, out of bytecode but saved, will resume next turn (RESUMABLE only)
+    // A resumed path that doesn't go through current location is computed again from it
 
     public static String mode = "DEFAULT";
     public static int xyLastWallHit = -1;
     public static int xyLastWallLeave = -1;
 
+    // Resumable pathfinding: when out of bytecode, save the walker and continue on next turns
+    public static boolean RESUMABLE = true;
+    public static final int RESULT_PENDING = -2;
+    public static int MAX_RESUME_ROUNDS = 3; // Drop saved walker if not resumed within this number of rounds
+    public static final int PHASE_NONE = 0;
+    public static final int PHASE_FORWARD = 1;  // generatePathTo with return
+    public static final int PHASE_REVERSE = 2;  // reversePath
+    public static final int PHASE_BACKWARD = 3; // generatePathTo without return
+    public static int pendingPhase = PHASE_NONE;
+    public static int pendingRound = -1;
+    public static MapLocation pendingDestination;
+    public static int pendingPrefixStart;       // Unchanged prefix pathCells[start .. end[ of a pending repair
+    public static int pendingPrefixEnd = -1;    // -1 if the pending phase isn't a repair
+    public static int savedXyStart;
+    public static int savedXyEnd;
+    public static int savedXy;
+    public static int savedXyLeft;
+    public static int savedXyRight;
+    public static int savedCtrLeft;
+    public static int savedCtrRight;
+    public static int savedSmoothLeft;
+    public static int savedSmoothRight;
+    public static int savedScore;
+    public static int savedScoreLeft;
+    public static int savedScoreRight;
+    public static int savedCtrMaxRepeat;
+    public static char savedLastDirectionLeft;
+    public static char savedLastDirectionRight;
+    public static boolean savedInSplit;
+
+    // Path repair: last path is saved as a list of cells, cells with an higher cost are reported by costChanged()
+    // and only the suffix of the path after the first changed cell is computed again
+    public static boolean REPAIR = true;
+    public static int PATH_MAX_AGE = 50;         // Rounds a saved path can be reused or repaired
+    public static final int PATH_MAX_LENGTH = 1024; // Index is stored on 10 bits in pathPosition
+    public static int[] pathPosition = new int[16254]; // (pathEpoch << 10) | index on path
+    public static char[] pathCells = new char[PATH_MAX_LENGTH];
+    public static char[] pathDirs = new char[PATH_MAX_LENGTH];
+    public static int pathLength = 0;
+    public static int pathEpoch = 0;
+    public static int pathProgress = 0;      // Index of the last cell we were on, changes behind are ignored
+    public static int firstChangedIndex = PATH_MAX_LENGTH;
+
     // Used for pathfinding
     public static char[] mapResult = getMap7B();
     public static char[] mapCosts = generateEmptyMapCosts7B();
@@ -63,7 +108,7 @@ public class BugNavLmx {
 
     // Add score 3x3
     public static void set3x3Score(MapLocation loc, char score){
-        int xy = loc.x + (loc.y<<7) + 129;
+        int xy = loc.x + (loc.y<<7) + 1032;
         mapCosts[xy + 128] = score;
         mapCosts[xy + 129] = score;
         mapCosts[xy + 1] = score;
@@ -78,454 +123,13 @@ public class BugNavLmx {
     public static void init(int width, int height) throws GameActionException{
         setWidth(width);
         setHeight(height);
-        mapCosts[width + (height<<7) + 129] = 32001; // For top right corner
+        mapCosts[width + (height<<7) + 1032] = 32001; // For top right corner
 
             }
 
     public static void setWidth(int width){
         switch(width){
                          case 20:
-                                 mapCosts[149] = 32001;
-                                 mapCosts[277] = 32001;
-                                 mapCosts[405] = 32001;
-                                 mapCosts[533] = 32001;
-                                 mapCosts[661] = 32001;
-                                 mapCosts[789] = 32001;
-                                 mapCosts[917] = 32001;
-                                 mapCosts[1045] = 32001;
-                                 mapCosts[1173] = 32001;
-                                 mapCosts[1301] = 32001;
-                                 mapCosts[1429] = 32001;
-                                 mapCosts[1557] = 32001;
-                                 mapCosts[1685] = 32001;
-                                 mapCosts[1813] = 32001;
-                                 mapCosts[1941] = 32001;
-                                 mapCosts[2069] = 32001;
-                                 mapCosts[2197] = 32001;
-                                 mapCosts[2325] = 32001;
-                                 mapCosts[2453] = 32001;
-                                 mapCosts[2581] = 32001;
-                                 mapCosts[2709] = 32001;
-                                 mapCosts[2837] = 32001;
-                                 mapCosts[2965] = 32001;
-                                 mapCosts[3093] = 32001;
-                                 mapCosts[3221] = 32001;
-                                 mapCosts[3349] = 32001;
-                                 mapCosts[3477] = 32001;
-                                 mapCosts[3605] = 32001;
-                                 mapCosts[3733] = 32001;
-                                 mapCosts[3861] = 32001;
-                                 mapCosts[3989] = 32001;
-                                 mapCosts[4117] = 32001;
-                                 mapCosts[4245] = 32001;
-                                 mapCosts[4373] = 32001;
-                                 mapCosts[4501] = 32001;
-                                 mapCosts[4629] = 32001;
-                                 mapCosts[4757] = 32001;
-                                 mapCosts[4885] = 32001;
-                                 mapCosts[5013] = 32001;
-                                 mapCosts[5141] = 32001;
-                                 mapCosts[5269] = 32001;
-                                 mapCosts[5397] = 32001;
-                                 mapCosts[5525] = 32001;
-                                 mapCosts[5653] = 32001;
-                                 mapCosts[5781] = 32001;
-                                 mapCosts[5909] = 32001;
-                                 mapCosts[6037] = 32001;
-                                 mapCosts[6165] = 32001;
-                                 mapCosts[6293] = 32001;
-                                 mapCosts[6421] = 32001;
-                                 mapCosts[6549] = 32001;
-                                 mapCosts[6677] = 32001;
-                                 mapCosts[6805] = 32001;
-                                 mapCosts[6933] = 32001;
-                                 mapCosts[7061] = 32001;
-                                 mapCosts[7189] = 32001;
-                                 mapCosts[7317] = 32001;
-                                 mapCosts[7445] = 32001;
-                                 mapCosts[7573] = 32001;
-                                 mapCosts[7701] = 32001;
-                                break;
-                         case 21:
-                                 mapCosts[150] = 32001;
-                                 mapCosts[278] = 32001;
-                                 mapCosts[406] = 32001;
-                                 mapCosts[534] = 32001;
-                                 mapCosts[662] = 32001;
-                                 mapCosts[790] = 32001;
-                                 mapCosts[918] = 32001;
-                                 mapCosts[1046] = 32001;
-                                 mapCosts[1174] = 32001;
-                                 mapCosts[1302] = 32001;
-                                 mapCosts[1430] = 32001;
-                                 mapCosts[1558] = 32001;
-                                 mapCosts[1686] = 32001;
-                                 mapCosts[1814] = 32001;
-                                 mapCosts[1942] = 32001;
-                                 mapCosts[2070] = 32001;
-                                 mapCosts[2198] = 32001;
-                                 mapCosts[2326] = 32001;
-                                 mapCosts[2454] = 32001;
-                                 mapCosts[2582] = 32001;
-                                 mapCosts[2710] = 32001;
-                                 mapCosts[2838] = 32001;
-                                 mapCosts[2966] = 32001;
-                                 mapCosts[3094] = 32001;
-                                 mapCosts[3222] = 32001;
-                                 mapCosts[3350] = 32001;
-                                 mapCosts[3478] = 32001;
-                                 mapCosts[3606] = 32001;
-                                 mapCosts[3734] = 32001;
-                                 mapCosts[3862] = 32001;
-                                 mapCosts[3990] = 32001;
-                                 mapCosts[4118] = 32001;
-                                 mapCosts[4246] = 32001;
-                                 mapCosts[4374] = 32001;
-                                 mapCosts[4502] = 32001;
-                                 mapCosts[4630] = 32001;
-                                 mapCosts[4758] = 32001;
-                                 mapCosts[4886] = 32001;
-                                 mapCosts[5014] = 32001;
-                                 mapCosts[5142] = 32001;
-                                 mapCosts[5270] = 32001;
-                                 mapCosts[5398] = 32001;
-                                 mapCosts[5526] = 32001;
-                                 mapCosts[5654] = 32001;
-                                 mapCosts[5782] = 32001;
-                                 mapCosts[5910] = 32001;
-                                 mapCosts[6038] = 32001;
-                                 mapCosts[6166] = 32001;
-                                 mapCosts[6294] = 32001;
-                                 mapCosts[6422] = 32001;
-                                 mapCosts[6550] = 32001;
-                                 mapCosts[6678] = 32001;
-                                 mapCosts[6806] = 32001;
-                                 mapCosts[6934] = 32001;
-                                 mapCosts[7062] = 32001;
-                                 mapCosts[7190] = 32001;
-                                 mapCosts[7318] = 32001;
-                                 mapCosts[7446] = 32001;
-                                 mapCosts[7574] = 32001;
-                                 mapCosts[7702] = 32001;
-                                break;
-                         case 22:
-                                 mapCosts[151] = 32001;
-                                 mapCosts[279] = 32001;
-                                 mapCosts[407] = 32001;
-                                 mapCosts[535] = 32001;
-                                 mapCosts[663] = 32001;
-                                 mapCosts[791] = 32001;
-                                 mapCosts[919] = 32001;
-                                 mapCosts[1047] = 32001;
-                                 mapCosts[1175] = 32001;
-                                 mapCosts[1303] = 32001;
-                                 mapCosts[1431] = 32001;
-                                 mapCosts[1559] = 32001;
-                                 mapCosts[1687] = 32001;
-                                 mapCosts[1815] = 32001;
-                                 mapCosts[1943] = 32001;
-                                 mapCosts[2071] = 32001;
-                                 mapCosts[2199] = 32001;
-                                 mapCosts[2327] = 32001;
-                                 mapCosts[2455] = 32001;
-                                 mapCosts[2583] = 32001;
-                                 mapCosts[2711] = 32001;
-                                 mapCosts[2839] = 32001;
-                                 mapCosts[2967] = 32001;
-                                 mapCosts[3095] = 32001;
-                                 mapCosts[3223] = 32001;
-                                 mapCosts[3351] = 32001;
-                                 mapCosts[3479] = 32001;
-                                 mapCosts[3607] = 32001;
-                                 mapCosts[3735] = 32001;
-                                 mapCosts[3863] = 32001;
-                                 mapCosts[3991] = 32001;
-                                 mapCosts[4119] = 32001;
-                                 mapCosts[4247] = 32001;
-                                 mapCosts[4375] = 32001;
-                                 mapCosts[4503] = 32001;
-                                 mapCosts[4631] = 32001;
-                                 mapCosts[4759] = 32001;
-                                 mapCosts[4887] = 32001;
-                                 mapCosts[5015] = 32001;
-                                 mapCosts[5143] = 32001;
-                                 mapCosts[5271] = 32001;
-                                 mapCosts[5399] = 32001;
-                                 mapCosts[5527] = 32001;
-                                 mapCosts[5655] = 32001;
-                                 mapCosts[5783] = 32001;
-                                 mapCosts[5911] = 32001;
-                                 mapCosts[6039] = 32001;
-                                 mapCosts[6167] = 32001;
-                                 mapCosts[6295] = 32001;
-                                 mapCosts[6423] = 32001;
-                                 mapCosts[6551] = 32001;
-                                 mapCosts[6679] = 32001;
-                                 mapCosts[6807] = 32001;
-                                 mapCosts[6935] = 32001;
-                                 mapCosts[7063] = 32001;
-                                 mapCosts[7191] = 32001;
-                                 mapCosts[7319] = 32001;
-                                 mapCosts[7447] = 32001;
-                                 mapCosts[7575] = 32001;
-                                 mapCosts[7703] = 32001;
-                                break;
-                         case 23:
-                                 mapCosts[152] = 32001;
-                                 mapCosts[280] = 32001;
-                                 mapCosts[408] = 32001;
-                                 mapCosts[536] = 32001;
-                                 mapCosts[664] = 32001;
-                                 mapCosts[792] = 32001;
-                                 mapCosts[920] = 32001;
-                                 mapCosts[1048] = 32001;
-                                 mapCosts[1176] = 32001;
-                                 mapCosts[1304] = 32001;
-                                 mapCosts[1432] = 32001;
-                                 mapCosts[1560] = 32001;
-                                 mapCosts[1688] = 32001;
-                                 mapCosts[1816] = 32001;
-                                 mapCosts[1944] = 32001;
-                                 mapCosts[2072] = 32001;
-                                 mapCosts[2200] = 32001;
-                                 mapCosts[2328] = 32001;
-                                 mapCosts[2456] = 32001;
-                                 mapCosts[2584] = 32001;
-                                 mapCosts[2712] = 32001;
-                                 mapCosts[2840] = 32001;
-                                 mapCosts[2968] = 32001;
-                                 mapCosts[3096] = 32001;
-                                 mapCosts[3224] = 32001;
-                                 mapCosts[3352] = 32001;
-                                 mapCosts[3480] = 32001;
-                                 mapCosts[3608] = 32001;
-                                 mapCosts[3736] = 32001;
-                                 mapCosts[3864] = 32001;
-                                 mapCosts[3992] = 32001;
-                                 mapCosts[4120] = 32001;
-                                 mapCosts[4248] = 32001;
-                                 mapCosts[4376] = 32001;
-                                 mapCosts[4504] = 32001;
-                                 mapCosts[4632] = 32001;
-                                 mapCosts[4760] = 32001;
-                                 mapCosts[4888] = 32001;
-                                 mapCosts[5016] = 32001;
-                                 mapCosts[5144] = 32001;
-                                 mapCosts[5272] = 32001;
-                                 mapCosts[5400] = 32001;
-                                 mapCosts[5528] = 32001;
-                                 mapCosts[5656] = 32001;
-                                 mapCosts[5784] = 32001;
-                                 mapCosts[5912] = 32001;
-                                 mapCosts[6040] = 32001;
-                                 mapCosts[6168] = 32001;
-                                 mapCosts[6296] = 32001;
-                                 mapCosts[6424] = 32001;
-                                 mapCosts[6552] = 32001;
-                                 mapCosts[6680] = 32001;
-                                 mapCosts[6808] = 32001;
-                                 mapCosts[6936] = 32001;
-                                 mapCosts[7064] = 32001;
-                                 mapCosts[7192] = 32001;
-                                 mapCosts[7320] = 32001;
-                                 mapCosts[7448] = 32001;
-                                 mapCosts[7576] = 32001;
-                                 mapCosts[7704] = 32001;
-                                break;
-                         case 24:
-                                 mapCosts[153] = 32001;
-                                 mapCosts[281] = 32001;
-                                 mapCosts[409] = 32001;
-                                 mapCosts[537] = 32001;
-                                 mapCosts[665] = 32001;
-                                 mapCosts[793] = 32001;
-                                 mapCosts[921] = 32001;
-                                 mapCosts[1049] = 32001;
-                                 mapCosts[1177] = 32001;
-                                 mapCosts[1305] = 32001;
-                                 mapCosts[1433] = 32001;
-                                 mapCosts[1561] = 32001;
-                                 mapCosts[1689] = 32001;
-                                 mapCosts[1817] = 32001;
-                                 mapCosts[1945] = 32001;
-                                 mapCosts[2073] = 32001;
-                                 mapCosts[2201] = 32001;
-                                 mapCosts[2329] = 32001;
-                                 mapCosts[2457] = 32001;
-                                 mapCosts[2585] = 32001;
-                                 mapCosts[2713] = 32001;
-                                 mapCosts[2841] = 32001;
-                                 mapCosts[2969] = 32001;
-                                 mapCosts[3097] = 32001;
-                                 mapCosts[3225] = 32001;
-                                 mapCosts[3353] = 32001;
-                                 mapCosts[3481] = 32001;
-                                 mapCosts[3609] = 32001;
-                                 mapCosts[3737] = 32001;
-                                 mapCosts[3865] = 32001;
-                                 mapCosts[3993] = 32001;
-                                 mapCosts[4121] = 32001;
-                                 mapCosts[4249] = 32001;
-                                 mapCosts[4377] = 32001;
-                                 mapCosts[4505] = 32001;
-                                 mapCosts[4633] = 32001;
-                                 mapCosts[4761] = 32001;
-                                 mapCosts[4889] = 32001;
-                                 mapCosts[5017] = 32001;
-                                 mapCosts[5145] = 32001;
-                                 mapCosts[5273] = 32001;
-                                 mapCosts[5401] = 32001;
-                                 mapCosts[5529] = 32001;
-                                 mapCosts[5657] = 32001;
-                                 mapCosts[5785] = 32001;
-                                 mapCosts[5913] = 32001;
-                                 mapCosts[6041] = 32001;
-                                 mapCosts[6169] = 32001;
-                                 mapCosts[6297] = 32001;
-                                 mapCosts[6425] = 32001;
-                                 mapCosts[6553] = 32001;
-                                 mapCosts[6681] = 32001;
-                                 mapCosts[6809] = 32001;
-                                 mapCosts[6937] = 32001;
-                                 mapCosts[7065] = 32001;
-                                 mapCosts[7193] = 32001;
-                                 mapCosts[7321] = 32001;
-                                 mapCosts[7449] = 32001;
-                                 mapCosts[7577] = 32001;
-                                 mapCosts[7705] = 32001;
-                                break;
-                         case 25:
-                                 mapCosts[154] = 32001;
-                                 mapCosts[282] = 32001;
-                                 mapCosts[410] = 32001;
-                                 mapCosts[538] = 32001;
-                                 mapCosts[666] = 32001;
-                                 mapCosts[794] = 32001;
-                                 mapCosts[922] = 32001;
-                                 mapCosts[1050] = 32001;
-                                 mapCosts[1178] = 32001;
-                                 mapCosts[1306] = 32001;
-                                 mapCosts[1434] = 32001;
-                                 mapCosts[1562] = 32001;
-                                 mapCosts[1690] = 32001;
-                                 mapCosts[1818] = 32001;
-                                 mapCosts[1946] = 32001;
-                                 mapCosts[2074] = 32001;
-                                 mapCosts[2202] = 32001;
-                                 mapCosts[2330] = 32001;
-                                 mapCosts[2458] = 32001;
-                                 mapCosts[2586] = 32001;
-                                 mapCosts[2714] = 32001;
-                                 mapCosts[2842] = 32001;
-                                 mapCosts[2970] = 32001;
-                                 mapCosts[3098] = 32001;
-                                 mapCosts[3226] = 32001;
-                                 mapCosts[3354] = 32001;
-                                 mapCosts[3482] = 32001;
-                                 mapCosts[3610] = 32001;
-                                 mapCosts[3738] = 32001;
-                                 mapCosts[3866] = 32001;
-                                 mapCosts[3994] = 32001;
-                                 mapCosts[4122] = 32001;
-                                 mapCosts[4250] = 32001;
-                                 mapCosts[4378] = 32001;
-                                 mapCosts[4506] = 32001;
-                                 mapCosts[4634] = 32001;
-                                 mapCosts[4762] = 32001;
-                                 mapCosts[4890] = 32001;
-                                 mapCosts[5018] = 32001;
-                                 mapCosts[5146] = 32001;
-                                 mapCosts[5274] = 32001;
-                                 mapCosts[5402] = 32001;
-                                 mapCosts[5530] = 32001;
-                                 mapCosts[5658] = 32001;
-                                 mapCosts[5786] = 32001;
-                                 mapCosts[5914] = 32001;
-                                 mapCosts[6042] = 32001;
-                                 mapCosts[6170] = 32001;
-                                 mapCosts[6298] = 32001;
-                                 mapCosts[6426] = 32001;
-                                 mapCosts[6554] = 32001;
-                                 mapCosts[6682] = 32001;
-                                 mapCosts[6810] = 32001;
-                                 mapCosts[6938] = 32001;
-                                 mapCosts[7066] = 32001;
-                                 mapCosts[7194] = 32001;
-                                 mapCosts[7322] = 32001;
-                                 mapCosts[7450] = 32001;
-                                 mapCosts[7578] = 32001;
-                                 mapCosts[7706] = 32001;
-                                break;
-                         case 26:
-                                 mapCosts[155] = 32001;
-                                 mapCosts[283] = 32001;
-                                 mapCosts[411] = 32001;
-                                 mapCosts[539] = 32001;
-                                 mapCosts[667] = 32001;
-                                 mapCosts[795] = 32001;
-                                 mapCosts[923] = 32001;
-                                 mapCosts[1051] = 32001;
-                                 mapCosts[1179] = 32001;
-                                 mapCosts[1307] = 32001;
-                                 mapCosts[1435] = 32001;
-                                 mapCosts[1563] = 32001;
-                                 mapCosts[1691] = 32001;
-                                 mapCosts[1819] = 32001;
-                                 mapCosts[1947] = 32001;
-                                 mapCosts[2075] = 32001;
-                                 mapCosts[2203] = 32001;
-                                 mapCosts[2331] = 32001;
-                                 mapCosts[2459] = 32001;
-                                 mapCosts[2587] = 32001;
-                                 mapCosts[2715] = 32001;
-                                 mapCosts[2843] = 32001;
-                                 mapCosts[2971] = 32001;
-                                 mapCosts[3099] = 32001;
-                                 mapCosts[3227] = 32001;
-                                 mapCosts[3355] = 32001;
-                                 mapCosts[3483] = 32001;
-                                 mapCosts[3611] = 32001;
-                                 mapCosts[3739] = 32001;
-                                 mapCosts[3867] = 32001;
-                                 mapCosts[3995] = 32001;
-                                 mapCosts[4123] = 32001;
-                                 mapCosts[4251] = 32001;
-                                 mapCosts[4379] = 32001;
-                                 mapCosts[4507] = 32001;
-                                 mapCosts[4635] = 32001;
-                                 mapCosts[4763] = 32001;
-                                 mapCosts[4891] = 32001;
-                                 mapCosts[5019] = 32001;
-                                 mapCosts[5147] = 32001;
-                                 mapCosts[5275] = 32001;
-                                 mapCosts[5403] = 32001;
-                                 mapCosts[5531] = 32001;
-                                 mapCosts[5659] = 32001;
-                                 mapCosts[5787] = 32001;
-                                 mapCosts[5915] = 32001;
-                                 mapCosts[6043] = 32001;
-                                 mapCosts[6171] = 32001;
-                                 mapCosts[6299] = 32001;
-                                 mapCosts[6427] = 32001;
-                                 mapCosts[6555] = 32001;
-                                 mapCosts[6683] = 32001;
-                                 mapCosts[6811] = 32001;
-                                 mapCosts[6939] = 32001;
-                                 mapCosts[7067] = 32001;
-                                 mapCosts[7195] = 32001;
-                                 mapCosts[7323] = 32001;
-                                 mapCosts[7451] = 32001;
-                                 mapCosts[7579] = 32001;
-                                 mapCosts[7707] = 32001;
-                                break;
-                         case 27:
-                                 mapCosts[156] = 32001;
-                                 mapCosts[284] = 32001;
-                                 mapCosts[412] = 32001;
-                                 mapCosts[540] = 32001;
-                                 mapCosts[668] = 32001;
-                                 mapCosts[796] = 32001;
-                                 mapCosts[924] = 32001;
                                  mapCosts[1052] = 32001;
                                  mapCosts[1180] = 32001;
                                  mapCosts[1308] = 32001;
@@ -579,15 +183,15 @@ public class BugNavLmx {
                                  mapCosts[7452] = 32001;
                                  mapCosts[7580] = 32001;
                                  mapCosts[7708] = 32001;
+                                 mapCosts[7836] = 32001;
+                                 mapCosts[7964] = 32001;
+                                 mapCosts[8092] = 32001;
+                                 mapCosts[8220] = 32001;
+                                 mapCosts[8348] = 32001;
+                                 mapCosts[8476] = 32001;
+                                 mapCosts[8604] = 32001;
                                 break;
-                         case 28:
-                                 mapCosts[157] = 32001;
-                                 mapCosts[285] = 32001;
-                                 mapCosts[413] = 32001;
-                                 mapCosts[541] = 32001;
-                                 mapCosts[669] = 32001;
-                                 mapCosts[797] = 32001;
-                                 mapCosts[925] = 32001;
+                         case 21:
                                  mapCosts[1053] = 32001;
                                  mapCosts[1181] = 32001;
                                  mapCosts[1309] = 32001;
@@ -641,15 +245,15 @@ public class BugNavLmx {
                                  mapCosts[7453] = 32001;
                                  mapCosts[7581] = 32001;
                                  mapCosts[7709] = 32001;
+                                 mapCosts[7837] = 32001;
+                                 mapCosts[7965] = 32001;
+                                 mapCosts[8093] = 32001;
+                                 mapCosts[8221] = 32001;
+                                 mapCosts[8349] = 32001;
+                                 mapCosts[8477] = 32001;
+                                 mapCosts[8605] = 32001;
                                 break;
-                         case 29:
-                                 mapCosts[158] = 32001;
-                                 mapCosts[286] = 32001;
-                                 mapCosts[414] = 32001;
-                                 mapCosts[542] = 32001;
-                                 mapCosts[670] = 32001;
-                                 mapCosts[798] = 32001;
-                                 mapCosts[926] = 32001;
+                         case 22:
                                  mapCosts[1054] = 32001;
                                  mapCosts[1182] = 32001;
                                  mapCosts[1310] = 32001;
@@ -703,15 +307,15 @@ public class BugNavLmx {
                                  mapCosts[7454] = 32001;
                                  mapCosts[7582] = 32001;
                                  mapCosts[7710] = 32001;
+                                 mapCosts[7838] = 32001;
+                                 mapCosts[7966] = 32001;
+                                 mapCosts[8094] = 32001;
+                                 mapCosts[8222] = 32001;
+                                 mapCosts[8350] = 32001;
+                                 mapCosts[8478] = 32001;
+                                 mapCosts[8606] = 32001;
                                 break;
-                         case 30:
-                                 mapCosts[159] = 32001;
-                                 mapCosts[287] = 32001;
-                                 mapCosts[415] = 32001;
-                                 mapCosts[543] = 32001;
-                                 mapCosts[671] = 32001;
-                                 mapCosts[799] = 32001;
-                                 mapCosts[927] = 32001;
+                         case 23:
                                  mapCosts[1055] = 32001;
                                  mapCosts[1183] = 32001;
                                  mapCosts[1311] = 32001;
@@ -765,15 +369,15 @@ public class BugNavLmx {
                                  mapCosts[7455] = 32001;
                                  mapCosts[7583] = 32001;
                                  mapCosts[7711] = 32001;
+                                 mapCosts[7839] = 32001;
+                                 mapCosts[7967] = 32001;
+                                 mapCosts[8095] = 32001;
+                                 mapCosts[8223] = 32001;
+                                 mapCosts[8351] = 32001;
+                                 mapCosts[8479] = 32001;
+                                 mapCosts[8607] = 32001;
                                 break;
-                         case 31:
-                                 mapCosts[160] = 32001;
-                                 mapCosts[288] = 32001;
-                                 mapCosts[416] = 32001;
-                                 mapCosts[544] = 32001;
-                                 mapCosts[672] = 32001;
-                                 mapCosts[800] = 32001;
-                                 mapCosts[928] = 32001;
+                         case 24:
                                  mapCosts[1056] = 32001;
                                  mapCosts[1184] = 32001;
                                  mapCosts[1312] = 32001;
@@ -827,15 +431,15 @@ public class BugNavLmx {
                                  mapCosts[7456] = 32001;
                                  mapCosts[7584] = 32001;
                                  mapCosts[7712] = 32001;
+                                 mapCosts[7840] = 32001;
+                                 mapCosts[7968] = 32001;
+                                 mapCosts[8096] = 32001;
+                                 mapCosts[8224] = 32001;
+                                 mapCosts[8352] = 32001;
+                                 mapCosts[8480] = 32001;
+                                 mapCosts[8608] = 32001;
                                 break;
-                         case 32:
-                                 mapCosts[161] = 32001;
-                                 mapCosts[289] = 32001;
-                                 mapCosts[417] = 32001;
-                                 mapCosts[545] = 32001;
-                                 mapCosts[673] = 32001;
-                                 mapCosts[801] = 32001;
-                                 mapCosts[929] = 32001;
+                         case 25:
                                  mapCosts[1057] = 32001;
                                  mapCosts[1185] = 32001;
                                  mapCosts[1313] = 32001;
@@ -889,15 +493,15 @@ public class BugNavLmx {
                                  mapCosts[7457] = 32001;
                                  mapCosts[7585] = 32001;
                                  mapCosts[7713] = 32001;
+                                 mapCosts[7841] = 32001;
+                                 mapCosts[7969] = 32001;
+                                 mapCosts[8097] = 32001;
+                                 mapCosts[8225] = 32001;
+                                 mapCosts[8353] = 32001;
+                                 mapCosts[8481] = 32001;
+                                 mapCosts[8609] = 32001;
                                 break;
-                         case 33:
-                                 mapCosts[162] = 32001;
-                                 mapCosts[290] = 32001;
-                                 mapCosts[418] = 32001;
-                                 mapCosts[546] = 32001;
-                                 mapCosts[674] = 32001;
-                                 mapCosts[802] = 32001;
-                                 mapCosts[930] = 32001;
+                         case 26:
                                  mapCosts[1058] = 32001;
                                  mapCosts[1186] = 32001;
                                  mapCosts[1314] = 32001;
@@ -951,15 +555,15 @@ public class BugNavLmx {
                                  mapCosts[7458] = 32001;
                                  mapCosts[7586] = 32001;
                                  mapCosts[7714] = 32001;
+                                 mapCosts[7842] = 32001;
+                                 mapCosts[7970] = 32001;
+                                 mapCosts[8098] = 32001;
+                                 mapCosts[8226] = 32001;
+                                 mapCosts[8354] = 32001;
+                                 mapCosts[8482] = 32001;
+                                 mapCosts[8610] = 32001;
                                 break;
-                         case 34:
-                                 mapCosts[163] = 32001;
-                                 mapCosts[291] = 32001;
-                                 mapCosts[419] = 32001;
-                                 mapCosts[547] = 32001;
-                                 mapCosts[675] = 32001;
-                                 mapCosts[803] = 32001;
-                                 mapCosts[931] = 32001;
+                         case 27:
                                  mapCosts[1059] = 32001;
                                  mapCosts[1187] = 32001;
                                  mapCosts[1315] = 32001;
@@ -1013,15 +617,15 @@ public class BugNavLmx {
                                  mapCosts[7459] = 32001;
                                  mapCosts[7587] = 32001;
                                  mapCosts[7715] = 32001;
+                                 mapCosts[7843] = 32001;
+                                 mapCosts[7971] = 32001;
+                                 mapCosts[8099] = 32001;
+                                 mapCosts[8227] = 32001;
+                                 mapCosts[8355] = 32001;
+                                 mapCosts[8483] = 32001;
+                                 mapCosts[8611] = 32001;
                                 break;
-                         case 35:
-                                 mapCosts[164] = 32001;
-                                 mapCosts[292] = 32001;
-                                 mapCosts[420] = 32001;
-                                 mapCosts[548] = 32001;
-                                 mapCosts[676] = 32001;
-                                 mapCosts[804] = 32001;
-                                 mapCosts[932] = 32001;
+                         case 28:
                                  mapCosts[1060] = 32001;
                                  mapCosts[1188] = 32001;
                                  mapCosts[1316] = 32001;
@@ -1075,15 +679,15 @@ public class BugNavLmx {
                                  mapCosts[7460] = 32001;
                                  mapCosts[7588] = 32001;
                                  mapCosts[7716] = 32001;
+                                 mapCosts[7844] = 32001;
+                                 mapCosts[7972] = 32001;
+                                 mapCosts[8100] = 32001;
+                                 mapCosts[8228] = 32001;
+                                 mapCosts[8356] = 32001;
+                                 mapCosts[8484] = 32001;
+                                 mapCosts[8612] = 32001;
                                 break;
-                         case 36:
-                                 mapCosts[165] = 32001;
-                                 mapCosts[293] = 32001;
-                                 mapCosts[421] = 32001;
-                                 mapCosts[549] = 32001;
-                                 mapCosts[677] = 32001;
-                                 mapCosts[805] = 32001;
-                                 mapCosts[933] = 32001;
+                         case 29:
                                  mapCosts[1061] = 32001;
                                  mapCosts[1189] = 32001;
                                  mapCosts[1317] = 32001;
@@ -1137,15 +741,15 @@ public class BugNavLmx {
                                  mapCosts[7461] = 32001;
                                  mapCosts[7589] = 32001;
                                  mapCosts[7717] = 32001;
+                                 mapCosts[7845] = 32001;
+                                 mapCosts[7973] = 32001;
+                                 mapCosts[8101] = 32001;
+                                 mapCosts[8229] = 32001;
+                                 mapCosts[8357] = 32001;
+                                 mapCosts[8485] = 32001;
+                                 mapCosts[8613] = 32001;
                                 break;
-                         case 37:
-                                 mapCosts[166] = 32001;
-                                 mapCosts[294] = 32001;
-                                 mapCosts[422] = 32001;
-                                 mapCosts[550] = 32001;
-                                 mapCosts[678] = 32001;
-                                 mapCosts[806] = 32001;
-                                 mapCosts[934] = 32001;
+                         case 30:
                                  mapCosts[1062] = 32001;
                                  mapCosts[1190] = 32001;
                                  mapCosts[1318] = 32001;
@@ -1199,15 +803,15 @@ public class BugNavLmx {
                                  mapCosts[7462] = 32001;
                                  mapCosts[7590] = 32001;
                                  mapCosts[7718] = 32001;
+                                 mapCosts[7846] = 32001;
+                                 mapCosts[7974] = 32001;
+                                 mapCosts[8102] = 32001;
+                                 mapCosts[8230] = 32001;
+                                 mapCosts[8358] = 32001;
+                                 mapCosts[8486] = 32001;
+                                 mapCosts[8614] = 32001;
                                 break;
-                         case 38:
-                                 mapCosts[167] = 32001;
-                                 mapCosts[295] = 32001;
-                                 mapCosts[423] = 32001;
-                                 mapCosts[551] = 32001;
-                                 mapCosts[679] = 32001;
-                                 mapCosts[807] = 32001;
-                                 mapCosts[935] = 32001;
+                         case 31:
                                  mapCosts[1063] = 32001;
                                  mapCosts[1191] = 32001;
                                  mapCosts[1319] = 32001;
@@ -1261,15 +865,15 @@ public class BugNavLmx {
                                  mapCosts[7463] = 32001;
                                  mapCosts[7591] = 32001;
                                  mapCosts[7719] = 32001;
+                                 mapCosts[7847] = 32001;
+                                 mapCosts[7975] = 32001;
+                                 mapCosts[8103] = 32001;
+                                 mapCosts[8231] = 32001;
+                                 mapCosts[8359] = 32001;
+                                 mapCosts[8487] = 32001;
+                                 mapCosts[8615] = 32001;
                                 break;
-                         case 39:
-                                 mapCosts[168] = 32001;
-                                 mapCosts[296] = 32001;
-                                 mapCosts[424] = 32001;
-                                 mapCosts[552] = 32001;
-                                 mapCosts[680] = 32001;
-                                 mapCosts[808] = 32001;
-                                 mapCosts[936] = 32001;
+                         case 32:
                                  mapCosts[1064] = 32001;
                                  mapCosts[1192] = 32001;
                                  mapCosts[1320] = 32001;
@@ -1323,15 +927,15 @@ public class BugNavLmx {
                                  mapCosts[7464] = 32001;
                                  mapCosts[7592] = 32001;
                                  mapCosts[7720] = 32001;
+                                 mapCosts[7848] = 32001;
+                                 mapCosts[7976] = 32001;
+                                 mapCosts[8104] = 32001;
+                                 mapCosts[8232] = 32001;
+                                 mapCosts[8360] = 32001;
+                                 mapCosts[8488] = 32001;
+                                 mapCosts[8616] = 32001;
                                 break;
-                         case 40:
-                                 mapCosts[169] = 32001;
-                                 mapCosts[297] = 32001;
-                                 mapCosts[425] = 32001;
-                                 mapCosts[553] = 32001;
-                                 mapCosts[681] = 32001;
-                                 mapCosts[809] = 32001;
-                                 mapCosts[937] = 32001;
+                         case 33:
                                  mapCosts[1065] = 32001;
                                  mapCosts[1193] = 32001;
                                  mapCosts[1321] = 32001;
@@ -1385,15 +989,15 @@ public class BugNavLmx {
                                  mapCosts[7465] = 32001;
                                  mapCosts[7593] = 32001;
                                  mapCosts[7721] = 32001;
+                                 mapCosts[7849] = 32001;
+                                 mapCosts[7977] = 32001;
+                                 mapCosts[8105] = 32001;
+                                 mapCosts[8233] = 32001;
+                                 mapCosts[8361] = 32001;
+                                 mapCosts[8489] = 32001;
+                                 mapCosts[8617] = 32001;
                                 break;
-                         case 41:
-                                 mapCosts[170] = 32001;
-                                 mapCosts[298] = 32001;
-                                 mapCosts[426] = 32001;
-                                 mapCosts[554] = 32001;
-                                 mapCosts[682] = 32001;
-                                 mapCosts[810] = 32001;
-                                 mapCosts[938] = 32001;
+                         case 34:
                                  mapCosts[1066] = 32001;
                                  mapCosts[1194] = 32001;
                                  mapCosts[1322] = 32001;
@@ -1447,15 +1051,15 @@ public class BugNavLmx {
                                  mapCosts[7466] = 32001;
                                  mapCosts[7594] = 32001;
                                  mapCosts[7722] = 32001;
+                                 mapCosts[7850] = 32001;
+                                 mapCosts[7978] = 32001;
+                                 mapCosts[8106] = 32001;
+                                 mapCosts[8234] = 32001;
+                                 mapCosts[8362] = 32001;
+                                 mapCosts[8490] = 32001;
+                                 mapCosts[8618] = 32001;
                                 break;
-                         case 42:
-                                 mapCosts[171] = 32001;
-                                 mapCosts[299] = 32001;
-                                 mapCosts[427] = 32001;
-                                 mapCosts[555] = 32001;
-                                 mapCosts[683] = 32001;
-                                 mapCosts[811] = 32001;
-                                 mapCosts[939] = 32001;
+                         case 35:
                                  mapCosts[1067] = 32001;
                                  mapCosts[1195] = 32001;
                                  mapCosts[1323] = 32001;
@@ -1509,15 +1113,15 @@ public class BugNavLmx {
                                  mapCosts[7467] = 32001;
                                  mapCosts[7595] = 32001;
                                  mapCosts[7723] = 32001;
+                                 mapCosts[7851] = 32001;
+                                 mapCosts[7979] = 32001;
+                                 mapCosts[8107] = 32001;
+                                 mapCosts[8235] = 32001;
+                                 mapCosts[8363] = 32001;
+                                 mapCosts[8491] = 32001;
+                                 mapCosts[8619] = 32001;
                                 break;
-                         case 43:
-                                 mapCosts[172] = 32001;
-                                 mapCosts[300] = 32001;
-                                 mapCosts[428] = 32001;
-                                 mapCosts[556] = 32001;
-                                 mapCosts[684] = 32001;
-                                 mapCosts[812] = 32001;
-                                 mapCosts[940] = 32001;
+                         case 36:
                                  mapCosts[1068] = 32001;
                                  mapCosts[1196] = 32001;
                                  mapCosts[1324] = 32001;
@@ -1571,15 +1175,15 @@ public class BugNavLmx {
                                  mapCosts[7468] = 32001;
                                  mapCosts[7596] = 32001;
                                  mapCosts[7724] = 32001;
+                                 mapCosts[7852] = 32001;
+                                 mapCosts[7980] = 32001;
+                                 mapCosts[8108] = 32001;
+                                 mapCosts[8236] = 32001;
+                                 mapCosts[8364] = 32001;
+                                 mapCosts[8492] = 32001;
+                                 mapCosts[8620] = 32001;
                                 break;
-                         case 44:
-                                 mapCosts[173] = 32001;
-                                 mapCosts[301] = 32001;
-                                 mapCosts[429] = 32001;
-                                 mapCosts[557] = 32001;
-                                 mapCosts[685] = 32001;
-                                 mapCosts[813] = 32001;
-                                 mapCosts[941] = 32001;
+                         case 37:
                                  mapCosts[1069] = 32001;
                                  mapCosts[1197] = 32001;
                                  mapCosts[1325] = 32001;
@@ -1633,15 +1237,15 @@ public class BugNavLmx {
                                  mapCosts[7469] = 32001;
                                  mapCosts[7597] = 32001;
                                  mapCosts[7725] = 32001;
+                                 mapCosts[7853] = 32001;
+                                 mapCosts[7981] = 32001;
+                                 mapCosts[8109] = 32001;
+                                 mapCosts[8237] = 32001;
+                                 mapCosts[8365] = 32001;
+                                 mapCosts[8493] = 32001;
+                                 mapCosts[8621] = 32001;
                                 break;
-                         case 45:
-                                 mapCosts[174] = 32001;
-                                 mapCosts[302] = 32001;
-                                 mapCosts[430] = 32001;
-                                 mapCosts[558] = 32001;
-                                 mapCosts[686] = 32001;
-                                 mapCosts[814] = 32001;
-                                 mapCosts[942] = 32001;
+                         case 38:
                                  mapCosts[1070] = 32001;
                                  mapCosts[1198] = 32001;
                                  mapCosts[1326] = 32001;
@@ -1695,15 +1299,15 @@ public class BugNavLmx {
                                  mapCosts[7470] = 32001;
                                  mapCosts[7598] = 32001;
                                  mapCosts[7726] = 32001;
+                                 mapCosts[7854] = 32001;
+                                 mapCosts[7982] = 32001;
+                                 mapCosts[8110] = 32001;
+                                 mapCosts[8238] = 32001;
+                                 mapCosts[8366] = 32001;
+                                 mapCosts[8494] = 32001;
+                                 mapCosts[8622] = 32001;
                                 break;
-                         case 46:
-                                 mapCosts[175] = 32001;
-                                 mapCosts[303] = 32001;
-                                 mapCosts[431] = 32001;
-                                 mapCosts[559] = 32001;
-                                 mapCosts[687] = 32001;
-                                 mapCosts[815] = 32001;
-                                 mapCosts[943] = 32001;
+                         case 39:
                                  mapCosts[1071] = 32001;
                                  mapCosts[1199] = 32001;
                                  mapCosts[1327] = 32001;
@@ -1757,15 +1361,15 @@ public class BugNavLmx {
                                  mapCosts[7471] = 32001;
                                  mapCosts[7599] = 32001;
                                  mapCosts[7727] = 32001;
+                                 mapCosts[7855] = 32001;
+                                 mapCosts[7983] = 32001;
+                                 mapCosts[8111] = 32001;
+                                 mapCosts[8239] = 32001;
+                                 mapCosts[8367] = 32001;
+                                 mapCosts[8495] = 32001;
+                                 mapCosts[8623] = 32001;
                                 break;
-                         case 47:
-                                 mapCosts[176] = 32001;
-                                 mapCosts[304] = 32001;
-                                 mapCosts[432] = 32001;
-                                 mapCosts[560] = 32001;
-                                 mapCosts[688] = 32001;
-                                 mapCosts[816] = 32001;
-                                 mapCosts[944] = 32001;
+                         case 40:
                                  mapCosts[1072] = 32001;
                                  mapCosts[1200] = 32001;
                                  mapCosts[1328] = 32001;
@@ -1819,15 +1423,15 @@ public class BugNavLmx {
                                  mapCosts[7472] = 32001;
                                  mapCosts[7600] = 32001;
                                  mapCosts[7728] = 32001;
+                                 mapCosts[7856] = 32001;
+                                 mapCosts[7984] = 32001;
+                                 mapCosts[8112] = 32001;
+                                 mapCosts[8240] = 32001;
+                                 mapCosts[8368] = 32001;
+                                 mapCosts[8496] = 32001;
+                                 mapCosts[8624] = 32001;
                                 break;
-                         case 48:
-                                 mapCosts[177] = 32001;
-                                 mapCosts[305] = 32001;
-                                 mapCosts[433] = 32001;
-                                 mapCosts[561] = 32001;
-                                 mapCosts[689] = 32001;
-                                 mapCosts[817] = 32001;
-                                 mapCosts[945] = 32001;
+                         case 41:
                                  mapCosts[1073] = 32001;
                                  mapCosts[1201] = 32001;
                                  mapCosts[1329] = 32001;
@@ -1881,15 +1485,15 @@ public class BugNavLmx {
                                  mapCosts[7473] = 32001;
                                  mapCosts[7601] = 32001;
                                  mapCosts[7729] = 32001;
+                                 mapCosts[7857] = 32001;
+                                 mapCosts[7985] = 32001;
+                                 mapCosts[8113] = 32001;
+                                 mapCosts[8241] = 32001;
+                                 mapCosts[8369] = 32001;
+                                 mapCosts[8497] = 32001;
+                                 mapCosts[8625] = 32001;
                                 break;
-                         case 49:
-                                 mapCosts[178] = 32001;
-                                 mapCosts[306] = 32001;
-                                 mapCosts[434] = 32001;
-                                 mapCosts[562] = 32001;
-                                 mapCosts[690] = 32001;
-                                 mapCosts[818] = 32001;
-                                 mapCosts[946] = 32001;
+                         case 42:
                                  mapCosts[1074] = 32001;
                                  mapCosts[1202] = 32001;
                                  mapCosts[1330] = 32001;
@@ -1943,15 +1547,15 @@ public class BugNavLmx {
                                  mapCosts[7474] = 32001;
                                  mapCosts[7602] = 32001;
                                  mapCosts[7730] = 32001;
+                                 mapCosts[7858] = 32001;
+                                 mapCosts[7986] = 32001;
+                                 mapCosts[8114] = 32001;
+                                 mapCosts[8242] = 32001;
+                                 mapCosts[8370] = 32001;
+                                 mapCosts[8498] = 32001;
+                                 mapCosts[8626] = 32001;
                                 break;
-                         case 50:
-                                 mapCosts[179] = 32001;
-                                 mapCosts[307] = 32001;
-                                 mapCosts[435] = 32001;
-                                 mapCosts[563] = 32001;
-                                 mapCosts[691] = 32001;
-                                 mapCosts[819] = 32001;
-                                 mapCosts[947] = 32001;
+                         case 43:
                                  mapCosts[1075] = 32001;
                                  mapCosts[1203] = 32001;
                                  mapCosts[1331] = 32001;
@@ -2005,15 +1609,15 @@ public class BugNavLmx {
                                  mapCosts[7475] = 32001;
                                  mapCosts[7603] = 32001;
                                  mapCosts[7731] = 32001;
+                                 mapCosts[7859] = 32001;
+                                 mapCosts[7987] = 32001;
+                                 mapCosts[8115] = 32001;
+                                 mapCosts[8243] = 32001;
+                                 mapCosts[8371] = 32001;
+                                 mapCosts[8499] = 32001;
+                                 mapCosts[8627] = 32001;
                                 break;
-                         case 51:
-                                 mapCosts[180] = 32001;
-                                 mapCosts[308] = 32001;
-                                 mapCosts[436] = 32001;
-                                 mapCosts[564] = 32001;
-                                 mapCosts[692] = 32001;
-                                 mapCosts[820] = 32001;
-                                 mapCosts[948] = 32001;
+                         case 44:
                                  mapCosts[1076] = 32001;
                                  mapCosts[1204] = 32001;
                                  mapCosts[1332] = 32001;
@@ -2067,15 +1671,15 @@ public class BugNavLmx {
                                  mapCosts[7476] = 32001;
                                  mapCosts[7604] = 32001;
                                  mapCosts[7732] = 32001;
+                                 mapCosts[7860] = 32001;
+                                 mapCosts[7988] = 32001;
+                                 mapCosts[8116] = 32001;
+                                 mapCosts[8244] = 32001;
+                                 mapCosts[8372] = 32001;
+                                 mapCosts[8500] = 32001;
+                                 mapCosts[8628] = 32001;
                                 break;
-                         case 52:
-                                 mapCosts[181] = 32001;
-                                 mapCosts[309] = 32001;
-                                 mapCosts[437] = 32001;
-                                 mapCosts[565] = 32001;
-                                 mapCosts[693] = 32001;
-                                 mapCosts[821] = 32001;
-                                 mapCosts[949] = 32001;
+                         case 45:
                                  mapCosts[1077] = 32001;
                                  mapCosts[1205] = 32001;
                                  mapCosts[1333] = 32001;
@@ -2129,15 +1733,15 @@ public class BugNavLmx {
                                  mapCosts[7477] = 32001;
                                  mapCosts[7605] = 32001;
                                  mapCosts[7733] = 32001;
+                                 mapCosts[7861] = 32001;
+                                 mapCosts[7989] = 32001;
+                                 mapCosts[8117] = 32001;
+                                 mapCosts[8245] = 32001;
+                                 mapCosts[8373] = 32001;
+                                 mapCosts[8501] = 32001;
+                                 mapCosts[8629] = 32001;
                                 break;
-                         case 53:
-                                 mapCosts[182] = 32001;
-                                 mapCosts[310] = 32001;
-                                 mapCosts[438] = 32001;
-                                 mapCosts[566] = 32001;
-                                 mapCosts[694] = 32001;
-                                 mapCosts[822] = 32001;
-                                 mapCosts[950] = 32001;
+                         case 46:
                                  mapCosts[1078] = 32001;
                                  mapCosts[1206] = 32001;
                                  mapCosts[1334] = 32001;
@@ -2191,15 +1795,15 @@ public class BugNavLmx {
                                  mapCosts[7478] = 32001;
                                  mapCosts[7606] = 32001;
                                  mapCosts[7734] = 32001;
+                                 mapCosts[7862] = 32001;
+                                 mapCosts[7990] = 32001;
+                                 mapCosts[8118] = 32001;
+                                 mapCosts[8246] = 32001;
+                                 mapCosts[8374] = 32001;
+                                 mapCosts[8502] = 32001;
+                                 mapCosts[8630] = 32001;
                                 break;
-                         case 54:
-                                 mapCosts[183] = 32001;
-                                 mapCosts[311] = 32001;
-                                 mapCosts[439] = 32001;
-                                 mapCosts[567] = 32001;
-                                 mapCosts[695] = 32001;
-                                 mapCosts[823] = 32001;
-                                 mapCosts[951] = 32001;
+                         case 47:
                                  mapCosts[1079] = 32001;
                                  mapCosts[1207] = 32001;
                                  mapCosts[1335] = 32001;
@@ -2253,15 +1857,15 @@ public class BugNavLmx {
                                  mapCosts[7479] = 32001;
                                  mapCosts[7607] = 32001;
                                  mapCosts[7735] = 32001;
+                                 mapCosts[7863] = 32001;
+                                 mapCosts[7991] = 32001;
+                                 mapCosts[8119] = 32001;
+                                 mapCosts[8247] = 32001;
+                                 mapCosts[8375] = 32001;
+                                 mapCosts[8503] = 32001;
+                                 mapCosts[8631] = 32001;
                                 break;
-                         case 55:
-                                 mapCosts[184] = 32001;
-                                 mapCosts[312] = 32001;
-                                 mapCosts[440] = 32001;
-                                 mapCosts[568] = 32001;
-                                 mapCosts[696] = 32001;
-                                 mapCosts[824] = 32001;
-                                 mapCosts[952] = 32001;
+                         case 48:
                                  mapCosts[1080] = 32001;
                                  mapCosts[1208] = 32001;
                                  mapCosts[1336] = 32001;
@@ -2315,15 +1919,15 @@ public class BugNavLmx {
                                  mapCosts[7480] = 32001;
                                  mapCosts[7608] = 32001;
                                  mapCosts[7736] = 32001;
+                                 mapCosts[7864] = 32001;
+                                 mapCosts[7992] = 32001;
+                                 mapCosts[8120] = 32001;
+                                 mapCosts[8248] = 32001;
+                                 mapCosts[8376] = 32001;
+                                 mapCosts[8504] = 32001;
+                                 mapCosts[8632] = 32001;
                                 break;
-                         case 56:
-                                 mapCosts[185] = 32001;
-                                 mapCosts[313] = 32001;
-                                 mapCosts[441] = 32001;
-                                 mapCosts[569] = 32001;
-                                 mapCosts[697] = 32001;
-                                 mapCosts[825] = 32001;
-                                 mapCosts[953] = 32001;
+                         case 49:
                                  mapCosts[1081] = 32001;
                                  mapCosts[1209] = 32001;
                                  mapCosts[1337] = 32001;
@@ -2377,15 +1981,15 @@ public class BugNavLmx {
                                  mapCosts[7481] = 32001;
                                  mapCosts[7609] = 32001;
                                  mapCosts[7737] = 32001;
+                                 mapCosts[7865] = 32001;
+                                 mapCosts[7993] = 32001;
+                                 mapCosts[8121] = 32001;
+                                 mapCosts[8249] = 32001;
+                                 mapCosts[8377] = 32001;
+                                 mapCosts[8505] = 32001;
+                                 mapCosts[8633] = 32001;
                                 break;
-                         case 57:
-                                 mapCosts[186] = 32001;
-                                 mapCosts[314] = 32001;
-                                 mapCosts[442] = 32001;
-                                 mapCosts[570] = 32001;
-                                 mapCosts[698] = 32001;
-                                 mapCosts[826] = 32001;
-                                 mapCosts[954] = 32001;
+                         case 50:
                                  mapCosts[1082] = 32001;
                                  mapCosts[1210] = 32001;
                                  mapCosts[1338] = 32001;
@@ -2439,15 +2043,15 @@ public class BugNavLmx {
                                  mapCosts[7482] = 32001;
                                  mapCosts[7610] = 32001;
                                  mapCosts[7738] = 32001;
+                                 mapCosts[7866] = 32001;
+                                 mapCosts[7994] = 32001;
+                                 mapCosts[8122] = 32001;
+                                 mapCosts[8250] = 32001;
+                                 mapCosts[8378] = 32001;
+                                 mapCosts[8506] = 32001;
+                                 mapCosts[8634] = 32001;
                                 break;
-                         case 58:
-                                 mapCosts[187] = 32001;
-                                 mapCosts[315] = 32001;
-                                 mapCosts[443] = 32001;
-                                 mapCosts[571] = 32001;
-                                 mapCosts[699] = 32001;
-                                 mapCosts[827] = 32001;
-                                 mapCosts[955] = 32001;
+                         case 51:
                                  mapCosts[1083] = 32001;
                                  mapCosts[1211] = 32001;
                                  mapCosts[1339] = 32001;
@@ -2501,15 +2105,15 @@ public class BugNavLmx {
                                  mapCosts[7483] = 32001;
                                  mapCosts[7611] = 32001;
                                  mapCosts[7739] = 32001;
+                                 mapCosts[7867] = 32001;
+                                 mapCosts[7995] = 32001;
+                                 mapCosts[8123] = 32001;
+                                 mapCosts[8251] = 32001;
+                                 mapCosts[8379] = 32001;
+                                 mapCosts[8507] = 32001;
+                                 mapCosts[8635] = 32001;
                                 break;
-                         case 59:
-                                 mapCosts[188] = 32001;
-                                 mapCosts[316] = 32001;
-                                 mapCosts[444] = 32001;
-                                 mapCosts[572] = 32001;
-                                 mapCosts[700] = 32001;
-                                 mapCosts[828] = 32001;
-                                 mapCosts[956] = 32001;
+                         case 52:
                                  mapCosts[1084] = 32001;
                                  mapCosts[1212] = 32001;
                                  mapCosts[1340] = 32001;
@@ -2563,15 +2167,15 @@ public class BugNavLmx {
                                  mapCosts[7484] = 32001;
                                  mapCosts[7612] = 32001;
                                  mapCosts[7740] = 32001;
+                                 mapCosts[7868] = 32001;
+                                 mapCosts[7996] = 32001;
+                                 mapCosts[8124] = 32001;
+                                 mapCosts[8252] = 32001;
+                                 mapCosts[8380] = 32001;
+                                 mapCosts[8508] = 32001;
+                                 mapCosts[8636] = 32001;
                                 break;
-                         case 60:
-                                 mapCosts[189] = 32001;
-                                 mapCosts[317] = 32001;
-                                 mapCosts[445] = 32001;
-                                 mapCosts[573] = 32001;
-                                 mapCosts[701] = 32001;
-                                 mapCosts[829] = 32001;
-                                 mapCosts[957] = 32001;
+                         case 53:
                                  mapCosts[1085] = 32001;
                                  mapCosts[1213] = 32001;
                                  mapCosts[1341] = 32001;
@@ -2625,6 +2229,447 @@ public class BugNavLmx {
                                  mapCosts[7485] = 32001;
                                  mapCosts[7613] = 32001;
                                  mapCosts[7741] = 32001;
+                                 mapCosts[7869] = 32001;
+                                 mapCosts[7997] = 32001;
+                                 mapCosts[8125] = 32001;
+                                 mapCosts[8253] = 32001;
+                                 mapCosts[8381] = 32001;
+                                 mapCosts[8509] = 32001;
+                                 mapCosts[8637] = 32001;
+                                break;
+                         case 54:
+                                 mapCosts[1086] = 32001;
+                                 mapCosts[1214] = 32001;
+                                 mapCosts[1342] = 32001;
+                                 mapCosts[1470] = 32001;
+                                 mapCosts[1598] = 32001;
+                                 mapCosts[1726] = 32001;
+                                 mapCosts[1854] = 32001;
+                                 mapCosts[1982] = 32001;
+                                 mapCosts[2110] = 32001;
+                                 mapCosts[2238] = 32001;
+                                 mapCosts[2366] = 32001;
+                                 mapCosts[2494] = 32001;
+                                 mapCosts[2622] = 32001;
+                                 mapCosts[2750] = 32001;
+                                 mapCosts[2878] = 32001;
+                                 mapCosts[3006] = 32001;
+                                 mapCosts[3134] = 32001;
+                                 mapCosts[3262] = 32001;
+                                 mapCosts[3390] = 32001;
+                                 mapCosts[3518] = 32001;
+                                 mapCosts[3646] = 32001;
+                                 mapCosts[3774] = 32001;
+                                 mapCosts[3902] = 32001;
+                                 mapCosts[4030] = 32001;
+                                 mapCosts[4158] = 32001;
+                                 mapCosts[4286] = 32001;
+                                 mapCosts[4414] = 32001;
+                                 mapCosts[4542] = 32001;
+                                 mapCosts[4670] = 32001;
+                                 mapCosts[4798] = 32001;
+                                 mapCosts[4926] = 32001;
+                                 mapCosts[5054] = 32001;
+                                 mapCosts[5182] = 32001;
+                                 mapCosts[5310] = 32001;
+                                 mapCosts[5438] = 32001;
+                                 mapCosts[5566] = 32001;
+                                 mapCosts[5694] = 32001;
+                                 mapCosts[5822] = 32001;
+                                 mapCosts[5950] = 32001;
+                                 mapCosts[6078] = 32001;
+                                 mapCosts[6206] = 32001;
+                                 mapCosts[6334] = 32001;
+                                 mapCosts[6462] = 32001;
+                                 mapCosts[6590] = 32001;
+                                 mapCosts[6718] = 32001;
+                                 mapCosts[6846] = 32001;
+                                 mapCosts[6974] = 32001;
+                                 mapCosts[7102] = 32001;
+                                 mapCosts[7230] = 32001;
+                                 mapCosts[7358] = 32001;
+                                 mapCosts[7486] = 32001;
+                                 mapCosts[7614] = 32001;
+                                 mapCosts[7742] = 32001;
+                                 mapCosts[7870] = 32001;
+                                 mapCosts[7998] = 32001;
+                                 mapCosts[8126] = 32001;
+                                 mapCosts[8254] = 32001;
+                                 mapCosts[8382] = 32001;
+                                 mapCosts[8510] = 32001;
+                                 mapCosts[8638] = 32001;
+                                break;
+                         case 55:
+                                 mapCosts[1087] = 32001;
+                                 mapCosts[1215] = 32001;
+                                 mapCosts[1343] = 32001;
+                                 mapCosts[1471] = 32001;
+                                 mapCosts[1599] = 32001;
+                                 mapCosts[1727] = 32001;
+                                 mapCosts[1855] = 32001;
+                                 mapCosts[1983] = 32001;
+                                 mapCosts[2111] = 32001;
+                                 mapCosts[2239] = 32001;
+                                 mapCosts[2367] = 32001;
+                                 mapCosts[2495] = 32001;
+                                 mapCosts[2623] = 32001;
+                                 mapCosts[2751] = 32001;
+                                 mapCosts[2879] = 32001;
+                                 mapCosts[3007] = 32001;
+                                 mapCosts[3135] = 32001;
+                                 mapCosts[3263] = 32001;
+                                 mapCosts[3391] = 32001;
+                                 mapCosts[3519] = 32001;
+                                 mapCosts[3647] = 32001;
+                                 mapCosts[3775] = 32001;
+                                 mapCosts[3903] = 32001;
+                                 mapCosts[4031] = 32001;
+                                 mapCosts[4159] = 32001;
+                                 mapCosts[4287] = 32001;
+                                 mapCosts[4415] = 32001;
+                                 mapCosts[4543] = 32001;
+                                 mapCosts[4671] = 32001;
+                                 mapCosts[4799] = 32001;
+                                 mapCosts[4927] = 32001;
+                                 mapCosts[5055] = 32001;
+                                 mapCosts[5183] = 32001;
+                                 mapCosts[5311] = 32001;
+                                 mapCosts[5439] = 32001;
+                                 mapCosts[5567] = 32001;
+                                 mapCosts[5695] = 32001;
+                                 mapCosts[5823] = 32001;
+                                 mapCosts[5951] = 32001;
+                                 mapCosts[6079] = 32001;
+                                 mapCosts[6207] = 32001;
+                                 mapCosts[6335] = 32001;
+                                 mapCosts[6463] = 32001;
+                                 mapCosts[6591] = 32001;
+                                 mapCosts[6719] = 32001;
+                                 mapCosts[6847] = 32001;
+                                 mapCosts[6975] = 32001;
+                                 mapCosts[7103] = 32001;
+                                 mapCosts[7231] = 32001;
+                                 mapCosts[7359] = 32001;
+                                 mapCosts[7487] = 32001;
+                                 mapCosts[7615] = 32001;
+                                 mapCosts[7743] = 32001;
+                                 mapCosts[7871] = 32001;
+                                 mapCosts[7999] = 32001;
+                                 mapCosts[8127] = 32001;
+                                 mapCosts[8255] = 32001;
+                                 mapCosts[8383] = 32001;
+                                 mapCosts[8511] = 32001;
+                                 mapCosts[8639] = 32001;
+                                break;
+                         case 56:
+                                 mapCosts[1088] = 32001;
+                                 mapCosts[1216] = 32001;
+                                 mapCosts[1344] = 32001;
+                                 mapCosts[1472] = 32001;
+                                 mapCosts[1600] = 32001;
+                                 mapCosts[1728] = 32001;
+                                 mapCosts[1856] = 32001;
+                                 mapCosts[1984] = 32001;
+                                 mapCosts[2112] = 32001;
+                                 mapCosts[2240] = 32001;
+                                 mapCosts[2368] = 32001;
+                                 mapCosts[2496] = 32001;
+                                 mapCosts[2624] = 32001;
+                                 mapCosts[2752] = 32001;
+                                 mapCosts[2880] = 32001;
+                                 mapCosts[3008] = 32001;
+                                 mapCosts[3136] = 32001;
+                                 mapCosts[3264] = 32001;
+                                 mapCosts[3392] = 32001;
+                                 mapCosts[3520] = 32001;
+                                 mapCosts[3648] = 32001;
+                                 mapCosts[3776] = 32001;
+                                 mapCosts[3904] = 32001;
+                                 mapCosts[4032] = 32001;
+                                 mapCosts[4160] = 32001;
+                                 mapCosts[4288] = 32001;
+                                 mapCosts[4416] = 32001;
+                                 mapCosts[4544] = 32001;
+                                 mapCosts[4672] = 32001;
+                                 mapCosts[4800] = 32001;
+                                 mapCosts[4928] = 32001;
+                                 mapCosts[5056] = 32001;
+                                 mapCosts[5184] = 32001;
+                                 mapCosts[5312] = 32001;
+                                 mapCosts[5440] = 32001;
+                                 mapCosts[5568] = 32001;
+                                 mapCosts[5696] = 32001;
+                                 mapCosts[5824] = 32001;
+                                 mapCosts[5952] = 32001;
+                                 mapCosts[6080] = 32001;
+                                 mapCosts[6208] = 32001;
+                                 mapCosts[6336] = 32001;
+                                 mapCosts[6464] = 32001;
+                                 mapCosts[6592] = 32001;
+                                 mapCosts[6720] = 32001;
+                                 mapCosts[6848] = 32001;
+                                 mapCosts[6976] = 32001;
+                                 mapCosts[7104] = 32001;
+                                 mapCosts[7232] = 32001;
+                                 mapCosts[7360] = 32001;
+                                 mapCosts[7488] = 32001;
+                                 mapCosts[7616] = 32001;
+                                 mapCosts[7744] = 32001;
+                                 mapCosts[7872] = 32001;
+                                 mapCosts[8000] = 32001;
+                                 mapCosts[8128] = 32001;
+                                 mapCosts[8256] = 32001;
+                                 mapCosts[8384] = 32001;
+                                 mapCosts[8512] = 32001;
+                                 mapCosts[8640] = 32001;
+                                break;
+                         case 57:
+                                 mapCosts[1089] = 32001;
+                                 mapCosts[1217] = 32001;
+                                 mapCosts[1345] = 32001;
+                                 mapCosts[1473] = 32001;
+                                 mapCosts[1601] = 32001;
+                                 mapCosts[1729] = 32001;
+                                 mapCosts[1857] = 32001;
+                                 mapCosts[1985] = 32001;
+                                 mapCosts[2113] = 32001;
+                                 mapCosts[2241] = 32001;
+                                 mapCosts[2369] = 32001;
+                                 mapCosts[2497] = 32001;
+                                 mapCosts[2625] = 32001;
+                                 mapCosts[2753] = 32001;
+                                 mapCosts[2881] = 32001;
+                                 mapCosts[3009] = 32001;
+                                 mapCosts[3137] = 32001;
+                                 mapCosts[3265] = 32001;
+                                 mapCosts[3393] = 32001;
+                                 mapCosts[3521] = 32001;
+                                 mapCosts[3649] = 32001;
+                                 mapCosts[3777] = 32001;
+                                 mapCosts[3905] = 32001;
+                                 mapCosts[4033] = 32001;
+                                 mapCosts[4161] = 32001;
+                                 mapCosts[4289] = 32001;
+                                 mapCosts[4417] = 32001;
+                                 mapCosts[4545] = 32001;
+                                 mapCosts[4673] = 32001;
+                                 mapCosts[4801] = 32001;
+                                 mapCosts[4929] = 32001;
+                                 mapCosts[5057] = 32001;
+                                 mapCosts[5185] = 32001;
+                                 mapCosts[5313] = 32001;
+                                 mapCosts[5441] = 32001;
+                                 mapCosts[5569] = 32001;
+                                 mapCosts[5697] = 32001;
+                                 mapCosts[5825] = 32001;
+                                 mapCosts[5953] = 32001;
+                                 mapCosts[6081] = 32001;
+                                 mapCosts[6209] = 32001;
+                                 mapCosts[6337] = 32001;
+                                 mapCosts[6465] = 32001;
+                                 mapCosts[6593] = 32001;
+                                 mapCosts[6721] = 32001;
+                                 mapCosts[6849] = 32001;
+                                 mapCosts[6977] = 32001;
+                                 mapCosts[7105] = 32001;
+                                 mapCosts[7233] = 32001;
+                                 mapCosts[7361] = 32001;
+                                 mapCosts[7489] = 32001;
+                                 mapCosts[7617] = 32001;
+                                 mapCosts[7745] = 32001;
+                                 mapCosts[7873] = 32001;
+                                 mapCosts[8001] = 32001;
+                                 mapCosts[8129] = 32001;
+                                 mapCosts[8257] = 32001;
+                                 mapCosts[8385] = 32001;
+                                 mapCosts[8513] = 32001;
+                                 mapCosts[8641] = 32001;
+                                break;
+                         case 58:
+                                 mapCosts[1090] = 32001;
+                                 mapCosts[1218] = 32001;
+                                 mapCosts[1346] = 32001;
+                                 mapCosts[1474] = 32001;
+                                 mapCosts[1602] = 32001;
+                                 mapCosts[1730] = 32001;
+                                 mapCosts[1858] = 32001;
+                                 mapCosts[1986] = 32001;
+                                 mapCosts[2114] = 32001;
+                                 mapCosts[2242] = 32001;
+                                 mapCosts[2370] = 32001;
+                                 mapCosts[2498] = 32001;
+                                 mapCosts[2626] = 32001;
+                                 mapCosts[2754] = 32001;
+                                 mapCosts[2882] = 32001;
+                                 mapCosts[3010] = 32001;
+                                 mapCosts[3138] = 32001;
+                                 mapCosts[3266] = 32001;
+                                 mapCosts[3394] = 32001;
+                                 mapCosts[3522] = 32001;
+                                 mapCosts[3650] = 32001;
+                                 mapCosts[3778] = 32001;
+                                 mapCosts[3906] = 32001;
+                                 mapCosts[4034] = 32001;
+                                 mapCosts[4162] = 32001;
+                                 mapCosts[4290] = 32001;
+                                 mapCosts[4418] = 32001;
+                                 mapCosts[4546] = 32001;
+                                 mapCosts[4674] = 32001;
+                                 mapCosts[4802] = 32001;
+                                 mapCosts[4930] = 32001;
+                                 mapCosts[5058] = 32001;
+                                 mapCosts[5186] = 32001;
+                                 mapCosts[5314] = 32001;
+                                 mapCosts[5442] = 32001;
+                                 mapCosts[5570] = 32001;
+                                 mapCosts[5698] = 32001;
+                                 mapCosts[5826] = 32001;
+                                 mapCosts[5954] = 32001;
+                                 mapCosts[6082] = 32001;
+                                 mapCosts[6210] = 32001;
+                                 mapCosts[6338] = 32001;
+                                 mapCosts[6466] = 32001;
+                                 mapCosts[6594] = 32001;
+                                 mapCosts[6722] = 32001;
+                                 mapCosts[6850] = 32001;
+                                 mapCosts[6978] = 32001;
+                                 mapCosts[7106] = 32001;
+                                 mapCosts[7234] = 32001;
+                                 mapCosts[7362] = 32001;
+                                 mapCosts[7490] = 32001;
+                                 mapCosts[7618] = 32001;
+                                 mapCosts[7746] = 32001;
+                                 mapCosts[7874] = 32001;
+                                 mapCosts[8002] = 32001;
+                                 mapCosts[8130] = 32001;
+                                 mapCosts[8258] = 32001;
+                                 mapCosts[8386] = 32001;
+                                 mapCosts[8514] = 32001;
+                                 mapCosts[8642] = 32001;
+                                break;
+                         case 59:
+                                 mapCosts[1091] = 32001;
+                                 mapCosts[1219] = 32001;
+                                 mapCosts[1347] = 32001;
+                                 mapCosts[1475] = 32001;
+                                 mapCosts[1603] = 32001;
+                                 mapCosts[1731] = 32001;
+                                 mapCosts[1859] = 32001;
+                                 mapCosts[1987] = 32001;
+                                 mapCosts[2115] = 32001;
+                                 mapCosts[2243] = 32001;
+                                 mapCosts[2371] = 32001;
+                                 mapCosts[2499] = 32001;
+                                 mapCosts[2627] = 32001;
+                                 mapCosts[2755] = 32001;
+                                 mapCosts[2883] = 32001;
+                                 mapCosts[3011] = 32001;
+                                 mapCosts[3139] = 32001;
+                                 mapCosts[3267] = 32001;
+                                 mapCosts[3395] = 32001;
+                                 mapCosts[3523] = 32001;
+                                 mapCosts[3651] = 32001;
+                                 mapCosts[3779] = 32001;
+                                 mapCosts[3907] = 32001;
+                                 mapCosts[4035] = 32001;
+                                 mapCosts[4163] = 32001;
+                                 mapCosts[4291] = 32001;
+                                 mapCosts[4419] = 32001;
+                                 mapCosts[4547] = 32001;
+                                 mapCosts[4675] = 32001;
+                                 mapCosts[4803] = 32001;
+                                 mapCosts[4931] = 32001;
+                                 mapCosts[5059] = 32001;
+                                 mapCosts[5187] = 32001;
+                                 mapCosts[5315] = 32001;
+                                 mapCosts[5443] = 32001;
+                                 mapCosts[5571] = 32001;
+                                 mapCosts[5699] = 32001;
+                                 mapCosts[5827] = 32001;
+                                 mapCosts[5955] = 32001;
+                                 mapCosts[6083] = 32001;
+                                 mapCosts[6211] = 32001;
+                                 mapCosts[6339] = 32001;
+                                 mapCosts[6467] = 32001;
+                                 mapCosts[6595] = 32001;
+                                 mapCosts[6723] = 32001;
+                                 mapCosts[6851] = 32001;
+                                 mapCosts[6979] = 32001;
+                                 mapCosts[7107] = 32001;
+                                 mapCosts[7235] = 32001;
+                                 mapCosts[7363] = 32001;
+                                 mapCosts[7491] = 32001;
+                                 mapCosts[7619] = 32001;
+                                 mapCosts[7747] = 32001;
+                                 mapCosts[7875] = 32001;
+                                 mapCosts[8003] = 32001;
+                                 mapCosts[8131] = 32001;
+                                 mapCosts[8259] = 32001;
+                                 mapCosts[8387] = 32001;
+                                 mapCosts[8515] = 32001;
+                                 mapCosts[8643] = 32001;
+                                break;
+                         case 60:
+                                 mapCosts[1092] = 32001;
+                                 mapCosts[1220] = 32001;
+                                 mapCosts[1348] = 32001;
+                                 mapCosts[1476] = 32001;
+                                 mapCosts[1604] = 32001;
+                                 mapCosts[1732] = 32001;
+                                 mapCosts[1860] = 32001;
+                                 mapCosts[1988] = 32001;
+                                 mapCosts[2116] = 32001;
+                                 mapCosts[2244] = 32001;
+                                 mapCosts[2372] = 32001;
+                                 mapCosts[2500] = 32001;
+                                 mapCosts[2628] = 32001;
+                                 mapCosts[2756] = 32001;
+                                 mapCosts[2884] = 32001;
+                                 mapCosts[3012] = 32001;
+                                 mapCosts[3140] = 32001;
+                                 mapCosts[3268] = 32001;
+                                 mapCosts[3396] = 32001;
+                                 mapCosts[3524] = 32001;
+                                 mapCosts[3652] = 32001;
+                                 mapCosts[3780] = 32001;
+                                 mapCosts[3908] = 32001;
+                                 mapCosts[4036] = 32001;
+                                 mapCosts[4164] = 32001;
+                                 mapCosts[4292] = 32001;
+                                 mapCosts[4420] = 32001;
+                                 mapCosts[4548] = 32001;
+                                 mapCosts[4676] = 32001;
+                                 mapCosts[4804] = 32001;
+                                 mapCosts[4932] = 32001;
+                                 mapCosts[5060] = 32001;
+                                 mapCosts[5188] = 32001;
+                                 mapCosts[5316] = 32001;
+                                 mapCosts[5444] = 32001;
+                                 mapCosts[5572] = 32001;
+                                 mapCosts[5700] = 32001;
+                                 mapCosts[5828] = 32001;
+                                 mapCosts[5956] = 32001;
+                                 mapCosts[6084] = 32001;
+                                 mapCosts[6212] = 32001;
+                                 mapCosts[6340] = 32001;
+                                 mapCosts[6468] = 32001;
+                                 mapCosts[6596] = 32001;
+                                 mapCosts[6724] = 32001;
+                                 mapCosts[6852] = 32001;
+                                 mapCosts[6980] = 32001;
+                                 mapCosts[7108] = 32001;
+                                 mapCosts[7236] = 32001;
+                                 mapCosts[7364] = 32001;
+                                 mapCosts[7492] = 32001;
+                                 mapCosts[7620] = 32001;
+                                 mapCosts[7748] = 32001;
+                                 mapCosts[7876] = 32001;
+                                 mapCosts[8004] = 32001;
+                                 mapCosts[8132] = 32001;
+                                 mapCosts[8260] = 32001;
+                                 mapCosts[8388] = 32001;
+                                 mapCosts[8516] = 32001;
+                                 mapCosts[8644] = 32001;
                                 break;
                         default:
                 throw new IllegalArgumentException("Width " + width + " is not supported, should be between 20 and 60");
@@ -2634,447 +2679,6 @@ public class BugNavLmx {
     public static void setHeight(int height){
         switch(height){
                         case 20:
-                                mapCosts[2689] = 32001;
-                                mapCosts[2690] = 32001;
-                                mapCosts[2691] = 32001;
-                                mapCosts[2692] = 32001;
-                                mapCosts[2693] = 32001;
-                                mapCosts[2694] = 32001;
-                                mapCosts[2695] = 32001;
-                                mapCosts[2696] = 32001;
-                                mapCosts[2697] = 32001;
-                                mapCosts[2698] = 32001;
-                                mapCosts[2699] = 32001;
-                                mapCosts[2700] = 32001;
-                                mapCosts[2701] = 32001;
-                                mapCosts[2702] = 32001;
-                                mapCosts[2703] = 32001;
-                                mapCosts[2704] = 32001;
-                                mapCosts[2705] = 32001;
-                                mapCosts[2706] = 32001;
-                                mapCosts[2707] = 32001;
-                                mapCosts[2708] = 32001;
-                                mapCosts[2709] = 32001;
-                                mapCosts[2710] = 32001;
-                                mapCosts[2711] = 32001;
-                                mapCosts[2712] = 32001;
-                                mapCosts[2713] = 32001;
-                                mapCosts[2714] = 32001;
-                                mapCosts[2715] = 32001;
-                                mapCosts[2716] = 32001;
-                                mapCosts[2717] = 32001;
-                                mapCosts[2718] = 32001;
-                                mapCosts[2719] = 32001;
-                                mapCosts[2720] = 32001;
-                                mapCosts[2721] = 32001;
-                                mapCosts[2722] = 32001;
-                                mapCosts[2723] = 32001;
-                                mapCosts[2724] = 32001;
-                                mapCosts[2725] = 32001;
-                                mapCosts[2726] = 32001;
-                                mapCosts[2727] = 32001;
-                                mapCosts[2728] = 32001;
-                                mapCosts[2729] = 32001;
-                                mapCosts[2730] = 32001;
-                                mapCosts[2731] = 32001;
-                                mapCosts[2732] = 32001;
-                                mapCosts[2733] = 32001;
-                                mapCosts[2734] = 32001;
-                                mapCosts[2735] = 32001;
-                                mapCosts[2736] = 32001;
-                                mapCosts[2737] = 32001;
-                                mapCosts[2738] = 32001;
-                                mapCosts[2739] = 32001;
-                                mapCosts[2740] = 32001;
-                                mapCosts[2741] = 32001;
-                                mapCosts[2742] = 32001;
-                                mapCosts[2743] = 32001;
-                                mapCosts[2744] = 32001;
-                                mapCosts[2745] = 32001;
-                                mapCosts[2746] = 32001;
-                                mapCosts[2747] = 32001;
-                                mapCosts[2748] = 32001;
-                                break;
-                        case 21:
-                                mapCosts[2817] = 32001;
-                                mapCosts[2818] = 32001;
-                                mapCosts[2819] = 32001;
-                                mapCosts[2820] = 32001;
-                                mapCosts[2821] = 32001;
-                                mapCosts[2822] = 32001;
-                                mapCosts[2823] = 32001;
-                                mapCosts[2824] = 32001;
-                                mapCosts[2825] = 32001;
-                                mapCosts[2826] = 32001;
-                                mapCosts[2827] = 32001;
-                                mapCosts[2828] = 32001;
-                                mapCosts[2829] = 32001;
-                                mapCosts[2830] = 32001;
-                                mapCosts[2831] = 32001;
-                                mapCosts[2832] = 32001;
-                                mapCosts[2833] = 32001;
-                                mapCosts[2834] = 32001;
-                                mapCosts[2835] = 32001;
-                                mapCosts[2836] = 32001;
-                                mapCosts[2837] = 32001;
-                                mapCosts[2838] = 32001;
-                                mapCosts[2839] = 32001;
-                                mapCosts[2840] = 32001;
-                                mapCosts[2841] = 32001;
-                                mapCosts[2842] = 32001;
-                                mapCosts[2843] = 32001;
-                                mapCosts[2844] = 32001;
-                                mapCosts[2845] = 32001;
-                                mapCosts[2846] = 32001;
-                                mapCosts[2847] = 32001;
-                                mapCosts[2848] = 32001;
-                                mapCosts[2849] = 32001;
-                                mapCosts[2850] = 32001;
-                                mapCosts[2851] = 32001;
-                                mapCosts[2852] = 32001;
-                                mapCosts[2853] = 32001;
-                                mapCosts[2854] = 32001;
-                                mapCosts[2855] = 32001;
-                                mapCosts[2856] = 32001;
-                                mapCosts[2857] = 32001;
-                                mapCosts[2858] = 32001;
-                                mapCosts[2859] = 32001;
-                                mapCosts[2860] = 32001;
-                                mapCosts[2861] = 32001;
-                                mapCosts[2862] = 32001;
-                                mapCosts[2863] = 32001;
-                                mapCosts[2864] = 32001;
-                                mapCosts[2865] = 32001;
-                                mapCosts[2866] = 32001;
-                                mapCosts[2867] = 32001;
-                                mapCosts[2868] = 32001;
-                                mapCosts[2869] = 32001;
-                                mapCosts[2870] = 32001;
-                                mapCosts[2871] = 32001;
-                                mapCosts[2872] = 32001;
-                                mapCosts[2873] = 32001;
-                                mapCosts[2874] = 32001;
-                                mapCosts[2875] = 32001;
-                                mapCosts[2876] = 32001;
-                                break;
-                        case 22:
-                                mapCosts[2945] = 32001;
-                                mapCosts[2946] = 32001;
-                                mapCosts[2947] = 32001;
-                                mapCosts[2948] = 32001;
-                                mapCosts[2949] = 32001;
-                                mapCosts[2950] = 32001;
-                                mapCosts[2951] = 32001;
-                                mapCosts[2952] = 32001;
-                                mapCosts[2953] = 32001;
-                                mapCosts[2954] = 32001;
-                                mapCosts[2955] = 32001;
-                                mapCosts[2956] = 32001;
-                                mapCosts[2957] = 32001;
-                                mapCosts[2958] = 32001;
-                                mapCosts[2959] = 32001;
-                                mapCosts[2960] = 32001;
-                                mapCosts[2961] = 32001;
-                                mapCosts[2962] = 32001;
-                                mapCosts[2963] = 32001;
-                                mapCosts[2964] = 32001;
-                                mapCosts[2965] = 32001;
-                                mapCosts[2966] = 32001;
-                                mapCosts[2967] = 32001;
-                                mapCosts[2968] = 32001;
-                                mapCosts[2969] = 32001;
-                                mapCosts[2970] = 32001;
-                                mapCosts[2971] = 32001;
-                                mapCosts[2972] = 32001;
-                                mapCosts[2973] = 32001;
-                                mapCosts[2974] = 32001;
-                                mapCosts[2975] = 32001;
-                                mapCosts[2976] = 32001;
-                                mapCosts[2977] = 32001;
-                                mapCosts[2978] = 32001;
-                                mapCosts[2979] = 32001;
-                                mapCosts[2980] = 32001;
-                                mapCosts[2981] = 32001;
-                                mapCosts[2982] = 32001;
-                                mapCosts[2983] = 32001;
-                                mapCosts[2984] = 32001;
-                                mapCosts[2985] = 32001;
-                                mapCosts[2986] = 32001;
-                                mapCosts[2987] = 32001;
-                                mapCosts[2988] = 32001;
-                                mapCosts[2989] = 32001;
-                                mapCosts[2990] = 32001;
-                                mapCosts[2991] = 32001;
-                                mapCosts[2992] = 32001;
-                                mapCosts[2993] = 32001;
-                                mapCosts[2994] = 32001;
-                                mapCosts[2995] = 32001;
-                                mapCosts[2996] = 32001;
-                                mapCosts[2997] = 32001;
-                                mapCosts[2998] = 32001;
-                                mapCosts[2999] = 32001;
-                                mapCosts[3000] = 32001;
-                                mapCosts[3001] = 32001;
-                                mapCosts[3002] = 32001;
-                                mapCosts[3003] = 32001;
-                                mapCosts[3004] = 32001;
-                                break;
-                        case 23:
-                                mapCosts[3073] = 32001;
-                                mapCosts[3074] = 32001;
-                                mapCosts[3075] = 32001;
-                                mapCosts[3076] = 32001;
-                                mapCosts[3077] = 32001;
-                                mapCosts[3078] = 32001;
-                                mapCosts[3079] = 32001;
-                                mapCosts[3080] = 32001;
-                                mapCosts[3081] = 32001;
-                                mapCosts[3082] = 32001;
-                                mapCosts[3083] = 32001;
-                                mapCosts[3084] = 32001;
-                                mapCosts[3085] = 32001;
-                                mapCosts[3086] = 32001;
-                                mapCosts[3087] = 32001;
-                                mapCosts[3088] = 32001;
-                                mapCosts[3089] = 32001;
-                                mapCosts[3090] = 32001;
-                                mapCosts[3091] = 32001;
-                                mapCosts[3092] = 32001;
-                                mapCosts[3093] = 32001;
-                                mapCosts[3094] = 32001;
-                                mapCosts[3095] = 32001;
-                                mapCosts[3096] = 32001;
-                                mapCosts[3097] = 32001;
-                                mapCosts[3098] = 32001;
-                                mapCosts[3099] = 32001;
-                                mapCosts[3100] = 32001;
-                                mapCosts[3101] = 32001;
-                                mapCosts[3102] = 32001;
-                                mapCosts[3103] = 32001;
-                                mapCosts[3104] = 32001;
-                                mapCosts[3105] = 32001;
-                                mapCosts[3106] = 32001;
-                                mapCosts[3107] = 32001;
-                                mapCosts[3108] = 32001;
-                                mapCosts[3109] = 32001;
-                                mapCosts[3110] = 32001;
-                                mapCosts[3111] = 32001;
-                                mapCosts[3112] = 32001;
-                                mapCosts[3113] = 32001;
-                                mapCosts[3114] = 32001;
-                                mapCosts[3115] = 32001;
-                                mapCosts[3116] = 32001;
-                                mapCosts[3117] = 32001;
-                                mapCosts[3118] = 32001;
-                                mapCosts[3119] = 32001;
-                                mapCosts[3120] = 32001;
-                                mapCosts[3121] = 32001;
-                                mapCosts[3122] = 32001;
-                                mapCosts[3123] = 32001;
-                                mapCosts[3124] = 32001;
-                                mapCosts[3125] = 32001;
-                                mapCosts[3126] = 32001;
-                                mapCosts[3127] = 32001;
-                                mapCosts[3128] = 32001;
-                                mapCosts[3129] = 32001;
-                                mapCosts[3130] = 32001;
-                                mapCosts[3131] = 32001;
-                                mapCosts[3132] = 32001;
-                                break;
-                        case 24:
-                                mapCosts[3201] = 32001;
-                                mapCosts[3202] = 32001;
-                                mapCosts[3203] = 32001;
-                                mapCosts[3204] = 32001;
-                                mapCosts[3205] = 32001;
-                                mapCosts[3206] = 32001;
-                                mapCosts[3207] = 32001;
-                                mapCosts[3208] = 32001;
-                                mapCosts[3209] = 32001;
-                                mapCosts[3210] = 32001;
-                                mapCosts[3211] = 32001;
-                                mapCosts[3212] = 32001;
-                                mapCosts[3213] = 32001;
-                                mapCosts[3214] = 32001;
-                                mapCosts[3215] = 32001;
-                                mapCosts[3216] = 32001;
-                                mapCosts[3217] = 32001;
-                                mapCosts[3218] = 32001;
-                                mapCosts[3219] = 32001;
-                                mapCosts[3220] = 32001;
-                                mapCosts[3221] = 32001;
-                                mapCosts[3222] = 32001;
-                                mapCosts[3223] = 32001;
-                                mapCosts[3224] = 32001;
-                                mapCosts[3225] = 32001;
-                                mapCosts[3226] = 32001;
-                                mapCosts[3227] = 32001;
-                                mapCosts[3228] = 32001;
-                                mapCosts[3229] = 32001;
-                                mapCosts[3230] = 32001;
-                                mapCosts[3231] = 32001;
-                                mapCosts[3232] = 32001;
-                                mapCosts[3233] = 32001;
-                                mapCosts[3234] = 32001;
-                                mapCosts[3235] = 32001;
-                                mapCosts[3236] = 32001;
-                                mapCosts[3237] = 32001;
-                                mapCosts[3238] = 32001;
-                                mapCosts[3239] = 32001;
-                                mapCosts[3240] = 32001;
-                                mapCosts[3241] = 32001;
-                                mapCosts[3242] = 32001;
-                                mapCosts[3243] = 32001;
-                                mapCosts[3244] = 32001;
-                                mapCosts[3245] = 32001;
-                                mapCosts[3246] = 32001;
-                                mapCosts[3247] = 32001;
-                                mapCosts[3248] = 32001;
-                                mapCosts[3249] = 32001;
-                                mapCosts[3250] = 32001;
-                                mapCosts[3251] = 32001;
-                                mapCosts[3252] = 32001;
-                                mapCosts[3253] = 32001;
-                                mapCosts[3254] = 32001;
-                                mapCosts[3255] = 32001;
-                                mapCosts[3256] = 32001;
-                                mapCosts[3257] = 32001;
-                                mapCosts[3258] = 32001;
-                                mapCosts[3259] = 32001;
-                                mapCosts[3260] = 32001;
-                                break;
-                        case 25:
-                                mapCosts[3329] = 32001;
-                                mapCosts[3330] = 32001;
-                                mapCosts[3331] = 32001;
-                                mapCosts[3332] = 32001;
-                                mapCosts[3333] = 32001;
-                                mapCosts[3334] = 32001;
-                                mapCosts[3335] = 32001;
-                                mapCosts[3336] = 32001;
-                                mapCosts[3337] = 32001;
-                                mapCosts[3338] = 32001;
-                                mapCosts[3339] = 32001;
-                                mapCosts[3340] = 32001;
-                                mapCosts[3341] = 32001;
-                                mapCosts[3342] = 32001;
-                                mapCosts[3343] = 32001;
-                                mapCosts[3344] = 32001;
-                                mapCosts[3345] = 32001;
-                                mapCosts[3346] = 32001;
-                                mapCosts[3347] = 32001;
-                                mapCosts[3348] = 32001;
-                                mapCosts[3349] = 32001;
-                                mapCosts[3350] = 32001;
-                                mapCosts[3351] = 32001;
-                                mapCosts[3352] = 32001;
-                                mapCosts[3353] = 32001;
-                                mapCosts[3354] = 32001;
-                                mapCosts[3355] = 32001;
-                                mapCosts[3356] = 32001;
-                                mapCosts[3357] = 32001;
-                                mapCosts[3358] = 32001;
-                                mapCosts[3359] = 32001;
-                                mapCosts[3360] = 32001;
-                                mapCosts[3361] = 32001;
-                                mapCosts[3362] = 32001;
-                                mapCosts[3363] = 32001;
-                                mapCosts[3364] = 32001;
-                                mapCosts[3365] = 32001;
-                                mapCosts[3366] = 32001;
-                                mapCosts[3367] = 32001;
-                                mapCosts[3368] = 32001;
-                                mapCosts[3369] = 32001;
-                                mapCosts[3370] = 32001;
-                                mapCosts[3371] = 32001;
-                                mapCosts[3372] = 32001;
-                                mapCosts[3373] = 32001;
-                                mapCosts[3374] = 32001;
-                                mapCosts[3375] = 32001;
-                                mapCosts[3376] = 32001;
-                                mapCosts[3377] = 32001;
-                                mapCosts[3378] = 32001;
-                                mapCosts[3379] = 32001;
-                                mapCosts[3380] = 32001;
-                                mapCosts[3381] = 32001;
-                                mapCosts[3382] = 32001;
-                                mapCosts[3383] = 32001;
-                                mapCosts[3384] = 32001;
-                                mapCosts[3385] = 32001;
-                                mapCosts[3386] = 32001;
-                                mapCosts[3387] = 32001;
-                                mapCosts[3388] = 32001;
-                                break;
-                        case 26:
-                                mapCosts[3457] = 32001;
-                                mapCosts[3458] = 32001;
-                                mapCosts[3459] = 32001;
-                                mapCosts[3460] = 32001;
-                                mapCosts[3461] = 32001;
-                                mapCosts[3462] = 32001;
-                                mapCosts[3463] = 32001;
-                                mapCosts[3464] = 32001;
-                                mapCosts[3465] = 32001;
-                                mapCosts[3466] = 32001;
-                                mapCosts[3467] = 32001;
-                                mapCosts[3468] = 32001;
-                                mapCosts[3469] = 32001;
-                                mapCosts[3470] = 32001;
-                                mapCosts[3471] = 32001;
-                                mapCosts[3472] = 32001;
-                                mapCosts[3473] = 32001;
-                                mapCosts[3474] = 32001;
-                                mapCosts[3475] = 32001;
-                                mapCosts[3476] = 32001;
-                                mapCosts[3477] = 32001;
-                                mapCosts[3478] = 32001;
-                                mapCosts[3479] = 32001;
-                                mapCosts[3480] = 32001;
-                                mapCosts[3481] = 32001;
-                                mapCosts[3482] = 32001;
-                                mapCosts[3483] = 32001;
-                                mapCosts[3484] = 32001;
-                                mapCosts[3485] = 32001;
-                                mapCosts[3486] = 32001;
-                                mapCosts[3487] = 32001;
-                                mapCosts[3488] = 32001;
-                                mapCosts[3489] = 32001;
-                                mapCosts[3490] = 32001;
-                                mapCosts[3491] = 32001;
-                                mapCosts[3492] = 32001;
-                                mapCosts[3493] = 32001;
-                                mapCosts[3494] = 32001;
-                                mapCosts[3495] = 32001;
-                                mapCosts[3496] = 32001;
-                                mapCosts[3497] = 32001;
-                                mapCosts[3498] = 32001;
-                                mapCosts[3499] = 32001;
-                                mapCosts[3500] = 32001;
-                                mapCosts[3501] = 32001;
-                                mapCosts[3502] = 32001;
-                                mapCosts[3503] = 32001;
-                                mapCosts[3504] = 32001;
-                                mapCosts[3505] = 32001;
-                                mapCosts[3506] = 32001;
-                                mapCosts[3507] = 32001;
-                                mapCosts[3508] = 32001;
-                                mapCosts[3509] = 32001;
-                                mapCosts[3510] = 32001;
-                                mapCosts[3511] = 32001;
-                                mapCosts[3512] = 32001;
-                                mapCosts[3513] = 32001;
-                                mapCosts[3514] = 32001;
-                                mapCosts[3515] = 32001;
-                                mapCosts[3516] = 32001;
-                                break;
-                        case 27:
-                                mapCosts[3585] = 32001;
-                                mapCosts[3586] = 32001;
-                                mapCosts[3587] = 32001;
-                                mapCosts[3588] = 32001;
-                                mapCosts[3589] = 32001;
-                                mapCosts[3590] = 32001;
-                                mapCosts[3591] = 32001;
                                 mapCosts[3592] = 32001;
                                 mapCosts[3593] = 32001;
                                 mapCosts[3594] = 32001;
@@ -3128,15 +2732,15 @@ public class BugNavLmx {
                                 mapCosts[3642] = 32001;
                                 mapCosts[3643] = 32001;
                                 mapCosts[3644] = 32001;
+                                mapCosts[3645] = 32001;
+                                mapCosts[3646] = 32001;
+                                mapCosts[3647] = 32001;
+                                mapCosts[3648] = 32001;
+                                mapCosts[3649] = 32001;
+                                mapCosts[3650] = 32001;
+                                mapCosts[3651] = 32001;
                                 break;
-                        case 28:
-                                mapCosts[3713] = 32001;
-                                mapCosts[3714] = 32001;
-                                mapCosts[3715] = 32001;
-                                mapCosts[3716] = 32001;
-                                mapCosts[3717] = 32001;
-                                mapCosts[3718] = 32001;
-                                mapCosts[3719] = 32001;
+                        case 21:
                                 mapCosts[3720] = 32001;
                                 mapCosts[3721] = 32001;
                                 mapCosts[3722] = 32001;
@@ -3190,15 +2794,15 @@ public class BugNavLmx {
                                 mapCosts[3770] = 32001;
                                 mapCosts[3771] = 32001;
                                 mapCosts[3772] = 32001;
+                                mapCosts[3773] = 32001;
+                                mapCosts[3774] = 32001;
+                                mapCosts[3775] = 32001;
+                                mapCosts[3776] = 32001;
+                                mapCosts[3777] = 32001;
+                                mapCosts[3778] = 32001;
+                                mapCosts[3779] = 32001;
                                 break;
-                        case 29:
-                                mapCosts[3841] = 32001;
-                                mapCosts[3842] = 32001;
-                                mapCosts[3843] = 32001;
-                                mapCosts[3844] = 32001;
-                                mapCosts[3845] = 32001;
-                                mapCosts[3846] = 32001;
-                                mapCosts[3847] = 32001;
+                        case 22:
                                 mapCosts[3848] = 32001;
                                 mapCosts[3849] = 32001;
                                 mapCosts[3850] = 32001;
@@ -3252,15 +2856,15 @@ public class BugNavLmx {
                                 mapCosts[3898] = 32001;
                                 mapCosts[3899] = 32001;
                                 mapCosts[3900] = 32001;
+                                mapCosts[3901] = 32001;
+                                mapCosts[3902] = 32001;
+                                mapCosts[3903] = 32001;
+                                mapCosts[3904] = 32001;
+                                mapCosts[3905] = 32001;
+                                mapCosts[3906] = 32001;
+                                mapCosts[3907] = 32001;
                                 break;
-                        case 30:
-                                mapCosts[3969] = 32001;
-                                mapCosts[3970] = 32001;
-                                mapCosts[3971] = 32001;
-                                mapCosts[3972] = 32001;
-                                mapCosts[3973] = 32001;
-                                mapCosts[3974] = 32001;
-                                mapCosts[3975] = 32001;
+                        case 23:
                                 mapCosts[3976] = 32001;
                                 mapCosts[3977] = 32001;
                                 mapCosts[3978] = 32001;
@@ -3314,15 +2918,15 @@ public class BugNavLmx {
                                 mapCosts[4026] = 32001;
                                 mapCosts[4027] = 32001;
                                 mapCosts[4028] = 32001;
+                                mapCosts[4029] = 32001;
+                                mapCosts[4030] = 32001;
+                                mapCosts[4031] = 32001;
+                                mapCosts[4032] = 32001;
+                                mapCosts[4033] = 32001;
+                                mapCosts[4034] = 32001;
+                                mapCosts[4035] = 32001;
                                 break;
-                        case 31:
-                                mapCosts[4097] = 32001;
-                                mapCosts[4098] = 32001;
-                                mapCosts[4099] = 32001;
-                                mapCosts[4100] = 32001;
-                                mapCosts[4101] = 32001;
-                                mapCosts[4102] = 32001;
-                                mapCosts[4103] = 32001;
+                        case 24:
                                 mapCosts[4104] = 32001;
                                 mapCosts[4105] = 32001;
                                 mapCosts[4106] = 32001;
@@ -3376,15 +2980,15 @@ public class BugNavLmx {
                                 mapCosts[4154] = 32001;
                                 mapCosts[4155] = 32001;
                                 mapCosts[4156] = 32001;
+                                mapCosts[4157] = 32001;
+                                mapCosts[4158] = 32001;
+                                mapCosts[4159] = 32001;
+                                mapCosts[4160] = 32001;
+                                mapCosts[4161] = 32001;
+                                mapCosts[4162] = 32001;
+                                mapCosts[4163] = 32001;
                                 break;
-                        case 32:
-                                mapCosts[4225] = 32001;
-                                mapCosts[4226] = 32001;
-                                mapCosts[4227] = 32001;
-                                mapCosts[4228] = 32001;
-                                mapCosts[4229] = 32001;
-                                mapCosts[4230] = 32001;
-                                mapCosts[4231] = 32001;
+                        case 25:
                                 mapCosts[4232] = 32001;
                                 mapCosts[4233] = 32001;
                                 mapCosts[4234] = 32001;
@@ -3438,15 +3042,15 @@ public class BugNavLmx {
                                 mapCosts[4282] = 32001;
                                 mapCosts[4283] = 32001;
                                 mapCosts[4284] = 32001;
+                                mapCosts[4285] = 32001;
+                                mapCosts[4286] = 32001;
+                                mapCosts[4287] = 32001;
+                                mapCosts[4288] = 32001;
+                                mapCosts[4289] = 32001;
+                                mapCosts[4290] = 32001;
+                                mapCosts[4291] = 32001;
                                 break;
-                        case 33:
-                                mapCosts[4353] = 32001;
-                                mapCosts[4354] = 32001;
-                                mapCosts[4355] = 32001;
-                                mapCosts[4356] = 32001;
-                                mapCosts[4357] = 32001;
-                                mapCosts[4358] = 32001;
-                                mapCosts[4359] = 32001;
+                        case 26:
                                 mapCosts[4360] = 32001;
                                 mapCosts[4361] = 32001;
                                 mapCosts[4362] = 32001;
@@ -3500,15 +3104,15 @@ public class BugNavLmx {
                                 mapCosts[4410] = 32001;
                                 mapCosts[4411] = 32001;
                                 mapCosts[4412] = 32001;
+                                mapCosts[4413] = 32001;
+                                mapCosts[4414] = 32001;
+                                mapCosts[4415] = 32001;
+                                mapCosts[4416] = 32001;
+                                mapCosts[4417] = 32001;
+                                mapCosts[4418] = 32001;
+                                mapCosts[4419] = 32001;
                                 break;
-                        case 34:
-                                mapCosts[4481] = 32001;
-                                mapCosts[4482] = 32001;
-                                mapCosts[4483] = 32001;
-                                mapCosts[4484] = 32001;
-                                mapCosts[4485] = 32001;
-                                mapCosts[4486] = 32001;
-                                mapCosts[4487] = 32001;
+                        case 27:
                                 mapCosts[4488] = 32001;
                                 mapCosts[4489] = 32001;
                                 mapCosts[4490] = 32001;
@@ -3562,15 +3166,15 @@ public class BugNavLmx {
                                 mapCosts[4538] = 32001;
                                 mapCosts[4539] = 32001;
                                 mapCosts[4540] = 32001;
+                                mapCosts[4541] = 32001;
+                                mapCosts[4542] = 32001;
+                                mapCosts[4543] = 32001;
+                                mapCosts[4544] = 32001;
+                                mapCosts[4545] = 32001;
+                                mapCosts[4546] = 32001;
+                                mapCosts[4547] = 32001;
                                 break;
-                        case 35:
-                                mapCosts[4609] = 32001;
-                                mapCosts[4610] = 32001;
-                                mapCosts[4611] = 32001;
-                                mapCosts[4612] = 32001;
-                                mapCosts[4613] = 32001;
-                                mapCosts[4614] = 32001;
-                                mapCosts[4615] = 32001;
+                        case 28:
                                 mapCosts[4616] = 32001;
                                 mapCosts[4617] = 32001;
                                 mapCosts[4618] = 32001;
@@ -3624,15 +3228,15 @@ public class BugNavLmx {
                                 mapCosts[4666] = 32001;
                                 mapCosts[4667] = 32001;
                                 mapCosts[4668] = 32001;
+                                mapCosts[4669] = 32001;
+                                mapCosts[4670] = 32001;
+                                mapCosts[4671] = 32001;
+                                mapCosts[4672] = 32001;
+                                mapCosts[4673] = 32001;
+                                mapCosts[4674] = 32001;
+                                mapCosts[4675] = 32001;
                                 break;
-                        case 36:
-                                mapCosts[4737] = 32001;
-                                mapCosts[4738] = 32001;
-                                mapCosts[4739] = 32001;
-                                mapCosts[4740] = 32001;
-                                mapCosts[4741] = 32001;
-                                mapCosts[4742] = 32001;
-                                mapCosts[4743] = 32001;
+                        case 29:
                                 mapCosts[4744] = 32001;
                                 mapCosts[4745] = 32001;
                                 mapCosts[4746] = 32001;
@@ -3686,15 +3290,15 @@ public class BugNavLmx {
                                 mapCosts[4794] = 32001;
                                 mapCosts[4795] = 32001;
                                 mapCosts[4796] = 32001;
+                                mapCosts[4797] = 32001;
+                                mapCosts[4798] = 32001;
+                                mapCosts[4799] = 32001;
+                                mapCosts[4800] = 32001;
+                                mapCosts[4801] = 32001;
+                                mapCosts[4802] = 32001;
+                                mapCosts[4803] = 32001;
                                 break;
-                        case 37:
-                                mapCosts[4865] = 32001;
-                                mapCosts[4866] = 32001;
-                                mapCosts[4867] = 32001;
-                                mapCosts[4868] = 32001;
-                                mapCosts[4869] = 32001;
-                                mapCosts[4870] = 32001;
-                                mapCosts[4871] = 32001;
+                        case 30:
                                 mapCosts[4872] = 32001;
                                 mapCosts[4873] = 32001;
                                 mapCosts[4874] = 32001;
@@ -3748,15 +3352,15 @@ public class BugNavLmx {
                                 mapCosts[4922] = 32001;
                                 mapCosts[4923] = 32001;
                                 mapCosts[4924] = 32001;
+                                mapCosts[4925] = 32001;
+                                mapCosts[4926] = 32001;
+                                mapCosts[4927] = 32001;
+                                mapCosts[4928] = 32001;
+                                mapCosts[4929] = 32001;
+                                mapCosts[4930] = 32001;
+                                mapCosts[4931] = 32001;
                                 break;
-                        case 38:
-                                mapCosts[4993] = 32001;
-                                mapCosts[4994] = 32001;
-                                mapCosts[4995] = 32001;
-                                mapCosts[4996] = 32001;
-                                mapCosts[4997] = 32001;
-                                mapCosts[4998] = 32001;
-                                mapCosts[4999] = 32001;
+                        case 31:
                                 mapCosts[5000] = 32001;
                                 mapCosts[5001] = 32001;
                                 mapCosts[5002] = 32001;
@@ -3810,15 +3414,15 @@ public class BugNavLmx {
                                 mapCosts[5050] = 32001;
                                 mapCosts[5051] = 32001;
                                 mapCosts[5052] = 32001;
+                                mapCosts[5053] = 32001;
+                                mapCosts[5054] = 32001;
+                                mapCosts[5055] = 32001;
+                                mapCosts[5056] = 32001;
+                                mapCosts[5057] = 32001;
+                                mapCosts[5058] = 32001;
+                                mapCosts[5059] = 32001;
                                 break;
-                        case 39:
-                                mapCosts[5121] = 32001;
-                                mapCosts[5122] = 32001;
-                                mapCosts[5123] = 32001;
-                                mapCosts[5124] = 32001;
-                                mapCosts[5125] = 32001;
-                                mapCosts[5126] = 32001;
-                                mapCosts[5127] = 32001;
+                        case 32:
                                 mapCosts[5128] = 32001;
                                 mapCosts[5129] = 32001;
                                 mapCosts[5130] = 32001;
@@ -3872,15 +3476,15 @@ public class BugNavLmx {
                                 mapCosts[5178] = 32001;
                                 mapCosts[5179] = 32001;
                                 mapCosts[5180] = 32001;
+                                mapCosts[5181] = 32001;
+                                mapCosts[5182] = 32001;
+                                mapCosts[5183] = 32001;
+                                mapCosts[5184] = 32001;
+                                mapCosts[5185] = 32001;
+                                mapCosts[5186] = 32001;
+                                mapCosts[5187] = 32001;
                                 break;
-                        case 40:
-                                mapCosts[5249] = 32001;
-                                mapCosts[5250] = 32001;
-                                mapCosts[5251] = 32001;
-                                mapCosts[5252] = 32001;
-                                mapCosts[5253] = 32001;
-                                mapCosts[5254] = 32001;
-                                mapCosts[5255] = 32001;
+                        case 33:
                                 mapCosts[5256] = 32001;
                                 mapCosts[5257] = 32001;
                                 mapCosts[5258] = 32001;
@@ -3934,15 +3538,15 @@ public class BugNavLmx {
                                 mapCosts[5306] = 32001;
                                 mapCosts[5307] = 32001;
                                 mapCosts[5308] = 32001;
+                                mapCosts[5309] = 32001;
+                                mapCosts[5310] = 32001;
+                                mapCosts[5311] = 32001;
+                                mapCosts[5312] = 32001;
+                                mapCosts[5313] = 32001;
+                                mapCosts[5314] = 32001;
+                                mapCosts[5315] = 32001;
                                 break;
-                        case 41:
-                                mapCosts[5377] = 32001;
-                                mapCosts[5378] = 32001;
-                                mapCosts[5379] = 32001;
-                                mapCosts[5380] = 32001;
-                                mapCosts[5381] = 32001;
-                                mapCosts[5382] = 32001;
-                                mapCosts[5383] = 32001;
+                        case 34:
                                 mapCosts[5384] = 32001;
                                 mapCosts[5385] = 32001;
                                 mapCosts[5386] = 32001;
@@ -3996,15 +3600,15 @@ public class BugNavLmx {
                                 mapCosts[5434] = 32001;
                                 mapCosts[5435] = 32001;
                                 mapCosts[5436] = 32001;
+                                mapCosts[5437] = 32001;
+                                mapCosts[5438] = 32001;
+                                mapCosts[5439] = 32001;
+                                mapCosts[5440] = 32001;
+                                mapCosts[5441] = 32001;
+                                mapCosts[5442] = 32001;
+                                mapCosts[5443] = 32001;
                                 break;
-                        case 42:
-                                mapCosts[5505] = 32001;
-                                mapCosts[5506] = 32001;
-                                mapCosts[5507] = 32001;
-                                mapCosts[5508] = 32001;
-                                mapCosts[5509] = 32001;
-                                mapCosts[5510] = 32001;
-                                mapCosts[5511] = 32001;
+                        case 35:
                                 mapCosts[5512] = 32001;
                                 mapCosts[5513] = 32001;
                                 mapCosts[5514] = 32001;
@@ -4058,15 +3662,15 @@ public class BugNavLmx {
                                 mapCosts[5562] = 32001;
                                 mapCosts[5563] = 32001;
                                 mapCosts[5564] = 32001;
+                                mapCosts[5565] = 32001;
+                                mapCosts[5566] = 32001;
+                                mapCosts[5567] = 32001;
+                                mapCosts[5568] = 32001;
+                                mapCosts[5569] = 32001;
+                                mapCosts[5570] = 32001;
+                                mapCosts[5571] = 32001;
                                 break;
-                        case 43:
-                                mapCosts[5633] = 32001;
-                                mapCosts[5634] = 32001;
-                                mapCosts[5635] = 32001;
-                                mapCosts[5636] = 32001;
-                                mapCosts[5637] = 32001;
-                                mapCosts[5638] = 32001;
-                                mapCosts[5639] = 32001;
+                        case 36:
                                 mapCosts[5640] = 32001;
                                 mapCosts[5641] = 32001;
                                 mapCosts[5642] = 32001;
@@ -4120,15 +3724,15 @@ public class BugNavLmx {
                                 mapCosts[5690] = 32001;
                                 mapCosts[5691] = 32001;
                                 mapCosts[5692] = 32001;
+                                mapCosts[5693] = 32001;
+                                mapCosts[5694] = 32001;
+                                mapCosts[5695] = 32001;
+                                mapCosts[5696] = 32001;
+                                mapCosts[5697] = 32001;
+                                mapCosts[5698] = 32001;
+                                mapCosts[5699] = 32001;
                                 break;
-                        case 44:
-                                mapCosts[5761] = 32001;
-                                mapCosts[5762] = 32001;
-                                mapCosts[5763] = 32001;
-                                mapCosts[5764] = 32001;
-                                mapCosts[5765] = 32001;
-                                mapCosts[5766] = 32001;
-                                mapCosts[5767] = 32001;
+                        case 37:
                                 mapCosts[5768] = 32001;
                                 mapCosts[5769] = 32001;
                                 mapCosts[5770] = 32001;
@@ -4182,15 +3786,15 @@ public class BugNavLmx {
                                 mapCosts[5818] = 32001;
                                 mapCosts[5819] = 32001;
                                 mapCosts[5820] = 32001;
+                                mapCosts[5821] = 32001;
+                                mapCosts[5822] = 32001;
+                                mapCosts[5823] = 32001;
+                                mapCosts[5824] = 32001;
+                                mapCosts[5825] = 32001;
+                                mapCosts[5826] = 32001;
+                                mapCosts[5827] = 32001;
                                 break;
-                        case 45:
-                                mapCosts[5889] = 32001;
-                                mapCosts[5890] = 32001;
-                                mapCosts[5891] = 32001;
-                                mapCosts[5892] = 32001;
-                                mapCosts[5893] = 32001;
-                                mapCosts[5894] = 32001;
-                                mapCosts[5895] = 32001;
+                        case 38:
                                 mapCosts[5896] = 32001;
                                 mapCosts[5897] = 32001;
                                 mapCosts[5898] = 32001;
@@ -4244,15 +3848,15 @@ public class BugNavLmx {
                                 mapCosts[5946] = 32001;
                                 mapCosts[5947] = 32001;
                                 mapCosts[5948] = 32001;
+                                mapCosts[5949] = 32001;
+                                mapCosts[5950] = 32001;
+                                mapCosts[5951] = 32001;
+                                mapCosts[5952] = 32001;
+                                mapCosts[5953] = 32001;
+                                mapCosts[5954] = 32001;
+                                mapCosts[5955] = 32001;
                                 break;
-                        case 46:
-                                mapCosts[6017] = 32001;
-                                mapCosts[6018] = 32001;
-                                mapCosts[6019] = 32001;
-                                mapCosts[6020] = 32001;
-                                mapCosts[6021] = 32001;
-                                mapCosts[6022] = 32001;
-                                mapCosts[6023] = 32001;
+                        case 39:
                                 mapCosts[6024] = 32001;
                                 mapCosts[6025] = 32001;
                                 mapCosts[6026] = 32001;
@@ -4306,15 +3910,15 @@ public class BugNavLmx {
                                 mapCosts[6074] = 32001;
                                 mapCosts[6075] = 32001;
                                 mapCosts[6076] = 32001;
+                                mapCosts[6077] = 32001;
+                                mapCosts[6078] = 32001;
+                                mapCosts[6079] = 32001;
+                                mapCosts[6080] = 32001;
+                                mapCosts[6081] = 32001;
+                                mapCosts[6082] = 32001;
+                                mapCosts[6083] = 32001;
                                 break;
-                        case 47:
-                                mapCosts[6145] = 32001;
-                                mapCosts[6146] = 32001;
-                                mapCosts[6147] = 32001;
-                                mapCosts[6148] = 32001;
-                                mapCosts[6149] = 32001;
-                                mapCosts[6150] = 32001;
-                                mapCosts[6151] = 32001;
+                        case 40:
                                 mapCosts[6152] = 32001;
                                 mapCosts[6153] = 32001;
                                 mapCosts[6154] = 32001;
@@ -4368,15 +3972,15 @@ public class BugNavLmx {
                                 mapCosts[6202] = 32001;
                                 mapCosts[6203] = 32001;
                                 mapCosts[6204] = 32001;
+                                mapCosts[6205] = 32001;
+                                mapCosts[6206] = 32001;
+                                mapCosts[6207] = 32001;
+                                mapCosts[6208] = 32001;
+                                mapCosts[6209] = 32001;
+                                mapCosts[6210] = 32001;
+                                mapCosts[6211] = 32001;
                                 break;
-                        case 48:
-                                mapCosts[6273] = 32001;
-                                mapCosts[6274] = 32001;
-                                mapCosts[6275] = 32001;
-                                mapCosts[6276] = 32001;
-                                mapCosts[6277] = 32001;
-                                mapCosts[6278] = 32001;
-                                mapCosts[6279] = 32001;
+                        case 41:
                                 mapCosts[6280] = 32001;
                                 mapCosts[6281] = 32001;
                                 mapCosts[6282] = 32001;
@@ -4430,15 +4034,15 @@ public class BugNavLmx {
                                 mapCosts[6330] = 32001;
                                 mapCosts[6331] = 32001;
                                 mapCosts[6332] = 32001;
+                                mapCosts[6333] = 32001;
+                                mapCosts[6334] = 32001;
+                                mapCosts[6335] = 32001;
+                                mapCosts[6336] = 32001;
+                                mapCosts[6337] = 32001;
+                                mapCosts[6338] = 32001;
+                                mapCosts[6339] = 32001;
                                 break;
-                        case 49:
-                                mapCosts[6401] = 32001;
-                                mapCosts[6402] = 32001;
-                                mapCosts[6403] = 32001;
-                                mapCosts[6404] = 32001;
-                                mapCosts[6405] = 32001;
-                                mapCosts[6406] = 32001;
-                                mapCosts[6407] = 32001;
+                        case 42:
                                 mapCosts[6408] = 32001;
                                 mapCosts[6409] = 32001;
                                 mapCosts[6410] = 32001;
@@ -4492,15 +4096,15 @@ public class BugNavLmx {
                                 mapCosts[6458] = 32001;
                                 mapCosts[6459] = 32001;
                                 mapCosts[6460] = 32001;
+                                mapCosts[6461] = 32001;
+                                mapCosts[6462] = 32001;
+                                mapCosts[6463] = 32001;
+                                mapCosts[6464] = 32001;
+                                mapCosts[6465] = 32001;
+                                mapCosts[6466] = 32001;
+                                mapCosts[6467] = 32001;
                                 break;
-                        case 50:
-                                mapCosts[6529] = 32001;
-                                mapCosts[6530] = 32001;
-                                mapCosts[6531] = 32001;
-                                mapCosts[6532] = 32001;
-                                mapCosts[6533] = 32001;
-                                mapCosts[6534] = 32001;
-                                mapCosts[6535] = 32001;
+                        case 43:
                                 mapCosts[6536] = 32001;
                                 mapCosts[6537] = 32001;
                                 mapCosts[6538] = 32001;
@@ -4554,15 +4158,15 @@ public class BugNavLmx {
                                 mapCosts[6586] = 32001;
                                 mapCosts[6587] = 32001;
                                 mapCosts[6588] = 32001;
+                                mapCosts[6589] = 32001;
+                                mapCosts[6590] = 32001;
+                                mapCosts[6591] = 32001;
+                                mapCosts[6592] = 32001;
+                                mapCosts[6593] = 32001;
+                                mapCosts[6594] = 32001;
+                                mapCosts[6595] = 32001;
                                 break;
-                        case 51:
-                                mapCosts[6657] = 32001;
-                                mapCosts[6658] = 32001;
-                                mapCosts[6659] = 32001;
-                                mapCosts[6660] = 32001;
-                                mapCosts[6661] = 32001;
-                                mapCosts[6662] = 32001;
-                                mapCosts[6663] = 32001;
+                        case 44:
                                 mapCosts[6664] = 32001;
                                 mapCosts[6665] = 32001;
                                 mapCosts[6666] = 32001;
@@ -4616,15 +4220,15 @@ public class BugNavLmx {
                                 mapCosts[6714] = 32001;
                                 mapCosts[6715] = 32001;
                                 mapCosts[6716] = 32001;
+                                mapCosts[6717] = 32001;
+                                mapCosts[6718] = 32001;
+                                mapCosts[6719] = 32001;
+                                mapCosts[6720] = 32001;
+                                mapCosts[6721] = 32001;
+                                mapCosts[6722] = 32001;
+                                mapCosts[6723] = 32001;
                                 break;
-                        case 52:
-                                mapCosts[6785] = 32001;
-                                mapCosts[6786] = 32001;
-                                mapCosts[6787] = 32001;
-                                mapCosts[6788] = 32001;
-                                mapCosts[6789] = 32001;
-                                mapCosts[6790] = 32001;
-                                mapCosts[6791] = 32001;
+                        case 45:
                                 mapCosts[6792] = 32001;
                                 mapCosts[6793] = 32001;
                                 mapCosts[6794] = 32001;
@@ -4678,15 +4282,15 @@ public class BugNavLmx {
                                 mapCosts[6842] = 32001;
                                 mapCosts[6843] = 32001;
                                 mapCosts[6844] = 32001;
+                                mapCosts[6845] = 32001;
+                                mapCosts[6846] = 32001;
+                                mapCosts[6847] = 32001;
+                                mapCosts[6848] = 32001;
+                                mapCosts[6849] = 32001;
+                                mapCosts[6850] = 32001;
+                                mapCosts[6851] = 32001;
                                 break;
-                        case 53:
-                                mapCosts[6913] = 32001;
-                                mapCosts[6914] = 32001;
-                                mapCosts[6915] = 32001;
-                                mapCosts[6916] = 32001;
-                                mapCosts[6917] = 32001;
-                                mapCosts[6918] = 32001;
-                                mapCosts[6919] = 32001;
+                        case 46:
                                 mapCosts[6920] = 32001;
                                 mapCosts[6921] = 32001;
                                 mapCosts[6922] = 32001;
@@ -4740,15 +4344,15 @@ public class BugNavLmx {
                                 mapCosts[6970] = 32001;
                                 mapCosts[6971] = 32001;
                                 mapCosts[6972] = 32001;
+                                mapCosts[6973] = 32001;
+                                mapCosts[6974] = 32001;
+                                mapCosts[6975] = 32001;
+                                mapCosts[6976] = 32001;
+                                mapCosts[6977] = 32001;
+                                mapCosts[6978] = 32001;
+                                mapCosts[6979] = 32001;
                                 break;
-                        case 54:
-                                mapCosts[7041] = 32001;
-                                mapCosts[7042] = 32001;
-                                mapCosts[7043] = 32001;
-                                mapCosts[7044] = 32001;
-                                mapCosts[7045] = 32001;
-                                mapCosts[7046] = 32001;
-                                mapCosts[7047] = 32001;
+                        case 47:
                                 mapCosts[7048] = 32001;
                                 mapCosts[7049] = 32001;
                                 mapCosts[7050] = 32001;
@@ -4802,15 +4406,15 @@ public class BugNavLmx {
                                 mapCosts[7098] = 32001;
                                 mapCosts[7099] = 32001;
                                 mapCosts[7100] = 32001;
+                                mapCosts[7101] = 32001;
+                                mapCosts[7102] = 32001;
+                                mapCosts[7103] = 32001;
+                                mapCosts[7104] = 32001;
+                                mapCosts[7105] = 32001;
+                                mapCosts[7106] = 32001;
+                                mapCosts[7107] = 32001;
                                 break;
-                        case 55:
-                                mapCosts[7169] = 32001;
-                                mapCosts[7170] = 32001;
-                                mapCosts[7171] = 32001;
-                                mapCosts[7172] = 32001;
-                                mapCosts[7173] = 32001;
-                                mapCosts[7174] = 32001;
-                                mapCosts[7175] = 32001;
+                        case 48:
                                 mapCosts[7176] = 32001;
                                 mapCosts[7177] = 32001;
                                 mapCosts[7178] = 32001;
@@ -4864,15 +4468,15 @@ public class BugNavLmx {
                                 mapCosts[7226] = 32001;
                                 mapCosts[7227] = 32001;
                                 mapCosts[7228] = 32001;
+                                mapCosts[7229] = 32001;
+                                mapCosts[7230] = 32001;
+                                mapCosts[7231] = 32001;
+                                mapCosts[7232] = 32001;
+                                mapCosts[7233] = 32001;
+                                mapCosts[7234] = 32001;
+                                mapCosts[7235] = 32001;
                                 break;
-                        case 56:
-                                mapCosts[7297] = 32001;
-                                mapCosts[7298] = 32001;
-                                mapCosts[7299] = 32001;
-                                mapCosts[7300] = 32001;
-                                mapCosts[7301] = 32001;
-                                mapCosts[7302] = 32001;
-                                mapCosts[7303] = 32001;
+                        case 49:
                                 mapCosts[7304] = 32001;
                                 mapCosts[7305] = 32001;
                                 mapCosts[7306] = 32001;
@@ -4926,15 +4530,15 @@ public class BugNavLmx {
                                 mapCosts[7354] = 32001;
                                 mapCosts[7355] = 32001;
                                 mapCosts[7356] = 32001;
+                                mapCosts[7357] = 32001;
+                                mapCosts[7358] = 32001;
+                                mapCosts[7359] = 32001;
+                                mapCosts[7360] = 32001;
+                                mapCosts[7361] = 32001;
+                                mapCosts[7362] = 32001;
+                                mapCosts[7363] = 32001;
                                 break;
-                        case 57:
-                                mapCosts[7425] = 32001;
-                                mapCosts[7426] = 32001;
-                                mapCosts[7427] = 32001;
-                                mapCosts[7428] = 32001;
-                                mapCosts[7429] = 32001;
-                                mapCosts[7430] = 32001;
-                                mapCosts[7431] = 32001;
+                        case 50:
                                 mapCosts[7432] = 32001;
                                 mapCosts[7433] = 32001;
                                 mapCosts[7434] = 32001;
@@ -4988,15 +4592,15 @@ public class BugNavLmx {
                                 mapCosts[7482] = 32001;
                                 mapCosts[7483] = 32001;
                                 mapCosts[7484] = 32001;
+                                mapCosts[7485] = 32001;
+                                mapCosts[7486] = 32001;
+                                mapCosts[7487] = 32001;
+                                mapCosts[7488] = 32001;
+                                mapCosts[7489] = 32001;
+                                mapCosts[7490] = 32001;
+                                mapCosts[7491] = 32001;
                                 break;
-                        case 58:
-                                mapCosts[7553] = 32001;
-                                mapCosts[7554] = 32001;
-                                mapCosts[7555] = 32001;
-                                mapCosts[7556] = 32001;
-                                mapCosts[7557] = 32001;
-                                mapCosts[7558] = 32001;
-                                mapCosts[7559] = 32001;
+                        case 51:
                                 mapCosts[7560] = 32001;
                                 mapCosts[7561] = 32001;
                                 mapCosts[7562] = 32001;
@@ -5050,15 +4654,15 @@ public class BugNavLmx {
                                 mapCosts[7610] = 32001;
                                 mapCosts[7611] = 32001;
                                 mapCosts[7612] = 32001;
+                                mapCosts[7613] = 32001;
+                                mapCosts[7614] = 32001;
+                                mapCosts[7615] = 32001;
+                                mapCosts[7616] = 32001;
+                                mapCosts[7617] = 32001;
+                                mapCosts[7618] = 32001;
+                                mapCosts[7619] = 32001;
                                 break;
-                        case 59:
-                                mapCosts[7681] = 32001;
-                                mapCosts[7682] = 32001;
-                                mapCosts[7683] = 32001;
-                                mapCosts[7684] = 32001;
-                                mapCosts[7685] = 32001;
-                                mapCosts[7686] = 32001;
-                                mapCosts[7687] = 32001;
+                        case 52:
                                 mapCosts[7688] = 32001;
                                 mapCosts[7689] = 32001;
                                 mapCosts[7690] = 32001;
@@ -5112,15 +4716,15 @@ public class BugNavLmx {
                                 mapCosts[7738] = 32001;
                                 mapCosts[7739] = 32001;
                                 mapCosts[7740] = 32001;
+                                mapCosts[7741] = 32001;
+                                mapCosts[7742] = 32001;
+                                mapCosts[7743] = 32001;
+                                mapCosts[7744] = 32001;
+                                mapCosts[7745] = 32001;
+                                mapCosts[7746] = 32001;
+                                mapCosts[7747] = 32001;
                                 break;
-                        case 60:
-                                mapCosts[7809] = 32001;
-                                mapCosts[7810] = 32001;
-                                mapCosts[7811] = 32001;
-                                mapCosts[7812] = 32001;
-                                mapCosts[7813] = 32001;
-                                mapCosts[7814] = 32001;
-                                mapCosts[7815] = 32001;
+                        case 53:
                                 mapCosts[7816] = 32001;
                                 mapCosts[7817] = 32001;
                                 mapCosts[7818] = 32001;
@@ -5174,6 +4778,447 @@ public class BugNavLmx {
                                 mapCosts[7866] = 32001;
                                 mapCosts[7867] = 32001;
                                 mapCosts[7868] = 32001;
+                                mapCosts[7869] = 32001;
+                                mapCosts[7870] = 32001;
+                                mapCosts[7871] = 32001;
+                                mapCosts[7872] = 32001;
+                                mapCosts[7873] = 32001;
+                                mapCosts[7874] = 32001;
+                                mapCosts[7875] = 32001;
+                                break;
+                        case 54:
+                                mapCosts[7944] = 32001;
+                                mapCosts[7945] = 32001;
+                                mapCosts[7946] = 32001;
+                                mapCosts[7947] = 32001;
+                                mapCosts[7948] = 32001;
+                                mapCosts[7949] = 32001;
+                                mapCosts[7950] = 32001;
+                                mapCosts[7951] = 32001;
+                                mapCosts[7952] = 32001;
+                                mapCosts[7953] = 32001;
+                                mapCosts[7954] = 32001;
+                                mapCosts[7955] = 32001;
+                                mapCosts[7956] = 32001;
+                                mapCosts[7957] = 32001;
+                                mapCosts[7958] = 32001;
+                                mapCosts[7959] = 32001;
+                                mapCosts[7960] = 32001;
+                                mapCosts[7961] = 32001;
+                                mapCosts[7962] = 32001;
+                                mapCosts[7963] = 32001;
+                                mapCosts[7964] = 32001;
+                                mapCosts[7965] = 32001;
+                                mapCosts[7966] = 32001;
+                                mapCosts[7967] = 32001;
+                                mapCosts[7968] = 32001;
+                                mapCosts[7969] = 32001;
+                                mapCosts[7970] = 32001;
+                                mapCosts[7971] = 32001;
+                                mapCosts[7972] = 32001;
+                                mapCosts[7973] = 32001;
+                                mapCosts[7974] = 32001;
+                                mapCosts[7975] = 32001;
+                                mapCosts[7976] = 32001;
+                                mapCosts[7977] = 32001;
+                                mapCosts[7978] = 32001;
+                                mapCosts[7979] = 32001;
+                                mapCosts[7980] = 32001;
+                                mapCosts[7981] = 32001;
+                                mapCosts[7982] = 32001;
+                                mapCosts[7983] = 32001;
+                                mapCosts[7984] = 32001;
+                                mapCosts[7985] = 32001;
+                                mapCosts[7986] = 32001;
+                                mapCosts[7987] = 32001;
+                                mapCosts[7988] = 32001;
+                                mapCosts[7989] = 32001;
+                                mapCosts[7990] = 32001;
+                                mapCosts[7991] = 32001;
+                                mapCosts[7992] = 32001;
+                                mapCosts[7993] = 32001;
+                                mapCosts[7994] = 32001;
+                                mapCosts[7995] = 32001;
+                                mapCosts[7996] = 32001;
+                                mapCosts[7997] = 32001;
+                                mapCosts[7998] = 32001;
+                                mapCosts[7999] = 32001;
+                                mapCosts[8000] = 32001;
+                                mapCosts[8001] = 32001;
+                                mapCosts[8002] = 32001;
+                                mapCosts[8003] = 32001;
+                                break;
+                        case 55:
+                                mapCosts[8072] = 32001;
+                                mapCosts[8073] = 32001;
+                                mapCosts[8074] = 32001;
+                                mapCosts[8075] = 32001;
+                                mapCosts[8076] = 32001;
+                                mapCosts[8077] = 32001;
+                                mapCosts[8078] = 32001;
+                                mapCosts[8079] = 32001;
+                                mapCosts[8080] = 32001;
+                                mapCosts[8081] = 32001;
+                                mapCosts[8082] = 32001;
+                                mapCosts[8083] = 32001;
+                                mapCosts[8084] = 32001;
+                                mapCosts[8085] = 32001;
+                                mapCosts[8086] = 32001;
+                                mapCosts[8087] = 32001;
+                                mapCosts[8088] = 32001;
+                                mapCosts[8089] = 32001;
+                                mapCosts[8090] = 32001;
+                                mapCosts[8091] = 32001;
+                                mapCosts[8092] = 32001;
+                                mapCosts[8093] = 32001;
+                                mapCosts[8094] = 32001;
+                                mapCosts[8095] = 32001;
+                                mapCosts[8096] = 32001;
+                                mapCosts[8097] = 32001;
+                                mapCosts[8098] = 32001;
+                                mapCosts[8099] = 32001;
+                                mapCosts[8100] = 32001;
+                                mapCosts[8101] = 32001;
+                                mapCosts[8102] = 32001;
+                                mapCosts[8103] = 32001;
+                                mapCosts[8104] = 32001;
+                                mapCosts[8105] = 32001;
+                                mapCosts[8106] = 32001;
+                                mapCosts[8107] = 32001;
+                                mapCosts[8108] = 32001;
+                                mapCosts[8109] = 32001;
+                                mapCosts[8110] = 32001;
+                                mapCosts[8111] = 32001;
+                                mapCosts[8112] = 32001;
+                                mapCosts[8113] = 32001;
+                                mapCosts[8114] = 32001;
+                                mapCosts[8115] = 32001;
+                                mapCosts[8116] = 32001;
+                                mapCosts[8117] = 32001;
+                                mapCosts[8118] = 32001;
+                                mapCosts[8119] = 32001;
+                                mapCosts[8120] = 32001;
+                                mapCosts[8121] = 32001;
+                                mapCosts[8122] = 32001;
+                                mapCosts[8123] = 32001;
+                                mapCosts[8124] = 32001;
+                                mapCosts[8125] = 32001;
+                                mapCosts[8126] = 32001;
+                                mapCosts[8127] = 32001;
+                                mapCosts[8128] = 32001;
+                                mapCosts[8129] = 32001;
+                                mapCosts[8130] = 32001;
+                                mapCosts[8131] = 32001;
+                                break;
+                        case 56:
+                                mapCosts[8200] = 32001;
+                                mapCosts[8201] = 32001;
+                                mapCosts[8202] = 32001;
+                                mapCosts[8203] = 32001;
+                                mapCosts[8204] = 32001;
+                                mapCosts[8205] = 32001;
+                                mapCosts[8206] = 32001;
+                                mapCosts[8207] = 32001;
+                                mapCosts[8208] = 32001;
+                                mapCosts[8209] = 32001;
+                                mapCosts[8210] = 32001;
+                                mapCosts[8211] = 32001;
+                                mapCosts[8212] = 32001;
+                                mapCosts[8213] = 32001;
+                                mapCosts[8214] = 32001;
+                                mapCosts[8215] = 32001;
+                                mapCosts[8216] = 32001;
+                                mapCosts[8217] = 32001;
+                                mapCosts[8218] = 32001;
+                                mapCosts[8219] = 32001;
+                                mapCosts[8220] = 32001;
+                                mapCosts[8221] = 32001;
+                                mapCosts[8222] = 32001;
+                                mapCosts[8223] = 32001;
+                                mapCosts[8224] = 32001;
+                                mapCosts[8225] = 32001;
+                                mapCosts[8226] = 32001;
+                                mapCosts[8227] = 32001;
+                                mapCosts[8228] = 32001;
+                                mapCosts[8229] = 32001;
+                                mapCosts[8230] = 32001;
+                                mapCosts[8231] = 32001;
+                                mapCosts[8232] = 32001;
+                                mapCosts[8233] = 32001;
+                                mapCosts[8234] = 32001;
+                                mapCosts[8235] = 32001;
+                                mapCosts[8236] = 32001;
+                                mapCosts[8237] = 32001;
+                                mapCosts[8238] = 32001;
+                                mapCosts[8239] = 32001;
+                                mapCosts[8240] = 32001;
+                                mapCosts[8241] = 32001;
+                                mapCosts[8242] = 32001;
+                                mapCosts[8243] = 32001;
+                                mapCosts[8244] = 32001;
+                                mapCosts[8245] = 32001;
+                                mapCosts[8246] = 32001;
+                                mapCosts[8247] = 32001;
+                                mapCosts[8248] = 32001;
+                                mapCosts[8249] = 32001;
+                                mapCosts[8250] = 32001;
+                                mapCosts[8251] = 32001;
+                                mapCosts[8252] = 32001;
+                                mapCosts[8253] = 32001;
+                                mapCosts[8254] = 32001;
+                                mapCosts[8255] = 32001;
+                                mapCosts[8256] = 32001;
+                                mapCosts[8257] = 32001;
+                                mapCosts[8258] = 32001;
+                                mapCosts[8259] = 32001;
+                                break;
+                        case 57:
+                                mapCosts[8328] = 32001;
+                                mapCosts[8329] = 32001;
+                                mapCosts[8330] = 32001;
+                                mapCosts[8331] = 32001;
+                                mapCosts[8332] = 32001;
+                                mapCosts[8333] = 32001;
+                                mapCosts[8334] = 32001;
+                                mapCosts[8335] = 32001;
+                                mapCosts[8336] = 32001;
+                                mapCosts[8337] = 32001;
+                                mapCosts[8338] = 32001;
+                                mapCosts[8339] = 32001;
+                                mapCosts[8340] = 32001;
+                                mapCosts[8341] = 32001;
+                                mapCosts[8342] = 32001;
+                                mapCosts[8343] = 32001;
+                                mapCosts[8344] = 32001;
+                                mapCosts[8345] = 32001;
+                                mapCosts[8346] = 32001;
+                                mapCosts[8347] = 32001;
+                                mapCosts[8348] = 32001;
+                                mapCosts[8349] = 32001;
+                                mapCosts[8350] = 32001;
+                                mapCosts[8351] = 32001;
+                                mapCosts[8352] = 32001;
+                                mapCosts[8353] = 32001;
+                                mapCosts[8354] = 32001;
+                                mapCosts[8355] = 32001;
+                                mapCosts[8356] = 32001;
+                                mapCosts[8357] = 32001;
+                                mapCosts[8358] = 32001;
+                                mapCosts[8359] = 32001;
+                                mapCosts[8360] = 32001;
+                                mapCosts[8361] = 32001;
+                                mapCosts[8362] = 32001;
+                                mapCosts[8363] = 32001;
+                                mapCosts[8364] = 32001;
+                                mapCosts[8365] = 32001;
+                                mapCosts[8366] = 32001;
+                                mapCosts[8367] = 32001;
+                                mapCosts[8368] = 32001;
+                                mapCosts[8369] = 32001;
+                                mapCosts[8370] = 32001;
+                                mapCosts[8371] = 32001;
+                                mapCosts[8372] = 32001;
+                                mapCosts[8373] = 32001;
+                                mapCosts[8374] = 32001;
+                                mapCosts[8375] = 32001;
+                                mapCosts[8376] = 32001;
+                                mapCosts[8377] = 32001;
+                                mapCosts[8378] = 32001;
+                                mapCosts[8379] = 32001;
+                                mapCosts[8380] = 32001;
+                                mapCosts[8381] = 32001;
+                                mapCosts[8382] = 32001;
+                                mapCosts[8383] = 32001;
+                                mapCosts[8384] = 32001;
+                                mapCosts[8385] = 32001;
+                                mapCosts[8386] = 32001;
+                                mapCosts[8387] = 32001;
+                                break;
+                        case 58:
+                                mapCosts[8456] = 32001;
+                                mapCosts[8457] = 32001;
+                                mapCosts[8458] = 32001;
+                                mapCosts[8459] = 32001;
+                                mapCosts[8460] = 32001;
+                                mapCosts[8461] = 32001;
+                                mapCosts[8462] = 32001;
+                                mapCosts[8463] = 32001;
+                                mapCosts[8464] = 32001;
+                                mapCosts[8465] = 32001;
+                                mapCosts[8466] = 32001;
+                                mapCosts[8467] = 32001;
+                                mapCosts[8468] = 32001;
+                                mapCosts[8469] = 32001;
+                                mapCosts[8470] = 32001;
+                                mapCosts[8471] = 32001;
+                                mapCosts[8472] = 32001;
+                                mapCosts[8473] = 32001;
+                                mapCosts[8474] = 32001;
+                                mapCosts[8475] = 32001;
+                                mapCosts[8476] = 32001;
+                                mapCosts[8477] = 32001;
+                                mapCosts[8478] = 32001;
+                                mapCosts[8479] = 32001;
+                                mapCosts[8480] = 32001;
+                                mapCosts[8481] = 32001;
+                                mapCosts[8482] = 32001;
+                                mapCosts[8483] = 32001;
+                                mapCosts[8484] = 32001;
+                                mapCosts[8485] = 32001;
+                                mapCosts[8486] = 32001;
+                                mapCosts[8487] = 32001;
+                                mapCosts[8488] = 32001;
+                                mapCosts[8489] = 32001;
+                                mapCosts[8490] = 32001;
+                                mapCosts[8491] = 32001;
+                                mapCosts[8492] = 32001;
+                                mapCosts[8493] = 32001;
+                                mapCosts[8494] = 32001;
+                                mapCosts[8495] = 32001;
+                                mapCosts[8496] = 32001;
+                                mapCosts[8497] = 32001;
+                                mapCosts[8498] = 32001;
+                                mapCosts[8499] = 32001;
+                                mapCosts[8500] = 32001;
+                                mapCosts[8501] = 32001;
+                                mapCosts[8502] = 32001;
+                                mapCosts[8503] = 32001;
+                                mapCosts[8504] = 32001;
+                                mapCosts[8505] = 32001;
+                                mapCosts[8506] = 32001;
+                                mapCosts[8507] = 32001;
+                                mapCosts[8508] = 32001;
+                                mapCosts[8509] = 32001;
+                                mapCosts[8510] = 32001;
+                                mapCosts[8511] = 32001;
+                                mapCosts[8512] = 32001;
+                                mapCosts[8513] = 32001;
+                                mapCosts[8514] = 32001;
+                                mapCosts[8515] = 32001;
+                                break;
+                        case 59:
+                                mapCosts[8584] = 32001;
+                                mapCosts[8585] = 32001;
+                                mapCosts[8586] = 32001;
+                                mapCosts[8587] = 32001;
+                                mapCosts[8588] = 32001;
+                                mapCosts[8589] = 32001;
+                                mapCosts[8590] = 32001;
+                                mapCosts[8591] = 32001;
+                                mapCosts[8592] = 32001;
+                                mapCosts[8593] = 32001;
+                                mapCosts[8594] = 32001;
+                                mapCosts[8595] = 32001;
+                                mapCosts[8596] = 32001;
+                                mapCosts[8597] = 32001;
+                                mapCosts[8598] = 32001;
+                                mapCosts[8599] = 32001;
+                                mapCosts[8600] = 32001;
+                                mapCosts[8601] = 32001;
+                                mapCosts[8602] = 32001;
+                                mapCosts[8603] = 32001;
+                                mapCosts[8604] = 32001;
+                                mapCosts[8605] = 32001;
+                                mapCosts[8606] = 32001;
+                                mapCosts[8607] = 32001;
+                                mapCosts[8608] = 32001;
+                                mapCosts[8609] = 32001;
+                                mapCosts[8610] = 32001;
+                                mapCosts[8611] = 32001;
+                                mapCosts[8612] = 32001;
+                                mapCosts[8613] = 32001;
+                                mapCosts[8614] = 32001;
+                                mapCosts[8615] = 32001;
+                                mapCosts[8616] = 32001;
+                                mapCosts[8617] = 32001;
+                                mapCosts[8618] = 32001;
+                                mapCosts[8619] = 32001;
+                                mapCosts[8620] = 32001;
+                                mapCosts[8621] = 32001;
+                                mapCosts[8622] = 32001;
+                                mapCosts[8623] = 32001;
+                                mapCosts[8624] = 32001;
+                                mapCosts[8625] = 32001;
+                                mapCosts[8626] = 32001;
+                                mapCosts[8627] = 32001;
+                                mapCosts[8628] = 32001;
+                                mapCosts[8629] = 32001;
+                                mapCosts[8630] = 32001;
+                                mapCosts[8631] = 32001;
+                                mapCosts[8632] = 32001;
+                                mapCosts[8633] = 32001;
+                                mapCosts[8634] = 32001;
+                                mapCosts[8635] = 32001;
+                                mapCosts[8636] = 32001;
+                                mapCosts[8637] = 32001;
+                                mapCosts[8638] = 32001;
+                                mapCosts[8639] = 32001;
+                                mapCosts[8640] = 32001;
+                                mapCosts[8641] = 32001;
+                                mapCosts[8642] = 32001;
+                                mapCosts[8643] = 32001;
+                                break;
+                        case 60:
+                                mapCosts[8712] = 32001;
+                                mapCosts[8713] = 32001;
+                                mapCosts[8714] = 32001;
+                                mapCosts[8715] = 32001;
+                                mapCosts[8716] = 32001;
+                                mapCosts[8717] = 32001;
+                                mapCosts[8718] = 32001;
+                                mapCosts[8719] = 32001;
+                                mapCosts[8720] = 32001;
+                                mapCosts[8721] = 32001;
+                                mapCosts[8722] = 32001;
+                                mapCosts[8723] = 32001;
+                                mapCosts[8724] = 32001;
+                                mapCosts[8725] = 32001;
+                                mapCosts[8726] = 32001;
+                                mapCosts[8727] = 32001;
+                                mapCosts[8728] = 32001;
+                                mapCosts[8729] = 32001;
+                                mapCosts[8730] = 32001;
+                                mapCosts[8731] = 32001;
+                                mapCosts[8732] = 32001;
+                                mapCosts[8733] = 32001;
+                                mapCosts[8734] = 32001;
+                                mapCosts[8735] = 32001;
+                                mapCosts[8736] = 32001;
+                                mapCosts[8737] = 32001;
+                                mapCosts[8738] = 32001;
+                                mapCosts[8739] = 32001;
+                                mapCosts[8740] = 32001;
+                                mapCosts[8741] = 32001;
+                                mapCosts[8742] = 32001;
+                                mapCosts[8743] = 32001;
+                                mapCosts[8744] = 32001;
+                                mapCosts[8745] = 32001;
+                                mapCosts[8746] = 32001;
+                                mapCosts[8747] = 32001;
+                                mapCosts[8748] = 32001;
+                                mapCosts[8749] = 32001;
+                                mapCosts[8750] = 32001;
+                                mapCosts[8751] = 32001;
+                                mapCosts[8752] = 32001;
+                                mapCosts[8753] = 32001;
+                                mapCosts[8754] = 32001;
+                                mapCosts[8755] = 32001;
+                                mapCosts[8756] = 32001;
+                                mapCosts[8757] = 32001;
+                                mapCosts[8758] = 32001;
+                                mapCosts[8759] = 32001;
+                                mapCosts[8760] = 32001;
+                                mapCosts[8761] = 32001;
+                                mapCosts[8762] = 32001;
+                                mapCosts[8763] = 32001;
+                                mapCosts[8764] = 32001;
+                                mapCosts[8765] = 32001;
+                                mapCosts[8766] = 32001;
+                                mapCosts[8767] = 32001;
+                                mapCosts[8768] = 32001;
+                                mapCosts[8769] = 32001;
+                                mapCosts[8770] = 32001;
+                                mapCosts[8771] = 32001;
                                 break;
                         default:
                 throw new IllegalArgumentException("Height " + height + " is not supported, should be between 20 and 60");
@@ -5199,20 +5244,89 @@ public class BugNavLmx {
 
         // Initialize variables
         mode = "DEFAULT";
-        int startXY = startLoc.x + (startLoc.y<<7) + 129;
+        int startXY = startLoc.x + (startLoc.y<<7) + 1032;
         Direction dir = DIRECTIONS[mapResult[startXY]];
 
-        // Check if we can reuse previous path
-        if(lastRoundCalculation + 3 >= rc.getRoundNum() && lastDestination.equals(endLoc)){
+        // Check if we can reuse previous path, or only repair it after the first changed cell
+        int repairFrom = -1;
+        if(REPAIR && pathLength > 0 && lastRoundCalculation + PATH_MAX_AGE >= rc.getRoundNum() && lastDestination.equals(endLoc)){
+            int position = pathPosition[startXY];
+            int index = position & 1023;
+            if((position >> 10) == pathEpoch && index < pathLength - 1){
+                if(firstChangedIndex >= pathLength){
+                    if(Robot.DEBUG && rc.getRoundNum() < 200){System.out.println("Pathfinding: Reuse previous path -> " + dir);}
+                    pathProgress = index;
+                    return dir;
+                }
+                repairFrom = firstChangedIndex - 1 > index ? firstChangedIndex - 1 : index;
+            }
+        }else if(lastRoundCalculation + 3 >= rc.getRoundNum() && lastDestination.equals(endLoc)){
             if(dir != Direction.CENTER){
-                if(rc.getRoundNum() < 200){System.out.println("Pathfinding: Reuse previous path -> " + dir);}
+                if(Robot.DEBUG && rc.getRoundNum() < 200){System.out.println("Pathfinding: Reuse previous path -> " + dir);}
                 lastRoundCalculation = -2;
                 return dir;
             }
         }
+        int pathStart = pathPosition[startXY] & 1023;
+        pathLength = 0;
+
+        // Generate path, or resume the one saved on a previous turn
+        int xyEnd = endLoc.x + (endLoc.y<<7) + 1032;
+        int phase = pendingPhase;
+        pendingPhase = PHASE_NONE;
+        resultCode = 0;
+        int prefixEnd = -1; // Unchanged prefix of a repaired path, restored once the repair is done
+        if(phase != PHASE_NONE && pendingRound + MAX_RESUME_ROUNDS >= rc.getRoundNum() && pendingDestination.equals(endLoc)){
+            if(Robot.DEBUG && rc.getRoundNum() < 200){System.out.println("Pathfinding: Resume phase " + phase + " from round " + pendingRound);}
+            pathStart = pendingPrefixStart;
+            prefixEnd = pendingPrefixEnd;
+            switch(phase){
+                case PHASE_FORWARD:
+                    generatePathTo(savedXyStart, savedXyEnd, MAX_SCORE, true, cost_max_per_cell, maxBytecodeUsed, true);
+                    break;
+                case PHASE_REVERSE:
+                    reversePath(savedXy, savedXyStart, MAX_SCORE, cost_max_per_cell, maxBytecodeUsed, Clock.getBytecodesLeft() - maxBytecodeUsed / 3);
+                    break;
+                default: // PHASE_BACKWARD
+                    generatePathTo(savedXyStart, savedXyEnd, MAX_SCORE, false, cost_max_per_cell, maxBytecodeUsed, true);
+            }
+        }else if(repairFrom >= 0){
+            if(Robot.DEBUG && rc.getRoundNum() < 200){System.out.println("Pathfinding: Repair path from index " + repairFrom + ", current index " + pathStart);}
+            prefixEnd = repairFrom;
+            generatePathTo(pathCells[repairFrom], xyEnd, MAX_SCORE, true, cost_max_per_cell, maxBytecodeUsed, false);
+        }else{
+            generatePathTo(startXY, xyEnd, MAX_SCORE, true, cost_max_per_cell, maxBytecodeUsed, false);
+        }
+
+        // Restore unchanged prefix, from current cell to repair start (pathCells are kept until next recordPath)
+        if(prefixEnd >= 0 && pendingPhase == PHASE_NONE && resultCode >= 0){
+            char[] mapResult = BugNavLmx.mapResult;
+            for(int i = pathStart; i < prefixEnd; i++){
+                mapResult[pathCells[i]] = pathDirs[i];
+            }
+        }
 
-        // Generate path
-        generatePathTo(startXY, endLoc.x + (endLoc.y<<7) + 129, MAX_SCORE, true, cost_max_per_cell, maxBytecodeUsed);
+        // A resumed path starts where we were when it began, we may not be on it anymore: compute it again from here
+        if(phase != PHASE_NONE && pendingPhase == PHASE_NONE && resultCode >= 0 && mapResult[startXY] == 8){
+            if(Robot.DEBUG && rc.getRoundNum() < 200){System.out.println("Pathfinding: Resumed path misses current cell, compute again");}
+            phase = PHASE_NONE;
+            prefixEnd = -1;
+            generatePathTo(startXY, xyEnd, MAX_SCORE, true, cost_max_per_cell, maxBytecodeUsed, false);
+        }
+
+        // Out of bytecode, walker saved for next turn
+        if(pendingPhase != PHASE_NONE){
+            if(Robot.DEBUG && rc.getRoundNum() < 200){System.out.println("Pathfinding: Pending phase " + pendingPhase);}
+            pendingPrefixStart = pathStart;
+            pendingPrefixEnd = prefixEnd;
+            if(phase == PHASE_NONE){
+                pendingRound = rc.getRoundNum();
+            }
+            pendingDestination = endLoc;
+            resultCode = RESULT_PENDING;
+            lastRoundCalculation = -2;
+            return null;
+        }
         dir = DIRECTIONS[mapResult[startXY]];
         // Check result validity
         if(resultCode < 0){
@@ -5229,36 +5343,97 @@ public class BugNavLmx {
         }
         lastRoundCalculation = rc.getRoundNum(); // Save query result
         lastDestination = endLoc;
+        if(REPAIR){
+            recordPath(startXY);
+        }
         return dir;
     }
 
+    // Save path followed from xy in mapResult, until a cell already saved (mapResult point backward after xyReturn)
+    public static void recordPath(int xy){
+        int epoch = ++pathEpoch << 10;
+        int[] pathPosition = BugNavLmx.pathPosition;
+        char[] pathCells = BugNavLmx.pathCells;
+        char[] pathDirs = BugNavLmx.pathDirs;
+        char[] mapResult = BugNavLmx.mapResult;
+        int length = 0;
+        while(length < PATH_MAX_LENGTH && (pathPosition[xy] >> 10) != pathEpoch){
+            char dir = mapResult[xy];
+            pathPosition[xy] = epoch | length;
+            pathCells[length] = (char) xy;
+            pathDirs[length++] = dir;
+            if(dir == 8){
+                break;
+            }
+            xy += dirsShift7Bxy[dir];
+        }
+        pathLength = length;
+        pathProgress = 0;
+        firstChangedIndex = PATH_MAX_LENGTH;
+    }
+
+    // Called when mapCosts[xy] increased, the saved path is only valid until this cell
+    public static void costChanged(int xy){
+        int position = pathPosition[xy];
+        int index = position & 1023;
+        if((position >> 10) == pathEpoch && index > pathProgress && index < firstChangedIndex){
+            firstChangedIndex = index;
+        }
+    }
+
 
     private static void generatePathTo(
         int xyStart /* startloc */, int xyEnd /* endloc */, 
         int MAX_SCORE, boolean withReturn, 
-        int cost_max_per_cell, int maxBytecodeUsed) throws GameActionException {
+        int cost_max_per_cell, int maxBytecodeUsed,
+        boolean resume /* continue saved walker */) throws GameActionException {
 
         RobotController rc = Robot.rc;// Initialize variables
-        int xy = xyStart; // startLoc.x + (startLoc.y<<7) + 129;
-        int xyEndDir = (xyEnd) | 8256;
+        int xy = xyStart; // startLoc.x + (startLoc.y<<7) + 1032;
+        int xyEndDir = (xyEnd) + 8256;
         int xyTmp;
 
 
         // Initialize split mode variables
         int xyLeft = -1;
         int xyRight = -1;
-        int ctrLeft;
-        int ctrRight;
-        int smoothLeft;
-        int smoothRight;
+        int ctrLeft = 0;
+        int ctrRight = 0;
+        int smoothLeft = 0;
+        int smoothRight = 0;
+        int scoreLeft = 0;
+        int scoreRight = 0;
+        char lastDirectionLeft = 8;
+        char lastDirectionRight = 8;
+        int ctrMaxRepeat = 10; // Max number of times split left or right can be on already observed cells
+        boolean inSplit = false;
+        boolean outOfBytecode = false;
 
 
         // Initialize result variables
         int score = 0;
-        xyLastWallHit = -1;
-        xyLastWallLeave = -1;
-        mapResult = getMap7B();
-        mapResult[xy] = 8;
+        if(resume){
+            xy = savedXy;
+            xyLeft = savedXyLeft;
+            xyRight = savedXyRight;
+            ctrLeft = savedCtrLeft;
+            ctrRight = savedCtrRight;
+            smoothLeft = savedSmoothLeft;
+            smoothRight = savedSmoothRight;
+            score = savedScore;
+            scoreLeft = savedScoreLeft;
+            scoreRight = savedScoreRight;
+            ctrMaxRepeat = savedCtrMaxRepeat;
+            lastDirectionLeft = savedLastDirectionLeft;
+            lastDirectionRight = savedLastDirectionRight;
+            inSplit = savedInSplit;
+        }else{
+            xyLastWallHit = -1;
+            xyLastWallLeave = -1;
+            mapResult = getMap7B();
+            mapResult[xy] = 8;
+        }
+        boolean resumeSplit = inSplit;
 
 
         // Reduce bytecode by moving variables in local scope
@@ -5285,6 +5460,12 @@ public class BugNavLmx {
 
         mainLoop: // We exit the loop when direction to target is Direction.CENTER
         for(;;) {
+            resumeSplitBlock:{
+            if(resumeSplit){ // Resumed in split mode, walker is already initialized
+                resumeSplit = false;
+                break resumeSplitBlock;
+            }
+            inSplit = false;
 
             /////////////////////////////////// Default mode ////////////////////////////////
             /// we just go to the direction. If wall, we check if better left or right and enter left or right mode then
@@ -5294,6 +5475,7 @@ public class BugNavLmx {
 
                 if(Clock.getBytecodesLeft() < stopBellowBytecodeRemaining){
                     resultCode = -1; // Not enought bytecode
+                    outOfBytecode = true;
                     break mainLoop;
                 }
 
@@ -5406,10 +5588,8 @@ public class BugNavLmx {
             xyRight = xy;
             smoothLeft = 2;
             smoothRight = 2;
-            int scoreLeft = 0;
-            int scoreRight = 0;
-            char lastDirectionLeft;
-            char lastDirectionRight;
+            scoreLeft = 0;
+            scoreRight = 0;
 
             // Direction to target is an obstacle, we need to init left and right side for exploration
             switch (mapDirections[xyEndDir - xy]) {
@@ -6388,12 +6568,16 @@ public class BugNavLmx {
             /// We advance side with the lowest score, with score = distance for example
             /// When dir is not blocked anymore, we go REVERSE to modeDefault
 
-            int ctrMaxRepeat = 10; // Max number of times split left or right can be on already observed cells
+            ctrMaxRepeat = 10;
+            } // End resumeSplitBlock
+
+            inSplit = true;
             modeSplit:
             for (;;) {
                 iterationsSplit++;
                 if(Clock.getBytecodesLeft() < stopBellowBytecodeRemaining){
                     resultCode = -1; // Not enought bytecode
+                    outOfBytecode = true;
                     break mainLoop;
                 }
 
@@ -9642,6 +9826,28 @@ public class BugNavLmx {
             }// End main for loop
         } // End mainLoopLabel
 
+        // Out of bytecode, save the walker to continue on next turn
+        if(outOfBytecode && RESUMABLE){
+            pendingPhase = withReturn ? PHASE_FORWARD : PHASE_BACKWARD;
+            savedXyStart = xyStart;
+            savedXyEnd = xyEnd;
+            savedXy = xy;
+            savedXyLeft = xyLeft;
+            savedXyRight = xyRight;
+            savedCtrLeft = ctrLeft;
+            savedCtrRight = ctrRight;
+            savedSmoothLeft = smoothLeft;
+            savedSmoothRight = smoothRight;
+            savedScore = score;
+            savedScoreLeft = scoreLeft;
+            savedScoreRight = scoreRight;
+            savedCtrMaxRepeat = ctrMaxRepeat;
+            savedLastDirectionLeft = lastDirectionLeft;
+            savedLastDirectionRight = lastDirectionRight;
+            savedInSplit = inSplit;
+            return;
+        }
+
         // Check if split mode failed
         if(xyLeft == MAX_SCORE+111 && xyRight == MAX_SCORE+111){
             resultCode = -10; // Border both side split mode
@@ -9687,9 +9893,9 @@ public class BugNavLmx {
                     xyReturn = xyLeft;
 
                 }else{
-                    MapLocation locEnd = new MapLocation((xyEnd & 0b111111) - 1, (xyEnd >> 7) - 1);
-                    MapLocation locLeft = new MapLocation((xyLeft & 0b111111) - 1, (xyLeft >> 7) - 1);
-                    MapLocation locRight = new MapLocation((xyRight & 0b111111) - 1, (xyRight >> 7) - 1);
+                    MapLocation locEnd = new MapLocation((xyEnd & 0b1111111) - 8, (xyEnd >> 7) - 8);
+                    MapLocation locLeft = new MapLocation((xyLeft & 0b1111111) - 8, (xyLeft >> 7) - 8);
+                    MapLocation locRight = new MapLocation((xyRight & 0b1111111) - 8, (xyRight >> 7) - 8);
                     if(locEnd.distanceSquaredTo(locLeft) < locEnd.distanceSquaredTo(locRight)){ // 2)
                         xyReturn = xyLeft;
                         }else{
@@ -9709,9 +9915,29 @@ public class BugNavLmx {
             throw new java.lang.Error("ERR Pathfinding: xyReturn is -1");
         }
 
+        if( rc.getRoundNum() < 200){
+            System.out.println("===Pathfinding report : Normal===");
+            System.out.println("Iterations normal : " + iterationsNormal);
+            System.out.println("Iterations split  : " + iterationsSplit);
+            System.out.println("Bytecode used     : " + (startRemainingBytecode - Clock.getBytecodesLeft()));
+        }
+
+        reversePath(xyReturn, xyStart, MAX_SCORE, cost_max_per_cell, maxBytecodeUsed, stopBellowBytecodeRemaining);
+    }
+
+
+    private static void reversePath(
+        int xyReturn, int xyStart,
+        int MAX_SCORE, int cost_max_per_cell, int maxBytecodeUsed,
+        int stopBellowBytecodeRemaining) throws GameActionException {
+
+        RobotController rc = Robot.rc;// Reduce bytecode by moving variables in local scope
+        char[] mapCosts = BugNavLmx.mapCosts;
+        char[] mapDirections = BugNavLmx.mapDirections;
+
         mode = "REVERSE";
         int iterationsReturn = 0;
-        int xyStartDir = (xyStart) | 8256;
+        int xyStartDir = (xyStart) + 8256;
         
         ReverseLoop:
         for(;;){
@@ -9720,6 +9946,12 @@ public class BugNavLmx {
             // Check bytecode limits
             if(Clock.getBytecodesLeft() < stopBellowBytecodeRemaining){
                 resultCode = -1; // Not enought bytecode
+                if(RESUMABLE){
+                    pendingPhase = PHASE_REVERSE;
+                    savedXy = xyReturn;
+                    savedXyStart = xyStart;
+                    return;
+                }
                 break ReverseLoop;
             }
 
@@ -9809,24 +10041,21 @@ public class BugNavLmx {
         }// End ReverseLoop
 
         if( rc.getRoundNum() < 200){
-            System.out.println("===Pathfinding report : Normal===");
-            System.out.println("Iterations normal : " + iterationsNormal);
-            System.out.println("Iterations split  : " + iterationsSplit);
+            System.out.println("===Pathfinding report : Reverse===");
             System.out.println("Iterations return : " + iterationsReturn);
-            System.out.println("Bytecode used     : " + (startRemainingBytecode - Clock.getBytecodesLeft()));
             System.out.println("");
         }
 
         generatePathTo(
             xyReturn, xyStart, 
             MAX_SCORE, false /* withReturn */, 
-            cost_max_per_cell, maxBytecodeUsed
+            cost_max_per_cell, maxBytecodeUsed, false /* resume */
         );
     }
 
     public static char[] generateEmptyMapCosts7B(){
         // generateEmptyMapCosts7B(passableValue, mod2value, borderValue, invalidValue):
-        return "\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01".toCharArray();
+        return "\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u03e8\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01\u7d01".toCharArray();
     }
 
     
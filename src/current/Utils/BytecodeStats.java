@@ -0,0 +1,101 @@
+package current.Utils;
+
+import battlecode.common.*;
+import current.Robots.Robot;
+import current.States.State;
+
+/**
+ * Bytecode used by each state, for babies and kings.
+ * One row per (robot type, state id) in primitive arrays, no allocation while playing.
+ *
+ * A run starting and ending on the same round costs getBytecodeNum() difference.
+ * EndTurn yields on purpose, so it saves its bytecode count just before Clock.yield().
+ * Any other run ending on another round went over the limit: it's an overflow.
+ * */
+public class BytecodeStats {
+    public static boolean enabled = Robot.DEBUG; // Local games only, measures every state and prints every DUMP_PERIOD rounds
+    public static int DUMP_PERIOD = 500; // Print summary every DUMP_PERIOD rounds (and at last round), 0 to disable
+    public static final int LAST_ROUND = 2000;
+    public static final int BYTECODE_LIMIT_BABY = 17500;
+    public static final int BYTECODE_LIMIT_KING = 20000;
+
+    static final int N = State.NUMBER_OF_STATES;
+    public static int[] calls     = new int[2 * N];
+    public static int[] minimum   = new int[2 * N];
+    public static int[] maximum   = new int[2 * N];
+    public static int[] total     = new int[2 * N];
+    public static int[] overflows = new int[2 * N];
+    public static int[] skipped   = new int[2 * N]; // Skipped by the budget scheduler
+    public static String[] names  = new String[N];
+
+    // Set by EndTurn just before yielding
+    public static int yieldRound = -1;
+    public static int yieldBytecode;
+    static int lastDumpRound = -1;
+
+    static {
+        for(int i = 0; i < 2 * N; i++){
+            minimum[i] = Integer.MAX_VALUE;
+        }
+    }
+
+    public static void beforeYield(int round){
+        yieldBytecode = Clock.getBytecodeNum();
+        yieldRound = round;
+    }
+
+    public static void record(State state, boolean isKing, int roundStart, int bytecodeStart, int roundEnd){
+        int row = isKing ? N + state.id : state.id;
+        int used;
+        if(roundEnd == roundStart){
+            used = Clock.getBytecodeNum() - bytecodeStart;
+        }else if(yieldRound == roundStart){
+            used = yieldBytecode - bytecodeStart;
+        }else{
+            used = (isKing ? BYTECODE_LIMIT_KING : BYTECODE_LIMIT_BABY) - bytecodeStart + Clock.getBytecodeNum();
+            overflows[row]++;
+        }
+
+        calls[row]++;
+        total[row] += used;
+        if(used < minimum[row]){minimum[row] = used;}
+        if(used > maximum[row]){maximum[row] = used;}
+        names[state.id] = state.name;
+    }
+
+    public static void skip(State state, boolean isKing){
+        skipped[isKing ? N + state.id : state.id]++;
+        names[state.id] = state.name;
+    }
+
+    // Return true if the summary was printed
+    public static boolean dumpIfNeeded(int round, boolean isKing, int robotId){
+        if(!enabled || DUMP_PERIOD <= 0 || round == lastDumpRound){
+            return false;
+        }
+        if(round % DUMP_PERIOD != 0 && round != LAST_ROUND - 1){
+            return false;
+        }
+        lastDumpRound = round;
+        dump(round, isKing, robotId);
+        return true;
+    }
+
+    public static void dump(int round, boolean isKing, int robotId){
+        String type = isKing ? "KING" : "BABY";
+        System.out.println("[BC] " + type + " " + robotId + " round " + round + " : state calls min avg max overflows skipped");
+        for(int id = 0; id < N; id++){
+            int row = isKing ? N + id : id;
+            if(calls[row] == 0 && skipped[row] == 0){
+                continue;
+            }
+            System.out.println("[BC] " + names[id]
+                    + " " + calls[row]
+                    + " " + minimum[row]
+                    + " " + (calls[row] == 0 ? 0 : total[row] / calls[row])
+                    + " " + maximum[row]
+                    + " " + overflows[row]
+                    + " " + skipped[row]);
+        }
+    }
+}
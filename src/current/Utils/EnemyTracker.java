@@ -0,0 +1,171 @@
+package current.Utils;
+
+import battlecode.common.GameActionException;
+import battlecode.common.MapLocation;
+import battlecode.common.RobotController;
+import current.Robots.Robot;
+
+public class EnemyTracker extends MapLocationsWithId {
+    /**
+     * MapLocationsWithId of enemies with the round of the last observation of each one.
+     * - A report older than what we know about the unit is ignored (our own sighting is always the freshest)
+     * - When full, the oldest sighting is evicted instead of flushing everything
+     * - Sightings older than MAX_AGE rounds are dropped
+     * - A unit we saw missing is not added back by reports made before (ghosts)
+     *
+     * Enemies in vision must be added with add() before nearestAndClear() in the same turn (cf Init).
+     * */
+
+    public static int MAX_AGE = 10;                 // Rounds before a sighting is dropped
+    public static final int CONFIDENCE_SENSED = 100;
+
+    public char[] rounds;          // rounds[index] = round of the freshest observation
+    public char[] sensedRounds;    // sensedRounds[index] = last round we sensed the unit ourselves, 0 if never
+    char[] clearedRounds = Tools.arrayOf4096Chars(); // clearedRounds[id] = last round we saw the unit wasn't there
+
+    public EnemyTracker(char maxlen) {
+        super(maxlen, false);
+        rounds = new char[maxlen];
+        sensedRounds = new char[maxlen];
+    }
+
+    // Unit sensed by us this round
+    @Override
+    public boolean add(MapLocation loc, int id) {
+        return update(loc, loc.x | (loc.y << 6), id, Robot.rc.getRoundNum(), true);
+    }
+
+    // Same as add(MapLocation), location packed as x | (y << 6)
+    @Override
+    public boolean add(int xy, int id) {
+        return update(null, xy, id, Robot.rc.getRoundNum(), true);
+    }
+
+    // Unit seen by an ally at round
+    public boolean report(MapLocation loc, int id, int round) {
+        return update(loc, loc.x | (loc.y << 6), id, round, false);
+    }
+
+    // Same as report(MapLocation), MapLocation is only created if the location is stored
+    public boolean report(int xy, int id, int round) {
+        return update(null, xy, id, round, false);
+    }
+
+    // loc is the location of xy, or null to create it only when stored
+    boolean update(MapLocation loc, int xy, int id, int round, boolean sensed) {
+        id = id % 4096;
+        char index = hashmap[id];
+
+        // Already known, keep the freshest, our own sighting wins on the same round
+        if(index < size && ids[index] == id){
+            if(round < rounds[index] || (!sensed && sensedRounds[index] >= round)){
+                return false;
+            }
+            MapLocation known = locs[index];
+            if(known.x + (known.y << 6) != xy){
+                locs[index] = (loc != null) ? loc : new MapLocation(xy & 0b111111, xy >> 6);
+            }
+            rounds[index] = (char) round;
+            if(sensed){
+                sensedRounds[index] = (char) round;
+            }
+            return true;
+        }
+
+        // We have seen it wasn't there after this report
+        if(!sensed && round <= clearedRounds[id]){
+            return false;
+        }
+
+        if(size == maxlen){
+            char oldest = oldestIndex();
+            if(rounds[oldest] > round){
+                return false;
+            }
+            removeIndex(oldest);
+        }
+
+        hashmap[id] = size;
+        locs[size] = (loc != null) ? loc : new MapLocation(xy & 0b111111, xy >> 6);
+        ids[size] = id;
+        rounds[size] = (char) round;
+        sensedRounds[size] = sensed ? (char) round : 0;
+        size++;
+        return true;
+    }
+
+    char oldestIndex() {
+        char oldest = 0;
+        for(char i = 1; i < size; i++){
+            if(rounds[i] < rounds[oldest]){
+                oldest = i;
+            }
+        }
+        return oldest;
+    }
+
+    // CONFIDENCE_SENSED if we sensed the unit this round, then decrease with the age of the sighting
+    public int confidence(int index, int round) {
+        if(sensedRounds[index] == round){
+            return CONFIDENCE_SENSED;
+        }
+        return CONFIDENCE_SENSED - 1 - (round - rounds[index]) * (CONFIDENCE_SENSED - 1) / (MAX_AGE + 1);
+    }
+
+    // Get nearest and delete if too far, too old or in vision but not sensed this turn
+    // Enemies in vision were all added this turn, so we don't have to sense the others
+    @Override
+    public int nearestAndClear(MapLocation myLoc, int maxDist) throws GameActionException {
+        RobotController rc = Robot.rc;
+        int round = rc.getRoundNum();
+        int minRound = round - MAX_AGE;
+        char i = 0;
+        int minDistance = 99999;
+        int minIndex = -1;
+
+        while(i < size){
+            MapLocation loc = locs[i];
+            int dist = myLoc.distanceSquaredTo(loc);
+            if(dist > maxDist || rounds[i] < minRound){
+                removeIndex(i);
+                continue;
+            }
+
+            // Just for Battlecode 2026, not a SOLID principle x)
+            Micro.setUnitAt(loc);
+
+            // Ghost, ignore reports about it until a newer one
+            if(sensedRounds[i] != round && rc.canSenseLocation(loc)){
+                clearedRounds[ids[i]] = (char) round;
+                removeIndex(i);
+                continue;
+            }
+
+            if(dist < minDistance){
+                minDistance = dist;
+                minIndex = i;
+            }
+
+            i++;
+        }
+
+        return minIndex;
+    }
+
+    @Override
+    public void removeIndex(char indexRemoved) {
+        rounds[indexRemoved] = rounds[size - 1];
+        sensedRounds[indexRemoved] = sensedRounds[size - 1];
+        super.removeIndex(indexRemoved);
+    }
+
+    @Override
+    public void remove(int id) {
+        if(contains(id)){
+            char index = hashmap[id % 4096];
+            rounds[index] = rounds[size - 1];
+            sensedRounds[index] = sensedRounds[size - 1];
+        }
+        super.remove(id);
+    }
+}
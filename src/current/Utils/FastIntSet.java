@@ -1,12 +1,24 @@
-
 package current.Utils;
 
 public class FastIntSet {
-    public StringBuilder keys;
+    /**
+     * Set of keys in [0, 4096) (ids mod 4096, x + (y << 6)), replace the StringBuilder version (indexOf on each call).
+     * Sparse set: key is in the set only if indexes[key] < size && keys[indexes[key]] == key, clear() only resets size.
+     * - keys    : dense keys, iterate on keys[0 .. size - 1] without allocation
+     * - indexes : indexes[key] = index in keys, may be outdated, remove() swaps with the last key
+     * Keys out of range are never added, contains() is false for them.
+     * */
+
+    public char[] keys;
+    char[] indexes = Tools.arrayOf4096Chars();
     public int size;
 
     public FastIntSet() {
-        keys = new StringBuilder();
+        this(64);
+    }
+
+    public FastIntSet(int capacity) {
+        keys = new char[capacity];
         size = 0;
     }
 
@@ -14,29 +26,42 @@ public class FastIntSet {
         return size;
     }
 
-    public void add(int i) {
-        String key = String.valueOf((char) i);
-        if (keys.indexOf(key) < 0) {
-            keys.append(key);
-            size++;
+    public void add(int key) {
+        if ((key >>> 12) != 0 || contains(key)) {
+            return;
         }
+        if (size == keys.length) {
+            char[] newKeys = new char[size * 2];
+            System.arraycopy(keys, 0, newKeys, 0, size);
+            keys = newKeys;
+        }
+        indexes[key] = (char) size;
+        keys[size] = (char) key;
+        size++;
     }
 
-    public void remove(int i) {
-        String key = String.valueOf((char) i);
-        int index;
-        if ((index = keys.indexOf(key)) >= 0) {
-            keys.deleteCharAt(index);
-            size--;
+    public void remove(int key) {
+        if (!contains(key)) {
+            return;
         }
+
+        // Replace by last key
+        size--;
+        char index = indexes[key];
+        char last = keys[size];
+        keys[index] = last;
+        indexes[last] = index;
     }
 
-    public boolean contains(int i) {
-        return keys.indexOf(String.valueOf((char) i)) >= 0;
+    public boolean contains(int key) {
+        if ((key >>> 12) != 0) {
+            return false;
+        }
+        char index = indexes[key];
+        return index < size && keys[index] == key;
     }
 
     public void clear() {
         size = 0;
-        keys = new StringBuilder();
     }
-}
\ No newline at end of file
+}
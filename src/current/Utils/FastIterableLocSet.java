@@ -3,94 +3,103 @@ package current.Utils;
 import battlecode.common.MapLocation;
 
 public class FastIterableLocSet {
-    public StringBuilder keys;
+    /**
+     * Set of locations, replace the StringBuilder version (indexOf on each call, MapLocation created in updateIterable).
+     * Locations are hashed x + (y << 6) like MapLocations, x and y out of [0, 64) are never in the set.
+     * Sparse set: xy is in the set only if indexes[xy] < size && xys[indexes[xy]] == xy, clear() only resets size.
+     * - locs    : dense locations, always up to date, iterate on locs[0 .. size - 1] without allocation
+     * - xys     : dense hashes, same order as locs
+     * - indexes : indexes[xy] = index in locs, may be outdated, remove() swaps with the last one
+     * */
+
     public int maxlen;
     public MapLocation[] locs;
+    public char[] xys;
+    char[] indexes = Tools.arrayOf4096Chars();
     public int size;
-    private int earliestRemoved;
 
     public FastIterableLocSet() {
         this(100);
     }
 
     public FastIterableLocSet(int len) {
-        keys = new StringBuilder();
         maxlen = len;
         locs = new MapLocation[maxlen];
+        xys = new char[maxlen];
     }
 
-    private String locToStr(MapLocation loc) {
-        return "^" + (char)(loc.x) + (char)(loc.y);
-    }
-
-    // return boolean false if set is full or already contained location
+    // return boolean false if set is full, already contained location or location is out of range
     public boolean add(MapLocation loc) {
-        String key = locToStr(loc);
-        if (keys.indexOf(key) == -1) {
-            if (size == maxlen)
-                return false;
-            keys.append(key);
-            size++;
-            return true;
+        int x = loc.x;
+        int y = loc.y;
+        if (((x | y) >>> 6) != 0 || size == maxlen || contains(x, y)) {
+            return false;
         }
-        return false;
+        int xy = x + (y << 6);
+        indexes[xy] = (char) size;
+        xys[size] = (char) xy;
+        locs[size] = loc;
+        size++;
+        return true;
     }
 
-    public void add(int x, int y) {
-        String key = "^" + (char)x + (char)y;
-        if (keys.indexOf(key) == -1) {
-            keys.append(key);
-            size++;
+    // Same as add(MapLocation), allocate the location only if added
+    public boolean add(int x, int y) {
+        if (((x | y) >>> 6) != 0 || size == maxlen || contains(x, y)) {
+            return false;
         }
+        int xy = x + (y << 6);
+        indexes[xy] = (char) size;
+        xys[size] = (char) xy;
+        locs[size] = new MapLocation(x, y);
+        size++;
+        return true;
     }
 
     public void remove(MapLocation loc) {
-        String key = locToStr(loc);
-        int index;
-        if ((index = keys.indexOf(key)) >= 0) {
-            keys.delete(index, index + 3);
-            size--;
-
-            if(earliestRemoved > index)
-                earliestRemoved = index;
-        }
+        remove(loc.x, loc.y);
     }
 
     public void remove(int x, int y) {
-        String key = "^" + (char)x + (char)y;
-        int index;
-        if ((index = keys.indexOf(key)) >= 0) {
-            keys.delete(index, index + 3);
-            size--;
-
-            if(earliestRemoved > index)
-                earliestRemoved = index;
+        if (!contains(x, y)) {
+            return;
         }
+
+        // Replace by last location
+        size--;
+        char index = indexes[x + (y << 6)];
+        char last = xys[size];
+        xys[index] = last;
+        locs[index] = locs[size];
+        indexes[last] = index;
     }
 
     public boolean contains(MapLocation loc) {
-        return keys.indexOf(locToStr(loc)) >= 0;
+        return contains(loc.x, loc.y);
     }
 
     public boolean contains(int x, int y) {
-        return keys.indexOf("^" + (char)x + (char)y) >= 0;
+        if (((x | y) >>> 6) != 0) {
+            return false;
+        }
+        int xy = x + (y << 6);
+        char index = indexes[xy];
+        return index < size && xys[index] == xy;
     }
 
     public void clear() {
         size = 0;
-        keys = new StringBuilder();
-        earliestRemoved = 0;
     }
 
+    // Nothing to do, locs is updated by add and remove, kept for callers of the StringBuilder version
     public void updateIterable() {
-        for (int i = earliestRemoved / 3; i < size; i++) {
-            locs[i] = new MapLocation(keys.charAt(i*3+1), keys.charAt(i*3+2));
-        }
-        earliestRemoved = size * 3;
     }
 
+    // Replace the set by locations encoded like the StringBuilder version, "^" + (char) x + (char) y for each one
     public void replace(String newSet) {
-        keys.replace(0, keys.length(), newSet);
-        size = newSet.length() / 3;
+        clear();
+        for (int i = 0; i + 2 < newSet.length(); i += 3) {
+            add(newSet.charAt(i + 1), newSet.charAt(i + 2));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,149 @@
+package current.Utils;
+
+import battlecode.common.*;
+
+/**
+ * BFS distance fields over BugNavLmx.mapCosts, built over several turns.
+ * Same cell layout as BugNavLmx (Grid), so borders are already walls.
+ *
+ * distances[field][xy] = 0 when not reached yet, else 1 + number of moves to the target.
+ * Descending the field from a cell is 8 lookups, see bestDirection().
+ * */
+public class FlowField {
+    public static final int MAX_FIELDS = 4;      // Field 0 for the king itself, others for cheese mines
+    public static final int SIZE = Grid.SIZE;    // Same as BugNavLmx maps
+    public static int REBUILD_PERIOD = 100;      // Rounds before building again a complete field (mapCosts changed)
+    public static int MAX_COST = BugNavLmx.SCORE_CELL_IF_DIG; // Dirt is walkable, we can dig it
+
+    public static char[][] distances = new char[MAX_FIELDS][];
+    public static MapLocation[] targets = new MapLocation[MAX_FIELDS];
+    public static boolean[] complete = new boolean[MAX_FIELDS];
+    public static int[] startRound = new int[MAX_FIELDS];
+    static char[][] queues = new char[MAX_FIELDS][];
+    static int[] heads = new int[MAX_FIELDS];
+    static int[] tails = new int[MAX_FIELDS];
+
+    // Start a new field to target, unless we are already building or have built it recently
+    public static void setTarget(int field, MapLocation target, int round){
+        if(target.equals(targets[field]) && (!complete[field] || startRound[field] + REBUILD_PERIOD > round)){
+            return;
+        }
+
+        char[] distance = distances[field];
+        char[] queue = queues[field];
+        if(distance == null){
+            distance = new char[SIZE];
+            queue = new char[SIZE];
+            distances[field] = distance;
+            queues[field] = queue;
+        }else{
+            distance = new char[SIZE];
+            distances[field] = distance;
+        }
+
+        int xy = Grid.index(target);
+        distance[xy] = 1;
+        queue[0] = (char) xy;
+        heads[field] = 0;
+        tails[field] = 1;
+        targets[field] = target;
+        complete[field] = false;
+        startRound[field] = round;
+    }
+
+    public static void clear(int field){
+        targets[field] = null;
+        complete[field] = false;
+    }
+
+    /**
+     * Continue BFS of field until queue is empty or bytecode left is bellow stopBellowBytecodeRemaining.
+     * Return true when the field is complete.
+     * */
+    public static boolean build(int field, int stopBellowBytecodeRemaining){
+        if(complete[field] || targets[field] == null){
+            return complete[field];
+        }
+
+        // Reduce bytecode by moving variables in local scope
+        char[] distance = distances[field];
+        char[] queue = queues[field];
+        char[] mapCosts = BugNavLmx.mapCosts;
+        int maxCost = MAX_COST;
+        int head = heads[field];
+        int tail = tails[field];
+        int xy;
+        int next;
+        char d;
+
+        while(head < tail){
+            if(Clock.getBytecodesLeft() < stopBellowBytecodeRemaining){
+                heads[field] = head;
+                tails[field] = tail;
+                return false;
+            }
+
+            xy = queue[head++];
+            d = (char) (distance[xy] + 1);
+
+            // Unrolled neighbours, same order as BugNavLmx.dirsShift7Bxy
+            next = xy + 128;  if(distance[next] == 0 && mapCosts[next] <= maxCost){distance[next] = d; queue[tail++] = (char) next;}
+            next = xy + 129;  if(distance[next] == 0 && mapCosts[next] <= maxCost){distance[next] = d; queue[tail++] = (char) next;}
+            next = xy + 1;    if(distance[next] == 0 && mapCosts[next] <= maxCost){distance[next] = d; queue[tail++] = (char) next;}
+            next = xy - 127;  if(distance[next] == 0 && mapCosts[next] <= maxCost){distance[next] = d; queue[tail++] = (char) next;}
+            next = xy - 128;  if(distance[next] == 0 && mapCosts[next] <= maxCost){distance[next] = d; queue[tail++] = (char) next;}
+            next = xy - 129;  if(distance[next] == 0 && mapCosts[next] <= maxCost){distance[next] = d; queue[tail++] = (char) next;}
+            next = xy - 1;    if(distance[next] == 0 && mapCosts[next] <= maxCost){distance[next] = d; queue[tail++] = (char) next;}
+            next = xy + 127;  if(distance[next] == 0 && mapCosts[next] <= maxCost){distance[next] = d; queue[tail++] = (char) next;}
+        }
+
+        heads[field] = head;
+        tails[field] = tail;
+        complete[field] = true;
+        return true;
+    }
+
+    // Number of moves from loc to target of field, -1 if not reached (yet)
+    public static int distance(int field, MapLocation loc){
+        char[] distance = distances[field];
+        if(distance == null){
+            return -1;
+        }
+        return distance[Grid.index(loc)] - 1;
+    }
+
+    // Direction descending the field from loc, null if loc is not reached or no neighbour is closer
+    public static Direction bestDirection(int field, MapLocation loc){
+        char[] distance = distances[field];
+        if(distance == null){
+            return null;
+        }
+        int xy = Grid.index(loc);
+        int best = distance[xy];
+        if(best == 0){
+            return null;
+        }
+
+        Direction bestDir = null;
+        int d;
+        d = distance[xy + 128]; if(d != 0 && d < best){best = d; bestDir = Direction.NORTH;}
+        d = distance[xy + 129]; if(d != 0 && d < best){best = d; bestDir = Direction.NORTHEAST;}
+        d = distance[xy + 1];   if(d != 0 && d < best){best = d; bestDir = Direction.EAST;}
+        d = distance[xy - 127]; if(d != 0 && d < best){best = d; bestDir = Direction.SOUTHEAST;}
+        d = distance[xy - 128]; if(d != 0 && d < best){best = d; bestDir = Direction.SOUTH;}
+        d = distance[xy - 129]; if(d != 0 && d < best){best = d; bestDir = Direction.SOUTHWEST;}
+        d = distance[xy - 1];   if(d != 0 && d < best){best = d; bestDir = Direction.WEST;}
+        d = distance[xy + 127]; if(d != 0 && d < best){best = d; bestDir = Direction.NORTHWEST;}
+        return bestDir;
+    }
+
+    // Field index with this target, -1 if none
+    public static int fieldOf(MapLocation target){
+        for(int i = 0; i < MAX_FIELDS; i++){
+            if(target.equals(targets[i])){
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,36 @@
+package current.Utils;
+
+import battlecode.common.MapLocation;
+
+public class Grid {
+    /**
+     * Single padded layout shared by every per-cell array, and index of the robot location computed once per turn (update()).
+     *
+     * xy = x + (y << 7) + 1032, ie (x + 8) + ((y + 8) << 7): rows of 128 cells, 8 cells of padding on each side.
+     * Used by BugNavLmx.mapCosts, FlowField, VisionUtils.scores, Micro.mapInfos, Robot.isMineDepleted and
+     * Robot.numberTimesOnPositions, so one index of a location is valid for all of them.
+     *
+     * Generated code reads neighbours at constant shifts (up to 8 cells for vision) without bound checks,
+     * padding keeps them in the array. Same layout as encodeCellPathfinding() in jinja.py, change both together.
+     * Use DIR_SHIFTS to get an adjacent cell, rather than creating a MapLocation with add(dir).
+     * */
+
+    public static final int PAD = 8;
+    public static final int SHIFT = 7;
+    public static final int OFFSET = PAD + (PAD << SHIFT); // 1032
+    public static final int SIZE = (60 + 2 * PAD) << SHIFT; // 9728
+
+    // Shift of the adjacent cell, indexed by Direction.ordinal()
+    public static final int[] DIR_SHIFTS = new int[]{128, 129, 1, -127, -128, -129, -1, 127, 0};
+
+    // Index of Robot.myLoc, updated by Init and after each move
+    public static int myXY;
+
+    public static void update(MapLocation myLoc){
+        myXY = myLoc.x + (myLoc.y << SHIFT) + OFFSET;
+    }
+
+    public static int index(MapLocation loc){
+        return loc.x + (loc.y << SHIFT) + OFFSET;
+    }
+}
@@ -19,7 +19,7 @@ public class Micro {
     public static long scoresDanger[]; // Max amount of damage I can deal
     public static char attackDirection[]; // Direction of the best attack
     public static boolean isThrowAction[];     // If we can throw to the target from this point
-    public static char mapInfos[] = "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000".toCharArray();
+    public static char mapInfos[] = "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000".toCharArray(); // Grid layout
     public static RobotController rc;
 
     // Adding safegards if params not defined
@@ -51,1063 +51,225 @@ public class Micro {
         MapLocation myLoc, MapLocation targetLoc, long scoreThrow
     ){
         long scoreAttack;
-        int xy;
-        int xyMapCosts;
+        int xy = myLoc.x + (myLoc.y<<7) + 1032; // Same layout for mapInfos and BugNavLmx.mapCosts
         MapLocation enemyRelativeLoc = targetLoc.translate(-myLoc.x, -myLoc.y);
         switch(enemyRelativeLoc.hashCode()){
             case -294915: // Cell (-5, -3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -294914: // Cell (-5, -2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -294913: // Cell (-5, -1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -294912: // Cell (-5, 0)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -294911: // Cell (-5, 1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -294910: // Cell (-5, 2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -294909: // Cell (-5, 3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -229380: // Cell (-4, -4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -229379: // Cell (-4, -3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -229378: // Cell (-4, -2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -229377: // Cell (-4, -1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -229376: // Cell (-4, 0)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -229375: // Cell (-4, 1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -229374: // Cell (-4, 2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -229373: // Cell (-4, 3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -229372: // Cell (-4, 4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -163845: // Cell (-3, -5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -163844: // Cell (-3, -4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -163843: // Cell (-3, -3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[5] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 258] == 200
-                        &&  mapInfos[xy +                   -122] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 258] == 200
+                        &&  mapInfos[xy +           -258] < rc.getRoundNum()
                         ){
                             isThrowAction[5] = true;
                             attackDirection[5] = 5;
                             scoresAttack[5] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -163842: // Cell (-3, -2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[6] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 130] == 200
-                        &&  mapInfos[xy +                   -62] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 130] == 200
+                        &&  mapInfos[xy +           -130] < rc.getRoundNum()
                         ){
                             isThrowAction[6] = true;
                             attackDirection[6] = 5;
                             scoresAttack[6] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -163841: // Cell (-3, -1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[5] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 130] == 200
-                        &&  mapInfos[xy +                   -62] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 130] == 200
+                        &&  mapInfos[xy +           -130] < rc.getRoundNum()
                         ){
                             isThrowAction[5] = true;
                             attackDirection[5] = 6;
                             scoresAttack[5] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[7] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 2] == 200
-                        &&  mapInfos[xy +                   -2] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 2] == 200
+                        &&  mapInfos[xy +           -2] < rc.getRoundNum()
                         ){
                             isThrowAction[7] = true;
                             attackDirection[7] = 5;
                             scoresAttack[7] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -163840: // Cell (-3, 0)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[6] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 2] == 200
-                        &&  mapInfos[xy +                   -2] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 2] == 200
+                        &&  mapInfos[xy +           -2] < rc.getRoundNum()
                         ){
                             isThrowAction[6] = true;
                             attackDirection[6] = 6;
                             scoresAttack[6] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -163839: // Cell (-3, 1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[5] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 2] == 200
-                        &&  mapInfos[xy +                   -2] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 2] == 200
+                        &&  mapInfos[xy +           -2] < rc.getRoundNum()
                         ){
                             isThrowAction[5] = true;
                             attackDirection[5] = 7;
                             scoresAttack[5] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[7] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 126] == 200
-                        &&  mapInfos[xy +                   58] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 126] == 200
+                        &&  mapInfos[xy +           126] < rc.getRoundNum()
                         ){
                             isThrowAction[7] = true;
                             attackDirection[7] = 6;
                             scoresAttack[7] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -163838: // Cell (-3, 2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[6] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 126] == 200
-                        &&  mapInfos[xy +                   58] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 126] == 200
+                        &&  mapInfos[xy +           126] < rc.getRoundNum()
                         ){
                             isThrowAction[6] = true;
                             attackDirection[6] = 7;
                             scoresAttack[6] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -163837: // Cell (-3, 3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[7] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 254] == 200
-                        &&  mapInfos[xy +                   118] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 254] == 200
+                        &&  mapInfos[xy +           254] < rc.getRoundNum()
                         ){
                             isThrowAction[7] = true;
                             attackDirection[7] = 7;
                             scoresAttack[7] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -163836: // Cell (-3, 4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -163835: // Cell (-3, 5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -98309: // Cell (-2, -5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -98308: // Cell (-2, -4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -98307: // Cell (-2, -3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[4] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 257] == 200
-                        &&  mapInfos[xy +                   -121] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 257] == 200
+                        &&  mapInfos[xy +           -257] < rc.getRoundNum()
                         ){
                             isThrowAction[4] = true;
                             attackDirection[4] = 5;
                             scoresAttack[4] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -98306: // Cell (-2, -2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[8] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 129] == 200
-                        &&  mapInfos[xy +                   -61] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 129] == 200
+                        &&  mapInfos[xy +           -129] < rc.getRoundNum()
                         ){
                             isThrowAction[8] = true;
                             attackDirection[8] = 5;
@@ -1117,86 +279,32 @@ public class Micro {
 
             case -98305: // Cell (-2, -1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[0] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 1] == 200
-                        &&  mapInfos[xy +                   -1] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 1] == 200
+                        &&  mapInfos[xy +           -1] < rc.getRoundNum()
                         ){
                             isThrowAction[0] = true;
                             attackDirection[0] = 5;
                             scoresAttack[0] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[4] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 129] == 200
-                        &&  mapInfos[xy +                   -61] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 129] == 200
+                        &&  mapInfos[xy +           -129] < rc.getRoundNum()
                         ){
                             isThrowAction[4] = true;
                             attackDirection[4] = 6;
                             scoresAttack[4] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -98304: // Cell (-2, 0)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[8] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 1] == 200
-                        &&  mapInfos[xy +                   -1] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 1] == 200
+                        &&  mapInfos[xy +           -1] < rc.getRoundNum()
                         ){
                             isThrowAction[8] = true;
                             attackDirection[8] = 6;
@@ -1206,86 +314,32 @@ public class Micro {
 
             case -98303: // Cell (-2, 1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[0] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 127] == 200
-                        &&  mapInfos[xy +                   59] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 127] == 200
+                        &&  mapInfos[xy +           127] < rc.getRoundNum()
                         ){
                             isThrowAction[0] = true;
                             attackDirection[0] = 6;
                             scoresAttack[0] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[4] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 1] == 200
-                        &&  mapInfos[xy +                   -1] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 1] == 200
+                        &&  mapInfos[xy +           -1] < rc.getRoundNum()
                         ){
                             isThrowAction[4] = true;
                             attackDirection[4] = 7;
                             scoresAttack[4] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -98302: // Cell (-2, 2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[8] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 127] == 200
-                        &&  mapInfos[xy +                   59] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 127] == 200
+                        &&  mapInfos[xy +           127] < rc.getRoundNum()
                         ){
                             isThrowAction[8] = true;
                             attackDirection[8] = 7;
@@ -1295,744 +349,258 @@ public class Micro {
 
             case -98301: // Cell (-2, 3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[0] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 255] == 200
-                        &&  mapInfos[xy +                   119] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 255] == 200
+                        &&  mapInfos[xy +           255] < rc.getRoundNum()
                         ){
                             isThrowAction[0] = true;
                             attackDirection[0] = 7;
                             scoresAttack[0] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -98300: // Cell (-2, 4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -98299: // Cell (-2, 5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -32773: // Cell (-1, -5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -32772: // Cell (-1, -4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -32771: // Cell (-1, -3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[3] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 256] == 200
-                        &&  mapInfos[xy +                   -120] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 256] == 200
+                        &&  mapInfos[xy +           -256] < rc.getRoundNum()
                         ){
                             isThrowAction[3] = true;
                             attackDirection[3] = 5;
                             scoresAttack[3] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[5] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 257] == 200
-                        &&  mapInfos[xy +                   -121] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 257] == 200
+                        &&  mapInfos[xy +           -257] < rc.getRoundNum()
                         ){
                             isThrowAction[5] = true;
                             attackDirection[5] = 4;
                             scoresAttack[5] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -32770: // Cell (-1, -2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[2] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 128] == 200
-                        &&  mapInfos[xy +                   -60] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 128] == 200
+                        &&  mapInfos[xy +           -128] < rc.getRoundNum()
                         ){
                             isThrowAction[2] = true;
                             attackDirection[2] = 5;
                             scoresAttack[2] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[6] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 129] == 200
-                        &&  mapInfos[xy +                   -61] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 129] == 200
+                        &&  mapInfos[xy +           -129] < rc.getRoundNum()
                         ){
                             isThrowAction[6] = true;
                             attackDirection[6] = 4;
                             scoresAttack[6] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -32769: // Cell (-1, -1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[1] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts ] == 200
-                        &&  mapInfos[xy +                   0] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy ] == 200
+                        &&  mapInfos[xy +           0] < rc.getRoundNum()
                         ){
                             isThrowAction[1] = true;
                             attackDirection[1] = 5;
                             scoresAttack[1] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[3] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 128] == 200
-                        &&  mapInfos[xy +                   -60] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 128] == 200
+                        &&  mapInfos[xy +           -128] < rc.getRoundNum()
                         ){
                             isThrowAction[3] = true;
                             attackDirection[3] = 6;
                             scoresAttack[3] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[5] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 129] == 200
-                        &&  mapInfos[xy +                   -61] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 129] == 200
+                        &&  mapInfos[xy +           -129] < rc.getRoundNum()
                         ){
                             isThrowAction[5] = true;
                             attackDirection[5] = 8;
                             scoresAttack[5] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[7] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 1] == 200
-                        &&  mapInfos[xy +                   -1] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 1] == 200
+                        &&  mapInfos[xy +           -1] < rc.getRoundNum()
                         ){
                             isThrowAction[7] = true;
                             attackDirection[7] = 4;
                             scoresAttack[7] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -32768: // Cell (-1, 0)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[2] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts ] == 200
-                        &&  mapInfos[xy +                   0] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy ] == 200
+                        &&  mapInfos[xy +           0] < rc.getRoundNum()
                         ){
                             isThrowAction[2] = true;
                             attackDirection[2] = 6;
                             scoresAttack[2] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[6] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 1] == 200
-                        &&  mapInfos[xy +                   -1] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 1] == 200
+                        &&  mapInfos[xy +           -1] < rc.getRoundNum()
                         ){
                             isThrowAction[6] = true;
                             attackDirection[6] = 8;
                             scoresAttack[6] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -32767: // Cell (-1, 1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[1] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 128] == 200
-                        &&  mapInfos[xy +                   60] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 128] == 200
+                        &&  mapInfos[xy +           128] < rc.getRoundNum()
                         ){
                             isThrowAction[1] = true;
                             attackDirection[1] = 6;
                             scoresAttack[1] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[3] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts ] == 200
-                        &&  mapInfos[xy +                   0] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy ] == 200
+                        &&  mapInfos[xy +           0] < rc.getRoundNum()
                         ){
                             isThrowAction[3] = true;
                             attackDirection[3] = 7;
                             scoresAttack[3] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[5] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 1] == 200
-                        &&  mapInfos[xy +                   -1] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 1] == 200
+                        &&  mapInfos[xy +           -1] < rc.getRoundNum()
                         ){
                             isThrowAction[5] = true;
                             attackDirection[5] = 0;
                             scoresAttack[5] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[7] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 127] == 200
-                        &&  mapInfos[xy +                   59] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 127] == 200
+                        &&  mapInfos[xy +           127] < rc.getRoundNum()
                         ){
                             isThrowAction[7] = true;
                             attackDirection[7] = 8;
                             scoresAttack[7] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -32766: // Cell (-1, 2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[2] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 128] == 200
-                        &&  mapInfos[xy +                   60] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 128] == 200
+                        &&  mapInfos[xy +           128] < rc.getRoundNum()
                         ){
                             isThrowAction[2] = true;
                             attackDirection[2] = 7;
                             scoresAttack[2] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[6] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 127] == 200
-                        &&  mapInfos[xy +                   59] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 127] == 200
+                        &&  mapInfos[xy +           127] < rc.getRoundNum()
                         ){
                             isThrowAction[6] = true;
                             attackDirection[6] = 0;
                             scoresAttack[6] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -32765: // Cell (-1, 3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[1] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 256] == 200
-                        &&  mapInfos[xy +                   120] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 256] == 200
+                        &&  mapInfos[xy +           256] < rc.getRoundNum()
                         ){
                             isThrowAction[1] = true;
                             attackDirection[1] = 7;
                             scoresAttack[1] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[7] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 255] == 200
-                        &&  mapInfos[xy +                   119] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 255] == 200
+                        &&  mapInfos[xy +           255] < rc.getRoundNum()
                         ){
                             isThrowAction[7] = true;
                             attackDirection[7] = 0;
                             scoresAttack[7] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case -32764: // Cell (-1, 4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case -32763: // Cell (-1, 5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 32763: // Cell (0, -5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 32764: // Cell (0, -4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 32765: // Cell (0, -3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[4] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 256] == 200
-                        &&  mapInfos[xy +                   -120] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 256] == 200
+                        &&  mapInfos[xy +           -256] < rc.getRoundNum()
                         ){
                             isThrowAction[4] = true;
                             attackDirection[4] = 4;
                             scoresAttack[4] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 32766: // Cell (0, -2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[8] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 128] == 200
-                        &&  mapInfos[xy +                   -60] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 128] == 200
+                        &&  mapInfos[xy +           -128] < rc.getRoundNum()
                         ){
                             isThrowAction[8] = true;
                             attackDirection[8] = 4;
@@ -2042,86 +610,32 @@ public class Micro {
 
             case 32767: // Cell (0, -1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[0] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts ] == 200
-                        &&  mapInfos[xy +                   0] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy ] == 200
+                        &&  mapInfos[xy +           0] < rc.getRoundNum()
                         ){
                             isThrowAction[0] = true;
                             attackDirection[0] = 4;
                             scoresAttack[0] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[4] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 128] == 200
-                        &&  mapInfos[xy +                   -60] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 128] == 200
+                        &&  mapInfos[xy +           -128] < rc.getRoundNum()
                         ){
                             isThrowAction[4] = true;
                             attackDirection[4] = 8;
                             scoresAttack[4] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 32768: // Cell (0, 0)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[8] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts ] == 200
-                        &&  mapInfos[xy +                   0] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy ] == 200
+                        &&  mapInfos[xy +           0] < rc.getRoundNum()
                         ){
                             isThrowAction[8] = true;
                             attackDirection[8] = 8;
@@ -2131,86 +645,32 @@ public class Micro {
 
             case 32769: // Cell (0, 1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[0] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 128] == 200
-                        &&  mapInfos[xy +                   60] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 128] == 200
+                        &&  mapInfos[xy +           128] < rc.getRoundNum()
                         ){
                             isThrowAction[0] = true;
                             attackDirection[0] = 8;
                             scoresAttack[0] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[4] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts ] == 200
-                        &&  mapInfos[xy +                   0] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy ] == 200
+                        &&  mapInfos[xy +           0] < rc.getRoundNum()
                         ){
                             isThrowAction[4] = true;
                             attackDirection[4] = 0;
                             scoresAttack[4] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 32770: // Cell (0, 2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[8] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 128] == 200
-                        &&  mapInfos[xy +                   60] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 128] == 200
+                        &&  mapInfos[xy +           128] < rc.getRoundNum()
                         ){
                             isThrowAction[8] = true;
                             attackDirection[8] = 0;
@@ -2220,744 +680,258 @@ public class Micro {
 
             case 32771: // Cell (0, 3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[0] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 256] == 200
-                        &&  mapInfos[xy +                   120] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 256] == 200
+                        &&  mapInfos[xy +           256] < rc.getRoundNum()
                         ){
                             isThrowAction[0] = true;
                             attackDirection[0] = 0;
                             scoresAttack[0] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 32772: // Cell (0, 4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 32773: // Cell (0, 5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 98299: // Cell (1, -5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 98300: // Cell (1, -4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 98301: // Cell (1, -3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[3] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 255] == 200
-                        &&  mapInfos[xy +                   -119] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 255] == 200
+                        &&  mapInfos[xy +           -255] < rc.getRoundNum()
                         ){
                             isThrowAction[3] = true;
                             attackDirection[3] = 4;
                             scoresAttack[3] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[5] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 256] == 200
-                        &&  mapInfos[xy +                   -120] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 256] == 200
+                        &&  mapInfos[xy +           -256] < rc.getRoundNum()
                         ){
                             isThrowAction[5] = true;
                             attackDirection[5] = 3;
                             scoresAttack[5] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 98302: // Cell (1, -2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[2] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 127] == 200
-                        &&  mapInfos[xy +                   -59] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 127] == 200
+                        &&  mapInfos[xy +           -127] < rc.getRoundNum()
                         ){
                             isThrowAction[2] = true;
                             attackDirection[2] = 4;
                             scoresAttack[2] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[6] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 128] == 200
-                        &&  mapInfos[xy +                   -60] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 128] == 200
+                        &&  mapInfos[xy +           -128] < rc.getRoundNum()
                         ){
                             isThrowAction[6] = true;
                             attackDirection[6] = 3;
                             scoresAttack[6] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 98303: // Cell (1, -1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[1] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 1] == 200
-                        &&  mapInfos[xy +                   1] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 1] == 200
+                        &&  mapInfos[xy +           1] < rc.getRoundNum()
                         ){
                             isThrowAction[1] = true;
                             attackDirection[1] = 4;
                             scoresAttack[1] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[3] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 127] == 200
-                        &&  mapInfos[xy +                   -59] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 127] == 200
+                        &&  mapInfos[xy +           -127] < rc.getRoundNum()
                         ){
                             isThrowAction[3] = true;
                             attackDirection[3] = 8;
                             scoresAttack[3] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[5] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 128] == 200
-                        &&  mapInfos[xy +                   -60] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 128] == 200
+                        &&  mapInfos[xy +           -128] < rc.getRoundNum()
                         ){
                             isThrowAction[5] = true;
                             attackDirection[5] = 2;
                             scoresAttack[5] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[7] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts ] == 200
-                        &&  mapInfos[xy +                   0] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy ] == 200
+                        &&  mapInfos[xy +           0] < rc.getRoundNum()
                         ){
                             isThrowAction[7] = true;
                             attackDirection[7] = 3;
                             scoresAttack[7] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 98304: // Cell (1, 0)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[2] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 1] == 200
-                        &&  mapInfos[xy +                   1] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 1] == 200
+                        &&  mapInfos[xy +           1] < rc.getRoundNum()
                         ){
                             isThrowAction[2] = true;
                             attackDirection[2] = 8;
                             scoresAttack[2] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[6] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts ] == 200
-                        &&  mapInfos[xy +                   0] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy ] == 200
+                        &&  mapInfos[xy +           0] < rc.getRoundNum()
                         ){
                             isThrowAction[6] = true;
                             attackDirection[6] = 2;
                             scoresAttack[6] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 98305: // Cell (1, 1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[1] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 129] == 200
-                        &&  mapInfos[xy +                   61] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 129] == 200
+                        &&  mapInfos[xy +           129] < rc.getRoundNum()
                         ){
                             isThrowAction[1] = true;
                             attackDirection[1] = 8;
                             scoresAttack[1] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[3] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 1] == 200
-                        &&  mapInfos[xy +                   1] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 1] == 200
+                        &&  mapInfos[xy +           1] < rc.getRoundNum()
                         ){
                             isThrowAction[3] = true;
                             attackDirection[3] = 0;
                             scoresAttack[3] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[5] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts ] == 200
-                        &&  mapInfos[xy +                   0] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy ] == 200
+                        &&  mapInfos[xy +           0] < rc.getRoundNum()
                         ){
                             isThrowAction[5] = true;
                             attackDirection[5] = 1;
                             scoresAttack[5] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[7] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 128] == 200
-                        &&  mapInfos[xy +                   60] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 128] == 200
+                        &&  mapInfos[xy +           128] < rc.getRoundNum()
                         ){
                             isThrowAction[7] = true;
                             attackDirection[7] = 2;
                             scoresAttack[7] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 98306: // Cell (1, 2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[2] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 129] == 200
-                        &&  mapInfos[xy +                   61] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 129] == 200
+                        &&  mapInfos[xy +           129] < rc.getRoundNum()
                         ){
                             isThrowAction[2] = true;
                             attackDirection[2] = 0;
                             scoresAttack[2] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[6] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 128] == 200
-                        &&  mapInfos[xy +                   60] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 128] == 200
+                        &&  mapInfos[xy +           128] < rc.getRoundNum()
                         ){
                             isThrowAction[6] = true;
                             attackDirection[6] = 1;
                             scoresAttack[6] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 98307: // Cell (1, 3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[1] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 257] == 200
-                        &&  mapInfos[xy +                   121] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 257] == 200
+                        &&  mapInfos[xy +           257] < rc.getRoundNum()
                         ){
                             isThrowAction[1] = true;
                             attackDirection[1] = 0;
                             scoresAttack[1] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[7] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 256] == 200
-                        &&  mapInfos[xy +                   120] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 256] == 200
+                        &&  mapInfos[xy +           256] < rc.getRoundNum()
                         ){
                             isThrowAction[7] = true;
                             attackDirection[7] = 1;
                             scoresAttack[7] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 98308: // Cell (1, 4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 98309: // Cell (1, 5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 163835: // Cell (2, -5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 163836: // Cell (2, -4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 163837: // Cell (2, -3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[4] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 255] == 200
-                        &&  mapInfos[xy +                   -119] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 255] == 200
+                        &&  mapInfos[xy +           -255] < rc.getRoundNum()
                         ){
                             isThrowAction[4] = true;
                             attackDirection[4] = 3;
                             scoresAttack[4] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 163838: // Cell (2, -2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[8] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 127] == 200
-                        &&  mapInfos[xy +                   -59] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 127] == 200
+                        &&  mapInfos[xy +           -127] < rc.getRoundNum()
                         ){
                             isThrowAction[8] = true;
                             attackDirection[8] = 3;
@@ -2967,86 +941,32 @@ public class Micro {
 
             case 163839: // Cell (2, -1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[0] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 1] == 200
-                        &&  mapInfos[xy +                   1] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 1] == 200
+                        &&  mapInfos[xy +           1] < rc.getRoundNum()
                         ){
                             isThrowAction[0] = true;
                             attackDirection[0] = 3;
                             scoresAttack[0] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[4] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 127] == 200
-                        &&  mapInfos[xy +                   -59] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 127] == 200
+                        &&  mapInfos[xy +           -127] < rc.getRoundNum()
                         ){
                             isThrowAction[4] = true;
                             attackDirection[4] = 2;
                             scoresAttack[4] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 163840: // Cell (2, 0)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[8] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 1] == 200
-                        &&  mapInfos[xy +                   1] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 1] == 200
+                        &&  mapInfos[xy +           1] < rc.getRoundNum()
                         ){
                             isThrowAction[8] = true;
                             attackDirection[8] = 2;
@@ -3056,86 +976,32 @@ public class Micro {
 
             case 163841: // Cell (2, 1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[0] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 129] == 200
-                        &&  mapInfos[xy +                   61] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 129] == 200
+                        &&  mapInfos[xy +           129] < rc.getRoundNum()
                         ){
                             isThrowAction[0] = true;
                             attackDirection[0] = 2;
                             scoresAttack[0] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[4] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 1] == 200
-                        &&  mapInfos[xy +                   1] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 1] == 200
+                        &&  mapInfos[xy +           1] < rc.getRoundNum()
                         ){
                             isThrowAction[4] = true;
                             attackDirection[4] = 1;
                             scoresAttack[4] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 163842: // Cell (2, 2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[8] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 129] == 200
-                        &&  mapInfos[xy +                   61] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 129] == 200
+                        &&  mapInfos[xy +           129] < rc.getRoundNum()
                         ){
                             isThrowAction[8] = true;
                             attackDirection[8] = 1;
@@ -3145,1022 +1011,212 @@ public class Micro {
 
             case 163843: // Cell (2, 3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[0] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 257] == 200
-                        &&  mapInfos[xy +                   121] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 257] == 200
+                        &&  mapInfos[xy +           257] < rc.getRoundNum()
                         ){
                             isThrowAction[0] = true;
                             attackDirection[0] = 1;
                             scoresAttack[0] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 163844: // Cell (2, 4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 163845: // Cell (2, 5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 229371: // Cell (3, -5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 229372: // Cell (3, -4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 229373: // Cell (3, -3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[3] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 254] == 200
-                        &&  mapInfos[xy +                   -118] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 254] == 200
+                        &&  mapInfos[xy +           -254] < rc.getRoundNum()
                         ){
                             isThrowAction[3] = true;
                             attackDirection[3] = 3;
                             scoresAttack[3] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 229374: // Cell (3, -2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[2] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 126] == 200
-                        &&  mapInfos[xy +                   -58] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 126] == 200
+                        &&  mapInfos[xy +           -126] < rc.getRoundNum()
                         ){
                             isThrowAction[2] = true;
                             attackDirection[2] = 3;
                             scoresAttack[2] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 229375: // Cell (3, -1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[1] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 2] == 200
-                        &&  mapInfos[xy +                   2] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 2] == 200
+                        &&  mapInfos[xy +           2] < rc.getRoundNum()
                         ){
                             isThrowAction[1] = true;
                             attackDirection[1] = 3;
                             scoresAttack[1] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[3] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts - 126] == 200
-                        &&  mapInfos[xy +                   -58] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy - 126] == 200
+                        &&  mapInfos[xy +           -126] < rc.getRoundNum()
                         ){
                             isThrowAction[3] = true;
                             attackDirection[3] = 2;
                             scoresAttack[3] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 229376: // Cell (3, 0)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[2] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 2] == 200
-                        &&  mapInfos[xy +                   2] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 2] == 200
+                        &&  mapInfos[xy +           2] < rc.getRoundNum()
                         ){
                             isThrowAction[2] = true;
                             attackDirection[2] = 2;
                             scoresAttack[2] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 229377: // Cell (3, 1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[1] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 130] == 200
-                        &&  mapInfos[xy +                   62] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 130] == 200
+                        &&  mapInfos[xy +           130] < rc.getRoundNum()
                         ){
                             isThrowAction[1] = true;
                             attackDirection[1] = 2;
                             scoresAttack[1] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                if(
+                    if(
                             scoresAttack[3] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 2] == 200
-                        &&  mapInfos[xy +                   2] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 2] == 200
+                        &&  mapInfos[xy +           2] < rc.getRoundNum()
                         ){
                             isThrowAction[3] = true;
                             attackDirection[3] = 1;
                             scoresAttack[3] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 229378: // Cell (3, 2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[2] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 130] == 200
-                        &&  mapInfos[xy +                   62] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 130] == 200
+                        &&  mapInfos[xy +           130] < rc.getRoundNum()
                         ){
                             isThrowAction[2] = true;
                             attackDirection[2] = 1;
                             scoresAttack[2] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 229379: // Cell (3, 3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 if(
                             scoresAttack[1] < scoreThrow
-                        &&  BugNavLmx.mapCosts[xyMapCosts + 258] == 200
-                        &&  mapInfos[xy +                   122] < rc.getRoundNum()
+                        &&  BugNavLmx.mapCosts[xy + 258] == 200
+                        &&  mapInfos[xy +           258] < rc.getRoundNum()
                         ){
                             isThrowAction[1] = true;
                             attackDirection[1] = 1;
                             scoresAttack[1] = scoreThrow;
                         }
-                    xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                return;
+                    return;
 
             case 229380: // Cell (3, 4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 229381: // Cell (3, 5)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 294908: // Cell (4, -4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 294909: // Cell (4, -3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 294910: // Cell (4, -2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 294911: // Cell (4, -1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 294912: // Cell (4, 0)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 294913: // Cell (4, 1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 294914: // Cell (4, 2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 294915: // Cell (4, 3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 294916: // Cell (4, 4)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 360445: // Cell (5, -3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 360446: // Cell (5, -2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 360447: // Cell (5, -1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 360448: // Cell (5, 0)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 360449: // Cell (5, 1)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 360450: // Cell (5, 2)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             case 360451: // Cell (5, 3)
 
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
-                xy = myLoc.x + 60 * myLoc.y;
-                xyMapCosts = myLoc.x + (myLoc.y<<7) + 129;
-                
                 return;
 
             default:
@@ -14049,11 +11105,11 @@ public class Micro {
         }// switch(enemyRelativeLoc.hashCode())
     }
     public static void setUnitAt(MapLocation loc){
-        mapInfos[loc.x + 60 * loc.y] = (char) rc.getRoundNum();
+        mapInfos[loc.x + (loc.y<<7) + 1032] = (char) rc.getRoundNum();
     }
 
     public static boolean checkIfUnitAt(MapLocation loc){
-        return mapInfos[loc.x + 60 * loc.y] < rc.getRoundNum();
+        return mapInfos[loc.x + (loc.y<<7) + 1032] < rc.getRoundNum();
     }
 
     public static void init(RobotController rc){
@@ -0,0 +1,349 @@
+package current.Utils;
+
+import battlecode.common.GameActionException;
+import battlecode.common.MapLocation;
+import battlecode.common.RobotController;
+import current.Robots.Robot;
+
+public class PackedLocationsWithId {
+    /**
+     * Same functionality of MapLocationsWithId, but locations are stored packed as x + (y << 6) in a char.
+     * Adding a location or updating it never allocates, MapLocation is only created by loc() and to sense a location.
+     * ID are mod 4096, hashmap[id] is valid only if hashmap[id] < size && ids[hashmap[id]] == id (sparse set)
+     *
+     * You can use a publicly available size element on iterate on only (!) these elements.
+     *
+     * Optional bucket index (useBuckets): units are also linked in 64 buckets of 8x8 cells (x >> 3, y >> 3),
+     * nearestAndClear then drops whole buckets out of maxDist without looking at their units,
+     * and senses locations only in buckets intersecting vision.
+     * */
+
+    public int maxlen;          // Max capacity of the data structure
+    public char[] hashmap;      // Index of the stored (xy, unit id), may be outdated, check it with ids
+    public char[] xys;          // xys[hashmap[id]] = x + (y << 6) of the unit
+    public int[] ids;           // ids[hashmap[id]] = id of the unit
+    public char size;           // Number of units contains
+    public boolean flushIfFull;
+
+    // Bucket index, doubly linked lists of indexes
+    public boolean useBuckets;
+    char[] heads;               // heads[bucket] = first index of the bucket, \uFFFF if empty
+    char[] nexts;               // nexts[index]  = next index in the same bucket
+    char[] prevs;               // prevs[index]  = previous index in the same bucket, \uFFFF if first
+    long occupied;              // Bit bucket set if the bucket is not empty
+
+    public PackedLocationsWithId(char maxlen, boolean flushIfFull) {
+        this(maxlen, flushIfFull, false);
+    }
+
+    public PackedLocationsWithId(char maxlen, boolean flushIfFull, boolean useBuckets) {
+        this.maxlen = maxlen;
+        this.xys = new char[maxlen];
+        this.ids = new int[maxlen];
+        this.flushIfFull = flushIfFull;
+        this.useBuckets = useBuckets;
+        this.hashmap = Tools.arrayOf4096Chars();
+        if(useBuckets){
+            this.heads = new char[64];
+            this.nexts = new char[maxlen];
+            this.prevs = new char[maxlen];
+            for(int b = 0; b < 64; b++){ // Empty buckets, not clear() which subclasses can override
+                heads[b] = '\uFFFF';
+            }
+        }
+    }
+
+    static int bucket(int xy) {
+        return ((xy & 0b111111) >> 3) | ((xy >> 9) << 3);
+    }
+
+    public boolean add(MapLocation loc, int id) {
+        return add(loc.x | (loc.y << 6), id);
+    }
+
+    // return boolean false if set is full
+    public boolean add(int xy, int id) {
+        id = id % 4096;
+
+        char index = hashmap[id];
+        if(index < size && ids[index] == id){
+            // Replace already existing element
+            if(useBuckets && bucket(xys[index]) != bucket(xy)){
+                unlink(index);
+                xys[index] = (char) xy;
+                link(index);
+            }else{
+                xys[index] = (char) xy;
+            }
+            return true;
+        }
+
+        // Max size
+        if (size == maxlen){
+            if(flushIfFull){
+                clear();
+            }else {
+                return false;
+            }
+        }
+
+        // Add new location
+        hashmap[id] = size;
+        xys[size] = (char) xy;
+        ids[size] = id;
+        if(useBuckets){
+            link(size);
+        }
+        size++;
+        return true;
+    }
+
+    // Insert index at the head of the bucket of its location
+    void link(char index) {
+        int b = bucket(xys[index]);
+        char head = heads[b];
+        nexts[index] = head;
+        prevs[index] = '\uFFFF';
+        if(head != '\uFFFF'){
+            prevs[head] = index;
+        }
+        heads[b] = index;
+        occupied |= 1L << b;
+    }
+
+    void unlink(char index) {
+        int b = bucket(xys[index]);
+        char prev = prevs[index];
+        char next = nexts[index];
+        if(prev == '\uFFFF'){
+            heads[b] = next;
+            if(next == '\uFFFF'){
+                occupied &= ~(1L << b);
+            }
+        }else{
+            nexts[prev] = next;
+        }
+        if(next != '\uFFFF'){
+            prevs[next] = prev;
+        }
+    }
+
+    // Buckets intersecting the square [x0, x1] x [y0, y1], clamped to the map
+    static long bucketsIn(int x0, int y0, int x1, int y1) {
+        int bx0 = Math.max(0, x0) >> 3;
+        int bx1 = Math.min(63, x1) >> 3;
+        int by0 = Math.max(0, y0) >> 3;
+        int by1 = Math.min(63, y1) >> 3;
+        long row = (1L << (bx1 + 1)) - (1L << bx0);
+        long mask = 0;
+        for(int by = by0; by <= by1; by++){
+            mask |= row << (by << 3);
+        }
+        return mask;
+    }
+
+    public MapLocation loc(int index) {
+        int xy = xys[index];
+        return new MapLocation(xy & 0b111111, xy >> 6);
+    }
+
+    public int distanceSquared(int index, int x, int y) {
+        int xy = xys[index];
+        int dx = (xy & 0b111111) - x;
+        int dy = (xy >> 6) - y;
+        return dx * dx + dy * dy;
+    }
+
+    public int nearest(int x, int y) {
+        int minDistance = 99999;
+        int minIndex = -1;
+        for(char i = 0; i < size; i++){
+            int dist = distanceSquared(i, x, y);
+            if(dist < minDistance){
+                minDistance = dist;
+                minIndex = i;
+            }
+        }
+        return minIndex;
+    }
+
+    // Get nearest and delete if too far
+    // If can sense unit location and unit is not here, remove it
+    public int nearestAndClear(MapLocation myLoc, int maxDist) throws GameActionException {
+        if(useBuckets){
+            return nearestAndClearBuckets(myLoc, maxDist);
+        }
+        RobotController rc = Robot.rc;
+        char[] mapInfos = Micro.mapInfos;
+        char round = (char) rc.getRoundNum();
+        int visionRadius = rc.getType().getVisionRadiusSquared();
+        int myX = myLoc.x;
+        int myY = myLoc.y;
+        char i = 0;
+        int minDistance = 99999;
+        int minIndex = -1;
+
+        while(i < size){
+            int xy = xys[i];
+            int x = xy & 0b111111;
+            int y = xy >> 6;
+            int dist = (x - myX) * (x - myX) + (y - myY) * (y - myY);
+
+            // If too far
+            if(dist > maxDist){
+                removeIndex(i);
+                continue;
+            }
+
+            // Same as Micro.setUnitAt
+            mapInfos[x + (y << 7) + Grid.OFFSET] = round;
+
+            // Delete it if we can sense location and (no unit here of wrong id), only units in vision radius are created
+            if(dist <= visionRadius){
+                MapLocation loc = new MapLocation(x, y);
+                if (rc.canSenseLocation(loc) && (!rc.canSenseRobotAtLocation(loc) || rc.senseRobotAtLocation(loc).getID() % 4096 != ids[i])){
+                    removeIndex(i);
+                    continue;
+                }
+            }
+
+            if(dist < minDistance){
+                minDistance = dist;
+                minIndex = i;
+            }
+
+            i++;
+        }
+
+        return minIndex;
+    }
+
+    // Same as nearestAndClear, visiting only buckets in range
+    int nearestAndClearBuckets(MapLocation myLoc, int maxDist) throws GameActionException {
+        RobotController rc = Robot.rc;
+        char[] mapInfos = Micro.mapInfos;
+        char round = (char) rc.getRoundNum();
+        int visionRadius = rc.getType().getVisionRadiusSquared();
+        int myX = myLoc.x;
+        int myY = myLoc.y;
+        int r = (int) Math.sqrt(maxDist);
+        int v = (int) Math.sqrt(visionRadius);
+        int minDistance = 99999;
+        int minIndex = -1;
+
+        // Units in buckets out of the square of side 2 * r are all further than maxDist
+        long inRange = bucketsIn(myX - r, myY - r, myX + r, myY + r);
+        long inVision = bucketsIn(myX - v, myY - v, myX + v, myY + v);
+        long far = occupied & ~inRange;
+        while(far != 0){
+            int b = Long.numberOfTrailingZeros(far);
+            far &= far - 1;
+            while(heads[b] != '\uFFFF'){
+                removeIndex(heads[b]);
+            }
+        }
+
+        long near = occupied & inRange;
+        while(near != 0){
+            int b = Long.numberOfTrailingZeros(near);
+            near &= near - 1;
+            boolean canSense = (inVision & (1L << b)) != 0;
+            char i = heads[b];
+            while(i != '\uFFFF'){
+                char next = nexts[i];
+                int xy = xys[i];
+                int x = xy & 0b111111;
+                int y = xy >> 6;
+                int dist = (x - myX) * (x - myX) + (y - myY) * (y - myY);
+
+                boolean removed = dist > maxDist;
+                if(!removed){
+                    // Same as Micro.setUnitAt
+                    mapInfos[x + (y << 7) + Grid.OFFSET] = round;
+
+                    // Delete it if we can sense location and (no unit here of wrong id)
+                    if(canSense && dist <= visionRadius){
+                        MapLocation loc = new MapLocation(x, y);
+                        removed = rc.canSenseLocation(loc) && (!rc.canSenseRobotAtLocation(loc) || rc.senseRobotAtLocation(loc).getID() % 4096 != ids[i]);
+                    }
+                }
+
+                if(removed){
+                    // Last element is moved to i
+                    char last = (char) (size - 1);
+                    removeIndex(i);
+                    if(next == last){next = i;}
+                    if(minIndex == last){minIndex = i;}
+                }else if(dist < minDistance){
+                    minDistance = dist;
+                    minIndex = i;
+                }
+                i = next;
+            }
+        }
+
+        return minIndex;
+    }
+
+    public void removeIndex(char indexRemoved){
+        if(useBuckets){
+            unlink(indexRemoved);
+        }
+
+        // Replace by last element
+        size--;
+        xys[indexRemoved] = xys[size];
+        ids[indexRemoved] = ids[size];
+
+        // Update index of the moved element
+        if(indexRemoved != size){
+            hashmap[ids[size]] = indexRemoved;
+            if(useBuckets){
+                relink(size, indexRemoved);
+            }
+        }
+    }
+
+    // Element moved from index from to index to, same place in its bucket
+    void relink(char from, char to) {
+        char prev = prevs[from];
+        char next = nexts[from];
+        prevs[to] = prev;
+        nexts[to] = next;
+        if(prev == '\uFFFF'){
+            heads[bucket(xys[to])] = to;
+        }else{
+            nexts[prev] = to;
+        }
+        if(next != '\uFFFF'){
+            prevs[next] = to;
+        }
+    }
+
+    public void remove(int id) {
+        id = id % 4096;
+        char index = hashmap[id];
+        if(index >= size || ids[index] != id){
+            System.out.println("WARN: removing unit " + id + "but not in set");
+            return;
+        }
+        removeIndex(index);
+    }
+
+    public boolean contains(int id) {
+        id = id % 4096;
+        char index = hashmap[id];
+        return index < size && ids[index] == id;
+    }
+
+    // Entries of hashmap are checked against ids, nothing to reset
+    public void clear() {
+        size = 0;
+        if(useBuckets){
+            for(int b = 0; b < 64; b++){
+                heads[b] = '\uFFFF';
+            }
+            occupied = 0;
+        }
+    }
+}
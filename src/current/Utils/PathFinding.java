@@ -1,11 +1,13 @@
 package current.Utils;
 
 import battlecode.common.*;
+import current.Communication.SectorHints;
 import current.Robots.Robot;
 import current.States.Result;
 
 import java.util.Random;
 
+import static current.Robots.Robot.DEBUG;
 import static current.States.Code.*;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
@@ -27,7 +29,7 @@ public class PathFinding {
 
     public static void addCanMoveConstraint(){
         RobotController rc = Robot.rc;
-        MapLocation myLoc = Robot.rc.getLocation();
+        int xy = Grid.myXY;
 
         // TODO: Consider we can always dig
         // Check if we can dig
@@ -39,8 +41,7 @@ public class PathFinding {
         // Check all direction
         // printScores("Before move constrainte");
         for(Direction dir : Direction.values()){
-            MapLocation loc = myLoc.add(dir);
-            int cellType = BugNavLmx.mapCosts[loc.x + (loc.y<<7) + 129];
+            int cellType = BugNavLmx.mapCosts[xy + Grid.DIR_SHIFTS[dir.ordinal()]];
 
             if (cellType == BugNavLmx.SCORE_CELL_WALL) {
                 scores[dir.ordinal()] = 0;
@@ -74,12 +75,12 @@ public class PathFinding {
     }
 
     public static void printScores(String msg){
-        Robot.debug(msg + ":");
-        Robot.debug("              " +  scores[Direction.NORTH.ordinal()]);
-        Robot.debug(String.format("%10s  ↖️⬆️↗️  %10s", scores[Direction.NORTHWEST.ordinal()], scores[Direction.NORTHEAST.ordinal()]));
-        Robot.debug(String.format("%10s  ⬅️⏹️➡️  %10s", scores[Direction.WEST.ordinal()], scores[Direction.EAST.ordinal()]));
-        Robot.debug(String.format("%10s  ↙️⬇️↘️  %10s", scores[Direction.SOUTHWEST.ordinal()], scores[Direction.SOUTHEAST.ordinal()]));
-        Robot.debug("              " +  scores[Direction.SOUTH.ordinal()] + "     CENTER : " + scores[Direction.CENTER.ordinal()]);
+        if(DEBUG) Robot.debug(msg + ":");
+        if(DEBUG) Robot.debug("              " +  scores[Direction.NORTH.ordinal()]);
+        if(DEBUG) Robot.debug(String.format("%10s  ↖️⬆️↗️  %10s", scores[Direction.NORTHWEST.ordinal()], scores[Direction.NORTHEAST.ordinal()]));
+        if(DEBUG) Robot.debug(String.format("%10s  ⬅️⏹️➡️  %10s", scores[Direction.WEST.ordinal()], scores[Direction.EAST.ordinal()]));
+        if(DEBUG) Robot.debug(String.format("%10s  ↙️⬇️↘️  %10s", scores[Direction.SOUTHWEST.ordinal()], scores[Direction.SOUTHEAST.ordinal()]));
+        if(DEBUG) Robot.debug("              " +  scores[Direction.SOUTH.ordinal()] + "     CENTER : " + scores[Direction.CENTER.ordinal()]);
 
     }
 
@@ -131,11 +132,11 @@ public class PathFinding {
 
         // Debug
         Robot.debug("Best direction:");
-        Robot.debug("              " +  scores[Direction.NORTH.ordinal()]);
-        Robot.debug(String.format("%10s  ↖️⬆️↗️  %10s", scores[Direction.NORTHWEST.ordinal()], scores[Direction.NORTHEAST.ordinal()]));
-        Robot.debug(String.format("%10s  ⬅️⏹️➡️  %10s", scores[Direction.WEST.ordinal()], scores[Direction.EAST.ordinal()]));
-        Robot.debug(String.format("%10s  ↙️⬇️↘️  %10s", scores[Direction.SOUTHWEST.ordinal()], scores[Direction.SOUTHEAST.ordinal()]));
-        Robot.debug("              " +  scores[Direction.SOUTH.ordinal()] + "     CENTER : " + scores[Direction.CENTER.ordinal()]);
+        if(DEBUG) Robot.debug("              " +  scores[Direction.NORTH.ordinal()]);
+        if(DEBUG) Robot.debug(String.format("%10s  ↖️⬆️↗️  %10s", scores[Direction.NORTHWEST.ordinal()], scores[Direction.NORTHEAST.ordinal()]));
+        if(DEBUG) Robot.debug(String.format("%10s  ⬅️⏹️➡️  %10s", scores[Direction.WEST.ordinal()], scores[Direction.EAST.ordinal()]));
+        if(DEBUG) Robot.debug(String.format("%10s  ↙️⬇️↘️  %10s", scores[Direction.SOUTHWEST.ordinal()], scores[Direction.SOUTHEAST.ordinal()]));
+        if(DEBUG) Robot.debug("              " +  scores[Direction.SOUTH.ordinal()] + "     CENTER : " + scores[Direction.CENTER.ordinal()]);
 
         // move
         return bestDir;
@@ -151,28 +152,36 @@ public class PathFinding {
             return Robot.rc.getLocation().directionTo(loc);
         }
 
-        isLmxBugnav = true;
-        return BugNavLmx.pathTo(
+        Direction dir = BugNavLmx.pathTo(
                 Robot.rc.getLocation(), loc,
                 BugNavLmx.SCORE_CELL_IF_DIG * 30, // Max 30 cells
                 BugNavLmx.SCORE_CELL_IF_DIG, // Avoid units
                 max(1000, min(Clock.getBytecodesLeft() - 4000, 6000)) // Number bytecode used
         );
+
+        // Path will be finished on next turns, only soft orientation meanwhile
+        isLmxBugnav = BugNavLmx.resultCode != BugNavLmx.RESULT_PENDING;
+        return dir;
     }
 
     // Smart movement using BugNav when direct path is blocked
     // Uses BugNav algorithm inspired by Battlecode 2024 chenyx512 (US_QUAL)
     public static Result smartMoveTo(MapLocation loc) throws GameActionException {
         if (loc == null) {
-            return new Result(ERR, "No target location");
+            return Result.of(ERR, "No target location");
         }
         if (loc.equals(Robot.rc.getLocation())) {
-            return new Result(OK, "Already at target");
+            return Result.of(OK, "Already at target");
         }
 
         // First try, bugnav of Louis-Max
         Direction bugNavDir = BugNavLmx(loc);
 
+        // Fallback to sector hints from the king flow field
+        if (bugNavDir == null) {
+            bugNavDir = SectorHints.direction(Robot.myLoc, loc);
+        }
+
         // Fallback to direction if still fail
         if (bugNavDir == null) {
             System.out.println("BugNavChenyx512 return null, taking direct direction");
@@ -197,14 +206,14 @@ public class PathFinding {
 
         // Can't move center
         if(dir == Direction.CENTER){
-            return new Result(WARN, "Can't move to center");
+            return Result.of(WARN, "Can't move to center");
         }
 
         // If dirt, turn to the direction and remove dirt
-        int xy = locMove.x + (locMove.y<<7) + 129;
-        Robot.print("Score at loc is " + (int)BugNavLmx.mapCosts[xy]);
+        int xy = Grid.myXY + Grid.DIR_SHIFTS[dir.ordinal()];
+        if(DEBUG) Robot.print("Score at loc is " + (int)BugNavLmx.mapCosts[xy]);
         if(BugNavLmx.mapCosts[xy] == BugNavLmx.SCORE_CELL_IF_DIG){
-            Robot.print("Try diging dirt at " + locMove);
+            if(DEBUG) Robot.print("Try diging dirt at " + locMove);
 
             VisionUtils.smartLookAt(locMove);
             if(rc.canRemoveDirt(locMove)){
@@ -236,15 +245,16 @@ public class PathFinding {
             try {
                 Robot.rc.move(dir);
             } catch (GameActionException e) {
-                Robot.print("ERRRR : " + e.getMessage());
+                if(DEBUG) Robot.print("ERRRR : " + e.getMessage());
             }
             Robot.lastLocation = Robot.myLoc;
             Robot.lastDirection = dir;
 
             Robot.myLoc = Robot.rc.getLocation();
-            return new Result(OK, "Moved to " + dir.toString());
+            Grid.update(Robot.myLoc);
+            return Result.of(OK, DEBUG ? "Moved to " + dir.toString() : "");
         } else {
-            return new Result(CANT, "Can't move to " + dir.toString());
+            return Result.of(CANT, DEBUG ? "Can't move to " + dir.toString() : "");
         }
     }
 
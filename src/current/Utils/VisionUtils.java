@@ -21,28 +21,28 @@ import static current.States.Code.OK;
 // public static void getScoreInView(MapLocation[] scores, MapLocation from, Direction dir, UnitType unit)
 
 public class VisionUtils {
-    // encodeXYString(gap : 8 ) = x + y*68 + 552
+    // encodeXYString() = x + (y<<7) + 1032
     public static int SCORE_NOT_ALREADY_VIEWED = 2000000;
-    public static int scores[] = new int[] {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0}; /* defaultValue, gapValue, gap size */
+    public static int scores[] = new int[] {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,2000000,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0}; /* defaultValue, gapValue */
 
     public static void addScoreArroundUnit(MapLocation loc, int score){
-        int xy = loc.x + loc.y*68 + 552;
-        scores[xy + 620] += score;
-        scores[xy + 483] += score;
-        scores[xy + 619] += score;
-        scores[xy + 621] += score;
-        scores[xy + 485] += score;
-        scores[xy + 551] += score;
-        scores[xy + 553] += score;
-        scores[xy + 484] += score;
+        int xy = loc.x + (loc.y<<7) + 1032;
+        scores[xy + 128] += score;
+        scores[xy - 129] += score;
+        scores[xy + 127] += score;
+        scores[xy + 129] += score;
+        scores[xy - 127] += score;
+        scores[xy - 1] += score;
+        scores[xy + 1] += score;
+        scores[xy - 128] += score;
             }
 
     public static void addScore(MapLocation loc, int score){
-        scores[loc.x + loc.y*68 + 552] = score;
+        scores[loc.x + (loc.y<<7) + 1032] = score;
     }
 
     public static int getScore(MapLocation loc){
-        return scores[loc.x + loc.y*68 + 552];
+        return scores[loc.x + (loc.y<<7) + 1032];
     }
 
     public static Direction[] directionsToSeeTarget(MapLocation target, MapLocation from){
@@ -202,14 +202,14 @@ public class VisionUtils {
     public static void forceLookCell(MapLocation cell){
         lookDirections = new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0};
         for(Direction dir : directionsToSeeTarget(cell, Robot.rc.getLocation())){
-            Robot.print(String.format("Force look cell, need to look at dir : %10s", dir));
+            if(Robot.DEBUG) Robot.print(String.format("Force look cell, need to look at dir : %10s", dir));
             lookDirections[dir.ordinal()] = 1;
         }
     }
 
     public static Result smartLookAt(MapLocation target) throws GameActionException{
         if(Robot.rc.canSenseLocation(target)){
-            return new Result(OK, "Target is already in vision");
+            return Result.of(OK, "Target is already in vision");
         }
 
         forceLookCell(target);
@@ -219,14 +219,14 @@ public class VisionUtils {
     public static Result smartLook() throws GameActionException {
         RobotController rc = Robot.rc;
         if(!rc.canTurn()){
-            return new Result(CANT, "Can't turn");
+            return Result.of(CANT, "Can't turn");
         }
 
         Direction bestDir = Direction.CENTER;
         int bestScore = 0;
         if(lookDirections[0] > 0){
             int score = getScoreInView(rc.getLocation(), Direction.NORTH, rc.getType()) * lookDirections[0];
-            Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.NORTH, lookDirections[0]));
+            if(Robot.DEBUG) Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.NORTH, lookDirections[0]));
             if(score > bestScore){
                 bestScore = score;
                 bestDir = Direction.NORTH;
@@ -234,7 +234,7 @@ public class VisionUtils {
         }
         if(lookDirections[1] > 0){
             int score = getScoreInView(rc.getLocation(), Direction.NORTHEAST, rc.getType()) * lookDirections[1];
-            Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.NORTHEAST, lookDirections[1]));
+            if(Robot.DEBUG) Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.NORTHEAST, lookDirections[1]));
             if(score > bestScore){
                 bestScore = score;
                 bestDir = Direction.NORTHEAST;
@@ -242,7 +242,7 @@ public class VisionUtils {
         }
         if(lookDirections[2] > 0){
             int score = getScoreInView(rc.getLocation(), Direction.EAST, rc.getType()) * lookDirections[2];
-            Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.EAST, lookDirections[2]));
+            if(Robot.DEBUG) Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.EAST, lookDirections[2]));
             if(score > bestScore){
                 bestScore = score;
                 bestDir = Direction.EAST;
@@ -250,7 +250,7 @@ public class VisionUtils {
         }
         if(lookDirections[3] > 0){
             int score = getScoreInView(rc.getLocation(), Direction.SOUTHEAST, rc.getType()) * lookDirections[3];
-            Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.SOUTHEAST, lookDirections[3]));
+            if(Robot.DEBUG) Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.SOUTHEAST, lookDirections[3]));
             if(score > bestScore){
                 bestScore = score;
                 bestDir = Direction.SOUTHEAST;
@@ -258,7 +258,7 @@ public class VisionUtils {
         }
         if(lookDirections[4] > 0){
             int score = getScoreInView(rc.getLocation(), Direction.SOUTH, rc.getType()) * lookDirections[4];
-            Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.SOUTH, lookDirections[4]));
+            if(Robot.DEBUG) Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.SOUTH, lookDirections[4]));
             if(score > bestScore){
                 bestScore = score;
                 bestDir = Direction.SOUTH;
@@ -266,7 +266,7 @@ public class VisionUtils {
         }
         if(lookDirections[5] > 0){
             int score = getScoreInView(rc.getLocation(), Direction.SOUTHWEST, rc.getType()) * lookDirections[5];
-            Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.SOUTHWEST, lookDirections[5]));
+            if(Robot.DEBUG) Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.SOUTHWEST, lookDirections[5]));
             if(score > bestScore){
                 bestScore = score;
                 bestDir = Direction.SOUTHWEST;
@@ -274,7 +274,7 @@ public class VisionUtils {
         }
         if(lookDirections[6] > 0){
             int score = getScoreInView(rc.getLocation(), Direction.WEST, rc.getType()) * lookDirections[6];
-            Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.WEST, lookDirections[6]));
+            if(Robot.DEBUG) Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.WEST, lookDirections[6]));
             if(score > bestScore){
                 bestScore = score;
                 bestDir = Direction.WEST;
@@ -282,7 +282,7 @@ public class VisionUtils {
         }
         if(lookDirections[7] > 0){
             int score = getScoreInView(rc.getLocation(), Direction.NORTHWEST, rc.getType()) * lookDirections[7];
-            Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.NORTHWEST, lookDirections[7]));
+            if(Robot.DEBUG) Robot.print(String.format("Smart look score of %-10d %-10s %-2d", score, Direction.NORTHWEST, lookDirections[7]));
             if(score > bestScore){
                 bestScore = score;
                 bestDir = Direction.NORTHWEST;
@@ -342,8 +342,8 @@ public class VisionUtils {
                 rc.turn(rc.getDirection().rotateRight().rotateRight());
             }
         }
-        Robot.print(String.format("Smart look best dir is %10s with score %d", bestDir, bestScore));
-        return new Result(OK, "Looked at " + bestDir + " with score " + bestScore);
+        if(Robot.DEBUG) Robot.print(String.format("Smart look best dir is %10s with score %d", bestDir, bestScore));
+        return Result.of(OK, Robot.DEBUG ? "Looked at " + bestDir + " with score " + bestScore : "");
     }
 
 
@@ -352,87 +352,87 @@ public class VisionUtils {
         switch(width){
                         case 20:
                 if(20 == width + 8){break;}
-                 scores[572] = 0;  scores[640] = 0;  scores[708] = 0;  scores[776] = 0;  scores[844] = 0;  scores[912] = 0;  scores[980] = 0;  scores[1048] = 0;  scores[1116] = 0;  scores[1184] = 0;  scores[1252] = 0;  scores[1320] = 0;  scores[1388] = 0;  scores[1456] = 0;  scores[1524] = 0;  scores[1592] = 0;  scores[1660] = 0;  scores[1728] = 0;  scores[1796] = 0;  scores[1864] = 0;  scores[1932] = 0;  scores[2000] = 0;  scores[2068] = 0;  scores[2136] = 0;  scores[2204] = 0;  scores[2272] = 0;  scores[2340] = 0;  scores[2408] = 0;  scores[2476] = 0;  scores[2544] = 0;  scores[2612] = 0;  scores[2680] = 0;  scores[2748] = 0;  scores[2816] = 0;  scores[2884] = 0;  scores[2952] = 0;  scores[3020] = 0;  scores[3088] = 0;  scores[3156] = 0;  scores[3224] = 0;  scores[3292] = 0;  scores[3360] = 0;  scores[3428] = 0;  scores[3496] = 0;  scores[3564] = 0;  scores[3632] = 0;  scores[3700] = 0;  scores[3768] = 0;  scores[3836] = 0;  scores[3904] = 0;  scores[3972] = 0;  scores[4040] = 0;  scores[4108] = 0;  scores[4176] = 0;  scores[4244] = 0;  scores[4312] = 0;  scores[4380] = 0;  scores[4448] = 0;  scores[4516] = 0;  scores[4584] = 0;                         case 21:
+                 scores[1052] = 0;  scores[1180] = 0;  scores[1308] = 0;  scores[1436] = 0;  scores[1564] = 0;  scores[1692] = 0;  scores[1820] = 0;  scores[1948] = 0;  scores[2076] = 0;  scores[2204] = 0;  scores[2332] = 0;  scores[2460] = 0;  scores[2588] = 0;  scores[2716] = 0;  scores[2844] = 0;  scores[2972] = 0;  scores[3100] = 0;  scores[3228] = 0;  scores[3356] = 0;  scores[3484] = 0;  scores[3612] = 0;  scores[3740] = 0;  scores[3868] = 0;  scores[3996] = 0;  scores[4124] = 0;  scores[4252] = 0;  scores[4380] = 0;  scores[4508] = 0;  scores[4636] = 0;  scores[4764] = 0;  scores[4892] = 0;  scores[5020] = 0;  scores[5148] = 0;  scores[5276] = 0;  scores[5404] = 0;  scores[5532] = 0;  scores[5660] = 0;  scores[5788] = 0;  scores[5916] = 0;  scores[6044] = 0;  scores[6172] = 0;  scores[6300] = 0;  scores[6428] = 0;  scores[6556] = 0;  scores[6684] = 0;  scores[6812] = 0;  scores[6940] = 0;  scores[7068] = 0;  scores[7196] = 0;  scores[7324] = 0;  scores[7452] = 0;  scores[7580] = 0;  scores[7708] = 0;  scores[7836] = 0;  scores[7964] = 0;  scores[8092] = 0;  scores[8220] = 0;  scores[8348] = 0;  scores[8476] = 0;  scores[8604] = 0;                         case 21:
                 if(21 == width + 8){break;}
-                 scores[573] = 0;  scores[641] = 0;  scores[709] = 0;  scores[777] = 0;  scores[845] = 0;  scores[913] = 0;  scores[981] = 0;  scores[1049] = 0;  scores[1117] = 0;  scores[1185] = 0;  scores[1253] = 0;  scores[1321] = 0;  scores[1389] = 0;  scores[1457] = 0;  scores[1525] = 0;  scores[1593] = 0;  scores[1661] = 0;  scores[1729] = 0;  scores[1797] = 0;  scores[1865] = 0;  scores[1933] = 0;  scores[2001] = 0;  scores[2069] = 0;  scores[2137] = 0;  scores[2205] = 0;  scores[2273] = 0;  scores[2341] = 0;  scores[2409] = 0;  scores[2477] = 0;  scores[2545] = 0;  scores[2613] = 0;  scores[2681] = 0;  scores[2749] = 0;  scores[2817] = 0;  scores[2885] = 0;  scores[2953] = 0;  scores[3021] = 0;  scores[3089] = 0;  scores[3157] = 0;  scores[3225] = 0;  scores[3293] = 0;  scores[3361] = 0;  scores[3429] = 0;  scores[3497] = 0;  scores[3565] = 0;  scores[3633] = 0;  scores[3701] = 0;  scores[3769] = 0;  scores[3837] = 0;  scores[3905] = 0;  scores[3973] = 0;  scores[4041] = 0;  scores[4109] = 0;  scores[4177] = 0;  scores[4245] = 0;  scores[4313] = 0;  scores[4381] = 0;  scores[4449] = 0;  scores[4517] = 0;  scores[4585] = 0;                         case 22:
+                 scores[1053] = 0;  scores[1181] = 0;  scores[1309] = 0;  scores[1437] = 0;  scores[1565] = 0;  scores[1693] = 0;  scores[1821] = 0;  scores[1949] = 0;  scores[2077] = 0;  scores[2205] = 0;  scores[2333] = 0;  scores[2461] = 0;  scores[2589] = 0;  scores[2717] = 0;  scores[2845] = 0;  scores[2973] = 0;  scores[3101] = 0;  scores[3229] = 0;  scores[3357] = 0;  scores[3485] = 0;  scores[3613] = 0;  scores[3741] = 0;  scores[3869] = 0;  scores[3997] = 0;  scores[4125] = 0;  scores[4253] = 0;  scores[4381] = 0;  scores[4509] = 0;  scores[4637] = 0;  scores[4765] = 0;  scores[4893] = 0;  scores[5021] = 0;  scores[5149] = 0;  scores[5277] = 0;  scores[5405] = 0;  scores[5533] = 0;  scores[5661] = 0;  scores[5789] = 0;  scores[5917] = 0;  scores[6045] = 0;  scores[6173] = 0;  scores[6301] = 0;  scores[6429] = 0;  scores[6557] = 0;  scores[6685] = 0;  scores[6813] = 0;  scores[6941] = 0;  scores[7069] = 0;  scores[7197] = 0;  scores[7325] = 0;  scores[7453] = 0;  scores[7581] = 0;  scores[7709] = 0;  scores[7837] = 0;  scores[7965] = 0;  scores[8093] = 0;  scores[8221] = 0;  scores[8349] = 0;  scores[8477] = 0;  scores[8605] = 0;                         case 22:
                 if(22 == width + 8){break;}
-                 scores[574] = 0;  scores[642] = 0;  scores[710] = 0;  scores[778] = 0;  scores[846] = 0;  scores[914] = 0;  scores[982] = 0;  scores[1050] = 0;  scores[1118] = 0;  scores[1186] = 0;  scores[1254] = 0;  scores[1322] = 0;  scores[1390] = 0;  scores[1458] = 0;  scores[1526] = 0;  scores[1594] = 0;  scores[1662] = 0;  scores[1730] = 0;  scores[1798] = 0;  scores[1866] = 0;  scores[1934] = 0;  scores[2002] = 0;  scores[2070] = 0;  scores[2138] = 0;  scores[2206] = 0;  scores[2274] = 0;  scores[2342] = 0;  scores[2410] = 0;  scores[2478] = 0;  scores[2546] = 0;  scores[2614] = 0;  scores[2682] = 0;  scores[2750] = 0;  scores[2818] = 0;  scores[2886] = 0;  scores[2954] = 0;  scores[3022] = 0;  scores[3090] = 0;  scores[3158] = 0;  scores[3226] = 0;  scores[3294] = 0;  scores[3362] = 0;  scores[3430] = 0;  scores[3498] = 0;  scores[3566] = 0;  scores[3634] = 0;  scores[3702] = 0;  scores[3770] = 0;  scores[3838] = 0;  scores[3906] = 0;  scores[3974] = 0;  scores[4042] = 0;  scores[4110] = 0;  scores[4178] = 0;  scores[4246] = 0;  scores[4314] = 0;  scores[4382] = 0;  scores[4450] = 0;  scores[4518] = 0;  scores[4586] = 0;                         case 23:
+                 scores[1054] = 0;  scores[1182] = 0;  scores[1310] = 0;  scores[1438] = 0;  scores[1566] = 0;  scores[1694] = 0;  scores[1822] = 0;  scores[1950] = 0;  scores[2078] = 0;  scores[2206] = 0;  scores[2334] = 0;  scores[2462] = 0;  scores[2590] = 0;  scores[2718] = 0;  scores[2846] = 0;  scores[2974] = 0;  scores[3102] = 0;  scores[3230] = 0;  scores[3358] = 0;  scores[3486] = 0;  scores[3614] = 0;  scores[3742] = 0;  scores[3870] = 0;  scores[3998] = 0;  scores[4126] = 0;  scores[4254] = 0;  scores[4382] = 0;  scores[4510] = 0;  scores[4638] = 0;  scores[4766] = 0;  scores[4894] = 0;  scores[5022] = 0;  scores[5150] = 0;  scores[5278] = 0;  scores[5406] = 0;  scores[5534] = 0;  scores[5662] = 0;  scores[5790] = 0;  scores[5918] = 0;  scores[6046] = 0;  scores[6174] = 0;  scores[6302] = 0;  scores[6430] = 0;  scores[6558] = 0;  scores[6686] = 0;  scores[6814] = 0;  scores[6942] = 0;  scores[7070] = 0;  scores[7198] = 0;  scores[7326] = 0;  scores[7454] = 0;  scores[7582] = 0;  scores[7710] = 0;  scores[7838] = 0;  scores[7966] = 0;  scores[8094] = 0;  scores[8222] = 0;  scores[8350] = 0;  scores[8478] = 0;  scores[8606] = 0;                         case 23:
                 if(23 == width + 8){break;}
-                 scores[575] = 0;  scores[643] = 0;  scores[711] = 0;  scores[779] = 0;  scores[847] = 0;  scores[915] = 0;  scores[983] = 0;  scores[1051] = 0;  scores[1119] = 0;  scores[1187] = 0;  scores[1255] = 0;  scores[1323] = 0;  scores[1391] = 0;  scores[1459] = 0;  scores[1527] = 0;  scores[1595] = 0;  scores[1663] = 0;  scores[1731] = 0;  scores[1799] = 0;  scores[1867] = 0;  scores[1935] = 0;  scores[2003] = 0;  scores[2071] = 0;  scores[2139] = 0;  scores[2207] = 0;  scores[2275] = 0;  scores[2343] = 0;  scores[2411] = 0;  scores[2479] = 0;  scores[2547] = 0;  scores[2615] = 0;  scores[2683] = 0;  scores[2751] = 0;  scores[2819] = 0;  scores[2887] = 0;  scores[2955] = 0;  scores[3023] = 0;  scores[3091] = 0;  scores[3159] = 0;  scores[3227] = 0;  scores[3295] = 0;  scores[3363] = 0;  scores[3431] = 0;  scores[3499] = 0;  scores[3567] = 0;  scores[3635] = 0;  scores[3703] = 0;  scores[3771] = 0;  scores[3839] = 0;  scores[3907] = 0;  scores[3975] = 0;  scores[4043] = 0;  scores[4111] = 0;  scores[4179] = 0;  scores[4247] = 0;  scores[4315] = 0;  scores[4383] = 0;  scores[4451] = 0;  scores[4519] = 0;  scores[4587] = 0;                         case 24:
+                 scores[1055] = 0;  scores[1183] = 0;  scores[1311] = 0;  scores[1439] = 0;  scores[1567] = 0;  scores[1695] = 0;  scores[1823] = 0;  scores[1951] = 0;  scores[2079] = 0;  scores[2207] = 0;  scores[2335] = 0;  scores[2463] = 0;  scores[2591] = 0;  scores[2719] = 0;  scores[2847] = 0;  scores[2975] = 0;  scores[3103] = 0;  scores[3231] = 0;  scores[3359] = 0;  scores[3487] = 0;  scores[3615] = 0;  scores[3743] = 0;  scores[3871] = 0;  scores[3999] = 0;  scores[4127] = 0;  scores[4255] = 0;  scores[4383] = 0;  scores[4511] = 0;  scores[4639] = 0;  scores[4767] = 0;  scores[4895] = 0;  scores[5023] = 0;  scores[5151] = 0;  scores[5279] = 0;  scores[5407] = 0;  scores[5535] = 0;  scores[5663] = 0;  scores[5791] = 0;  scores[5919] = 0;  scores[6047] = 0;  scores[6175] = 0;  scores[6303] = 0;  scores[6431] = 0;  scores[6559] = 0;  scores[6687] = 0;  scores[6815] = 0;  scores[6943] = 0;  scores[7071] = 0;  scores[7199] = 0;  scores[7327] = 0;  scores[7455] = 0;  scores[7583] = 0;  scores[7711] = 0;  scores[7839] = 0;  scores[7967] = 0;  scores[8095] = 0;  scores[8223] = 0;  scores[8351] = 0;  scores[8479] = 0;  scores[8607] = 0;                         case 24:
                 if(24 == width + 8){break;}
-                 scores[576] = 0;  scores[644] = 0;  scores[712] = 0;  scores[780] = 0;  scores[848] = 0;  scores[916] = 0;  scores[984] = 0;  scores[1052] = 0;  scores[1120] = 0;  scores[1188] = 0;  scores[1256] = 0;  scores[1324] = 0;  scores[1392] = 0;  scores[1460] = 0;  scores[1528] = 0;  scores[1596] = 0;  scores[1664] = 0;  scores[1732] = 0;  scores[1800] = 0;  scores[1868] = 0;  scores[1936] = 0;  scores[2004] = 0;  scores[2072] = 0;  scores[2140] = 0;  scores[2208] = 0;  scores[2276] = 0;  scores[2344] = 0;  scores[2412] = 0;  scores[2480] = 0;  scores[2548] = 0;  scores[2616] = 0;  scores[2684] = 0;  scores[2752] = 0;  scores[2820] = 0;  scores[2888] = 0;  scores[2956] = 0;  scores[3024] = 0;  scores[3092] = 0;  scores[3160] = 0;  scores[3228] = 0;  scores[3296] = 0;  scores[3364] = 0;  scores[3432] = 0;  scores[3500] = 0;  scores[3568] = 0;  scores[3636] = 0;  scores[3704] = 0;  scores[3772] = 0;  scores[3840] = 0;  scores[3908] = 0;  scores[3976] = 0;  scores[4044] = 0;  scores[4112] = 0;  scores[4180] = 0;  scores[4248] = 0;  scores[4316] = 0;  scores[4384] = 0;  scores[4452] = 0;  scores[4520] = 0;  scores[4588] = 0;                         case 25:
+                 scores[1056] = 0;  scores[1184] = 0;  scores[1312] = 0;  scores[1440] = 0;  scores[1568] = 0;  scores[1696] = 0;  scores[1824] = 0;  scores[1952] = 0;  scores[2080] = 0;  scores[2208] = 0;  scores[2336] = 0;  scores[2464] = 0;  scores[2592] = 0;  scores[2720] = 0;  scores[2848] = 0;  scores[2976] = 0;  scores[3104] = 0;  scores[3232] = 0;  scores[3360] = 0;  scores[3488] = 0;  scores[3616] = 0;  scores[3744] = 0;  scores[3872] = 0;  scores[4000] = 0;  scores[4128] = 0;  scores[4256] = 0;  scores[4384] = 0;  scores[4512] = 0;  scores[4640] = 0;  scores[4768] = 0;  scores[4896] = 0;  scores[5024] = 0;  scores[5152] = 0;  scores[5280] = 0;  scores[5408] = 0;  scores[5536] = 0;  scores[5664] = 0;  scores[5792] = 0;  scores[5920] = 0;  scores[6048] = 0;  scores[6176] = 0;  scores[6304] = 0;  scores[6432] = 0;  scores[6560] = 0;  scores[6688] = 0;  scores[6816] = 0;  scores[6944] = 0;  scores[7072] = 0;  scores[7200] = 0;  scores[7328] = 0;  scores[7456] = 0;  scores[7584] = 0;  scores[7712] = 0;  scores[7840] = 0;  scores[7968] = 0;  scores[8096] = 0;  scores[8224] = 0;  scores[8352] = 0;  scores[8480] = 0;  scores[8608] = 0;                         case 25:
                 if(25 == width + 8){break;}
-                 scores[577] = 0;  scores[645] = 0;  scores[713] = 0;  scores[781] = 0;  scores[849] = 0;  scores[917] = 0;  scores[985] = 0;  scores[1053] = 0;  scores[1121] = 0;  scores[1189] = 0;  scores[1257] = 0;  scores[1325] = 0;  scores[1393] = 0;  scores[1461] = 0;  scores[1529] = 0;  scores[1597] = 0;  scores[1665] = 0;  scores[1733] = 0;  scores[1801] = 0;  scores[1869] = 0;  scores[1937] = 0;  scores[2005] = 0;  scores[2073] = 0;  scores[2141] = 0;  scores[2209] = 0;  scores[2277] = 0;  scores[2345] = 0;  scores[2413] = 0;  scores[2481] = 0;  scores[2549] = 0;  scores[2617] = 0;  scores[2685] = 0;  scores[2753] = 0;  scores[2821] = 0;  scores[2889] = 0;  scores[2957] = 0;  scores[3025] = 0;  scores[3093] = 0;  scores[3161] = 0;  scores[3229] = 0;  scores[3297] = 0;  scores[3365] = 0;  scores[3433] = 0;  scores[3501] = 0;  scores[3569] = 0;  scores[3637] = 0;  scores[3705] = 0;  scores[3773] = 0;  scores[3841] = 0;  scores[3909] = 0;  scores[3977] = 0;  scores[4045] = 0;  scores[4113] = 0;  scores[4181] = 0;  scores[4249] = 0;  scores[4317] = 0;  scores[4385] = 0;  scores[4453] = 0;  scores[4521] = 0;  scores[4589] = 0;                         case 26:
+                 scores[1057] = 0;  scores[1185] = 0;  scores[1313] = 0;  scores[1441] = 0;  scores[1569] = 0;  scores[1697] = 0;  scores[1825] = 0;  scores[1953] = 0;  scores[2081] = 0;  scores[2209] = 0;  scores[2337] = 0;  scores[2465] = 0;  scores[2593] = 0;  scores[2721] = 0;  scores[2849] = 0;  scores[2977] = 0;  scores[3105] = 0;  scores[3233] = 0;  scores[3361] = 0;  scores[3489] = 0;  scores[3617] = 0;  scores[3745] = 0;  scores[3873] = 0;  scores[4001] = 0;  scores[4129] = 0;  scores[4257] = 0;  scores[4385] = 0;  scores[4513] = 0;  scores[4641] = 0;  scores[4769] = 0;  scores[4897] = 0;  scores[5025] = 0;  scores[5153] = 0;  scores[5281] = 0;  scores[5409] = 0;  scores[5537] = 0;  scores[5665] = 0;  scores[5793] = 0;  scores[5921] = 0;  scores[6049] = 0;  scores[6177] = 0;  scores[6305] = 0;  scores[6433] = 0;  scores[6561] = 0;  scores[6689] = 0;  scores[6817] = 0;  scores[6945] = 0;  scores[7073] = 0;  scores[7201] = 0;  scores[7329] = 0;  scores[7457] = 0;  scores[7585] = 0;  scores[7713] = 0;  scores[7841] = 0;  scores[7969] = 0;  scores[8097] = 0;  scores[8225] = 0;  scores[8353] = 0;  scores[8481] = 0;  scores[8609] = 0;                         case 26:
                 if(26 == width + 8){break;}
-                 scores[578] = 0;  scores[646] = 0;  scores[714] = 0;  scores[782] = 0;  scores[850] = 0;  scores[918] = 0;  scores[986] = 0;  scores[1054] = 0;  scores[1122] = 0;  scores[1190] = 0;  scores[1258] = 0;  scores[1326] = 0;  scores[1394] = 0;  scores[1462] = 0;  scores[1530] = 0;  scores[1598] = 0;  scores[1666] = 0;  scores[1734] = 0;  scores[1802] = 0;  scores[1870] = 0;  scores[1938] = 0;  scores[2006] = 0;  scores[2074] = 0;  scores[2142] = 0;  scores[2210] = 0;  scores[2278] = 0;  scores[2346] = 0;  scores[2414] = 0;  scores[2482] = 0;  scores[2550] = 0;  scores[2618] = 0;  scores[2686] = 0;  scores[2754] = 0;  scores[2822] = 0;  scores[2890] = 0;  scores[2958] = 0;  scores[3026] = 0;  scores[3094] = 0;  scores[3162] = 0;  scores[3230] = 0;  scores[3298] = 0;  scores[3366] = 0;  scores[3434] = 0;  scores[3502] = 0;  scores[3570] = 0;  scores[3638] = 0;  scores[3706] = 0;  scores[3774] = 0;  scores[3842] = 0;  scores[3910] = 0;  scores[3978] = 0;  scores[4046] = 0;  scores[4114] = 0;  scores[4182] = 0;  scores[4250] = 0;  scores[4318] = 0;  scores[4386] = 0;  scores[4454] = 0;  scores[4522] = 0;  scores[4590] = 0;                         case 27:
+                 scores[1058] = 0;  scores[1186] = 0;  scores[1314] = 0;  scores[1442] = 0;  scores[1570] = 0;  scores[1698] = 0;  scores[1826] = 0;  scores[1954] = 0;  scores[2082] = 0;  scores[2210] = 0;  scores[2338] = 0;  scores[2466] = 0;  scores[2594] = 0;  scores[2722] = 0;  scores[2850] = 0;  scores[2978] = 0;  scores[3106] = 0;  scores[3234] = 0;  scores[3362] = 0;  scores[3490] = 0;  scores[3618] = 0;  scores[3746] = 0;  scores[3874] = 0;  scores[4002] = 0;  scores[4130] = 0;  scores[4258] = 0;  scores[4386] = 0;  scores[4514] = 0;  scores[4642] = 0;  scores[4770] = 0;  scores[4898] = 0;  scores[5026] = 0;  scores[5154] = 0;  scores[5282] = 0;  scores[5410] = 0;  scores[5538] = 0;  scores[5666] = 0;  scores[5794] = 0;  scores[5922] = 0;  scores[6050] = 0;  scores[6178] = 0;  scores[6306] = 0;  scores[6434] = 0;  scores[6562] = 0;  scores[6690] = 0;  scores[6818] = 0;  scores[6946] = 0;  scores[7074] = 0;  scores[7202] = 0;  scores[7330] = 0;  scores[7458] = 0;  scores[7586] = 0;  scores[7714] = 0;  scores[7842] = 0;  scores[7970] = 0;  scores[8098] = 0;  scores[8226] = 0;  scores[8354] = 0;  scores[8482] = 0;  scores[8610] = 0;                         case 27:
                 if(27 == width + 8){break;}
-                 scores[579] = 0;  scores[647] = 0;  scores[715] = 0;  scores[783] = 0;  scores[851] = 0;  scores[919] = 0;  scores[987] = 0;  scores[1055] = 0;  scores[1123] = 0;  scores[1191] = 0;  scores[1259] = 0;  scores[1327] = 0;  scores[1395] = 0;  scores[1463] = 0;  scores[1531] = 0;  scores[1599] = 0;  scores[1667] = 0;  scores[1735] = 0;  scores[1803] = 0;  scores[1871] = 0;  scores[1939] = 0;  scores[2007] = 0;  scores[2075] = 0;  scores[2143] = 0;  scores[2211] = 0;  scores[2279] = 0;  scores[2347] = 0;  scores[2415] = 0;  scores[2483] = 0;  scores[2551] = 0;  scores[2619] = 0;  scores[2687] = 0;  scores[2755] = 0;  scores[2823] = 0;  scores[2891] = 0;  scores[2959] = 0;  scores[3027] = 0;  scores[3095] = 0;  scores[3163] = 0;  scores[3231] = 0;  scores[3299] = 0;  scores[3367] = 0;  scores[3435] = 0;  scores[3503] = 0;  scores[3571] = 0;  scores[3639] = 0;  scores[3707] = 0;  scores[3775] = 0;  scores[3843] = 0;  scores[3911] = 0;  scores[3979] = 0;  scores[4047] = 0;  scores[4115] = 0;  scores[4183] = 0;  scores[4251] = 0;  scores[4319] = 0;  scores[4387] = 0;  scores[4455] = 0;  scores[4523] = 0;  scores[4591] = 0;                         case 28:
+                 scores[1059] = 0;  scores[1187] = 0;  scores[1315] = 0;  scores[1443] = 0;  scores[1571] = 0;  scores[1699] = 0;  scores[1827] = 0;  scores[1955] = 0;  scores[2083] = 0;  scores[2211] = 0;  scores[2339] = 0;  scores[2467] = 0;  scores[2595] = 0;  scores[2723] = 0;  scores[2851] = 0;  scores[2979] = 0;  scores[3107] = 0;  scores[3235] = 0;  scores[3363] = 0;  scores[3491] = 0;  scores[3619] = 0;  scores[3747] = 0;  scores[3875] = 0;  scores[4003] = 0;  scores[4131] = 0;  scores[4259] = 0;  scores[4387] = 0;  scores[4515] = 0;  scores[4643] = 0;  scores[4771] = 0;  scores[4899] = 0;  scores[5027] = 0;  scores[5155] = 0;  scores[5283] = 0;  scores[5411] = 0;  scores[5539] = 0;  scores[5667] = 0;  scores[5795] = 0;  scores[5923] = 0;  scores[6051] = 0;  scores[6179] = 0;  scores[6307] = 0;  scores[6435] = 0;  scores[6563] = 0;  scores[6691] = 0;  scores[6819] = 0;  scores[6947] = 0;  scores[7075] = 0;  scores[7203] = 0;  scores[7331] = 0;  scores[7459] = 0;  scores[7587] = 0;  scores[7715] = 0;  scores[7843] = 0;  scores[7971] = 0;  scores[8099] = 0;  scores[8227] = 0;  scores[8355] = 0;  scores[8483] = 0;  scores[8611] = 0;                         case 28:
                 if(28 == width + 8){break;}
-                 scores[580] = 0;  scores[648] = 0;  scores[716] = 0;  scores[784] = 0;  scores[852] = 0;  scores[920] = 0;  scores[988] = 0;  scores[1056] = 0;  scores[1124] = 0;  scores[1192] = 0;  scores[1260] = 0;  scores[1328] = 0;  scores[1396] = 0;  scores[1464] = 0;  scores[1532] = 0;  scores[1600] = 0;  scores[1668] = 0;  scores[1736] = 0;  scores[1804] = 0;  scores[1872] = 0;  scores[1940] = 0;  scores[2008] = 0;  scores[2076] = 0;  scores[2144] = 0;  scores[2212] = 0;  scores[2280] = 0;  scores[2348] = 0;  scores[2416] = 0;  scores[2484] = 0;  scores[2552] = 0;  scores[2620] = 0;  scores[2688] = 0;  scores[2756] = 0;  scores[2824] = 0;  scores[2892] = 0;  scores[2960] = 0;  scores[3028] = 0;  scores[3096] = 0;  scores[3164] = 0;  scores[3232] = 0;  scores[3300] = 0;  scores[3368] = 0;  scores[3436] = 0;  scores[3504] = 0;  scores[3572] = 0;  scores[3640] = 0;  scores[3708] = 0;  scores[3776] = 0;  scores[3844] = 0;  scores[3912] = 0;  scores[3980] = 0;  scores[4048] = 0;  scores[4116] = 0;  scores[4184] = 0;  scores[4252] = 0;  scores[4320] = 0;  scores[4388] = 0;  scores[4456] = 0;  scores[4524] = 0;  scores[4592] = 0;                         case 29:
+                 scores[1060] = 0;  scores[1188] = 0;  scores[1316] = 0;  scores[1444] = 0;  scores[1572] = 0;  scores[1700] = 0;  scores[1828] = 0;  scores[1956] = 0;  scores[2084] = 0;  scores[2212] = 0;  scores[2340] = 0;  scores[2468] = 0;  scores[2596] = 0;  scores[2724] = 0;  scores[2852] = 0;  scores[2980] = 0;  scores[3108] = 0;  scores[3236] = 0;  scores[3364] = 0;  scores[3492] = 0;  scores[3620] = 0;  scores[3748] = 0;  scores[3876] = 0;  scores[4004] = 0;  scores[4132] = 0;  scores[4260] = 0;  scores[4388] = 0;  scores[4516] = 0;  scores[4644] = 0;  scores[4772] = 0;  scores[4900] = 0;  scores[5028] = 0;  scores[5156] = 0;  scores[5284] = 0;  scores[5412] = 0;  scores[5540] = 0;  scores[5668] = 0;  scores[5796] = 0;  scores[5924] = 0;  scores[6052] = 0;  scores[6180] = 0;  scores[6308] = 0;  scores[6436] = 0;  scores[6564] = 0;  scores[6692] = 0;  scores[6820] = 0;  scores[6948] = 0;  scores[7076] = 0;  scores[7204] = 0;  scores[7332] = 0;  scores[7460] = 0;  scores[7588] = 0;  scores[7716] = 0;  scores[7844] = 0;  scores[7972] = 0;  scores[8100] = 0;  scores[8228] = 0;  scores[8356] = 0;  scores[8484] = 0;  scores[8612] = 0;                         case 29:
                 if(29 == width + 8){break;}
-                 scores[581] = 0;  scores[649] = 0;  scores[717] = 0;  scores[785] = 0;  scores[853] = 0;  scores[921] = 0;  scores[989] = 0;  scores[1057] = 0;  scores[1125] = 0;  scores[1193] = 0;  scores[1261] = 0;  scores[1329] = 0;  scores[1397] = 0;  scores[1465] = 0;  scores[1533] = 0;  scores[1601] = 0;  scores[1669] = 0;  scores[1737] = 0;  scores[1805] = 0;  scores[1873] = 0;  scores[1941] = 0;  scores[2009] = 0;  scores[2077] = 0;  scores[2145] = 0;  scores[2213] = 0;  scores[2281] = 0;  scores[2349] = 0;  scores[2417] = 0;  scores[2485] = 0;  scores[2553] = 0;  scores[2621] = 0;  scores[2689] = 0;  scores[2757] = 0;  scores[2825] = 0;  scores[2893] = 0;  scores[2961] = 0;  scores[3029] = 0;  scores[3097] = 0;  scores[3165] = 0;  scores[3233] = 0;  scores[3301] = 0;  scores[3369] = 0;  scores[3437] = 0;  scores[3505] = 0;  scores[3573] = 0;  scores[3641] = 0;  scores[3709] = 0;  scores[3777] = 0;  scores[3845] = 0;  scores[3913] = 0;  scores[3981] = 0;  scores[4049] = 0;  scores[4117] = 0;  scores[4185] = 0;  scores[4253] = 0;  scores[4321] = 0;  scores[4389] = 0;  scores[4457] = 0;  scores[4525] = 0;  scores[4593] = 0;                         case 30:
+                 scores[1061] = 0;  scores[1189] = 0;  scores[1317] = 0;  scores[1445] = 0;  scores[1573] = 0;  scores[1701] = 0;  scores[1829] = 0;  scores[1957] = 0;  scores[2085] = 0;  scores[2213] = 0;  scores[2341] = 0;  scores[2469] = 0;  scores[2597] = 0;  scores[2725] = 0;  scores[2853] = 0;  scores[2981] = 0;  scores[3109] = 0;  scores[3237] = 0;  scores[3365] = 0;  scores[3493] = 0;  scores[3621] = 0;  scores[3749] = 0;  scores[3877] = 0;  scores[4005] = 0;  scores[4133] = 0;  scores[4261] = 0;  scores[4389] = 0;  scores[4517] = 0;  scores[4645] = 0;  scores[4773] = 0;  scores[4901] = 0;  scores[5029] = 0;  scores[5157] = 0;  scores[5285] = 0;  scores[5413] = 0;  scores[5541] = 0;  scores[5669] = 0;  scores[5797] = 0;  scores[5925] = 0;  scores[6053] = 0;  scores[6181] = 0;  scores[6309] = 0;  scores[6437] = 0;  scores[6565] = 0;  scores[6693] = 0;  scores[6821] = 0;  scores[6949] = 0;  scores[7077] = 0;  scores[7205] = 0;  scores[7333] = 0;  scores[7461] = 0;  scores[7589] = 0;  scores[7717] = 0;  scores[7845] = 0;  scores[7973] = 0;  scores[8101] = 0;  scores[8229] = 0;  scores[8357] = 0;  scores[8485] = 0;  scores[8613] = 0;                         case 30:
                 if(30 == width + 8){break;}
-                 scores[582] = 0;  scores[650] = 0;  scores[718] = 0;  scores[786] = 0;  scores[854] = 0;  scores[922] = 0;  scores[990] = 0;  scores[1058] = 0;  scores[1126] = 0;  scores[1194] = 0;  scores[1262] = 0;  scores[1330] = 0;  scores[1398] = 0;  scores[1466] = 0;  scores[1534] = 0;  scores[1602] = 0;  scores[1670] = 0;  scores[1738] = 0;  scores[1806] = 0;  scores[1874] = 0;  scores[1942] = 0;  scores[2010] = 0;  scores[2078] = 0;  scores[2146] = 0;  scores[2214] = 0;  scores[2282] = 0;  scores[2350] = 0;  scores[2418] = 0;  scores[2486] = 0;  scores[2554] = 0;  scores[2622] = 0;  scores[2690] = 0;  scores[2758] = 0;  scores[2826] = 0;  scores[2894] = 0;  scores[2962] = 0;  scores[3030] = 0;  scores[3098] = 0;  scores[3166] = 0;  scores[3234] = 0;  scores[3302] = 0;  scores[3370] = 0;  scores[3438] = 0;  scores[3506] = 0;  scores[3574] = 0;  scores[3642] = 0;  scores[3710] = 0;  scores[3778] = 0;  scores[3846] = 0;  scores[3914] = 0;  scores[3982] = 0;  scores[4050] = 0;  scores[4118] = 0;  scores[4186] = 0;  scores[4254] = 0;  scores[4322] = 0;  scores[4390] = 0;  scores[4458] = 0;  scores[4526] = 0;  scores[4594] = 0;                         case 31:
+                 scores[1062] = 0;  scores[1190] = 0;  scores[1318] = 0;  scores[1446] = 0;  scores[1574] = 0;  scores[1702] = 0;  scores[1830] = 0;  scores[1958] = 0;  scores[2086] = 0;  scores[2214] = 0;  scores[2342] = 0;  scores[2470] = 0;  scores[2598] = 0;  scores[2726] = 0;  scores[2854] = 0;  scores[2982] = 0;  scores[3110] = 0;  scores[3238] = 0;  scores[3366] = 0;  scores[3494] = 0;  scores[3622] = 0;  scores[3750] = 0;  scores[3878] = 0;  scores[4006] = 0;  scores[4134] = 0;  scores[4262] = 0;  scores[4390] = 0;  scores[4518] = 0;  scores[4646] = 0;  scores[4774] = 0;  scores[4902] = 0;  scores[5030] = 0;  scores[5158] = 0;  scores[5286] = 0;  scores[5414] = 0;  scores[5542] = 0;  scores[5670] = 0;  scores[5798] = 0;  scores[5926] = 0;  scores[6054] = 0;  scores[6182] = 0;  scores[6310] = 0;  scores[6438] = 0;  scores[6566] = 0;  scores[6694] = 0;  scores[6822] = 0;  scores[6950] = 0;  scores[7078] = 0;  scores[7206] = 0;  scores[7334] = 0;  scores[7462] = 0;  scores[7590] = 0;  scores[7718] = 0;  scores[7846] = 0;  scores[7974] = 0;  scores[8102] = 0;  scores[8230] = 0;  scores[8358] = 0;  scores[8486] = 0;  scores[8614] = 0;                         case 31:
                 if(31 == width + 8){break;}
-                 scores[583] = 0;  scores[651] = 0;  scores[719] = 0;  scores[787] = 0;  scores[855] = 0;  scores[923] = 0;  scores[991] = 0;  scores[1059] = 0;  scores[1127] = 0;  scores[1195] = 0;  scores[1263] = 0;  scores[1331] = 0;  scores[1399] = 0;  scores[1467] = 0;  scores[1535] = 0;  scores[1603] = 0;  scores[1671] = 0;  scores[1739] = 0;  scores[1807] = 0;  scores[1875] = 0;  scores[1943] = 0;  scores[2011] = 0;  scores[2079] = 0;  scores[2147] = 0;  scores[2215] = 0;  scores[2283] = 0;  scores[2351] = 0;  scores[2419] = 0;  scores[2487] = 0;  scores[2555] = 0;  scores[2623] = 0;  scores[2691] = 0;  scores[2759] = 0;  scores[2827] = 0;  scores[2895] = 0;  scores[2963] = 0;  scores[3031] = 0;  scores[3099] = 0;  scores[3167] = 0;  scores[3235] = 0;  scores[3303] = 0;  scores[3371] = 0;  scores[3439] = 0;  scores[3507] = 0;  scores[3575] = 0;  scores[3643] = 0;  scores[3711] = 0;  scores[3779] = 0;  scores[3847] = 0;  scores[3915] = 0;  scores[3983] = 0;  scores[4051] = 0;  scores[4119] = 0;  scores[4187] = 0;  scores[4255] = 0;  scores[4323] = 0;  scores[4391] = 0;  scores[4459] = 0;  scores[4527] = 0;  scores[4595] = 0;                         case 32:
+                 scores[1063] = 0;  scores[1191] = 0;  scores[1319] = 0;  scores[1447] = 0;  scores[1575] = 0;  scores[1703] = 0;  scores[1831] = 0;  scores[1959] = 0;  scores[2087] = 0;  scores[2215] = 0;  scores[2343] = 0;  scores[2471] = 0;  scores[2599] = 0;  scores[2727] = 0;  scores[2855] = 0;  scores[2983] = 0;  scores[3111] = 0;  scores[3239] = 0;  scores[3367] = 0;  scores[3495] = 0;  scores[3623] = 0;  scores[3751] = 0;  scores[3879] = 0;  scores[4007] = 0;  scores[4135] = 0;  scores[4263] = 0;  scores[4391] = 0;  scores[4519] = 0;  scores[4647] = 0;  scores[4775] = 0;  scores[4903] = 0;  scores[5031] = 0;  scores[5159] = 0;  scores[5287] = 0;  scores[5415] = 0;  scores[5543] = 0;  scores[5671] = 0;  scores[5799] = 0;  scores[5927] = 0;  scores[6055] = 0;  scores[6183] = 0;  scores[6311] = 0;  scores[6439] = 0;  scores[6567] = 0;  scores[6695] = 0;  scores[6823] = 0;  scores[6951] = 0;  scores[7079] = 0;  scores[7207] = 0;  scores[7335] = 0;  scores[7463] = 0;  scores[7591] = 0;  scores[7719] = 0;  scores[7847] = 0;  scores[7975] = 0;  scores[8103] = 0;  scores[8231] = 0;  scores[8359] = 0;  scores[8487] = 0;  scores[8615] = 0;                         case 32:
                 if(32 == width + 8){break;}
-                 scores[584] = 0;  scores[652] = 0;  scores[720] = 0;  scores[788] = 0;  scores[856] = 0;  scores[924] = 0;  scores[992] = 0;  scores[1060] = 0;  scores[1128] = 0;  scores[1196] = 0;  scores[1264] = 0;  scores[1332] = 0;  scores[1400] = 0;  scores[1468] = 0;  scores[1536] = 0;  scores[1604] = 0;  scores[1672] = 0;  scores[1740] = 0;  scores[1808] = 0;  scores[1876] = 0;  scores[1944] = 0;  scores[2012] = 0;  scores[2080] = 0;  scores[2148] = 0;  scores[2216] = 0;  scores[2284] = 0;  scores[2352] = 0;  scores[2420] = 0;  scores[2488] = 0;  scores[2556] = 0;  scores[2624] = 0;  scores[2692] = 0;  scores[2760] = 0;  scores[2828] = 0;  scores[2896] = 0;  scores[2964] = 0;  scores[3032] = 0;  scores[3100] = 0;  scores[3168] = 0;  scores[3236] = 0;  scores[3304] = 0;  scores[3372] = 0;  scores[3440] = 0;  scores[3508] = 0;  scores[3576] = 0;  scores[3644] = 0;  scores[3712] = 0;  scores[3780] = 0;  scores[3848] = 0;  scores[3916] = 0;  scores[3984] = 0;  scores[4052] = 0;  scores[4120] = 0;  scores[4188] = 0;  scores[4256] = 0;  scores[4324] = 0;  scores[4392] = 0;  scores[4460] = 0;  scores[4528] = 0;  scores[4596] = 0;                         case 33:
+                 scores[1064] = 0;  scores[1192] = 0;  scores[1320] = 0;  scores[1448] = 0;  scores[1576] = 0;  scores[1704] = 0;  scores[1832] = 0;  scores[1960] = 0;  scores[2088] = 0;  scores[2216] = 0;  scores[2344] = 0;  scores[2472] = 0;  scores[2600] = 0;  scores[2728] = 0;  scores[2856] = 0;  scores[2984] = 0;  scores[3112] = 0;  scores[3240] = 0;  scores[3368] = 0;  scores[3496] = 0;  scores[3624] = 0;  scores[3752] = 0;  scores[3880] = 0;  scores[4008] = 0;  scores[4136] = 0;  scores[4264] = 0;  scores[4392] = 0;  scores[4520] = 0;  scores[4648] = 0;  scores[4776] = 0;  scores[4904] = 0;  scores[5032] = 0;  scores[5160] = 0;  scores[5288] = 0;  scores[5416] = 0;  scores[5544] = 0;  scores[5672] = 0;  scores[5800] = 0;  scores[5928] = 0;  scores[6056] = 0;  scores[6184] = 0;  scores[6312] = 0;  scores[6440] = 0;  scores[6568] = 0;  scores[6696] = 0;  scores[6824] = 0;  scores[6952] = 0;  scores[7080] = 0;  scores[7208] = 0;  scores[7336] = 0;  scores[7464] = 0;  scores[7592] = 0;  scores[7720] = 0;  scores[7848] = 0;  scores[7976] = 0;  scores[8104] = 0;  scores[8232] = 0;  scores[8360] = 0;  scores[8488] = 0;  scores[8616] = 0;                         case 33:
                 if(33 == width + 8){break;}
-                 scores[585] = 0;  scores[653] = 0;  scores[721] = 0;  scores[789] = 0;  scores[857] = 0;  scores[925] = 0;  scores[993] = 0;  scores[1061] = 0;  scores[1129] = 0;  scores[1197] = 0;  scores[1265] = 0;  scores[1333] = 0;  scores[1401] = 0;  scores[1469] = 0;  scores[1537] = 0;  scores[1605] = 0;  scores[1673] = 0;  scores[1741] = 0;  scores[1809] = 0;  scores[1877] = 0;  scores[1945] = 0;  scores[2013] = 0;  scores[2081] = 0;  scores[2149] = 0;  scores[2217] = 0;  scores[2285] = 0;  scores[2353] = 0;  scores[2421] = 0;  scores[2489] = 0;  scores[2557] = 0;  scores[2625] = 0;  scores[2693] = 0;  scores[2761] = 0;  scores[2829] = 0;  scores[2897] = 0;  scores[2965] = 0;  scores[3033] = 0;  scores[3101] = 0;  scores[3169] = 0;  scores[3237] = 0;  scores[3305] = 0;  scores[3373] = 0;  scores[3441] = 0;  scores[3509] = 0;  scores[3577] = 0;  scores[3645] = 0;  scores[3713] = 0;  scores[3781] = 0;  scores[3849] = 0;  scores[3917] = 0;  scores[3985] = 0;  scores[4053] = 0;  scores[4121] = 0;  scores[4189] = 0;  scores[4257] = 0;  scores[4325] = 0;  scores[4393] = 0;  scores[4461] = 0;  scores[4529] = 0;  scores[4597] = 0;                         case 34:
+                 scores[1065] = 0;  scores[1193] = 0;  scores[1321] = 0;  scores[1449] = 0;  scores[1577] = 0;  scores[1705] = 0;  scores[1833] = 0;  scores[1961] = 0;  scores[2089] = 0;  scores[2217] = 0;  scores[2345] = 0;  scores[2473] = 0;  scores[2601] = 0;  scores[2729] = 0;  scores[2857] = 0;  scores[2985] = 0;  scores[3113] = 0;  scores[3241] = 0;  scores[3369] = 0;  scores[3497] = 0;  scores[3625] = 0;  scores[3753] = 0;  scores[3881] = 0;  scores[4009] = 0;  scores[4137] = 0;  scores[4265] = 0;  scores[4393] = 0;  scores[4521] = 0;  scores[4649] = 0;  scores[4777] = 0;  scores[4905] = 0;  scores[5033] = 0;  scores[5161] = 0;  scores[5289] = 0;  scores[5417] = 0;  scores[5545] = 0;  scores[5673] = 0;  scores[5801] = 0;  scores[5929] = 0;  scores[6057] = 0;  scores[6185] = 0;  scores[6313] = 0;  scores[6441] = 0;  scores[6569] = 0;  scores[6697] = 0;  scores[6825] = 0;  scores[6953] = 0;  scores[7081] = 0;  scores[7209] = 0;  scores[7337] = 0;  scores[7465] = 0;  scores[7593] = 0;  scores[7721] = 0;  scores[7849] = 0;  scores[7977] = 0;  scores[8105] = 0;  scores[8233] = 0;  scores[8361] = 0;  scores[8489] = 0;  scores[8617] = 0;                         case 34:
                 if(34 == width + 8){break;}
-                 scores[586] = 0;  scores[654] = 0;  scores[722] = 0;  scores[790] = 0;  scores[858] = 0;  scores[926] = 0;  scores[994] = 0;  scores[1062] = 0;  scores[1130] = 0;  scores[1198] = 0;  scores[1266] = 0;  scores[1334] = 0;  scores[1402] = 0;  scores[1470] = 0;  scores[1538] = 0;  scores[1606] = 0;  scores[1674] = 0;  scores[1742] = 0;  scores[1810] = 0;  scores[1878] = 0;  scores[1946] = 0;  scores[2014] = 0;  scores[2082] = 0;  scores[2150] = 0;  scores[2218] = 0;  scores[2286] = 0;  scores[2354] = 0;  scores[2422] = 0;  scores[2490] = 0;  scores[2558] = 0;  scores[2626] = 0;  scores[2694] = 0;  scores[2762] = 0;  scores[2830] = 0;  scores[2898] = 0;  scores[2966] = 0;  scores[3034] = 0;  scores[3102] = 0;  scores[3170] = 0;  scores[3238] = 0;  scores[3306] = 0;  scores[3374] = 0;  scores[3442] = 0;  scores[3510] = 0;  scores[3578] = 0;  scores[3646] = 0;  scores[3714] = 0;  scores[3782] = 0;  scores[3850] = 0;  scores[3918] = 0;  scores[3986] = 0;  scores[4054] = 0;  scores[4122] = 0;  scores[4190] = 0;  scores[4258] = 0;  scores[4326] = 0;  scores[4394] = 0;  scores[4462] = 0;  scores[4530] = 0;  scores[4598] = 0;                         case 35:
+                 scores[1066] = 0;  scores[1194] = 0;  scores[1322] = 0;  scores[1450] = 0;  scores[1578] = 0;  scores[1706] = 0;  scores[1834] = 0;  scores[1962] = 0;  scores[2090] = 0;  scores[2218] = 0;  scores[2346] = 0;  scores[2474] = 0;  scores[2602] = 0;  scores[2730] = 0;  scores[2858] = 0;  scores[2986] = 0;  scores[3114] = 0;  scores[3242] = 0;  scores[3370] = 0;  scores[3498] = 0;  scores[3626] = 0;  scores[3754] = 0;  scores[3882] = 0;  scores[4010] = 0;  scores[4138] = 0;  scores[4266] = 0;  scores[4394] = 0;  scores[4522] = 0;  scores[4650] = 0;  scores[4778] = 0;  scores[4906] = 0;  scores[5034] = 0;  scores[5162] = 0;  scores[5290] = 0;  scores[5418] = 0;  scores[5546] = 0;  scores[5674] = 0;  scores[5802] = 0;  scores[5930] = 0;  scores[6058] = 0;  scores[6186] = 0;  scores[6314] = 0;  scores[6442] = 0;  scores[6570] = 0;  scores[6698] = 0;  scores[6826] = 0;  scores[6954] = 0;  scores[7082] = 0;  scores[7210] = 0;  scores[7338] = 0;  scores[7466] = 0;  scores[7594] = 0;  scores[7722] = 0;  scores[7850] = 0;  scores[7978] = 0;  scores[8106] = 0;  scores[8234] = 0;  scores[8362] = 0;  scores[8490] = 0;  scores[8618] = 0;                         case 35:
                 if(35 == width + 8){break;}
-                 scores[587] = 0;  scores[655] = 0;  scores[723] = 0;  scores[791] = 0;  scores[859] = 0;  scores[927] = 0;  scores[995] = 0;  scores[1063] = 0;  scores[1131] = 0;  scores[1199] = 0;  scores[1267] = 0;  scores[1335] = 0;  scores[1403] = 0;  scores[1471] = 0;  scores[1539] = 0;  scores[1607] = 0;  scores[1675] = 0;  scores[1743] = 0;  scores[1811] = 0;  scores[1879] = 0;  scores[1947] = 0;  scores[2015] = 0;  scores[2083] = 0;  scores[2151] = 0;  scores[2219] = 0;  scores[2287] = 0;  scores[2355] = 0;  scores[2423] = 0;  scores[2491] = 0;  scores[2559] = 0;  scores[2627] = 0;  scores[2695] = 0;  scores[2763] = 0;  scores[2831] = 0;  scores[2899] = 0;  scores[2967] = 0;  scores[3035] = 0;  scores[3103] = 0;  scores[3171] = 0;  scores[3239] = 0;  scores[3307] = 0;  scores[3375] = 0;  scores[3443] = 0;  scores[3511] = 0;  scores[3579] = 0;  scores[3647] = 0;  scores[3715] = 0;  scores[3783] = 0;  scores[3851] = 0;  scores[3919] = 0;  scores[3987] = 0;  scores[4055] = 0;  scores[4123] = 0;  scores[4191] = 0;  scores[4259] = 0;  scores[4327] = 0;  scores[4395] = 0;  scores[4463] = 0;  scores[4531] = 0;  scores[4599] = 0;                         case 36:
+                 scores[1067] = 0;  scores[1195] = 0;  scores[1323] = 0;  scores[1451] = 0;  scores[1579] = 0;  scores[1707] = 0;  scores[1835] = 0;  scores[1963] = 0;  scores[2091] = 0;  scores[2219] = 0;  scores[2347] = 0;  scores[2475] = 0;  scores[2603] = 0;  scores[2731] = 0;  scores[2859] = 0;  scores[2987] = 0;  scores[3115] = 0;  scores[3243] = 0;  scores[3371] = 0;  scores[3499] = 0;  scores[3627] = 0;  scores[3755] = 0;  scores[3883] = 0;  scores[4011] = 0;  scores[4139] = 0;  scores[4267] = 0;  scores[4395] = 0;  scores[4523] = 0;  scores[4651] = 0;  scores[4779] = 0;  scores[4907] = 0;  scores[5035] = 0;  scores[5163] = 0;  scores[5291] = 0;  scores[5419] = 0;  scores[5547] = 0;  scores[5675] = 0;  scores[5803] = 0;  scores[5931] = 0;  scores[6059] = 0;  scores[6187] = 0;  scores[6315] = 0;  scores[6443] = 0;  scores[6571] = 0;  scores[6699] = 0;  scores[6827] = 0;  scores[6955] = 0;  scores[7083] = 0;  scores[7211] = 0;  scores[7339] = 0;  scores[7467] = 0;  scores[7595] = 0;  scores[7723] = 0;  scores[7851] = 0;  scores[7979] = 0;  scores[8107] = 0;  scores[8235] = 0;  scores[8363] = 0;  scores[8491] = 0;  scores[8619] = 0;                         case 36:
                 if(36 == width + 8){break;}
-                 scores[588] = 0;  scores[656] = 0;  scores[724] = 0;  scores[792] = 0;  scores[860] = 0;  scores[928] = 0;  scores[996] = 0;  scores[1064] = 0;  scores[1132] = 0;  scores[1200] = 0;  scores[1268] = 0;  scores[1336] = 0;  scores[1404] = 0;  scores[1472] = 0;  scores[1540] = 0;  scores[1608] = 0;  scores[1676] = 0;  scores[1744] = 0;  scores[1812] = 0;  scores[1880] = 0;  scores[1948] = 0;  scores[2016] = 0;  scores[2084] = 0;  scores[2152] = 0;  scores[2220] = 0;  scores[2288] = 0;  scores[2356] = 0;  scores[2424] = 0;  scores[2492] = 0;  scores[2560] = 0;  scores[2628] = 0;  scores[2696] = 0;  scores[2764] = 0;  scores[2832] = 0;  scores[2900] = 0;  scores[2968] = 0;  scores[3036] = 0;  scores[3104] = 0;  scores[3172] = 0;  scores[3240] = 0;  scores[3308] = 0;  scores[3376] = 0;  scores[3444] = 0;  scores[3512] = 0;  scores[3580] = 0;  scores[3648] = 0;  scores[3716] = 0;  scores[3784] = 0;  scores[3852] = 0;  scores[3920] = 0;  scores[3988] = 0;  scores[4056] = 0;  scores[4124] = 0;  scores[4192] = 0;  scores[4260] = 0;  scores[4328] = 0;  scores[4396] = 0;  scores[4464] = 0;  scores[4532] = 0;  scores[4600] = 0;                         case 37:
+                 scores[1068] = 0;  scores[1196] = 0;  scores[1324] = 0;  scores[1452] = 0;  scores[1580] = 0;  scores[1708] = 0;  scores[1836] = 0;  scores[1964] = 0;  scores[2092] = 0;  scores[2220] = 0;  scores[2348] = 0;  scores[2476] = 0;  scores[2604] = 0;  scores[2732] = 0;  scores[2860] = 0;  scores[2988] = 0;  scores[3116] = 0;  scores[3244] = 0;  scores[3372] = 0;  scores[3500] = 0;  scores[3628] = 0;  scores[3756] = 0;  scores[3884] = 0;  scores[4012] = 0;  scores[4140] = 0;  scores[4268] = 0;  scores[4396] = 0;  scores[4524] = 0;  scores[4652] = 0;  scores[4780] = 0;  scores[4908] = 0;  scores[5036] = 0;  scores[5164] = 0;  scores[5292] = 0;  scores[5420] = 0;  scores[5548] = 0;  scores[5676] = 0;  scores[5804] = 0;  scores[5932] = 0;  scores[6060] = 0;  scores[6188] = 0;  scores[6316] = 0;  scores[6444] = 0;  scores[6572] = 0;  scores[6700] = 0;  scores[6828] = 0;  scores[6956] = 0;  scores[7084] = 0;  scores[7212] = 0;  scores[7340] = 0;  scores[7468] = 0;  scores[7596] = 0;  scores[7724] = 0;  scores[7852] = 0;  scores[7980] = 0;  scores[8108] = 0;  scores[8236] = 0;  scores[8364] = 0;  scores[8492] = 0;  scores[8620] = 0;                         case 37:
                 if(37 == width + 8){break;}
-                 scores[589] = 0;  scores[657] = 0;  scores[725] = 0;  scores[793] = 0;  scores[861] = 0;  scores[929] = 0;  scores[997] = 0;  scores[1065] = 0;  scores[1133] = 0;  scores[1201] = 0;  scores[1269] = 0;  scores[1337] = 0;  scores[1405] = 0;  scores[1473] = 0;  scores[1541] = 0;  scores[1609] = 0;  scores[1677] = 0;  scores[1745] = 0;  scores[1813] = 0;  scores[1881] = 0;  scores[1949] = 0;  scores[2017] = 0;  scores[2085] = 0;  scores[2153] = 0;  scores[2221] = 0;  scores[2289] = 0;  scores[2357] = 0;  scores[2425] = 0;  scores[2493] = 0;  scores[2561] = 0;  scores[2629] = 0;  scores[2697] = 0;  scores[2765] = 0;  scores[2833] = 0;  scores[2901] = 0;  scores[2969] = 0;  scores[3037] = 0;  scores[3105] = 0;  scores[3173] = 0;  scores[3241] = 0;  scores[3309] = 0;  scores[3377] = 0;  scores[3445] = 0;  scores[3513] = 0;  scores[3581] = 0;  scores[3649] = 0;  scores[3717] = 0;  scores[3785] = 0;  scores[3853] = 0;  scores[3921] = 0;  scores[3989] = 0;  scores[4057] = 0;  scores[4125] = 0;  scores[4193] = 0;  scores[4261] = 0;  scores[4329] = 0;  scores[4397] = 0;  scores[4465] = 0;  scores[4533] = 0;  scores[4601] = 0;                         case 38:
+                 scores[1069] = 0;  scores[1197] = 0;  scores[1325] = 0;  scores[1453] = 0;  scores[1581] = 0;  scores[1709] = 0;  scores[1837] = 0;  scores[1965] = 0;  scores[2093] = 0;  scores[2221] = 0;  scores[2349] = 0;  scores[2477] = 0;  scores[2605] = 0;  scores[2733] = 0;  scores[2861] = 0;  scores[2989] = 0;  scores[3117] = 0;  scores[3245] = 0;  scores[3373] = 0;  scores[3501] = 0;  scores[3629] = 0;  scores[3757] = 0;  scores[3885] = 0;  scores[4013] = 0;  scores[4141] = 0;  scores[4269] = 0;  scores[4397] = 0;  scores[4525] = 0;  scores[4653] = 0;  scores[4781] = 0;  scores[4909] = 0;  scores[5037] = 0;  scores[5165] = 0;  scores[5293] = 0;  scores[5421] = 0;  scores[5549] = 0;  scores[5677] = 0;  scores[5805] = 0;  scores[5933] = 0;  scores[6061] = 0;  scores[6189] = 0;  scores[6317] = 0;  scores[6445] = 0;  scores[6573] = 0;  scores[6701] = 0;  scores[6829] = 0;  scores[6957] = 0;  scores[7085] = 0;  scores[7213] = 0;  scores[7341] = 0;  scores[7469] = 0;  scores[7597] = 0;  scores[7725] = 0;  scores[7853] = 0;  scores[7981] = 0;  scores[8109] = 0;  scores[8237] = 0;  scores[8365] = 0;  scores[8493] = 0;  scores[8621] = 0;                         case 38:
                 if(38 == width + 8){break;}
-                 scores[590] = 0;  scores[658] = 0;  scores[726] = 0;  scores[794] = 0;  scores[862] = 0;  scores[930] = 0;  scores[998] = 0;  scores[1066] = 0;  scores[1134] = 0;  scores[1202] = 0;  scores[1270] = 0;  scores[1338] = 0;  scores[1406] = 0;  scores[1474] = 0;  scores[1542] = 0;  scores[1610] = 0;  scores[1678] = 0;  scores[1746] = 0;  scores[1814] = 0;  scores[1882] = 0;  scores[1950] = 0;  scores[2018] = 0;  scores[2086] = 0;  scores[2154] = 0;  scores[2222] = 0;  scores[2290] = 0;  scores[2358] = 0;  scores[2426] = 0;  scores[2494] = 0;  scores[2562] = 0;  scores[2630] = 0;  scores[2698] = 0;  scores[2766] = 0;  scores[2834] = 0;  scores[2902] = 0;  scores[2970] = 0;  scores[3038] = 0;  scores[3106] = 0;  scores[3174] = 0;  scores[3242] = 0;  scores[3310] = 0;  scores[3378] = 0;  scores[3446] = 0;  scores[3514] = 0;  scores[3582] = 0;  scores[3650] = 0;  scores[3718] = 0;  scores[3786] = 0;  scores[3854] = 0;  scores[3922] = 0;  scores[3990] = 0;  scores[4058] = 0;  scores[4126] = 0;  scores[4194] = 0;  scores[4262] = 0;  scores[4330] = 0;  scores[4398] = 0;  scores[4466] = 0;  scores[4534] = 0;  scores[4602] = 0;                         case 39:
+                 scores[1070] = 0;  scores[1198] = 0;  scores[1326] = 0;  scores[1454] = 0;  scores[1582] = 0;  scores[1710] = 0;  scores[1838] = 0;  scores[1966] = 0;  scores[2094] = 0;  scores[2222] = 0;  scores[2350] = 0;  scores[2478] = 0;  scores[2606] = 0;  scores[2734] = 0;  scores[2862] = 0;  scores[2990] = 0;  scores[3118] = 0;  scores[3246] = 0;  scores[3374] = 0;  scores[3502] = 0;  scores[3630] = 0;  scores[3758] = 0;  scores[3886] = 0;  scores[4014] = 0;  scores[4142] = 0;  scores[4270] = 0;  scores[4398] = 0;  scores[4526] = 0;  scores[4654] = 0;  scores[4782] = 0;  scores[4910] = 0;  scores[5038] = 0;  scores[5166] = 0;  scores[5294] = 0;  scores[5422] = 0;  scores[5550] = 0;  scores[5678] = 0;  scores[5806] = 0;  scores[5934] = 0;  scores[6062] = 0;  scores[6190] = 0;  scores[6318] = 0;  scores[6446] = 0;  scores[6574] = 0;  scores[6702] = 0;  scores[6830] = 0;  scores[6958] = 0;  scores[7086] = 0;  scores[7214] = 0;  scores[7342] = 0;  scores[7470] = 0;  scores[7598] = 0;  scores[7726] = 0;  scores[7854] = 0;  scores[7982] = 0;  scores[8110] = 0;  scores[8238] = 0;  scores[8366] = 0;  scores[8494] = 0;  scores[8622] = 0;                         case 39:
                 if(39 == width + 8){break;}
-                 scores[591] = 0;  scores[659] = 0;  scores[727] = 0;  scores[795] = 0;  scores[863] = 0;  scores[931] = 0;  scores[999] = 0;  scores[1067] = 0;  scores[1135] = 0;  scores[1203] = 0;  scores[1271] = 0;  scores[1339] = 0;  scores[1407] = 0;  scores[1475] = 0;  scores[1543] = 0;  scores[1611] = 0;  scores[1679] = 0;  scores[1747] = 0;  scores[1815] = 0;  scores[1883] = 0;  scores[1951] = 0;  scores[2019] = 0;  scores[2087] = 0;  scores[2155] = 0;  scores[2223] = 0;  scores[2291] = 0;  scores[2359] = 0;  scores[2427] = 0;  scores[2495] = 0;  scores[2563] = 0;  scores[2631] = 0;  scores[2699] = 0;  scores[2767] = 0;  scores[2835] = 0;  scores[2903] = 0;  scores[2971] = 0;  scores[3039] = 0;  scores[3107] = 0;  scores[3175] = 0;  scores[3243] = 0;  scores[3311] = 0;  scores[3379] = 0;  scores[3447] = 0;  scores[3515] = 0;  scores[3583] = 0;  scores[3651] = 0;  scores[3719] = 0;  scores[3787] = 0;  scores[3855] = 0;  scores[3923] = 0;  scores[3991] = 0;  scores[4059] = 0;  scores[4127] = 0;  scores[4195] = 0;  scores[4263] = 0;  scores[4331] = 0;  scores[4399] = 0;  scores[4467] = 0;  scores[4535] = 0;  scores[4603] = 0;                         case 40:
+                 scores[1071] = 0;  scores[1199] = 0;  scores[1327] = 0;  scores[1455] = 0;  scores[1583] = 0;  scores[1711] = 0;  scores[1839] = 0;  scores[1967] = 0;  scores[2095] = 0;  scores[2223] = 0;  scores[2351] = 0;  scores[2479] = 0;  scores[2607] = 0;  scores[2735] = 0;  scores[2863] = 0;  scores[2991] = 0;  scores[3119] = 0;  scores[3247] = 0;  scores[3375] = 0;  scores[3503] = 0;  scores[3631] = 0;  scores[3759] = 0;  scores[3887] = 0;  scores[4015] = 0;  scores[4143] = 0;  scores[4271] = 0;  scores[4399] = 0;  scores[4527] = 0;  scores[4655] = 0;  scores[4783] = 0;  scores[4911] = 0;  scores[5039] = 0;  scores[5167] = 0;  scores[5295] = 0;  scores[5423] = 0;  scores[5551] = 0;  scores[5679] = 0;  scores[5807] = 0;  scores[5935] = 0;  scores[6063] = 0;  scores[6191] = 0;  scores[6319] = 0;  scores[6447] = 0;  scores[6575] = 0;  scores[6703] = 0;  scores[6831] = 0;  scores[6959] = 0;  scores[7087] = 0;  scores[7215] = 0;  scores[7343] = 0;  scores[7471] = 0;  scores[7599] = 0;  scores[7727] = 0;  scores[7855] = 0;  scores[7983] = 0;  scores[8111] = 0;  scores[8239] = 0;  scores[8367] = 0;  scores[8495] = 0;  scores[8623] = 0;                         case 40:
                 if(40 == width + 8){break;}
-                 scores[592] = 0;  scores[660] = 0;  scores[728] = 0;  scores[796] = 0;  scores[864] = 0;  scores[932] = 0;  scores[1000] = 0;  scores[1068] = 0;  scores[1136] = 0;  scores[1204] = 0;  scores[1272] = 0;  scores[1340] = 0;  scores[1408] = 0;  scores[1476] = 0;  scores[1544] = 0;  scores[1612] = 0;  scores[1680] = 0;  scores[1748] = 0;  scores[1816] = 0;  scores[1884] = 0;  scores[1952] = 0;  scores[2020] = 0;  scores[2088] = 0;  scores[2156] = 0;  scores[2224] = 0;  scores[2292] = 0;  scores[2360] = 0;  scores[2428] = 0;  scores[2496] = 0;  scores[2564] = 0;  scores[2632] = 0;  scores[2700] = 0;  scores[2768] = 0;  scores[2836] = 0;  scores[2904] = 0;  scores[2972] = 0;  scores[3040] = 0;  scores[3108] = 0;  scores[3176] = 0;  scores[3244] = 0;  scores[3312] = 0;  scores[3380] = 0;  scores[3448] = 0;  scores[3516] = 0;  scores[3584] = 0;  scores[3652] = 0;  scores[3720] = 0;  scores[3788] = 0;  scores[3856] = 0;  scores[3924] = 0;  scores[3992] = 0;  scores[4060] = 0;  scores[4128] = 0;  scores[4196] = 0;  scores[4264] = 0;  scores[4332] = 0;  scores[4400] = 0;  scores[4468] = 0;  scores[4536] = 0;  scores[4604] = 0;                         case 41:
+                 scores[1072] = 0;  scores[1200] = 0;  scores[1328] = 0;  scores[1456] = 0;  scores[1584] = 0;  scores[1712] = 0;  scores[1840] = 0;  scores[1968] = 0;  scores[2096] = 0;  scores[2224] = 0;  scores[2352] = 0;  scores[2480] = 0;  scores[2608] = 0;  scores[2736] = 0;  scores[2864] = 0;  scores[2992] = 0;  scores[3120] = 0;  scores[3248] = 0;  scores[3376] = 0;  scores[3504] = 0;  scores[3632] = 0;  scores[3760] = 0;  scores[3888] = 0;  scores[4016] = 0;  scores[4144] = 0;  scores[4272] = 0;  scores[4400] = 0;  scores[4528] = 0;  scores[4656] = 0;  scores[4784] = 0;  scores[4912] = 0;  scores[5040] = 0;  scores[5168] = 0;  scores[5296] = 0;  scores[5424] = 0;  scores[5552] = 0;  scores[5680] = 0;  scores[5808] = 0;  scores[5936] = 0;  scores[6064] = 0;  scores[6192] = 0;  scores[6320] = 0;  scores[6448] = 0;  scores[6576] = 0;  scores[6704] = 0;  scores[6832] = 0;  scores[6960] = 0;  scores[7088] = 0;  scores[7216] = 0;  scores[7344] = 0;  scores[7472] = 0;  scores[7600] = 0;  scores[7728] = 0;  scores[7856] = 0;  scores[7984] = 0;  scores[8112] = 0;  scores[8240] = 0;  scores[8368] = 0;  scores[8496] = 0;  scores[8624] = 0;                         case 41:
                 if(41 == width + 8){break;}
-                 scores[593] = 0;  scores[661] = 0;  scores[729] = 0;  scores[797] = 0;  scores[865] = 0;  scores[933] = 0;  scores[1001] = 0;  scores[1069] = 0;  scores[1137] = 0;  scores[1205] = 0;  scores[1273] = 0;  scores[1341] = 0;  scores[1409] = 0;  scores[1477] = 0;  scores[1545] = 0;  scores[1613] = 0;  scores[1681] = 0;  scores[1749] = 0;  scores[1817] = 0;  scores[1885] = 0;  scores[1953] = 0;  scores[2021] = 0;  scores[2089] = 0;  scores[2157] = 0;  scores[2225] = 0;  scores[2293] = 0;  scores[2361] = 0;  scores[2429] = 0;  scores[2497] = 0;  scores[2565] = 0;  scores[2633] = 0;  scores[2701] = 0;  scores[2769] = 0;  scores[2837] = 0;  scores[2905] = 0;  scores[2973] = 0;  scores[3041] = 0;  scores[3109] = 0;  scores[3177] = 0;  scores[3245] = 0;  scores[3313] = 0;  scores[3381] = 0;  scores[3449] = 0;  scores[3517] = 0;  scores[3585] = 0;  scores[3653] = 0;  scores[3721] = 0;  scores[3789] = 0;  scores[3857] = 0;  scores[3925] = 0;  scores[3993] = 0;  scores[4061] = 0;  scores[4129] = 0;  scores[4197] = 0;  scores[4265] = 0;  scores[4333] = 0;  scores[4401] = 0;  scores[4469] = 0;  scores[4537] = 0;  scores[4605] = 0;                         case 42:
+                 scores[1073] = 0;  scores[1201] = 0;  scores[1329] = 0;  scores[1457] = 0;  scores[1585] = 0;  scores[1713] = 0;  scores[1841] = 0;  scores[1969] = 0;  scores[2097] = 0;  scores[2225] = 0;  scores[2353] = 0;  scores[2481] = 0;  scores[2609] = 0;  scores[2737] = 0;  scores[2865] = 0;  scores[2993] = 0;  scores[3121] = 0;  scores[3249] = 0;  scores[3377] = 0;  scores[3505] = 0;  scores[3633] = 0;  scores[3761] = 0;  scores[3889] = 0;  scores[4017] = 0;  scores[4145] = 0;  scores[4273] = 0;  scores[4401] = 0;  scores[4529] = 0;  scores[4657] = 0;  scores[4785] = 0;  scores[4913] = 0;  scores[5041] = 0;  scores[5169] = 0;  scores[5297] = 0;  scores[5425] = 0;  scores[5553] = 0;  scores[5681] = 0;  scores[5809] = 0;  scores[5937] = 0;  scores[6065] = 0;  scores[6193] = 0;  scores[6321] = 0;  scores[6449] = 0;  scores[6577] = 0;  scores[6705] = 0;  scores[6833] = 0;  scores[6961] = 0;  scores[7089] = 0;  scores[7217] = 0;  scores[7345] = 0;  scores[7473] = 0;  scores[7601] = 0;  scores[7729] = 0;  scores[7857] = 0;  scores[7985] = 0;  scores[8113] = 0;  scores[8241] = 0;  scores[8369] = 0;  scores[8497] = 0;  scores[8625] = 0;                         case 42:
                 if(42 == width + 8){break;}
-                 scores[594] = 0;  scores[662] = 0;  scores[730] = 0;  scores[798] = 0;  scores[866] = 0;  scores[934] = 0;  scores[1002] = 0;  scores[1070] = 0;  scores[1138] = 0;  scores[1206] = 0;  scores[1274] = 0;  scores[1342] = 0;  scores[1410] = 0;  scores[1478] = 0;  scores[1546] = 0;  scores[1614] = 0;  scores[1682] = 0;  scores[1750] = 0;  scores[1818] = 0;  scores[1886] = 0;  scores[1954] = 0;  scores[2022] = 0;  scores[2090] = 0;  scores[2158] = 0;  scores[2226] = 0;  scores[2294] = 0;  scores[2362] = 0;  scores[2430] = 0;  scores[2498] = 0;  scores[2566] = 0;  scores[2634] = 0;  scores[2702] = 0;  scores[2770] = 0;  scores[2838] = 0;  scores[2906] = 0;  scores[2974] = 0;  scores[3042] = 0;  scores[3110] = 0;  scores[3178] = 0;  scores[3246] = 0;  scores[3314] = 0;  scores[3382] = 0;  scores[3450] = 0;  scores[3518] = 0;  scores[3586] = 0;  scores[3654] = 0;  scores[3722] = 0;  scores[3790] = 0;  scores[3858] = 0;  scores[3926] = 0;  scores[3994] = 0;  scores[4062] = 0;  scores[4130] = 0;  scores[4198] = 0;  scores[4266] = 0;  scores[4334] = 0;  scores[4402] = 0;  scores[4470] = 0;  scores[4538] = 0;  scores[4606] = 0;                         case 43:
+                 scores[1074] = 0;  scores[1202] = 0;  scores[1330] = 0;  scores[1458] = 0;  scores[1586] = 0;  scores[1714] = 0;  scores[1842] = 0;  scores[1970] = 0;  scores[2098] = 0;  scores[2226] = 0;  scores[2354] = 0;  scores[2482] = 0;  scores[2610] = 0;  scores[2738] = 0;  scores[2866] = 0;  scores[2994] = 0;  scores[3122] = 0;  scores[3250] = 0;  scores[3378] = 0;  scores[3506] = 0;  scores[3634] = 0;  scores[3762] = 0;  scores[3890] = 0;  scores[4018] = 0;  scores[4146] = 0;  scores[4274] = 0;  scores[4402] = 0;  scores[4530] = 0;  scores[4658] = 0;  scores[4786] = 0;  scores[4914] = 0;  scores[5042] = 0;  scores[5170] = 0;  scores[5298] = 0;  scores[5426] = 0;  scores[5554] = 0;  scores[5682] = 0;  scores[5810] = 0;  scores[5938] = 0;  scores[6066] = 0;  scores[6194] = 0;  scores[6322] = 0;  scores[6450] = 0;  scores[6578] = 0;  scores[6706] = 0;  scores[6834] = 0;  scores[6962] = 0;  scores[7090] = 0;  scores[7218] = 0;  scores[7346] = 0;  scores[7474] = 0;  scores[7602] = 0;  scores[7730] = 0;  scores[7858] = 0;  scores[7986] = 0;  scores[8114] = 0;  scores[8242] = 0;  scores[8370] = 0;  scores[8498] = 0;  scores[8626] = 0;                         case 43:
                 if(43 == width + 8){break;}
-                 scores[595] = 0;  scores[663] = 0;  scores[731] = 0;  scores[799] = 0;  scores[867] = 0;  scores[935] = 0;  scores[1003] = 0;  scores[1071] = 0;  scores[1139] = 0;  scores[1207] = 0;  scores[1275] = 0;  scores[1343] = 0;  scores[1411] = 0;  scores[1479] = 0;  scores[1547] = 0;  scores[1615] = 0;  scores[1683] = 0;  scores[1751] = 0;  scores[1819] = 0;  scores[1887] = 0;  scores[1955] = 0;  scores[2023] = 0;  scores[2091] = 0;  scores[2159] = 0;  scores[2227] = 0;  scores[2295] = 0;  scores[2363] = 0;  scores[2431] = 0;  scores[2499] = 0;  scores[2567] = 0;  scores[2635] = 0;  scores[2703] = 0;  scores[2771] = 0;  scores[2839] = 0;  scores[2907] = 0;  scores[2975] = 0;  scores[3043] = 0;  scores[3111] = 0;  scores[3179] = 0;  scores[3247] = 0;  scores[3315] = 0;  scores[3383] = 0;  scores[3451] = 0;  scores[3519] = 0;  scores[3587] = 0;  scores[3655] = 0;  scores[3723] = 0;  scores[3791] = 0;  scores[3859] = 0;  scores[3927] = 0;  scores[3995] = 0;  scores[4063] = 0;  scores[4131] = 0;  scores[4199] = 0;  scores[4267] = 0;  scores[4335] = 0;  scores[4403] = 0;  scores[4471] = 0;  scores[4539] = 0;  scores[4607] = 0;                         case 44:
+                 scores[1075] = 0;  scores[1203] = 0;  scores[1331] = 0;  scores[1459] = 0;  scores[1587] = 0;  scores[1715] = 0;  scores[1843] = 0;  scores[1971] = 0;  scores[2099] = 0;  scores[2227] = 0;  scores[2355] = 0;  scores[2483] = 0;  scores[2611] = 0;  scores[2739] = 0;  scores[2867] = 0;  scores[2995] = 0;  scores[3123] = 0;  scores[3251] = 0;  scores[3379] = 0;  scores[3507] = 0;  scores[3635] = 0;  scores[3763] = 0;  scores[3891] = 0;  scores[4019] = 0;  scores[4147] = 0;  scores[4275] = 0;  scores[4403] = 0;  scores[4531] = 0;  scores[4659] = 0;  scores[4787] = 0;  scores[4915] = 0;  scores[5043] = 0;  scores[5171] = 0;  scores[5299] = 0;  scores[5427] = 0;  scores[5555] = 0;  scores[5683] = 0;  scores[5811] = 0;  scores[5939] = 0;  scores[6067] = 0;  scores[6195] = 0;  scores[6323] = 0;  scores[6451] = 0;  scores[6579] = 0;  scores[6707] = 0;  scores[6835] = 0;  scores[6963] = 0;  scores[7091] = 0;  scores[7219] = 0;  scores[7347] = 0;  scores[7475] = 0;  scores[7603] = 0;  scores[7731] = 0;  scores[7859] = 0;  scores[7987] = 0;  scores[8115] = 0;  scores[8243] = 0;  scores[8371] = 0;  scores[8499] = 0;  scores[8627] = 0;                         case 44:
                 if(44 == width + 8){break;}
-                 scores[596] = 0;  scores[664] = 0;  scores[732] = 0;  scores[800] = 0;  scores[868] = 0;  scores[936] = 0;  scores[1004] = 0;  scores[1072] = 0;  scores[1140] = 0;  scores[1208] = 0;  scores[1276] = 0;  scores[1344] = 0;  scores[1412] = 0;  scores[1480] = 0;  scores[1548] = 0;  scores[1616] = 0;  scores[1684] = 0;  scores[1752] = 0;  scores[1820] = 0;  scores[1888] = 0;  scores[1956] = 0;  scores[2024] = 0;  scores[2092] = 0;  scores[2160] = 0;  scores[2228] = 0;  scores[2296] = 0;  scores[2364] = 0;  scores[2432] = 0;  scores[2500] = 0;  scores[2568] = 0;  scores[2636] = 0;  scores[2704] = 0;  scores[2772] = 0;  scores[2840] = 0;  scores[2908] = 0;  scores[2976] = 0;  scores[3044] = 0;  scores[3112] = 0;  scores[3180] = 0;  scores[3248] = 0;  scores[3316] = 0;  scores[3384] = 0;  scores[3452] = 0;  scores[3520] = 0;  scores[3588] = 0;  scores[3656] = 0;  scores[3724] = 0;  scores[3792] = 0;  scores[3860] = 0;  scores[3928] = 0;  scores[3996] = 0;  scores[4064] = 0;  scores[4132] = 0;  scores[4200] = 0;  scores[4268] = 0;  scores[4336] = 0;  scores[4404] = 0;  scores[4472] = 0;  scores[4540] = 0;  scores[4608] = 0;                         case 45:
+                 scores[1076] = 0;  scores[1204] = 0;  scores[1332] = 0;  scores[1460] = 0;  scores[1588] = 0;  scores[1716] = 0;  scores[1844] = 0;  scores[1972] = 0;  scores[2100] = 0;  scores[2228] = 0;  scores[2356] = 0;  scores[2484] = 0;  scores[2612] = 0;  scores[2740] = 0;  scores[2868] = 0;  scores[2996] = 0;  scores[3124] = 0;  scores[3252] = 0;  scores[3380] = 0;  scores[3508] = 0;  scores[3636] = 0;  scores[3764] = 0;  scores[3892] = 0;  scores[4020] = 0;  scores[4148] = 0;  scores[4276] = 0;  scores[4404] = 0;  scores[4532] = 0;  scores[4660] = 0;  scores[4788] = 0;  scores[4916] = 0;  scores[5044] = 0;  scores[5172] = 0;  scores[5300] = 0;  scores[5428] = 0;  scores[5556] = 0;  scores[5684] = 0;  scores[5812] = 0;  scores[5940] = 0;  scores[6068] = 0;  scores[6196] = 0;  scores[6324] = 0;  scores[6452] = 0;  scores[6580] = 0;  scores[6708] = 0;  scores[6836] = 0;  scores[6964] = 0;  scores[7092] = 0;  scores[7220] = 0;  scores[7348] = 0;  scores[7476] = 0;  scores[7604] = 0;  scores[7732] = 0;  scores[7860] = 0;  scores[7988] = 0;  scores[8116] = 0;  scores[8244] = 0;  scores[8372] = 0;  scores[8500] = 0;  scores[8628] = 0;                         case 45:
                 if(45 == width + 8){break;}
-                 scores[597] = 0;  scores[665] = 0;  scores[733] = 0;  scores[801] = 0;  scores[869] = 0;  scores[937] = 0;  scores[1005] = 0;  scores[1073] = 0;  scores[1141] = 0;  scores[1209] = 0;  scores[1277] = 0;  scores[1345] = 0;  scores[1413] = 0;  scores[1481] = 0;  scores[1549] = 0;  scores[1617] = 0;  scores[1685] = 0;  scores[1753] = 0;  scores[1821] = 0;  scores[1889] = 0;  scores[1957] = 0;  scores[2025] = 0;  scores[2093] = 0;  scores[2161] = 0;  scores[2229] = 0;  scores[2297] = 0;  scores[2365] = 0;  scores[2433] = 0;  scores[2501] = 0;  scores[2569] = 0;  scores[2637] = 0;  scores[2705] = 0;  scores[2773] = 0;  scores[2841] = 0;  scores[2909] = 0;  scores[2977] = 0;  scores[3045] = 0;  scores[3113] = 0;  scores[3181] = 0;  scores[3249] = 0;  scores[3317] = 0;  scores[3385] = 0;  scores[3453] = 0;  scores[3521] = 0;  scores[3589] = 0;  scores[3657] = 0;  scores[3725] = 0;  scores[3793] = 0;  scores[3861] = 0;  scores[3929] = 0;  scores[3997] = 0;  scores[4065] = 0;  scores[4133] = 0;  scores[4201] = 0;  scores[4269] = 0;  scores[4337] = 0;  scores[4405] = 0;  scores[4473] = 0;  scores[4541] = 0;  scores[4609] = 0;                         case 46:
+                 scores[1077] = 0;  scores[1205] = 0;  scores[1333] = 0;  scores[1461] = 0;  scores[1589] = 0;  scores[1717] = 0;  scores[1845] = 0;  scores[1973] = 0;  scores[2101] = 0;  scores[2229] = 0;  scores[2357] = 0;  scores[2485] = 0;  scores[2613] = 0;  scores[2741] = 0;  scores[2869] = 0;  scores[2997] = 0;  scores[3125] = 0;  scores[3253] = 0;  scores[3381] = 0;  scores[3509] = 0;  scores[3637] = 0;  scores[3765] = 0;  scores[3893] = 0;  scores[4021] = 0;  scores[4149] = 0;  scores[4277] = 0;  scores[4405] = 0;  scores[4533] = 0;  scores[4661] = 0;  scores[4789] = 0;  scores[4917] = 0;  scores[5045] = 0;  scores[5173] = 0;  scores[5301] = 0;  scores[5429] = 0;  scores[5557] = 0;  scores[5685] = 0;  scores[5813] = 0;  scores[5941] = 0;  scores[6069] = 0;  scores[6197] = 0;  scores[6325] = 0;  scores[6453] = 0;  scores[6581] = 0;  scores[6709] = 0;  scores[6837] = 0;  scores[6965] = 0;  scores[7093] = 0;  scores[7221] = 0;  scores[7349] = 0;  scores[7477] = 0;  scores[7605] = 0;  scores[7733] = 0;  scores[7861] = 0;  scores[7989] = 0;  scores[8117] = 0;  scores[8245] = 0;  scores[8373] = 0;  scores[8501] = 0;  scores[8629] = 0;                         case 46:
                 if(46 == width + 8){break;}
-                 scores[598] = 0;  scores[666] = 0;  scores[734] = 0;  scores[802] = 0;  scores[870] = 0;  scores[938] = 0;  scores[1006] = 0;  scores[1074] = 0;  scores[1142] = 0;  scores[1210] = 0;  scores[1278] = 0;  scores[1346] = 0;  scores[1414] = 0;  scores[1482] = 0;  scores[1550] = 0;  scores[1618] = 0;  scores[1686] = 0;  scores[1754] = 0;  scores[1822] = 0;  scores[1890] = 0;  scores[1958] = 0;  scores[2026] = 0;  scores[2094] = 0;  scores[2162] = 0;  scores[2230] = 0;  scores[2298] = 0;  scores[2366] = 0;  scores[2434] = 0;  scores[2502] = 0;  scores[2570] = 0;  scores[2638] = 0;  scores[2706] = 0;  scores[2774] = 0;  scores[2842] = 0;  scores[2910] = 0;  scores[2978] = 0;  scores[3046] = 0;  scores[3114] = 0;  scores[3182] = 0;  scores[3250] = 0;  scores[3318] = 0;  scores[3386] = 0;  scores[3454] = 0;  scores[3522] = 0;  scores[3590] = 0;  scores[3658] = 0;  scores[3726] = 0;  scores[3794] = 0;  scores[3862] = 0;  scores[3930] = 0;  scores[3998] = 0;  scores[4066] = 0;  scores[4134] = 0;  scores[4202] = 0;  scores[4270] = 0;  scores[4338] = 0;  scores[4406] = 0;  scores[4474] = 0;  scores[4542] = 0;  scores[4610] = 0;                         case 47:
+                 scores[1078] = 0;  scores[1206] = 0;  scores[1334] = 0;  scores[1462] = 0;  scores[1590] = 0;  scores[1718] = 0;  scores[1846] = 0;  scores[1974] = 0;  scores[2102] = 0;  scores[2230] = 0;  scores[2358] = 0;  scores[2486] = 0;  scores[2614] = 0;  scores[2742] = 0;  scores[2870] = 0;  scores[2998] = 0;  scores[3126] = 0;  scores[3254] = 0;  scores[3382] = 0;  scores[3510] = 0;  scores[3638] = 0;  scores[3766] = 0;  scores[3894] = 0;  scores[4022] = 0;  scores[4150] = 0;  scores[4278] = 0;  scores[4406] = 0;  scores[4534] = 0;  scores[4662] = 0;  scores[4790] = 0;  scores[4918] = 0;  scores[5046] = 0;  scores[5174] = 0;  scores[5302] = 0;  scores[5430] = 0;  scores[5558] = 0;  scores[5686] = 0;  scores[5814] = 0;  scores[5942] = 0;  scores[6070] = 0;  scores[6198] = 0;  scores[6326] = 0;  scores[6454] = 0;  scores[6582] = 0;  scores[6710] = 0;  scores[6838] = 0;  scores[6966] = 0;  scores[7094] = 0;  scores[7222] = 0;  scores[7350] = 0;  scores[7478] = 0;  scores[7606] = 0;  scores[7734] = 0;  scores[7862] = 0;  scores[7990] = 0;  scores[8118] = 0;  scores[8246] = 0;  scores[8374] = 0;  scores[8502] = 0;  scores[8630] = 0;                         case 47:
                 if(47 == width + 8){break;}
-                 scores[599] = 0;  scores[667] = 0;  scores[735] = 0;  scores[803] = 0;  scores[871] = 0;  scores[939] = 0;  scores[1007] = 0;  scores[1075] = 0;  scores[1143] = 0;  scores[1211] = 0;  scores[1279] = 0;  scores[1347] = 0;  scores[1415] = 0;  scores[1483] = 0;  scores[1551] = 0;  scores[1619] = 0;  scores[1687] = 0;  scores[1755] = 0;  scores[1823] = 0;  scores[1891] = 0;  scores[1959] = 0;  scores[2027] = 0;  scores[2095] = 0;  scores[2163] = 0;  scores[2231] = 0;  scores[2299] = 0;  scores[2367] = 0;  scores[2435] = 0;  scores[2503] = 0;  scores[2571] = 0;  scores[2639] = 0;  scores[2707] = 0;  scores[2775] = 0;  scores[2843] = 0;  scores[2911] = 0;  scores[2979] = 0;  scores[3047] = 0;  scores[3115] = 0;  scores[3183] = 0;  scores[3251] = 0;  scores[3319] = 0;  scores[3387] = 0;  scores[3455] = 0;  scores[3523] = 0;  scores[3591] = 0;  scores[3659] = 0;  scores[3727] = 0;  scores[3795] = 0;  scores[3863] = 0;  scores[3931] = 0;  scores[3999] = 0;  scores[4067] = 0;  scores[4135] = 0;  scores[4203] = 0;  scores[4271] = 0;  scores[4339] = 0;  scores[4407] = 0;  scores[4475] = 0;  scores[4543] = 0;  scores[4611] = 0;                         case 48:
+                 scores[1079] = 0;  scores[1207] = 0;  scores[1335] = 0;  scores[1463] = 0;  scores[1591] = 0;  scores[1719] = 0;  scores[1847] = 0;  scores[1975] = 0;  scores[2103] = 0;  scores[2231] = 0;  scores[2359] = 0;  scores[2487] = 0;  scores[2615] = 0;  scores[2743] = 0;  scores[2871] = 0;  scores[2999] = 0;  scores[3127] = 0;  scores[3255] = 0;  scores[3383] = 0;  scores[3511] = 0;  scores[3639] = 0;  scores[3767] = 0;  scores[3895] = 0;  scores[4023] = 0;  scores[4151] = 0;  scores[4279] = 0;  scores[4407] = 0;  scores[4535] = 0;  scores[4663] = 0;  scores[4791] = 0;  scores[4919] = 0;  scores[5047] = 0;  scores[5175] = 0;  scores[5303] = 0;  scores[5431] = 0;  scores[5559] = 0;  scores[5687] = 0;  scores[5815] = 0;  scores[5943] = 0;  scores[6071] = 0;  scores[6199] = 0;  scores[6327] = 0;  scores[6455] = 0;  scores[6583] = 0;  scores[6711] = 0;  scores[6839] = 0;  scores[6967] = 0;  scores[7095] = 0;  scores[7223] = 0;  scores[7351] = 0;  scores[7479] = 0;  scores[7607] = 0;  scores[7735] = 0;  scores[7863] = 0;  scores[7991] = 0;  scores[8119] = 0;  scores[8247] = 0;  scores[8375] = 0;  scores[8503] = 0;  scores[8631] = 0;                         case 48:
                 if(48 == width + 8){break;}
-                 scores[600] = 0;  scores[668] = 0;  scores[736] = 0;  scores[804] = 0;  scores[872] = 0;  scores[940] = 0;  scores[1008] = 0;  scores[1076] = 0;  scores[1144] = 0;  scores[1212] = 0;  scores[1280] = 0;  scores[1348] = 0;  scores[1416] = 0;  scores[1484] = 0;  scores[1552] = 0;  scores[1620] = 0;  scores[1688] = 0;  scores[1756] = 0;  scores[1824] = 0;  scores[1892] = 0;  scores[1960] = 0;  scores[2028] = 0;  scores[2096] = 0;  scores[2164] = 0;  scores[2232] = 0;  scores[2300] = 0;  scores[2368] = 0;  scores[2436] = 0;  scores[2504] = 0;  scores[2572] = 0;  scores[2640] = 0;  scores[2708] = 0;  scores[2776] = 0;  scores[2844] = 0;  scores[2912] = 0;  scores[2980] = 0;  scores[3048] = 0;  scores[3116] = 0;  scores[3184] = 0;  scores[3252] = 0;  scores[3320] = 0;  scores[3388] = 0;  scores[3456] = 0;  scores[3524] = 0;  scores[3592] = 0;  scores[3660] = 0;  scores[3728] = 0;  scores[3796] = 0;  scores[3864] = 0;  scores[3932] = 0;  scores[4000] = 0;  scores[4068] = 0;  scores[4136] = 0;  scores[4204] = 0;  scores[4272] = 0;  scores[4340] = 0;  scores[4408] = 0;  scores[4476] = 0;  scores[4544] = 0;  scores[4612] = 0;                         case 49:
+                 scores[1080] = 0;  scores[1208] = 0;  scores[1336] = 0;  scores[1464] = 0;  scores[1592] = 0;  scores[1720] = 0;  scores[1848] = 0;  scores[1976] = 0;  scores[2104] = 0;  scores[2232] = 0;  scores[2360] = 0;  scores[2488] = 0;  scores[2616] = 0;  scores[2744] = 0;  scores[2872] = 0;  scores[3000] = 0;  scores[3128] = 0;  scores[3256] = 0;  scores[3384] = 0;  scores[3512] = 0;  scores[3640] = 0;  scores[3768] = 0;  scores[3896] = 0;  scores[4024] = 0;  scores[4152] = 0;  scores[4280] = 0;  scores[4408] = 0;  scores[4536] = 0;  scores[4664] = 0;  scores[4792] = 0;  scores[4920] = 0;  scores[5048] = 0;  scores[5176] = 0;  scores[5304] = 0;  scores[5432] = 0;  scores[5560] = 0;  scores[5688] = 0;  scores[5816] = 0;  scores[5944] = 0;  scores[6072] = 0;  scores[6200] = 0;  scores[6328] = 0;  scores[6456] = 0;  scores[6584] = 0;  scores[6712] = 0;  scores[6840] = 0;  scores[6968] = 0;  scores[7096] = 0;  scores[7224] = 0;  scores[7352] = 0;  scores[7480] = 0;  scores[7608] = 0;  scores[7736] = 0;  scores[7864] = 0;  scores[7992] = 0;  scores[8120] = 0;  scores[8248] = 0;  scores[8376] = 0;  scores[8504] = 0;  scores[8632] = 0;                         case 49:
                 if(49 == width + 8){break;}
-                 scores[601] = 0;  scores[669] = 0;  scores[737] = 0;  scores[805] = 0;  scores[873] = 0;  scores[941] = 0;  scores[1009] = 0;  scores[1077] = 0;  scores[1145] = 0;  scores[1213] = 0;  scores[1281] = 0;  scores[1349] = 0;  scores[1417] = 0;  scores[1485] = 0;  scores[1553] = 0;  scores[1621] = 0;  scores[1689] = 0;  scores[1757] = 0;  scores[1825] = 0;  scores[1893] = 0;  scores[1961] = 0;  scores[2029] = 0;  scores[2097] = 0;  scores[2165] = 0;  scores[2233] = 0;  scores[2301] = 0;  scores[2369] = 0;  scores[2437] = 0;  scores[2505] = 0;  scores[2573] = 0;  scores[2641] = 0;  scores[2709] = 0;  scores[2777] = 0;  scores[2845] = 0;  scores[2913] = 0;  scores[2981] = 0;  scores[3049] = 0;  scores[3117] = 0;  scores[3185] = 0;  scores[3253] = 0;  scores[3321] = 0;  scores[3389] = 0;  scores[3457] = 0;  scores[3525] = 0;  scores[3593] = 0;  scores[3661] = 0;  scores[3729] = 0;  scores[3797] = 0;  scores[3865] = 0;  scores[3933] = 0;  scores[4001] = 0;  scores[4069] = 0;  scores[4137] = 0;  scores[4205] = 0;  scores[4273] = 0;  scores[4341] = 0;  scores[4409] = 0;  scores[4477] = 0;  scores[4545] = 0;  scores[4613] = 0;                         case 50:
+                 scores[1081] = 0;  scores[1209] = 0;  scores[1337] = 0;  scores[1465] = 0;  scores[1593] = 0;  scores[1721] = 0;  scores[1849] = 0;  scores[1977] = 0;  scores[2105] = 0;  scores[2233] = 0;  scores[2361] = 0;  scores[2489] = 0;  scores[2617] = 0;  scores[2745] = 0;  scores[2873] = 0;  scores[3001] = 0;  scores[3129] = 0;  scores[3257] = 0;  scores[3385] = 0;  scores[3513] = 0;  scores[3641] = 0;  scores[3769] = 0;  scores[3897] = 0;  scores[4025] = 0;  scores[4153] = 0;  scores[4281] = 0;  scores[4409] = 0;  scores[4537] = 0;  scores[4665] = 0;  scores[4793] = 0;  scores[4921] = 0;  scores[5049] = 0;  scores[5177] = 0;  scores[5305] = 0;  scores[5433] = 0;  scores[5561] = 0;  scores[5689] = 0;  scores[5817] = 0;  scores[5945] = 0;  scores[6073] = 0;  scores[6201] = 0;  scores[6329] = 0;  scores[6457] = 0;  scores[6585] = 0;  scores[6713] = 0;  scores[6841] = 0;  scores[6969] = 0;  scores[7097] = 0;  scores[7225] = 0;  scores[7353] = 0;  scores[7481] = 0;  scores[7609] = 0;  scores[7737] = 0;  scores[7865] = 0;  scores[7993] = 0;  scores[8121] = 0;  scores[8249] = 0;  scores[8377] = 0;  scores[8505] = 0;  scores[8633] = 0;                         case 50:
                 if(50 == width + 8){break;}
-                 scores[602] = 0;  scores[670] = 0;  scores[738] = 0;  scores[806] = 0;  scores[874] = 0;  scores[942] = 0;  scores[1010] = 0;  scores[1078] = 0;  scores[1146] = 0;  scores[1214] = 0;  scores[1282] = 0;  scores[1350] = 0;  scores[1418] = 0;  scores[1486] = 0;  scores[1554] = 0;  scores[1622] = 0;  scores[1690] = 0;  scores[1758] = 0;  scores[1826] = 0;  scores[1894] = 0;  scores[1962] = 0;  scores[2030] = 0;  scores[2098] = 0;  scores[2166] = 0;  scores[2234] = 0;  scores[2302] = 0;  scores[2370] = 0;  scores[2438] = 0;  scores[2506] = 0;  scores[2574] = 0;  scores[2642] = 0;  scores[2710] = 0;  scores[2778] = 0;  scores[2846] = 0;  scores[2914] = 0;  scores[2982] = 0;  scores[3050] = 0;  scores[3118] = 0;  scores[3186] = 0;  scores[3254] = 0;  scores[3322] = 0;  scores[3390] = 0;  scores[3458] = 0;  scores[3526] = 0;  scores[3594] = 0;  scores[3662] = 0;  scores[3730] = 0;  scores[3798] = 0;  scores[3866] = 0;  scores[3934] = 0;  scores[4002] = 0;  scores[4070] = 0;  scores[4138] = 0;  scores[4206] = 0;  scores[4274] = 0;  scores[4342] = 0;  scores[4410] = 0;  scores[4478] = 0;  scores[4546] = 0;  scores[4614] = 0;                         case 51:
+                 scores[1082] = 0;  scores[1210] = 0;  scores[1338] = 0;  scores[1466] = 0;  scores[1594] = 0;  scores[1722] = 0;  scores[1850] = 0;  scores[1978] = 0;  scores[2106] = 0;  scores[2234] = 0;  scores[2362] = 0;  scores[2490] = 0;  scores[2618] = 0;  scores[2746] = 0;  scores[2874] = 0;  scores[3002] = 0;  scores[3130] = 0;  scores[3258] = 0;  scores[3386] = 0;  scores[3514] = 0;  scores[3642] = 0;  scores[3770] = 0;  scores[3898] = 0;  scores[4026] = 0;  scores[4154] = 0;  scores[4282] = 0;  scores[4410] = 0;  scores[4538] = 0;  scores[4666] = 0;  scores[4794] = 0;  scores[4922] = 0;  scores[5050] = 0;  scores[5178] = 0;  scores[5306] = 0;  scores[5434] = 0;  scores[5562] = 0;  scores[5690] = 0;  scores[5818] = 0;  scores[5946] = 0;  scores[6074] = 0;  scores[6202] = 0;  scores[6330] = 0;  scores[6458] = 0;  scores[6586] = 0;  scores[6714] = 0;  scores[6842] = 0;  scores[6970] = 0;  scores[7098] = 0;  scores[7226] = 0;  scores[7354] = 0;  scores[7482] = 0;  scores[7610] = 0;  scores[7738] = 0;  scores[7866] = 0;  scores[7994] = 0;  scores[8122] = 0;  scores[8250] = 0;  scores[8378] = 0;  scores[8506] = 0;  scores[8634] = 0;                         case 51:
                 if(51 == width + 8){break;}
-                 scores[603] = 0;  scores[671] = 0;  scores[739] = 0;  scores[807] = 0;  scores[875] = 0;  scores[943] = 0;  scores[1011] = 0;  scores[1079] = 0;  scores[1147] = 0;  scores[1215] = 0;  scores[1283] = 0;  scores[1351] = 0;  scores[1419] = 0;  scores[1487] = 0;  scores[1555] = 0;  scores[1623] = 0;  scores[1691] = 0;  scores[1759] = 0;  scores[1827] = 0;  scores[1895] = 0;  scores[1963] = 0;  scores[2031] = 0;  scores[2099] = 0;  scores[2167] = 0;  scores[2235] = 0;  scores[2303] = 0;  scores[2371] = 0;  scores[2439] = 0;  scores[2507] = 0;  scores[2575] = 0;  scores[2643] = 0;  scores[2711] = 0;  scores[2779] = 0;  scores[2847] = 0;  scores[2915] = 0;  scores[2983] = 0;  scores[3051] = 0;  scores[3119] = 0;  scores[3187] = 0;  scores[3255] = 0;  scores[3323] = 0;  scores[3391] = 0;  scores[3459] = 0;  scores[3527] = 0;  scores[3595] = 0;  scores[3663] = 0;  scores[3731] = 0;  scores[3799] = 0;  scores[3867] = 0;  scores[3935] = 0;  scores[4003] = 0;  scores[4071] = 0;  scores[4139] = 0;  scores[4207] = 0;  scores[4275] = 0;  scores[4343] = 0;  scores[4411] = 0;  scores[4479] = 0;  scores[4547] = 0;  scores[4615] = 0;                         case 52:
+                 scores[1083] = 0;  scores[1211] = 0;  scores[1339] = 0;  scores[1467] = 0;  scores[1595] = 0;  scores[1723] = 0;  scores[1851] = 0;  scores[1979] = 0;  scores[2107] = 0;  scores[2235] = 0;  scores[2363] = 0;  scores[2491] = 0;  scores[2619] = 0;  scores[2747] = 0;  scores[2875] = 0;  scores[3003] = 0;  scores[3131] = 0;  scores[3259] = 0;  scores[3387] = 0;  scores[3515] = 0;  scores[3643] = 0;  scores[3771] = 0;  scores[3899] = 0;  scores[4027] = 0;  scores[4155] = 0;  scores[4283] = 0;  scores[4411] = 0;  scores[4539] = 0;  scores[4667] = 0;  scores[4795] = 0;  scores[4923] = 0;  scores[5051] = 0;  scores[5179] = 0;  scores[5307] = 0;  scores[5435] = 0;  scores[5563] = 0;  scores[5691] = 0;  scores[5819] = 0;  scores[5947] = 0;  scores[6075] = 0;  scores[6203] = 0;  scores[6331] = 0;  scores[6459] = 0;  scores[6587] = 0;  scores[6715] = 0;  scores[6843] = 0;  scores[6971] = 0;  scores[7099] = 0;  scores[7227] = 0;  scores[7355] = 0;  scores[7483] = 0;  scores[7611] = 0;  scores[7739] = 0;  scores[7867] = 0;  scores[7995] = 0;  scores[8123] = 0;  scores[8251] = 0;  scores[8379] = 0;  scores[8507] = 0;  scores[8635] = 0;                         case 52:
                 if(52 == width + 8){break;}
-                 scores[604] = 0;  scores[672] = 0;  scores[740] = 0;  scores[808] = 0;  scores[876] = 0;  scores[944] = 0;  scores[1012] = 0;  scores[1080] = 0;  scores[1148] = 0;  scores[1216] = 0;  scores[1284] = 0;  scores[1352] = 0;  scores[1420] = 0;  scores[1488] = 0;  scores[1556] = 0;  scores[1624] = 0;  scores[1692] = 0;  scores[1760] = 0;  scores[1828] = 0;  scores[1896] = 0;  scores[1964] = 0;  scores[2032] = 0;  scores[2100] = 0;  scores[2168] = 0;  scores[2236] = 0;  scores[2304] = 0;  scores[2372] = 0;  scores[2440] = 0;  scores[2508] = 0;  scores[2576] = 0;  scores[2644] = 0;  scores[2712] = 0;  scores[2780] = 0;  scores[2848] = 0;  scores[2916] = 0;  scores[2984] = 0;  scores[3052] = 0;  scores[3120] = 0;  scores[3188] = 0;  scores[3256] = 0;  scores[3324] = 0;  scores[3392] = 0;  scores[3460] = 0;  scores[3528] = 0;  scores[3596] = 0;  scores[3664] = 0;  scores[3732] = 0;  scores[3800] = 0;  scores[3868] = 0;  scores[3936] = 0;  scores[4004] = 0;  scores[4072] = 0;  scores[4140] = 0;  scores[4208] = 0;  scores[4276] = 0;  scores[4344] = 0;  scores[4412] = 0;  scores[4480] = 0;  scores[4548] = 0;  scores[4616] = 0;                         case 53:
+                 scores[1084] = 0;  scores[1212] = 0;  scores[1340] = 0;  scores[1468] = 0;  scores[1596] = 0;  scores[1724] = 0;  scores[1852] = 0;  scores[1980] = 0;  scores[2108] = 0;  scores[2236] = 0;  scores[2364] = 0;  scores[2492] = 0;  scores[2620] = 0;  scores[2748] = 0;  scores[2876] = 0;  scores[3004] = 0;  scores[3132] = 0;  scores[3260] = 0;  scores[3388] = 0;  scores[3516] = 0;  scores[3644] = 0;  scores[3772] = 0;  scores[3900] = 0;  scores[4028] = 0;  scores[4156] = 0;  scores[4284] = 0;  scores[4412] = 0;  scores[4540] = 0;  scores[4668] = 0;  scores[4796] = 0;  scores[4924] = 0;  scores[5052] = 0;  scores[5180] = 0;  scores[5308] = 0;  scores[5436] = 0;  scores[5564] = 0;  scores[5692] = 0;  scores[5820] = 0;  scores[5948] = 0;  scores[6076] = 0;  scores[6204] = 0;  scores[6332] = 0;  scores[6460] = 0;  scores[6588] = 0;  scores[6716] = 0;  scores[6844] = 0;  scores[6972] = 0;  scores[7100] = 0;  scores[7228] = 0;  scores[7356] = 0;  scores[7484] = 0;  scores[7612] = 0;  scores[7740] = 0;  scores[7868] = 0;  scores[7996] = 0;  scores[8124] = 0;  scores[8252] = 0;  scores[8380] = 0;  scores[8508] = 0;  scores[8636] = 0;                         case 53:
                 if(53 == width + 8){break;}
-                 scores[605] = 0;  scores[673] = 0;  scores[741] = 0;  scores[809] = 0;  scores[877] = 0;  scores[945] = 0;  scores[1013] = 0;  scores[1081] = 0;  scores[1149] = 0;  scores[1217] = 0;  scores[1285] = 0;  scores[1353] = 0;  scores[1421] = 0;  scores[1489] = 0;  scores[1557] = 0;  scores[1625] = 0;  scores[1693] = 0;  scores[1761] = 0;  scores[1829] = 0;  scores[1897] = 0;  scores[1965] = 0;  scores[2033] = 0;  scores[2101] = 0;  scores[2169] = 0;  scores[2237] = 0;  scores[2305] = 0;  scores[2373] = 0;  scores[2441] = 0;  scores[2509] = 0;  scores[2577] = 0;  scores[2645] = 0;  scores[2713] = 0;  scores[2781] = 0;  scores[2849] = 0;  scores[2917] = 0;  scores[2985] = 0;  scores[3053] = 0;  scores[3121] = 0;  scores[3189] = 0;  scores[3257] = 0;  scores[3325] = 0;  scores[3393] = 0;  scores[3461] = 0;  scores[3529] = 0;  scores[3597] = 0;  scores[3665] = 0;  scores[3733] = 0;  scores[3801] = 0;  scores[3869] = 0;  scores[3937] = 0;  scores[4005] = 0;  scores[4073] = 0;  scores[4141] = 0;  scores[4209] = 0;  scores[4277] = 0;  scores[4345] = 0;  scores[4413] = 0;  scores[4481] = 0;  scores[4549] = 0;  scores[4617] = 0;                         case 54:
+                 scores[1085] = 0;  scores[1213] = 0;  scores[1341] = 0;  scores[1469] = 0;  scores[1597] = 0;  scores[1725] = 0;  scores[1853] = 0;  scores[1981] = 0;  scores[2109] = 0;  scores[2237] = 0;  scores[2365] = 0;  scores[2493] = 0;  scores[2621] = 0;  scores[2749] = 0;  scores[2877] = 0;  scores[3005] = 0;  scores[3133] = 0;  scores[3261] = 0;  scores[3389] = 0;  scores[3517] = 0;  scores[3645] = 0;  scores[3773] = 0;  scores[3901] = 0;  scores[4029] = 0;  scores[4157] = 0;  scores[4285] = 0;  scores[4413] = 0;  scores[4541] = 0;  scores[4669] = 0;  scores[4797] = 0;  scores[4925] = 0;  scores[5053] = 0;  scores[5181] = 0;  scores[5309] = 0;  scores[5437] = 0;  scores[5565] = 0;  scores[5693] = 0;  scores[5821] = 0;  scores[5949] = 0;  scores[6077] = 0;  scores[6205] = 0;  scores[6333] = 0;  scores[6461] = 0;  scores[6589] = 0;  scores[6717] = 0;  scores[6845] = 0;  scores[6973] = 0;  scores[7101] = 0;  scores[7229] = 0;  scores[7357] = 0;  scores[7485] = 0;  scores[7613] = 0;  scores[7741] = 0;  scores[7869] = 0;  scores[7997] = 0;  scores[8125] = 0;  scores[8253] = 0;  scores[8381] = 0;  scores[8509] = 0;  scores[8637] = 0;                         case 54:
                 if(54 == width + 8){break;}
-                 scores[606] = 0;  scores[674] = 0;  scores[742] = 0;  scores[810] = 0;  scores[878] = 0;  scores[946] = 0;  scores[1014] = 0;  scores[1082] = 0;  scores[1150] = 0;  scores[1218] = 0;  scores[1286] = 0;  scores[1354] = 0;  scores[1422] = 0;  scores[1490] = 0;  scores[1558] = 0;  scores[1626] = 0;  scores[1694] = 0;  scores[1762] = 0;  scores[1830] = 0;  scores[1898] = 0;  scores[1966] = 0;  scores[2034] = 0;  scores[2102] = 0;  scores[2170] = 0;  scores[2238] = 0;  scores[2306] = 0;  scores[2374] = 0;  scores[2442] = 0;  scores[2510] = 0;  scores[2578] = 0;  scores[2646] = 0;  scores[2714] = 0;  scores[2782] = 0;  scores[2850] = 0;  scores[2918] = 0;  scores[2986] = 0;  scores[3054] = 0;  scores[3122] = 0;  scores[3190] = 0;  scores[3258] = 0;  scores[3326] = 0;  scores[3394] = 0;  scores[3462] = 0;  scores[3530] = 0;  scores[3598] = 0;  scores[3666] = 0;  scores[3734] = 0;  scores[3802] = 0;  scores[3870] = 0;  scores[3938] = 0;  scores[4006] = 0;  scores[4074] = 0;  scores[4142] = 0;  scores[4210] = 0;  scores[4278] = 0;  scores[4346] = 0;  scores[4414] = 0;  scores[4482] = 0;  scores[4550] = 0;  scores[4618] = 0;                         case 55:
+                 scores[1086] = 0;  scores[1214] = 0;  scores[1342] = 0;  scores[1470] = 0;  scores[1598] = 0;  scores[1726] = 0;  scores[1854] = 0;  scores[1982] = 0;  scores[2110] = 0;  scores[2238] = 0;  scores[2366] = 0;  scores[2494] = 0;  scores[2622] = 0;  scores[2750] = 0;  scores[2878] = 0;  scores[3006] = 0;  scores[3134] = 0;  scores[3262] = 0;  scores[3390] = 0;  scores[3518] = 0;  scores[3646] = 0;  scores[3774] = 0;  scores[3902] = 0;  scores[4030] = 0;  scores[4158] = 0;  scores[4286] = 0;  scores[4414] = 0;  scores[4542] = 0;  scores[4670] = 0;  scores[4798] = 0;  scores[4926] = 0;  scores[5054] = 0;  scores[5182] = 0;  scores[5310] = 0;  scores[5438] = 0;  scores[5566] = 0;  scores[5694] = 0;  scores[5822] = 0;  scores[5950] = 0;  scores[6078] = 0;  scores[6206] = 0;  scores[6334] = 0;  scores[6462] = 0;  scores[6590] = 0;  scores[6718] = 0;  scores[6846] = 0;  scores[6974] = 0;  scores[7102] = 0;  scores[7230] = 0;  scores[7358] = 0;  scores[7486] = 0;  scores[7614] = 0;  scores[7742] = 0;  scores[7870] = 0;  scores[7998] = 0;  scores[8126] = 0;  scores[8254] = 0;  scores[8382] = 0;  scores[8510] = 0;  scores[8638] = 0;                         case 55:
                 if(55 == width + 8){break;}
-                 scores[607] = 0;  scores[675] = 0;  scores[743] = 0;  scores[811] = 0;  scores[879] = 0;  scores[947] = 0;  scores[1015] = 0;  scores[1083] = 0;  scores[1151] = 0;  scores[1219] = 0;  scores[1287] = 0;  scores[1355] = 0;  scores[1423] = 0;  scores[1491] = 0;  scores[1559] = 0;  scores[1627] = 0;  scores[1695] = 0;  scores[1763] = 0;  scores[1831] = 0;  scores[1899] = 0;  scores[1967] = 0;  scores[2035] = 0;  scores[2103] = 0;  scores[2171] = 0;  scores[2239] = 0;  scores[2307] = 0;  scores[2375] = 0;  scores[2443] = 0;  scores[2511] = 0;  scores[2579] = 0;  scores[2647] = 0;  scores[2715] = 0;  scores[2783] = 0;  scores[2851] = 0;  scores[2919] = 0;  scores[2987] = 0;  scores[3055] = 0;  scores[3123] = 0;  scores[3191] = 0;  scores[3259] = 0;  scores[3327] = 0;  scores[3395] = 0;  scores[3463] = 0;  scores[3531] = 0;  scores[3599] = 0;  scores[3667] = 0;  scores[3735] = 0;  scores[3803] = 0;  scores[3871] = 0;  scores[3939] = 0;  scores[4007] = 0;  scores[4075] = 0;  scores[4143] = 0;  scores[4211] = 0;  scores[4279] = 0;  scores[4347] = 0;  scores[4415] = 0;  scores[4483] = 0;  scores[4551] = 0;  scores[4619] = 0;                         case 56:
+                 scores[1087] = 0;  scores[1215] = 0;  scores[1343] = 0;  scores[1471] = 0;  scores[1599] = 0;  scores[1727] = 0;  scores[1855] = 0;  scores[1983] = 0;  scores[2111] = 0;  scores[2239] = 0;  scores[2367] = 0;  scores[2495] = 0;  scores[2623] = 0;  scores[2751] = 0;  scores[2879] = 0;  scores[3007] = 0;  scores[3135] = 0;  scores[3263] = 0;  scores[3391] = 0;  scores[3519] = 0;  scores[3647] = 0;  scores[3775] = 0;  scores[3903] = 0;  scores[4031] = 0;  scores[4159] = 0;  scores[4287] = 0;  scores[4415] = 0;  scores[4543] = 0;  scores[4671] = 0;  scores[4799] = 0;  scores[4927] = 0;  scores[5055] = 0;  scores[5183] = 0;  scores[5311] = 0;  scores[5439] = 0;  scores[5567] = 0;  scores[5695] = 0;  scores[5823] = 0;  scores[5951] = 0;  scores[6079] = 0;  scores[6207] = 0;  scores[6335] = 0;  scores[6463] = 0;  scores[6591] = 0;  scores[6719] = 0;  scores[6847] = 0;  scores[6975] = 0;  scores[7103] = 0;  scores[7231] = 0;  scores[7359] = 0;  scores[7487] = 0;  scores[7615] = 0;  scores[7743] = 0;  scores[7871] = 0;  scores[7999] = 0;  scores[8127] = 0;  scores[8255] = 0;  scores[8383] = 0;  scores[8511] = 0;  scores[8639] = 0;                         case 56:
                 if(56 == width + 8){break;}
-                 scores[608] = 0;  scores[676] = 0;  scores[744] = 0;  scores[812] = 0;  scores[880] = 0;  scores[948] = 0;  scores[1016] = 0;  scores[1084] = 0;  scores[1152] = 0;  scores[1220] = 0;  scores[1288] = 0;  scores[1356] = 0;  scores[1424] = 0;  scores[1492] = 0;  scores[1560] = 0;  scores[1628] = 0;  scores[1696] = 0;  scores[1764] = 0;  scores[1832] = 0;  scores[1900] = 0;  scores[1968] = 0;  scores[2036] = 0;  scores[2104] = 0;  scores[2172] = 0;  scores[2240] = 0;  scores[2308] = 0;  scores[2376] = 0;  scores[2444] = 0;  scores[2512] = 0;  scores[2580] = 0;  scores[2648] = 0;  scores[2716] = 0;  scores[2784] = 0;  scores[2852] = 0;  scores[2920] = 0;  scores[2988] = 0;  scores[3056] = 0;  scores[3124] = 0;  scores[3192] = 0;  scores[3260] = 0;  scores[3328] = 0;  scores[3396] = 0;  scores[3464] = 0;  scores[3532] = 0;  scores[3600] = 0;  scores[3668] = 0;  scores[3736] = 0;  scores[3804] = 0;  scores[3872] = 0;  scores[3940] = 0;  scores[4008] = 0;  scores[4076] = 0;  scores[4144] = 0;  scores[4212] = 0;  scores[4280] = 0;  scores[4348] = 0;  scores[4416] = 0;  scores[4484] = 0;  scores[4552] = 0;  scores[4620] = 0;                         case 57:
+                 scores[1088] = 0;  scores[1216] = 0;  scores[1344] = 0;  scores[1472] = 0;  scores[1600] = 0;  scores[1728] = 0;  scores[1856] = 0;  scores[1984] = 0;  scores[2112] = 0;  scores[2240] = 0;  scores[2368] = 0;  scores[2496] = 0;  scores[2624] = 0;  scores[2752] = 0;  scores[2880] = 0;  scores[3008] = 0;  scores[3136] = 0;  scores[3264] = 0;  scores[3392] = 0;  scores[3520] = 0;  scores[3648] = 0;  scores[3776] = 0;  scores[3904] = 0;  scores[4032] = 0;  scores[4160] = 0;  scores[4288] = 0;  scores[4416] = 0;  scores[4544] = 0;  scores[4672] = 0;  scores[4800] = 0;  scores[4928] = 0;  scores[5056] = 0;  scores[5184] = 0;  scores[5312] = 0;  scores[5440] = 0;  scores[5568] = 0;  scores[5696] = 0;  scores[5824] = 0;  scores[5952] = 0;  scores[6080] = 0;  scores[6208] = 0;  scores[6336] = 0;  scores[6464] = 0;  scores[6592] = 0;  scores[6720] = 0;  scores[6848] = 0;  scores[6976] = 0;  scores[7104] = 0;  scores[7232] = 0;  scores[7360] = 0;  scores[7488] = 0;  scores[7616] = 0;  scores[7744] = 0;  scores[7872] = 0;  scores[8000] = 0;  scores[8128] = 0;  scores[8256] = 0;  scores[8384] = 0;  scores[8512] = 0;  scores[8640] = 0;                         case 57:
                 if(57 == width + 8){break;}
-                 scores[609] = 0;  scores[677] = 0;  scores[745] = 0;  scores[813] = 0;  scores[881] = 0;  scores[949] = 0;  scores[1017] = 0;  scores[1085] = 0;  scores[1153] = 0;  scores[1221] = 0;  scores[1289] = 0;  scores[1357] = 0;  scores[1425] = 0;  scores[1493] = 0;  scores[1561] = 0;  scores[1629] = 0;  scores[1697] = 0;  scores[1765] = 0;  scores[1833] = 0;  scores[1901] = 0;  scores[1969] = 0;  scores[2037] = 0;  scores[2105] = 0;  scores[2173] = 0;  scores[2241] = 0;  scores[2309] = 0;  scores[2377] = 0;  scores[2445] = 0;  scores[2513] = 0;  scores[2581] = 0;  scores[2649] = 0;  scores[2717] = 0;  scores[2785] = 0;  scores[2853] = 0;  scores[2921] = 0;  scores[2989] = 0;  scores[3057] = 0;  scores[3125] = 0;  scores[3193] = 0;  scores[3261] = 0;  scores[3329] = 0;  scores[3397] = 0;  scores[3465] = 0;  scores[3533] = 0;  scores[3601] = 0;  scores[3669] = 0;  scores[3737] = 0;  scores[3805] = 0;  scores[3873] = 0;  scores[3941] = 0;  scores[4009] = 0;  scores[4077] = 0;  scores[4145] = 0;  scores[4213] = 0;  scores[4281] = 0;  scores[4349] = 0;  scores[4417] = 0;  scores[4485] = 0;  scores[4553] = 0;  scores[4621] = 0;                         case 58:
+                 scores[1089] = 0;  scores[1217] = 0;  scores[1345] = 0;  scores[1473] = 0;  scores[1601] = 0;  scores[1729] = 0;  scores[1857] = 0;  scores[1985] = 0;  scores[2113] = 0;  scores[2241] = 0;  scores[2369] = 0;  scores[2497] = 0;  scores[2625] = 0;  scores[2753] = 0;  scores[2881] = 0;  scores[3009] = 0;  scores[3137] = 0;  scores[3265] = 0;  scores[3393] = 0;  scores[3521] = 0;  scores[3649] = 0;  scores[3777] = 0;  scores[3905] = 0;  scores[4033] = 0;  scores[4161] = 0;  scores[4289] = 0;  scores[4417] = 0;  scores[4545] = 0;  scores[4673] = 0;  scores[4801] = 0;  scores[4929] = 0;  scores[5057] = 0;  scores[5185] = 0;  scores[5313] = 0;  scores[5441] = 0;  scores[5569] = 0;  scores[5697] = 0;  scores[5825] = 0;  scores[5953] = 0;  scores[6081] = 0;  scores[6209] = 0;  scores[6337] = 0;  scores[6465] = 0;  scores[6593] = 0;  scores[6721] = 0;  scores[6849] = 0;  scores[6977] = 0;  scores[7105] = 0;  scores[7233] = 0;  scores[7361] = 0;  scores[7489] = 0;  scores[7617] = 0;  scores[7745] = 0;  scores[7873] = 0;  scores[8001] = 0;  scores[8129] = 0;  scores[8257] = 0;  scores[8385] = 0;  scores[8513] = 0;  scores[8641] = 0;                         case 58:
                 if(58 == width + 8){break;}
-                 scores[610] = 0;  scores[678] = 0;  scores[746] = 0;  scores[814] = 0;  scores[882] = 0;  scores[950] = 0;  scores[1018] = 0;  scores[1086] = 0;  scores[1154] = 0;  scores[1222] = 0;  scores[1290] = 0;  scores[1358] = 0;  scores[1426] = 0;  scores[1494] = 0;  scores[1562] = 0;  scores[1630] = 0;  scores[1698] = 0;  scores[1766] = 0;  scores[1834] = 0;  scores[1902] = 0;  scores[1970] = 0;  scores[2038] = 0;  scores[2106] = 0;  scores[2174] = 0;  scores[2242] = 0;  scores[2310] = 0;  scores[2378] = 0;  scores[2446] = 0;  scores[2514] = 0;  scores[2582] = 0;  scores[2650] = 0;  scores[2718] = 0;  scores[2786] = 0;  scores[2854] = 0;  scores[2922] = 0;  scores[2990] = 0;  scores[3058] = 0;  scores[3126] = 0;  scores[3194] = 0;  scores[3262] = 0;  scores[3330] = 0;  scores[3398] = 0;  scores[3466] = 0;  scores[3534] = 0;  scores[3602] = 0;  scores[3670] = 0;  scores[3738] = 0;  scores[3806] = 0;  scores[3874] = 0;  scores[3942] = 0;  scores[4010] = 0;  scores[4078] = 0;  scores[4146] = 0;  scores[4214] = 0;  scores[4282] = 0;  scores[4350] = 0;  scores[4418] = 0;  scores[4486] = 0;  scores[4554] = 0;  scores[4622] = 0;                         case 59:
+                 scores[1090] = 0;  scores[1218] = 0;  scores[1346] = 0;  scores[1474] = 0;  scores[1602] = 0;  scores[1730] = 0;  scores[1858] = 0;  scores[1986] = 0;  scores[2114] = 0;  scores[2242] = 0;  scores[2370] = 0;  scores[2498] = 0;  scores[2626] = 0;  scores[2754] = 0;  scores[2882] = 0;  scores[3010] = 0;  scores[3138] = 0;  scores[3266] = 0;  scores[3394] = 0;  scores[3522] = 0;  scores[3650] = 0;  scores[3778] = 0;  scores[3906] = 0;  scores[4034] = 0;  scores[4162] = 0;  scores[4290] = 0;  scores[4418] = 0;  scores[4546] = 0;  scores[4674] = 0;  scores[4802] = 0;  scores[4930] = 0;  scores[5058] = 0;  scores[5186] = 0;  scores[5314] = 0;  scores[5442] = 0;  scores[5570] = 0;  scores[5698] = 0;  scores[5826] = 0;  scores[5954] = 0;  scores[6082] = 0;  scores[6210] = 0;  scores[6338] = 0;  scores[6466] = 0;  scores[6594] = 0;  scores[6722] = 0;  scores[6850] = 0;  scores[6978] = 0;  scores[7106] = 0;  scores[7234] = 0;  scores[7362] = 0;  scores[7490] = 0;  scores[7618] = 0;  scores[7746] = 0;  scores[7874] = 0;  scores[8002] = 0;  scores[8130] = 0;  scores[8258] = 0;  scores[8386] = 0;  scores[8514] = 0;  scores[8642] = 0;                         case 59:
                 if(59 == width + 8){break;}
-                 scores[611] = 0;  scores[679] = 0;  scores[747] = 0;  scores[815] = 0;  scores[883] = 0;  scores[951] = 0;  scores[1019] = 0;  scores[1087] = 0;  scores[1155] = 0;  scores[1223] = 0;  scores[1291] = 0;  scores[1359] = 0;  scores[1427] = 0;  scores[1495] = 0;  scores[1563] = 0;  scores[1631] = 0;  scores[1699] = 0;  scores[1767] = 0;  scores[1835] = 0;  scores[1903] = 0;  scores[1971] = 0;  scores[2039] = 0;  scores[2107] = 0;  scores[2175] = 0;  scores[2243] = 0;  scores[2311] = 0;  scores[2379] = 0;  scores[2447] = 0;  scores[2515] = 0;  scores[2583] = 0;  scores[2651] = 0;  scores[2719] = 0;  scores[2787] = 0;  scores[2855] = 0;  scores[2923] = 0;  scores[2991] = 0;  scores[3059] = 0;  scores[3127] = 0;  scores[3195] = 0;  scores[3263] = 0;  scores[3331] = 0;  scores[3399] = 0;  scores[3467] = 0;  scores[3535] = 0;  scores[3603] = 0;  scores[3671] = 0;  scores[3739] = 0;  scores[3807] = 0;  scores[3875] = 0;  scores[3943] = 0;  scores[4011] = 0;  scores[4079] = 0;  scores[4147] = 0;  scores[4215] = 0;  scores[4283] = 0;  scores[4351] = 0;  scores[4419] = 0;  scores[4487] = 0;  scores[4555] = 0;  scores[4623] = 0;                         case 60:
+                 scores[1091] = 0;  scores[1219] = 0;  scores[1347] = 0;  scores[1475] = 0;  scores[1603] = 0;  scores[1731] = 0;  scores[1859] = 0;  scores[1987] = 0;  scores[2115] = 0;  scores[2243] = 0;  scores[2371] = 0;  scores[2499] = 0;  scores[2627] = 0;  scores[2755] = 0;  scores[2883] = 0;  scores[3011] = 0;  scores[3139] = 0;  scores[3267] = 0;  scores[3395] = 0;  scores[3523] = 0;  scores[3651] = 0;  scores[3779] = 0;  scores[3907] = 0;  scores[4035] = 0;  scores[4163] = 0;  scores[4291] = 0;  scores[4419] = 0;  scores[4547] = 0;  scores[4675] = 0;  scores[4803] = 0;  scores[4931] = 0;  scores[5059] = 0;  scores[5187] = 0;  scores[5315] = 0;  scores[5443] = 0;  scores[5571] = 0;  scores[5699] = 0;  scores[5827] = 0;  scores[5955] = 0;  scores[6083] = 0;  scores[6211] = 0;  scores[6339] = 0;  scores[6467] = 0;  scores[6595] = 0;  scores[6723] = 0;  scores[6851] = 0;  scores[6979] = 0;  scores[7107] = 0;  scores[7235] = 0;  scores[7363] = 0;  scores[7491] = 0;  scores[7619] = 0;  scores[7747] = 0;  scores[7875] = 0;  scores[8003] = 0;  scores[8131] = 0;  scores[8259] = 0;  scores[8387] = 0;  scores[8515] = 0;  scores[8643] = 0;                         case 60:
                 if(60 == width + 8){break;}
-                 scores[612] = 0;  scores[680] = 0;  scores[748] = 0;  scores[816] = 0;  scores[884] = 0;  scores[952] = 0;  scores[1020] = 0;  scores[1088] = 0;  scores[1156] = 0;  scores[1224] = 0;  scores[1292] = 0;  scores[1360] = 0;  scores[1428] = 0;  scores[1496] = 0;  scores[1564] = 0;  scores[1632] = 0;  scores[1700] = 0;  scores[1768] = 0;  scores[1836] = 0;  scores[1904] = 0;  scores[1972] = 0;  scores[2040] = 0;  scores[2108] = 0;  scores[2176] = 0;  scores[2244] = 0;  scores[2312] = 0;  scores[2380] = 0;  scores[2448] = 0;  scores[2516] = 0;  scores[2584] = 0;  scores[2652] = 0;  scores[2720] = 0;  scores[2788] = 0;  scores[2856] = 0;  scores[2924] = 0;  scores[2992] = 0;  scores[3060] = 0;  scores[3128] = 0;  scores[3196] = 0;  scores[3264] = 0;  scores[3332] = 0;  scores[3400] = 0;  scores[3468] = 0;  scores[3536] = 0;  scores[3604] = 0;  scores[3672] = 0;  scores[3740] = 0;  scores[3808] = 0;  scores[3876] = 0;  scores[3944] = 0;  scores[4012] = 0;  scores[4080] = 0;  scores[4148] = 0;  scores[4216] = 0;  scores[4284] = 0;  scores[4352] = 0;  scores[4420] = 0;  scores[4488] = 0;  scores[4556] = 0;  scores[4624] = 0;                             break;
+                 scores[1092] = 0;  scores[1220] = 0;  scores[1348] = 0;  scores[1476] = 0;  scores[1604] = 0;  scores[1732] = 0;  scores[1860] = 0;  scores[1988] = 0;  scores[2116] = 0;  scores[2244] = 0;  scores[2372] = 0;  scores[2500] = 0;  scores[2628] = 0;  scores[2756] = 0;  scores[2884] = 0;  scores[3012] = 0;  scores[3140] = 0;  scores[3268] = 0;  scores[3396] = 0;  scores[3524] = 0;  scores[3652] = 0;  scores[3780] = 0;  scores[3908] = 0;  scores[4036] = 0;  scores[4164] = 0;  scores[4292] = 0;  scores[4420] = 0;  scores[4548] = 0;  scores[4676] = 0;  scores[4804] = 0;  scores[4932] = 0;  scores[5060] = 0;  scores[5188] = 0;  scores[5316] = 0;  scores[5444] = 0;  scores[5572] = 0;  scores[5700] = 0;  scores[5828] = 0;  scores[5956] = 0;  scores[6084] = 0;  scores[6212] = 0;  scores[6340] = 0;  scores[6468] = 0;  scores[6596] = 0;  scores[6724] = 0;  scores[6852] = 0;  scores[6980] = 0;  scores[7108] = 0;  scores[7236] = 0;  scores[7364] = 0;  scores[7492] = 0;  scores[7620] = 0;  scores[7748] = 0;  scores[7876] = 0;  scores[8004] = 0;  scores[8132] = 0;  scores[8260] = 0;  scores[8388] = 0;  scores[8516] = 0;  scores[8644] = 0;                             break;
             default:
                 System.out.println("ERR: Width is out of bounds");
                 break;
@@ -442,87 +442,87 @@ public class VisionUtils {
         switch(height){
                         case 20:
                 if(20 == height + 8){break;}
-                scores[1912] = 0; scores[1913] = 0; scores[1914] = 0; scores[1915] = 0; scores[1916] = 0; scores[1917] = 0; scores[1918] = 0; scores[1919] = 0; scores[1920] = 0; scores[1921] = 0; scores[1922] = 0; scores[1923] = 0; scores[1924] = 0; scores[1925] = 0; scores[1926] = 0; scores[1927] = 0; scores[1928] = 0; scores[1929] = 0; scores[1930] = 0; scores[1931] = 0; scores[1932] = 0; scores[1933] = 0; scores[1934] = 0; scores[1935] = 0; scores[1936] = 0; scores[1937] = 0; scores[1938] = 0; scores[1939] = 0; scores[1940] = 0; scores[1941] = 0; scores[1942] = 0; scores[1943] = 0; scores[1944] = 0; scores[1945] = 0; scores[1946] = 0; scores[1947] = 0; scores[1948] = 0; scores[1949] = 0; scores[1950] = 0; scores[1951] = 0; scores[1952] = 0; scores[1953] = 0; scores[1954] = 0; scores[1955] = 0; scores[1956] = 0; scores[1957] = 0; scores[1958] = 0; scores[1959] = 0; scores[1960] = 0; scores[1961] = 0; scores[1962] = 0; scores[1963] = 0; scores[1964] = 0; scores[1965] = 0; scores[1966] = 0; scores[1967] = 0; scores[1968] = 0; scores[1969] = 0; scores[1970] = 0; scores[1971] = 0;                         case 21:
+                scores[3592] = 0; scores[3593] = 0; scores[3594] = 0; scores[3595] = 0; scores[3596] = 0; scores[3597] = 0; scores[3598] = 0; scores[3599] = 0; scores[3600] = 0; scores[3601] = 0; scores[3602] = 0; scores[3603] = 0; scores[3604] = 0; scores[3605] = 0; scores[3606] = 0; scores[3607] = 0; scores[3608] = 0; scores[3609] = 0; scores[3610] = 0; scores[3611] = 0; scores[3612] = 0; scores[3613] = 0; scores[3614] = 0; scores[3615] = 0; scores[3616] = 0; scores[3617] = 0; scores[3618] = 0; scores[3619] = 0; scores[3620] = 0; scores[3621] = 0; scores[3622] = 0; scores[3623] = 0; scores[3624] = 0; scores[3625] = 0; scores[3626] = 0; scores[3627] = 0; scores[3628] = 0; scores[3629] = 0; scores[3630] = 0; scores[3631] = 0; scores[3632] = 0; scores[3633] = 0; scores[3634] = 0; scores[3635] = 0; scores[3636] = 0; scores[3637] = 0; scores[3638] = 0; scores[3639] = 0; scores[3640] = 0; scores[3641] = 0; scores[3642] = 0; scores[3643] = 0; scores[3644] = 0; scores[3645] = 0; scores[3646] = 0; scores[3647] = 0; scores[3648] = 0; scores[3649] = 0; scores[3650] = 0; scores[3651] = 0;                         case 21:
                 if(21 == height + 8){break;}
-                scores[1980] = 0; scores[1981] = 0; scores[1982] = 0; scores[1983] = 0; scores[1984] = 0; scores[1985] = 0; scores[1986] = 0; scores[1987] = 0; scores[1988] = 0; scores[1989] = 0; scores[1990] = 0; scores[1991] = 0; scores[1992] = 0; scores[1993] = 0; scores[1994] = 0; scores[1995] = 0; scores[1996] = 0; scores[1997] = 0; scores[1998] = 0; scores[1999] = 0; scores[2000] = 0; scores[2001] = 0; scores[2002] = 0; scores[2003] = 0; scores[2004] = 0; scores[2005] = 0; scores[2006] = 0; scores[2007] = 0; scores[2008] = 0; scores[2009] = 0; scores[2010] = 0; scores[2011] = 0; scores[2012] = 0; scores[2013] = 0; scores[2014] = 0; scores[2015] = 0; scores[2016] = 0; scores[2017] = 0; scores[2018] = 0; scores[2019] = 0; scores[2020] = 0; scores[2021] = 0; scores[2022] = 0; scores[2023] = 0; scores[2024] = 0; scores[2025] = 0; scores[2026] = 0; scores[2027] = 0; scores[2028] = 0; scores[2029] = 0; scores[2030] = 0; scores[2031] = 0; scores[2032] = 0; scores[2033] = 0; scores[2034] = 0; scores[2035] = 0; scores[2036] = 0; scores[2037] = 0; scores[2038] = 0; scores[2039] = 0;                         case 22:
+                scores[3720] = 0; scores[3721] = 0; scores[3722] = 0; scores[3723] = 0; scores[3724] = 0; scores[3725] = 0; scores[3726] = 0; scores[3727] = 0; scores[3728] = 0; scores[3729] = 0; scores[3730] = 0; scores[3731] = 0; scores[3732] = 0; scores[3733] = 0; scores[3734] = 0; scores[3735] = 0; scores[3736] = 0; scores[3737] = 0; scores[3738] = 0; scores[3739] = 0; scores[3740] = 0; scores[3741] = 0; scores[3742] = 0; scores[3743] = 0; scores[3744] = 0; scores[3745] = 0; scores[3746] = 0; scores[3747] = 0; scores[3748] = 0; scores[3749] = 0; scores[3750] = 0; scores[3751] = 0; scores[3752] = 0; scores[3753] = 0; scores[3754] = 0; scores[3755] = 0; scores[3756] = 0; scores[3757] = 0; scores[3758] = 0; scores[3759] = 0; scores[3760] = 0; scores[3761] = 0; scores[3762] = 0; scores[3763] = 0; scores[3764] = 0; scores[3765] = 0; scores[3766] = 0; scores[3767] = 0; scores[3768] = 0; scores[3769] = 0; scores[3770] = 0; scores[3771] = 0; scores[3772] = 0; scores[3773] = 0; scores[3774] = 0; scores[3775] = 0; scores[3776] = 0; scores[3777] = 0; scores[3778] = 0; scores[3779] = 0;                         case 22:
                 if(22 == height + 8){break;}
-                scores[2048] = 0; scores[2049] = 0; scores[2050] = 0; scores[2051] = 0; scores[2052] = 0; scores[2053] = 0; scores[2054] = 0; scores[2055] = 0; scores[2056] = 0; scores[2057] = 0; scores[2058] = 0; scores[2059] = 0; scores[2060] = 0; scores[2061] = 0; scores[2062] = 0; scores[2063] = 0; scores[2064] = 0; scores[2065] = 0; scores[2066] = 0; scores[2067] = 0; scores[2068] = 0; scores[2069] = 0; scores[2070] = 0; scores[2071] = 0; scores[2072] = 0; scores[2073] = 0; scores[2074] = 0; scores[2075] = 0; scores[2076] = 0; scores[2077] = 0; scores[2078] = 0; scores[2079] = 0; scores[2080] = 0; scores[2081] = 0; scores[2082] = 0; scores[2083] = 0; scores[2084] = 0; scores[2085] = 0; scores[2086] = 0; scores[2087] = 0; scores[2088] = 0; scores[2089] = 0; scores[2090] = 0; scores[2091] = 0; scores[2092] = 0; scores[2093] = 0; scores[2094] = 0; scores[2095] = 0; scores[2096] = 0; scores[2097] = 0; scores[2098] = 0; scores[2099] = 0; scores[2100] = 0; scores[2101] = 0; scores[2102] = 0; scores[2103] = 0; scores[2104] = 0; scores[2105] = 0; scores[2106] = 0; scores[2107] = 0;                         case 23:
+                scores[3848] = 0; scores[3849] = 0; scores[3850] = 0; scores[3851] = 0; scores[3852] = 0; scores[3853] = 0; scores[3854] = 0; scores[3855] = 0; scores[3856] = 0; scores[3857] = 0; scores[3858] = 0; scores[3859] = 0; scores[3860] = 0; scores[3861] = 0; scores[3862] = 0; scores[3863] = 0; scores[3864] = 0; scores[3865] = 0; scores[3866] = 0; scores[3867] = 0; scores[3868] = 0; scores[3869] = 0; scores[3870] = 0; scores[3871] = 0; scores[3872] = 0; scores[3873] = 0; scores[3874] = 0; scores[3875] = 0; scores[3876] = 0; scores[3877] = 0; scores[3878] = 0; scores[3879] = 0; scores[3880] = 0; scores[3881] = 0; scores[3882] = 0; scores[3883] = 0; scores[3884] = 0; scores[3885] = 0; scores[3886] = 0; scores[3887] = 0; scores[3888] = 0; scores[3889] = 0; scores[3890] = 0; scores[3891] = 0; scores[3892] = 0; scores[3893] = 0; scores[3894] = 0; scores[3895] = 0; scores[3896] = 0; scores[3897] = 0; scores[3898] = 0; scores[3899] = 0; scores[3900] = 0; scores[3901] = 0; scores[3902] = 0; scores[3903] = 0; scores[3904] = 0; scores[3905] = 0; scores[3906] = 0; scores[3907] = 0;                         case 23:
                 if(23 == height + 8){break;}
-                scores[2116] = 0; scores[2117] = 0; scores[2118] = 0; scores[2119] = 0; scores[2120] = 0; scores[2121] = 0; scores[2122] = 0; scores[2123] = 0; scores[2124] = 0; scores[2125] = 0; scores[2126] = 0; scores[2127] = 0; scores[2128] = 0; scores[2129] = 0; scores[2130] = 0; scores[2131] = 0; scores[2132] = 0; scores[2133] = 0; scores[2134] = 0; scores[2135] = 0; scores[2136] = 0; scores[2137] = 0; scores[2138] = 0; scores[2139] = 0; scores[2140] = 0; scores[2141] = 0; scores[2142] = 0; scores[2143] = 0; scores[2144] = 0; scores[2145] = 0; scores[2146] = 0; scores[2147] = 0; scores[2148] = 0; scores[2149] = 0; scores[2150] = 0; scores[2151] = 0; scores[2152] = 0; scores[2153] = 0; scores[2154] = 0; scores[2155] = 0; scores[2156] = 0; scores[2157] = 0; scores[2158] = 0; scores[2159] = 0; scores[2160] = 0; scores[2161] = 0; scores[2162] = 0; scores[2163] = 0; scores[2164] = 0; scores[2165] = 0; scores[2166] = 0; scores[2167] = 0; scores[2168] = 0; scores[2169] = 0; scores[2170] = 0; scores[2171] = 0; scores[2172] = 0; scores[2173] = 0; scores[2174] = 0; scores[2175] = 0;                         case 24:
+                scores[3976] = 0; scores[3977] = 0; scores[3978] = 0; scores[3979] = 0; scores[3980] = 0; scores[3981] = 0; scores[3982] = 0; scores[3983] = 0; scores[3984] = 0; scores[3985] = 0; scores[3986] = 0; scores[3987] = 0; scores[3988] = 0; scores[3989] = 0; scores[3990] = 0; scores[3991] = 0; scores[3992] = 0; scores[3993] = 0; scores[3994] = 0; scores[3995] = 0; scores[3996] = 0; scores[3997] = 0; scores[3998] = 0; scores[3999] = 0; scores[4000] = 0; scores[4001] = 0; scores[4002] = 0; scores[4003] = 0; scores[4004] = 0; scores[4005] = 0; scores[4006] = 0; scores[4007] = 0; scores[4008] = 0; scores[4009] = 0; scores[4010] = 0; scores[4011] = 0; scores[4012] = 0; scores[4013] = 0; scores[4014] = 0; scores[4015] = 0; scores[4016] = 0; scores[4017] = 0; scores[4018] = 0; scores[4019] = 0; scores[4020] = 0; scores[4021] = 0; scores[4022] = 0; scores[4023] = 0; scores[4024] = 0; scores[4025] = 0; scores[4026] = 0; scores[4027] = 0; scores[4028] = 0; scores[4029] = 0; scores[4030] = 0; scores[4031] = 0; scores[4032] = 0; scores[4033] = 0; scores[4034] = 0; scores[4035] = 0;                         case 24:
                 if(24 == height + 8){break;}
-                scores[2184] = 0; scores[2185] = 0; scores[2186] = 0; scores[2187] = 0; scores[2188] = 0; scores[2189] = 0; scores[2190] = 0; scores[2191] = 0; scores[2192] = 0; scores[2193] = 0; scores[2194] = 0; scores[2195] = 0; scores[2196] = 0; scores[2197] = 0; scores[2198] = 0; scores[2199] = 0; scores[2200] = 0; scores[2201] = 0; scores[2202] = 0; scores[2203] = 0; scores[2204] = 0; scores[2205] = 0; scores[2206] = 0; scores[2207] = 0; scores[2208] = 0; scores[2209] = 0; scores[2210] = 0; scores[2211] = 0; scores[2212] = 0; scores[2213] = 0; scores[2214] = 0; scores[2215] = 0; scores[2216] = 0; scores[2217] = 0; scores[2218] = 0; scores[2219] = 0; scores[2220] = 0; scores[2221] = 0; scores[2222] = 0; scores[2223] = 0; scores[2224] = 0; scores[2225] = 0; scores[2226] = 0; scores[2227] = 0; scores[2228] = 0; scores[2229] = 0; scores[2230] = 0; scores[2231] = 0; scores[2232] = 0; scores[2233] = 0; scores[2234] = 0; scores[2235] = 0; scores[2236] = 0; scores[2237] = 0; scores[2238] = 0; scores[2239] = 0; scores[2240] = 0; scores[2241] = 0; scores[2242] = 0; scores[2243] = 0;                         case 25:
+                scores[4104] = 0; scores[4105] = 0; scores[4106] = 0; scores[4107] = 0; scores[4108] = 0; scores[4109] = 0; scores[4110] = 0; scores[4111] = 0; scores[4112] = 0; scores[4113] = 0; scores[4114] = 0; scores[4115] = 0; scores[4116] = 0; scores[4117] = 0; scores[4118] = 0; scores[4119] = 0; scores[4120] = 0; scores[4121] = 0; scores[4122] = 0; scores[4123] = 0; scores[4124] = 0; scores[4125] = 0; scores[4126] = 0; scores[4127] = 0; scores[4128] = 0; scores[4129] = 0; scores[4130] = 0; scores[4131] = 0; scores[4132] = 0; scores[4133] = 0; scores[4134] = 0; scores[4135] = 0; scores[4136] = 0; scores[4137] = 0; scores[4138] = 0; scores[4139] = 0; scores[4140] = 0; scores[4141] = 0; scores[4142] = 0; scores[4143] = 0; scores[4144] = 0; scores[4145] = 0; scores[4146] = 0; scores[4147] = 0; scores[4148] = 0; scores[4149] = 0; scores[4150] = 0; scores[4151] = 0; scores[4152] = 0; scores[4153] = 0; scores[4154] = 0; scores[4155] = 0; scores[4156] = 0; scores[4157] = 0; scores[4158] = 0; scores[4159] = 0; scores[4160] = 0; scores[4161] = 0; scores[4162] = 0; scores[4163] = 0;                         case 25:
                 if(25 == height + 8){break;}
-                scores[2252] = 0; scores[2253] = 0; scores[2254] = 0; scores[2255] = 0; scores[2256] = 0; scores[2257] = 0; scores[2258] = 0; scores[2259] = 0; scores[2260] = 0; scores[2261] = 0; scores[2262] = 0; scores[2263] = 0; scores[2264] = 0; scores[2265] = 0; scores[2266] = 0; scores[2267] = 0; scores[2268] = 0; scores[2269] = 0; scores[2270] = 0; scores[2271] = 0; scores[2272] = 0; scores[2273] = 0; scores[2274] = 0; scores[2275] = 0; scores[2276] = 0; scores[2277] = 0; scores[2278] = 0; scores[2279] = 0; scores[2280] = 0; scores[2281] = 0; scores[2282] = 0; scores[2283] = 0; scores[2284] = 0; scores[2285] = 0; scores[2286] = 0; scores[2287] = 0; scores[2288] = 0; scores[2289] = 0; scores[2290] = 0; scores[2291] = 0; scores[2292] = 0; scores[2293] = 0; scores[2294] = 0; scores[2295] = 0; scores[2296] = 0; scores[2297] = 0; scores[2298] = 0; scores[2299] = 0; scores[2300] = 0; scores[2301] = 0; scores[2302] = 0; scores[2303] = 0; scores[2304] = 0; scores[2305] = 0; scores[2306] = 0; scores[2307] = 0; scores[2308] = 0; scores[2309] = 0; scores[2310] = 0; scores[2311] = 0;                         case 26:
+                scores[4232] = 0; scores[4233] = 0; scores[4234] = 0; scores[4235] = 0; scores[4236] = 0; scores[4237] = 0; scores[4238] = 0; scores[4239] = 0; scores[4240] = 0; scores[4241] = 0; scores[4242] = 0; scores[4243] = 0; scores[4244] = 0; scores[4245] = 0; scores[4246] = 0; scores[4247] = 0; scores[4248] = 0; scores[4249] = 0; scores[4250] = 0; scores[4251] = 0; scores[4252] = 0; scores[4253] = 0; scores[4254] = 0; scores[4255] = 0; scores[4256] = 0; scores[4257] = 0; scores[4258] = 0; scores[4259] = 0; scores[4260] = 0; scores[4261] = 0; scores[4262] = 0; scores[4263] = 0; scores[4264] = 0; scores[4265] = 0; scores[4266] = 0; scores[4267] = 0; scores[4268] = 0; scores[4269] = 0; scores[4270] = 0; scores[4271] = 0; scores[4272] = 0; scores[4273] = 0; scores[4274] = 0; scores[4275] = 0; scores[4276] = 0; scores[4277] = 0; scores[4278] = 0; scores[4279] = 0; scores[4280] = 0; scores[4281] = 0; scores[4282] = 0; scores[4283] = 0; scores[4284] = 0; scores[4285] = 0; scores[4286] = 0; scores[4287] = 0; scores[4288] = 0; scores[4289] = 0; scores[4290] = 0; scores[4291] = 0;                         case 26:
                 if(26 == height + 8){break;}
-                scores[2320] = 0; scores[2321] = 0; scores[2322] = 0; scores[2323] = 0; scores[2324] = 0; scores[2325] = 0; scores[2326] = 0; scores[2327] = 0; scores[2328] = 0; scores[2329] = 0; scores[2330] = 0; scores[2331] = 0; scores[2332] = 0; scores[2333] = 0; scores[2334] = 0; scores[2335] = 0; scores[2336] = 0; scores[2337] = 0; scores[2338] = 0; scores[2339] = 0; scores[2340] = 0; scores[2341] = 0; scores[2342] = 0; scores[2343] = 0; scores[2344] = 0; scores[2345] = 0; scores[2346] = 0; scores[2347] = 0; scores[2348] = 0; scores[2349] = 0; scores[2350] = 0; scores[2351] = 0; scores[2352] = 0; scores[2353] = 0; scores[2354] = 0; scores[2355] = 0; scores[2356] = 0; scores[2357] = 0; scores[2358] = 0; scores[2359] = 0; scores[2360] = 0; scores[2361] = 0; scores[2362] = 0; scores[2363] = 0; scores[2364] = 0; scores[2365] = 0; scores[2366] = 0; scores[2367] = 0; scores[2368] = 0; scores[2369] = 0; scores[2370] = 0; scores[2371] = 0; scores[2372] = 0; scores[2373] = 0; scores[2374] = 0; scores[2375] = 0; scores[2376] = 0; scores[2377] = 0; scores[2378] = 0; scores[2379] = 0;                         case 27:
+                scores[4360] = 0; scores[4361] = 0; scores[4362] = 0; scores[4363] = 0; scores[4364] = 0; scores[4365] = 0; scores[4366] = 0; scores[4367] = 0; scores[4368] = 0; scores[4369] = 0; scores[4370] = 0; scores[4371] = 0; scores[4372] = 0; scores[4373] = 0; scores[4374] = 0; scores[4375] = 0; scores[4376] = 0; scores[4377] = 0; scores[4378] = 0; scores[4379] = 0; scores[4380] = 0; scores[4381] = 0; scores[4382] = 0; scores[4383] = 0; scores[4384] = 0; scores[4385] = 0; scores[4386] = 0; scores[4387] = 0; scores[4388] = 0; scores[4389] = 0; scores[4390] = 0; scores[4391] = 0; scores[4392] = 0; scores[4393] = 0; scores[4394] = 0; scores[4395] = 0; scores[4396] = 0; scores[4397] = 0; scores[4398] = 0; scores[4399] = 0; scores[4400] = 0; scores[4401] = 0; scores[4402] = 0; scores[4403] = 0; scores[4404] = 0; scores[4405] = 0; scores[4406] = 0; scores[4407] = 0; scores[4408] = 0; scores[4409] = 0; scores[4410] = 0; scores[4411] = 0; scores[4412] = 0; scores[4413] = 0; scores[4414] = 0; scores[4415] = 0; scores[4416] = 0; scores[4417] = 0; scores[4418] = 0; scores[4419] = 0;                         case 27:
                 if(27 == height + 8){break;}
-                scores[2388] = 0; scores[2389] = 0; scores[2390] = 0; scores[2391] = 0; scores[2392] = 0; scores[2393] = 0; scores[2394] = 0; scores[2395] = 0; scores[2396] = 0; scores[2397] = 0; scores[2398] = 0; scores[2399] = 0; scores[2400] = 0; scores[2401] = 0; scores[2402] = 0; scores[2403] = 0; scores[2404] = 0; scores[2405] = 0; scores[2406] = 0; scores[2407] = 0; scores[2408] = 0; scores[2409] = 0; scores[2410] = 0; scores[2411] = 0; scores[2412] = 0; scores[2413] = 0; scores[2414] = 0; scores[2415] = 0; scores[2416] = 0; scores[2417] = 0; scores[2418] = 0; scores[2419] = 0; scores[2420] = 0; scores[2421] = 0; scores[2422] = 0; scores[2423] = 0; scores[2424] = 0; scores[2425] = 0; scores[2426] = 0; scores[2427] = 0; scores[2428] = 0; scores[2429] = 0; scores[2430] = 0; scores[2431] = 0; scores[2432] = 0; scores[2433] = 0; scores[2434] = 0; scores[2435] = 0; scores[2436] = 0; scores[2437] = 0; scores[2438] = 0; scores[2439] = 0; scores[2440] = 0; scores[2441] = 0; scores[2442] = 0; scores[2443] = 0; scores[2444] = 0; scores[2445] = 0; scores[2446] = 0; scores[2447] = 0;                         case 28:
+                scores[4488] = 0; scores[4489] = 0; scores[4490] = 0; scores[4491] = 0; scores[4492] = 0; scores[4493] = 0; scores[4494] = 0; scores[4495] = 0; scores[4496] = 0; scores[4497] = 0; scores[4498] = 0; scores[4499] = 0; scores[4500] = 0; scores[4501] = 0; scores[4502] = 0; scores[4503] = 0; scores[4504] = 0; scores[4505] = 0; scores[4506] = 0; scores[4507] = 0; scores[4508] = 0; scores[4509] = 0; scores[4510] = 0; scores[4511] = 0; scores[4512] = 0; scores[4513] = 0; scores[4514] = 0; scores[4515] = 0; scores[4516] = 0; scores[4517] = 0; scores[4518] = 0; scores[4519] = 0; scores[4520] = 0; scores[4521] = 0; scores[4522] = 0; scores[4523] = 0; scores[4524] = 0; scores[4525] = 0; scores[4526] = 0; scores[4527] = 0; scores[4528] = 0; scores[4529] = 0; scores[4530] = 0; scores[4531] = 0; scores[4532] = 0; scores[4533] = 0; scores[4534] = 0; scores[4535] = 0; scores[4536] = 0; scores[4537] = 0; scores[4538] = 0; scores[4539] = 0; scores[4540] = 0; scores[4541] = 0; scores[4542] = 0; scores[4543] = 0; scores[4544] = 0; scores[4545] = 0; scores[4546] = 0; scores[4547] = 0;                         case 28:
                 if(28 == height + 8){break;}
-                scores[2456] = 0; scores[2457] = 0; scores[2458] = 0; scores[2459] = 0; scores[2460] = 0; scores[2461] = 0; scores[2462] = 0; scores[2463] = 0; scores[2464] = 0; scores[2465] = 0; scores[2466] = 0; scores[2467] = 0; scores[2468] = 0; scores[2469] = 0; scores[2470] = 0; scores[2471] = 0; scores[2472] = 0; scores[2473] = 0; scores[2474] = 0; scores[2475] = 0; scores[2476] = 0; scores[2477] = 0; scores[2478] = 0; scores[2479] = 0; scores[2480] = 0; scores[2481] = 0; scores[2482] = 0; scores[2483] = 0; scores[2484] = 0; scores[2485] = 0; scores[2486] = 0; scores[2487] = 0; scores[2488] = 0; scores[2489] = 0; scores[2490] = 0; scores[2491] = 0; scores[2492] = 0; scores[2493] = 0; scores[2494] = 0; scores[2495] = 0; scores[2496] = 0; scores[2497] = 0; scores[2498] = 0; scores[2499] = 0; scores[2500] = 0; scores[2501] = 0; scores[2502] = 0; scores[2503] = 0; scores[2504] = 0; scores[2505] = 0; scores[2506] = 0; scores[2507] = 0; scores[2508] = 0; scores[2509] = 0; scores[2510] = 0; scores[2511] = 0; scores[2512] = 0; scores[2513] = 0; scores[2514] = 0; scores[2515] = 0;                         case 29:
+                scores[4616] = 0; scores[4617] = 0; scores[4618] = 0; scores[4619] = 0; scores[4620] = 0; scores[4621] = 0; scores[4622] = 0; scores[4623] = 0; scores[4624] = 0; scores[4625] = 0; scores[4626] = 0; scores[4627] = 0; scores[4628] = 0; scores[4629] = 0; scores[4630] = 0; scores[4631] = 0; scores[4632] = 0; scores[4633] = 0; scores[4634] = 0; scores[4635] = 0; scores[4636] = 0; scores[4637] = 0; scores[4638] = 0; scores[4639] = 0; scores[4640] = 0; scores[4641] = 0; scores[4642] = 0; scores[4643] = 0; scores[4644] = 0; scores[4645] = 0; scores[4646] = 0; scores[4647] = 0; scores[4648] = 0; scores[4649] = 0; scores[4650] = 0; scores[4651] = 0; scores[4652] = 0; scores[4653] = 0; scores[4654] = 0; scores[4655] = 0; scores[4656] = 0; scores[4657] = 0; scores[4658] = 0; scores[4659] = 0; scores[4660] = 0; scores[4661] = 0; scores[4662] = 0; scores[4663] = 0; scores[4664] = 0; scores[4665] = 0; scores[4666] = 0; scores[4667] = 0; scores[4668] = 0; scores[4669] = 0; scores[4670] = 0; scores[4671] = 0; scores[4672] = 0; scores[4673] = 0; scores[4674] = 0; scores[4675] = 0;                         case 29:
                 if(29 == height + 8){break;}
-                scores[2524] = 0; scores[2525] = 0; scores[2526] = 0; scores[2527] = 0; scores[2528] = 0; scores[2529] = 0; scores[2530] = 0; scores[2531] = 0; scores[2532] = 0; scores[2533] = 0; scores[2534] = 0; scores[2535] = 0; scores[2536] = 0; scores[2537] = 0; scores[2538] = 0; scores[2539] = 0; scores[2540] = 0; scores[2541] = 0; scores[2542] = 0; scores[2543] = 0; scores[2544] = 0; scores[2545] = 0; scores[2546] = 0; scores[2547] = 0; scores[2548] = 0; scores[2549] = 0; scores[2550] = 0; scores[2551] = 0; scores[2552] = 0; scores[2553] = 0; scores[2554] = 0; scores[2555] = 0; scores[2556] = 0; scores[2557] = 0; scores[2558] = 0; scores[2559] = 0; scores[2560] = 0; scores[2561] = 0; scores[2562] = 0; scores[2563] = 0; scores[2564] = 0; scores[2565] = 0; scores[2566] = 0; scores[2567] = 0; scores[2568] = 0; scores[2569] = 0; scores[2570] = 0; scores[2571] = 0; scores[2572] = 0; scores[2573] = 0; scores[2574] = 0; scores[2575] = 0; scores[2576] = 0; scores[2577] = 0; scores[2578] = 0; scores[2579] = 0; scores[2580] = 0; scores[2581] = 0; scores[2582] = 0; scores[2583] = 0;                         case 30:
+                scores[4744] = 0; scores[4745] = 0; scores[4746] = 0; scores[4747] = 0; scores[4748] = 0; scores[4749] = 0; scores[4750] = 0; scores[4751] = 0; scores[4752] = 0; scores[4753] = 0; scores[4754] = 0; scores[4755] = 0; scores[4756] = 0; scores[4757] = 0; scores[4758] = 0; scores[4759] = 0; scores[4760] = 0; scores[4761] = 0; scores[4762] = 0; scores[4763] = 0; scores[4764] = 0; scores[4765] = 0; scores[4766] = 0; scores[4767] = 0; scores[4768] = 0; scores[4769] = 0; scores[4770] = 0; scores[4771] = 0; scores[4772] = 0; scores[4773] = 0; scores[4774] = 0; scores[4775] = 0; scores[4776] = 0; scores[4777] = 0; scores[4778] = 0; scores[4779] = 0; scores[4780] = 0; scores[4781] = 0; scores[4782] = 0; scores[4783] = 0; scores[4784] = 0; scores[4785] = 0; scores[4786] = 0; scores[4787] = 0; scores[4788] = 0; scores[4789] = 0; scores[4790] = 0; scores[4791] = 0; scores[4792] = 0; scores[4793] = 0; scores[4794] = 0; scores[4795] = 0; scores[4796] = 0; scores[4797] = 0; scores[4798] = 0; scores[4799] = 0; scores[4800] = 0; scores[4801] = 0; scores[4802] = 0; scores[4803] = 0;                         case 30:
                 if(30 == height + 8){break;}
-                scores[2592] = 0; scores[2593] = 0; scores[2594] = 0; scores[2595] = 0; scores[2596] = 0; scores[2597] = 0; scores[2598] = 0; scores[2599] = 0; scores[2600] = 0; scores[2601] = 0; scores[2602] = 0; scores[2603] = 0; scores[2604] = 0; scores[2605] = 0; scores[2606] = 0; scores[2607] = 0; scores[2608] = 0; scores[2609] = 0; scores[2610] = 0; scores[2611] = 0; scores[2612] = 0; scores[2613] = 0; scores[2614] = 0; scores[2615] = 0; scores[2616] = 0; scores[2617] = 0; scores[2618] = 0; scores[2619] = 0; scores[2620] = 0; scores[2621] = 0; scores[2622] = 0; scores[2623] = 0; scores[2624] = 0; scores[2625] = 0; scores[2626] = 0; scores[2627] = 0; scores[2628] = 0; scores[2629] = 0; scores[2630] = 0; scores[2631] = 0; scores[2632] = 0; scores[2633] = 0; scores[2634] = 0; scores[2635] = 0; scores[2636] = 0; scores[2637] = 0; scores[2638] = 0; scores[2639] = 0; scores[2640] = 0; scores[2641] = 0; scores[2642] = 0; scores[2643] = 0; scores[2644] = 0; scores[2645] = 0; scores[2646] = 0; scores[2647] = 0; scores[2648] = 0; scores[2649] = 0; scores[2650] = 0; scores[2651] = 0;                         case 31:
+                scores[4872] = 0; scores[4873] = 0; scores[4874] = 0; scores[4875] = 0; scores[4876] = 0; scores[4877] = 0; scores[4878] = 0; scores[4879] = 0; scores[4880] = 0; scores[4881] = 0; scores[4882] = 0; scores[4883] = 0; scores[4884] = 0; scores[4885] = 0; scores[4886] = 0; scores[4887] = 0; scores[4888] = 0; scores[4889] = 0; scores[4890] = 0; scores[4891] = 0; scores[4892] = 0; scores[4893] = 0; scores[4894] = 0; scores[4895] = 0; scores[4896] = 0; scores[4897] = 0; scores[4898] = 0; scores[4899] = 0; scores[4900] = 0; scores[4901] = 0; scores[4902] = 0; scores[4903] = 0; scores[4904] = 0; scores[4905] = 0; scores[4906] = 0; scores[4907] = 0; scores[4908] = 0; scores[4909] = 0; scores[4910] = 0; scores[4911] = 0; scores[4912] = 0; scores[4913] = 0; scores[4914] = 0; scores[4915] = 0; scores[4916] = 0; scores[4917] = 0; scores[4918] = 0; scores[4919] = 0; scores[4920] = 0; scores[4921] = 0; scores[4922] = 0; scores[4923] = 0; scores[4924] = 0; scores[4925] = 0; scores[4926] = 0; scores[4927] = 0; scores[4928] = 0; scores[4929] = 0; scores[4930] = 0; scores[4931] = 0;                         case 31:
                 if(31 == height + 8){break;}
-                scores[2660] = 0; scores[2661] = 0; scores[2662] = 0; scores[2663] = 0; scores[2664] = 0; scores[2665] = 0; scores[2666] = 0; scores[2667] = 0; scores[2668] = 0; scores[2669] = 0; scores[2670] = 0; scores[2671] = 0; scores[2672] = 0; scores[2673] = 0; scores[2674] = 0; scores[2675] = 0; scores[2676] = 0; scores[2677] = 0; scores[2678] = 0; scores[2679] = 0; scores[2680] = 0; scores[2681] = 0; scores[2682] = 0; scores[2683] = 0; scores[2684] = 0; scores[2685] = 0; scores[2686] = 0; scores[2687] = 0; scores[2688] = 0; scores[2689] = 0; scores[2690] = 0; scores[2691] = 0; scores[2692] = 0; scores[2693] = 0; scores[2694] = 0; scores[2695] = 0; scores[2696] = 0; scores[2697] = 0; scores[2698] = 0; scores[2699] = 0; scores[2700] = 0; scores[2701] = 0; scores[2702] = 0; scores[2703] = 0; scores[2704] = 0; scores[2705] = 0; scores[2706] = 0; scores[2707] = 0; scores[2708] = 0; scores[2709] = 0; scores[2710] = 0; scores[2711] = 0; scores[2712] = 0; scores[2713] = 0; scores[2714] = 0; scores[2715] = 0; scores[2716] = 0; scores[2717] = 0; scores[2718] = 0; scores[2719] = 0;                         case 32:
+                scores[5000] = 0; scores[5001] = 0; scores[5002] = 0; scores[5003] = 0; scores[5004] = 0; scores[5005] = 0; scores[5006] = 0; scores[5007] = 0; scores[5008] = 0; scores[5009] = 0; scores[5010] = 0; scores[5011] = 0; scores[5012] = 0; scores[5013] = 0; scores[5014] = 0; scores[5015] = 0; scores[5016] = 0; scores[5017] = 0; scores[5018] = 0; scores[5019] = 0; scores[5020] = 0; scores[5021] = 0; scores[5022] = 0; scores[5023] = 0; scores[5024] = 0; scores[5025] = 0; scores[5026] = 0; scores[5027] = 0; scores[5028] = 0; scores[5029] = 0; scores[5030] = 0; scores[5031] = 0; scores[5032] = 0; scores[5033] = 0; scores[5034] = 0; scores[5035] = 0; scores[5036] = 0; scores[5037] = 0; scores[5038] = 0; scores[5039] = 0; scores[5040] = 0; scores[5041] = 0; scores[5042] = 0; scores[5043] = 0; scores[5044] = 0; scores[5045] = 0; scores[5046] = 0; scores[5047] = 0; scores[5048] = 0; scores[5049] = 0; scores[5050] = 0; scores[5051] = 0; scores[5052] = 0; scores[5053] = 0; scores[5054] = 0; scores[5055] = 0; scores[5056] = 0; scores[5057] = 0; scores[5058] = 0; scores[5059] = 0;                         case 32:
                 if(32 == height + 8){break;}
-                scores[2728] = 0; scores[2729] = 0; scores[2730] = 0; scores[2731] = 0; scores[2732] = 0; scores[2733] = 0; scores[2734] = 0; scores[2735] = 0; scores[2736] = 0; scores[2737] = 0; scores[2738] = 0; scores[2739] = 0; scores[2740] = 0; scores[2741] = 0; scores[2742] = 0; scores[2743] = 0; scores[2744] = 0; scores[2745] = 0; scores[2746] = 0; scores[2747] = 0; scores[2748] = 0; scores[2749] = 0; scores[2750] = 0; scores[2751] = 0; scores[2752] = 0; scores[2753] = 0; scores[2754] = 0; scores[2755] = 0; scores[2756] = 0; scores[2757] = 0; scores[2758] = 0; scores[2759] = 0; scores[2760] = 0; scores[2761] = 0; scores[2762] = 0; scores[2763] = 0; scores[2764] = 0; scores[2765] = 0; scores[2766] = 0; scores[2767] = 0; scores[2768] = 0; scores[2769] = 0; scores[2770] = 0; scores[2771] = 0; scores[2772] = 0; scores[2773] = 0; scores[2774] = 0; scores[2775] = 0; scores[2776] = 0; scores[2777] = 0; scores[2778] = 0; scores[2779] = 0; scores[2780] = 0; scores[2781] = 0; scores[2782] = 0; scores[2783] = 0; scores[2784] = 0; scores[2785] = 0; scores[2786] = 0; scores[2787] = 0;                         case 33:
+                scores[5128] = 0; scores[5129] = 0; scores[5130] = 0; scores[5131] = 0; scores[5132] = 0; scores[5133] = 0; scores[5134] = 0; scores[5135] = 0; scores[5136] = 0; scores[5137] = 0; scores[5138] = 0; scores[5139] = 0; scores[5140] = 0; scores[5141] = 0; scores[5142] = 0; scores[5143] = 0; scores[5144] = 0; scores[5145] = 0; scores[5146] = 0; scores[5147] = 0; scores[5148] = 0; scores[5149] = 0; scores[5150] = 0; scores[5151] = 0; scores[5152] = 0; scores[5153] = 0; scores[5154] = 0; scores[5155] = 0; scores[5156] = 0; scores[5157] = 0; scores[5158] = 0; scores[5159] = 0; scores[5160] = 0; scores[5161] = 0; scores[5162] = 0; scores[5163] = 0; scores[5164] = 0; scores[5165] = 0; scores[5166] = 0; scores[5167] = 0; scores[5168] = 0; scores[5169] = 0; scores[5170] = 0; scores[5171] = 0; scores[5172] = 0; scores[5173] = 0; scores[5174] = 0; scores[5175] = 0; scores[5176] = 0; scores[5177] = 0; scores[5178] = 0; scores[5179] = 0; scores[5180] = 0; scores[5181] = 0; scores[5182] = 0; scores[5183] = 0; scores[5184] = 0; scores[5185] = 0; scores[5186] = 0; scores[5187] = 0;                         case 33:
                 if(33 == height + 8){break;}
-                scores[2796] = 0; scores[2797] = 0; scores[2798] = 0; scores[2799] = 0; scores[2800] = 0; scores[2801] = 0; scores[2802] = 0; scores[2803] = 0; scores[2804] = 0; scores[2805] = 0; scores[2806] = 0; scores[2807] = 0; scores[2808] = 0; scores[2809] = 0; scores[2810] = 0; scores[2811] = 0; scores[2812] = 0; scores[2813] = 0; scores[2814] = 0; scores[2815] = 0; scores[2816] = 0; scores[2817] = 0; scores[2818] = 0; scores[2819] = 0; scores[2820] = 0; scores[2821] = 0; scores[2822] = 0; scores[2823] = 0; scores[2824] = 0; scores[2825] = 0; scores[2826] = 0; scores[2827] = 0; scores[2828] = 0; scores[2829] = 0; scores[2830] = 0; scores[2831] = 0; scores[2832] = 0; scores[2833] = 0; scores[2834] = 0; scores[2835] = 0; scores[2836] = 0; scores[2837] = 0; scores[2838] = 0; scores[2839] = 0; scores[2840] = 0; scores[2841] = 0; scores[2842] = 0; scores[2843] = 0; scores[2844] = 0; scores[2845] = 0; scores[2846] = 0; scores[2847] = 0; scores[2848] = 0; scores[2849] = 0; scores[2850] = 0; scores[2851] = 0; scores[2852] = 0; scores[2853] = 0; scores[2854] = 0; scores[2855] = 0;                         case 34:
+                scores[5256] = 0; scores[5257] = 0; scores[5258] = 0; scores[5259] = 0; scores[5260] = 0; scores[5261] = 0; scores[5262] = 0; scores[5263] = 0; scores[5264] = 0; scores[5265] = 0; scores[5266] = 0; scores[5267] = 0; scores[5268] = 0; scores[5269] = 0; scores[5270] = 0; scores[5271] = 0; scores[5272] = 0; scores[5273] = 0; scores[5274] = 0; scores[5275] = 0; scores[5276] = 0; scores[5277] = 0; scores[5278] = 0; scores[5279] = 0; scores[5280] = 0; scores[5281] = 0; scores[5282] = 0; scores[5283] = 0; scores[5284] = 0; scores[5285] = 0; scores[5286] = 0; scores[5287] = 0; scores[5288] = 0; scores[5289] = 0; scores[5290] = 0; scores[5291] = 0; scores[5292] = 0; scores[5293] = 0; scores[5294] = 0; scores[5295] = 0; scores[5296] = 0; scores[5297] = 0; scores[5298] = 0; scores[5299] = 0; scores[5300] = 0; scores[5301] = 0; scores[5302] = 0; scores[5303] = 0; scores[5304] = 0; scores[5305] = 0; scores[5306] = 0; scores[5307] = 0; scores[5308] = 0; scores[5309] = 0; scores[5310] = 0; scores[5311] = 0; scores[5312] = 0; scores[5313] = 0; scores[5314] = 0; scores[5315] = 0;                         case 34:
                 if(34 == height + 8){break;}
-                scores[2864] = 0; scores[2865] = 0; scores[2866] = 0; scores[2867] = 0; scores[2868] = 0; scores[2869] = 0; scores[2870] = 0; scores[2871] = 0; scores[2872] = 0; scores[2873] = 0; scores[2874] = 0; scores[2875] = 0; scores[2876] = 0; scores[2877] = 0; scores[2878] = 0; scores[2879] = 0; scores[2880] = 0; scores[2881] = 0; scores[2882] = 0; scores[2883] = 0; scores[2884] = 0; scores[2885] = 0; scores[2886] = 0; scores[2887] = 0; scores[2888] = 0; scores[2889] = 0; scores[2890] = 0; scores[2891] = 0; scores[2892] = 0; scores[2893] = 0; scores[2894] = 0; scores[2895] = 0; scores[2896] = 0; scores[2897] = 0; scores[2898] = 0; scores[2899] = 0; scores[2900] = 0; scores[2901] = 0; scores[2902] = 0; scores[2903] = 0; scores[2904] = 0; scores[2905] = 0; scores[2906] = 0; scores[2907] = 0; scores[2908] = 0; scores[2909] = 0; scores[2910] = 0; scores[2911] = 0; scores[2912] = 0; scores[2913] = 0; scores[2914] = 0; scores[2915] = 0; scores[2916] = 0; scores[2917] = 0; scores[2918] = 0; scores[2919] = 0; scores[2920] = 0; scores[2921] = 0; scores[2922] = 0; scores[2923] = 0;                         case 35:
+                scores[5384] = 0; scores[5385] = 0; scores[5386] = 0; scores[5387] = 0; scores[5388] = 0; scores[5389] = 0; scores[5390] = 0; scores[5391] = 0; scores[5392] = 0; scores[5393] = 0; scores[5394] = 0; scores[5395] = 0; scores[5396] = 0; scores[5397] = 0; scores[5398] = 0; scores[5399] = 0; scores[5400] = 0; scores[5401] = 0; scores[5402] = 0; scores[5403] = 0; scores[5404] = 0; scores[5405] = 0; scores[5406] = 0; scores[5407] = 0; scores[5408] = 0; scores[5409] = 0; scores[5410] = 0; scores[5411] = 0; scores[5412] = 0; scores[5413] = 0; scores[5414] = 0; scores[5415] = 0; scores[5416] = 0; scores[5417] = 0; scores[5418] = 0; scores[5419] = 0; scores[5420] = 0; scores[5421] = 0; scores[5422] = 0; scores[5423] = 0; scores[5424] = 0; scores[5425] = 0; scores[5426] = 0; scores[5427] = 0; scores[5428] = 0; scores[5429] = 0; scores[5430] = 0; scores[5431] = 0; scores[5432] = 0; scores[5433] = 0; scores[5434] = 0; scores[5435] = 0; scores[5436] = 0; scores[5437] = 0; scores[5438] = 0; scores[5439] = 0; scores[5440] = 0; scores[5441] = 0; scores[5442] = 0; scores[5443] = 0;                         case 35:
                 if(35 == height + 8){break;}
-                scores[2932] = 0; scores[2933] = 0; scores[2934] = 0; scores[2935] = 0; scores[2936] = 0; scores[2937] = 0; scores[2938] = 0; scores[2939] = 0; scores[2940] = 0; scores[2941] = 0; scores[2942] = 0; scores[2943] = 0; scores[2944] = 0; scores[2945] = 0; scores[2946] = 0; scores[2947] = 0; scores[2948] = 0; scores[2949] = 0; scores[2950] = 0; scores[2951] = 0; scores[2952] = 0; scores[2953] = 0; scores[2954] = 0; scores[2955] = 0; scores[2956] = 0; scores[2957] = 0; scores[2958] = 0; scores[2959] = 0; scores[2960] = 0; scores[2961] = 0; scores[2962] = 0; scores[2963] = 0; scores[2964] = 0; scores[2965] = 0; scores[2966] = 0; scores[2967] = 0; scores[2968] = 0; scores[2969] = 0; scores[2970] = 0; scores[2971] = 0; scores[2972] = 0; scores[2973] = 0; scores[2974] = 0; scores[2975] = 0; scores[2976] = 0; scores[2977] = 0; scores[2978] = 0; scores[2979] = 0; scores[2980] = 0; scores[2981] = 0; scores[2982] = 0; scores[2983] = 0; scores[2984] = 0; scores[2985] = 0; scores[2986] = 0; scores[2987] = 0; scores[2988] = 0; scores[2989] = 0; scores[2990] = 0; scores[2991] = 0;                         case 36:
+                scores[5512] = 0; scores[5513] = 0; scores[5514] = 0; scores[5515] = 0; scores[5516] = 0; scores[5517] = 0; scores[5518] = 0; scores[5519] = 0; scores[5520] = 0; scores[5521] = 0; scores[5522] = 0; scores[5523] = 0; scores[5524] = 0; scores[5525] = 0; scores[5526] = 0; scores[5527] = 0; scores[5528] = 0; scores[5529] = 0; scores[5530] = 0; scores[5531] = 0; scores[5532] = 0; scores[5533] = 0; scores[5534] = 0; scores[5535] = 0; scores[5536] = 0; scores[5537] = 0; scores[5538] = 0; scores[5539] = 0; scores[5540] = 0; scores[5541] = 0; scores[5542] = 0; scores[5543] = 0; scores[5544] = 0; scores[5545] = 0; scores[5546] = 0; scores[5547] = 0; scores[5548] = 0; scores[5549] = 0; scores[5550] = 0; scores[5551] = 0; scores[5552] = 0; scores[5553] = 0; scores[5554] = 0; scores[5555] = 0; scores[5556] = 0; scores[5557] = 0; scores[5558] = 0; scores[5559] = 0; scores[5560] = 0; scores[5561] = 0; scores[5562] = 0; scores[5563] = 0; scores[5564] = 0; scores[5565] = 0; scores[5566] = 0; scores[5567] = 0; scores[5568] = 0; scores[5569] = 0; scores[5570] = 0; scores[5571] = 0;                         case 36:
                 if(36 == height + 8){break;}
-                scores[3000] = 0; scores[3001] = 0; scores[3002] = 0; scores[3003] = 0; scores[3004] = 0; scores[3005] = 0; scores[3006] = 0; scores[3007] = 0; scores[3008] = 0; scores[3009] = 0; scores[3010] = 0; scores[3011] = 0; scores[3012] = 0; scores[3013] = 0; scores[3014] = 0; scores[3015] = 0; scores[3016] = 0; scores[3017] = 0; scores[3018] = 0; scores[3019] = 0; scores[3020] = 0; scores[3021] = 0; scores[3022] = 0; scores[3023] = 0; scores[3024] = 0; scores[3025] = 0; scores[3026] = 0; scores[3027] = 0; scores[3028] = 0; scores[3029] = 0; scores[3030] = 0; scores[3031] = 0; scores[3032] = 0; scores[3033] = 0; scores[3034] = 0; scores[3035] = 0; scores[3036] = 0; scores[3037] = 0; scores[3038] = 0; scores[3039] = 0; scores[3040] = 0; scores[3041] = 0; scores[3042] = 0; scores[3043] = 0; scores[3044] = 0; scores[3045] = 0; scores[3046] = 0; scores[3047] = 0; scores[3048] = 0; scores[3049] = 0; scores[3050] = 0; scores[3051] = 0; scores[3052] = 0; scores[3053] = 0; scores[3054] = 0; scores[3055] = 0; scores[3056] = 0; scores[3057] = 0; scores[3058] = 0; scores[3059] = 0;                         case 37:
+                scores[5640] = 0; scores[5641] = 0; scores[5642] = 0; scores[5643] = 0; scores[5644] = 0; scores[5645] = 0; scores[5646] = 0; scores[5647] = 0; scores[5648] = 0; scores[5649] = 0; scores[5650] = 0; scores[5651] = 0; scores[5652] = 0; scores[5653] = 0; scores[5654] = 0; scores[5655] = 0; scores[5656] = 0; scores[5657] = 0; scores[5658] = 0; scores[5659] = 0; scores[5660] = 0; scores[5661] = 0; scores[5662] = 0; scores[5663] = 0; scores[5664] = 0; scores[5665] = 0; scores[5666] = 0; scores[5667] = 0; scores[5668] = 0; scores[5669] = 0; scores[5670] = 0; scores[5671] = 0; scores[5672] = 0; scores[5673] = 0; scores[5674] = 0; scores[5675] = 0; scores[5676] = 0; scores[5677] = 0; scores[5678] = 0; scores[5679] = 0; scores[5680] = 0; scores[5681] = 0; scores[5682] = 0; scores[5683] = 0; scores[5684] = 0; scores[5685] = 0; scores[5686] = 0; scores[5687] = 0; scores[5688] = 0; scores[5689] = 0; scores[5690] = 0; scores[5691] = 0; scores[5692] = 0; scores[5693] = 0; scores[5694] = 0; scores[5695] = 0; scores[5696] = 0; scores[5697] = 0; scores[5698] = 0; scores[5699] = 0;                         case 37:
                 if(37 == height + 8){break;}
-                scores[3068] = 0; scores[3069] = 0; scores[3070] = 0; scores[3071] = 0; scores[3072] = 0; scores[3073] = 0; scores[3074] = 0; scores[3075] = 0; scores[3076] = 0; scores[3077] = 0; scores[3078] = 0; scores[3079] = 0; scores[3080] = 0; scores[3081] = 0; scores[3082] = 0; scores[3083] = 0; scores[3084] = 0; scores[3085] = 0; scores[3086] = 0; scores[3087] = 0; scores[3088] = 0; scores[3089] = 0; scores[3090] = 0; scores[3091] = 0; scores[3092] = 0; scores[3093] = 0; scores[3094] = 0; scores[3095] = 0; scores[3096] = 0; scores[3097] = 0; scores[3098] = 0; scores[3099] = 0; scores[3100] = 0; scores[3101] = 0; scores[3102] = 0; scores[3103] = 0; scores[3104] = 0; scores[3105] = 0; scores[3106] = 0; scores[3107] = 0; scores[3108] = 0; scores[3109] = 0; scores[3110] = 0; scores[3111] = 0; scores[3112] = 0; scores[3113] = 0; scores[3114] = 0; scores[3115] = 0; scores[3116] = 0; scores[3117] = 0; scores[3118] = 0; scores[3119] = 0; scores[3120] = 0; scores[3121] = 0; scores[3122] = 0; scores[3123] = 0; scores[3124] = 0; scores[3125] = 0; scores[3126] = 0; scores[3127] = 0;                         case 38:
+                scores[5768] = 0; scores[5769] = 0; scores[5770] = 0; scores[5771] = 0; scores[5772] = 0; scores[5773] = 0; scores[5774] = 0; scores[5775] = 0; scores[5776] = 0; scores[5777] = 0; scores[5778] = 0; scores[5779] = 0; scores[5780] = 0; scores[5781] = 0; scores[5782] = 0; scores[5783] = 0; scores[5784] = 0; scores[5785] = 0; scores[5786] = 0; scores[5787] = 0; scores[5788] = 0; scores[5789] = 0; scores[5790] = 0; scores[5791] = 0; scores[5792] = 0; scores[5793] = 0; scores[5794] = 0; scores[5795] = 0; scores[5796] = 0; scores[5797] = 0; scores[5798] = 0; scores[5799] = 0; scores[5800] = 0; scores[5801] = 0; scores[5802] = 0; scores[5803] = 0; scores[5804] = 0; scores[5805] = 0; scores[5806] = 0; scores[5807] = 0; scores[5808] = 0; scores[5809] = 0; scores[5810] = 0; scores[5811] = 0; scores[5812] = 0; scores[5813] = 0; scores[5814] = 0; scores[5815] = 0; scores[5816] = 0; scores[5817] = 0; scores[5818] = 0; scores[5819] = 0; scores[5820] = 0; scores[5821] = 0; scores[5822] = 0; scores[5823] = 0; scores[5824] = 0; scores[5825] = 0; scores[5826] = 0; scores[5827] = 0;                         case 38:
                 if(38 == height + 8){break;}
-                scores[3136] = 0; scores[3137] = 0; scores[3138] = 0; scores[3139] = 0; scores[3140] = 0; scores[3141] = 0; scores[3142] = 0; scores[3143] = 0; scores[3144] = 0; scores[3145] = 0; scores[3146] = 0; scores[3147] = 0; scores[3148] = 0; scores[3149] = 0; scores[3150] = 0; scores[3151] = 0; scores[3152] = 0; scores[3153] = 0; scores[3154] = 0; scores[3155] = 0; scores[3156] = 0; scores[3157] = 0; scores[3158] = 0; scores[3159] = 0; scores[3160] = 0; scores[3161] = 0; scores[3162] = 0; scores[3163] = 0; scores[3164] = 0; scores[3165] = 0; scores[3166] = 0; scores[3167] = 0; scores[3168] = 0; scores[3169] = 0; scores[3170] = 0; scores[3171] = 0; scores[3172] = 0; scores[3173] = 0; scores[3174] = 0; scores[3175] = 0; scores[3176] = 0; scores[3177] = 0; scores[3178] = 0; scores[3179] = 0; scores[3180] = 0; scores[3181] = 0; scores[3182] = 0; scores[3183] = 0; scores[3184] = 0; scores[3185] = 0; scores[3186] = 0; scores[3187] = 0; scores[3188] = 0; scores[3189] = 0; scores[3190] = 0; scores[3191] = 0; scores[3192] = 0; scores[3193] = 0; scores[3194] = 0; scores[3195] = 0;                         case 39:
+                scores[5896] = 0; scores[5897] = 0; scores[5898] = 0; scores[5899] = 0; scores[5900] = 0; scores[5901] = 0; scores[5902] = 0; scores[5903] = 0; scores[5904] = 0; scores[5905] = 0; scores[5906] = 0; scores[5907] = 0; scores[5908] = 0; scores[5909] = 0; scores[5910] = 0; scores[5911] = 0; scores[5912] = 0; scores[5913] = 0; scores[5914] = 0; scores[5915] = 0; scores[5916] = 0; scores[5917] = 0; scores[5918] = 0; scores[5919] = 0; scores[5920] = 0; scores[5921] = 0; scores[5922] = 0; scores[5923] = 0; scores[5924] = 0; scores[5925] = 0; scores[5926] = 0; scores[5927] = 0; scores[5928] = 0; scores[5929] = 0; scores[5930] = 0; scores[5931] = 0; scores[5932] = 0; scores[5933] = 0; scores[5934] = 0; scores[5935] = 0; scores[5936] = 0; scores[5937] = 0; scores[5938] = 0; scores[5939] = 0; scores[5940] = 0; scores[5941] = 0; scores[5942] = 0; scores[5943] = 0; scores[5944] = 0; scores[5945] = 0; scores[5946] = 0; scores[5947] = 0; scores[5948] = 0; scores[5949] = 0; scores[5950] = 0; scores[5951] = 0; scores[5952] = 0; scores[5953] = 0; scores[5954] = 0; scores[5955] = 0;                         case 39:
                 if(39 == height + 8){break;}
-                scores[3204] = 0; scores[3205] = 0; scores[3206] = 0; scores[3207] = 0; scores[3208] = 0; scores[3209] = 0; scores[3210] = 0; scores[3211] = 0; scores[3212] = 0; scores[3213] = 0; scores[3214] = 0; scores[3215] = 0; scores[3216] = 0; scores[3217] = 0; scores[3218] = 0; scores[3219] = 0; scores[3220] = 0; scores[3221] = 0; scores[3222] = 0; scores[3223] = 0; scores[3224] = 0; scores[3225] = 0; scores[3226] = 0; scores[3227] = 0; scores[3228] = 0; scores[3229] = 0; scores[3230] = 0; scores[3231] = 0; scores[3232] = 0; scores[3233] = 0; scores[3234] = 0; scores[3235] = 0; scores[3236] = 0; scores[3237] = 0; scores[3238] = 0; scores[3239] = 0; scores[3240] = 0; scores[3241] = 0; scores[3242] = 0; scores[3243] = 0; scores[3244] = 0; scores[3245] = 0; scores[3246] = 0; scores[3247] = 0; scores[3248] = 0; scores[3249] = 0; scores[3250] = 0; scores[3251] = 0; scores[3252] = 0; scores[3253] = 0; scores[3254] = 0; scores[3255] = 0; scores[3256] = 0; scores[3257] = 0; scores[3258] = 0; scores[3259] = 0; scores[3260] = 0; scores[3261] = 0; scores[3262] = 0; scores[3263] = 0;                         case 40:
+                scores[6024] = 0; scores[6025] = 0; scores[6026] = 0; scores[6027] = 0; scores[6028] = 0; scores[6029] = 0; scores[6030] = 0; scores[6031] = 0; scores[6032] = 0; scores[6033] = 0; scores[6034] = 0; scores[6035] = 0; scores[6036] = 0; scores[6037] = 0; scores[6038] = 0; scores[6039] = 0; scores[6040] = 0; scores[6041] = 0; scores[6042] = 0; scores[6043] = 0; scores[6044] = 0; scores[6045] = 0; scores[6046] = 0; scores[6047] = 0; scores[6048] = 0; scores[6049] = 0; scores[6050] = 0; scores[6051] = 0; scores[6052] = 0; scores[6053] = 0; scores[6054] = 0; scores[6055] = 0; scores[6056] = 0; scores[6057] = 0; scores[6058] = 0; scores[6059] = 0; scores[6060] = 0; scores[6061] = 0; scores[6062] = 0; scores[6063] = 0; scores[6064] = 0; scores[6065] = 0; scores[6066] = 0; scores[6067] = 0; scores[6068] = 0; scores[6069] = 0; scores[6070] = 0; scores[6071] = 0; scores[6072] = 0; scores[6073] = 0; scores[6074] = 0; scores[6075] = 0; scores[6076] = 0; scores[6077] = 0; scores[6078] = 0; scores[6079] = 0; scores[6080] = 0; scores[6081] = 0; scores[6082] = 0; scores[6083] = 0;                         case 40:
                 if(40 == height + 8){break;}
-                scores[3272] = 0; scores[3273] = 0; scores[3274] = 0; scores[3275] = 0; scores[3276] = 0; scores[3277] = 0; scores[3278] = 0; scores[3279] = 0; scores[3280] = 0; scores[3281] = 0; scores[3282] = 0; scores[3283] = 0; scores[3284] = 0; scores[3285] = 0; scores[3286] = 0; scores[3287] = 0; scores[3288] = 0; scores[3289] = 0; scores[3290] = 0; scores[3291] = 0; scores[3292] = 0; scores[3293] = 0; scores[3294] = 0; scores[3295] = 0; scores[3296] = 0; scores[3297] = 0; scores[3298] = 0; scores[3299] = 0; scores[3300] = 0; scores[3301] = 0; scores[3302] = 0; scores[3303] = 0; scores[3304] = 0; scores[3305] = 0; scores[3306] = 0; scores[3307] = 0; scores[3308] = 0; scores[3309] = 0; scores[3310] = 0; scores[3311] = 0; scores[3312] = 0; scores[3313] = 0; scores[3314] = 0; scores[3315] = 0; scores[3316] = 0; scores[3317] = 0; scores[3318] = 0; scores[3319] = 0; scores[3320] = 0; scores[3321] = 0; scores[3322] = 0; scores[3323] = 0; scores[3324] = 0; scores[3325] = 0; scores[3326] = 0; scores[3327] = 0; scores[3328] = 0; scores[3329] = 0; scores[3330] = 0; scores[3331] = 0;                         case 41:
+                scores[6152] = 0; scores[6153] = 0; scores[6154] = 0; scores[6155] = 0; scores[6156] = 0; scores[6157] = 0; scores[6158] = 0; scores[6159] = 0; scores[6160] = 0; scores[6161] = 0; scores[6162] = 0; scores[6163] = 0; scores[6164] = 0; scores[6165] = 0; scores[6166] = 0; scores[6167] = 0; scores[6168] = 0; scores[6169] = 0; scores[6170] = 0; scores[6171] = 0; scores[6172] = 0; scores[6173] = 0; scores[6174] = 0; scores[6175] = 0; scores[6176] = 0; scores[6177] = 0; scores[6178] = 0; scores[6179] = 0; scores[6180] = 0; scores[6181] = 0; scores[6182] = 0; scores[6183] = 0; scores[6184] = 0; scores[6185] = 0; scores[6186] = 0; scores[6187] = 0; scores[6188] = 0; scores[6189] = 0; scores[6190] = 0; scores[6191] = 0; scores[6192] = 0; scores[6193] = 0; scores[6194] = 0; scores[6195] = 0; scores[6196] = 0; scores[6197] = 0; scores[6198] = 0; scores[6199] = 0; scores[6200] = 0; scores[6201] = 0; scores[6202] = 0; scores[6203] = 0; scores[6204] = 0; scores[6205] = 0; scores[6206] = 0; scores[6207] = 0; scores[6208] = 0; scores[6209] = 0; scores[6210] = 0; scores[6211] = 0;                         case 41:
                 if(41 == height + 8){break;}
-                scores[3340] = 0; scores[3341] = 0; scores[3342] = 0; scores[3343] = 0; scores[3344] = 0; scores[3345] = 0; scores[3346] = 0; scores[3347] = 0; scores[3348] = 0; scores[3349] = 0; scores[3350] = 0; scores[3351] = 0; scores[3352] = 0; scores[3353] = 0; scores[3354] = 0; scores[3355] = 0; scores[3356] = 0; scores[3357] = 0; scores[3358] = 0; scores[3359] = 0; scores[3360] = 0; scores[3361] = 0; scores[3362] = 0; scores[3363] = 0; scores[3364] = 0; scores[3365] = 0; scores[3366] = 0; scores[3367] = 0; scores[3368] = 0; scores[3369] = 0; scores[3370] = 0; scores[3371] = 0; scores[3372] = 0; scores[3373] = 0; scores[3374] = 0; scores[3375] = 0; scores[3376] = 0; scores[3377] = 0; scores[3378] = 0; scores[3379] = 0; scores[3380] = 0; scores[3381] = 0; scores[3382] = 0; scores[3383] = 0; scores[3384] = 0; scores[3385] = 0; scores[3386] = 0; scores[3387] = 0; scores[3388] = 0; scores[3389] = 0; scores[3390] = 0; scores[3391] = 0; scores[3392] = 0; scores[3393] = 0; scores[3394] = 0; scores[3395] = 0; scores[3396] = 0; scores[3397] = 0; scores[3398] = 0; scores[3399] = 0;                         case 42:
+                scores[6280] = 0; scores[6281] = 0; scores[6282] = 0; scores[6283] = 0; scores[6284] = 0; scores[6285] = 0; scores[6286] = 0; scores[6287] = 0; scores[6288] = 0; scores[6289] = 0; scores[6290] = 0; scores[6291] = 0; scores[6292] = 0; scores[6293] = 0; scores[6294] = 0; scores[6295] = 0; scores[6296] = 0; scores[6297] = 0; scores[6298] = 0; scores[6299] = 0; scores[6300] = 0; scores[6301] = 0; scores[6302] = 0; scores[6303] = 0; scores[6304] = 0; scores[6305] = 0; scores[6306] = 0; scores[6307] = 0; scores[6308] = 0; scores[6309] = 0; scores[6310] = 0; scores[6311] = 0; scores[6312] = 0; scores[6313] = 0; scores[6314] = 0; scores[6315] = 0; scores[6316] = 0; scores[6317] = 0; scores[6318] = 0; scores[6319] = 0; scores[6320] = 0; scores[6321] = 0; scores[6322] = 0; scores[6323] = 0; scores[6324] = 0; scores[6325] = 0; scores[6326] = 0; scores[6327] = 0; scores[6328] = 0; scores[6329] = 0; scores[6330] = 0; scores[6331] = 0; scores[6332] = 0; scores[6333] = 0; scores[6334] = 0; scores[6335] = 0; scores[6336] = 0; scores[6337] = 0; scores[6338] = 0; scores[6339] = 0;                         case 42:
                 if(42 == height + 8){break;}
-                scores[3408] = 0; scores[3409] = 0; scores[3410] = 0; scores[3411] = 0; scores[3412] = 0; scores[3413] = 0; scores[3414] = 0; scores[3415] = 0; scores[3416] = 0; scores[3417] = 0; scores[3418] = 0; scores[3419] = 0; scores[3420] = 0; scores[3421] = 0; scores[3422] = 0; scores[3423] = 0; scores[3424] = 0; scores[3425] = 0; scores[3426] = 0; scores[3427] = 0; scores[3428] = 0; scores[3429] = 0; scores[3430] = 0; scores[3431] = 0; scores[3432] = 0; scores[3433] = 0; scores[3434] = 0; scores[3435] = 0; scores[3436] = 0; scores[3437] = 0; scores[3438] = 0; scores[3439] = 0; scores[3440] = 0; scores[3441] = 0; scores[3442] = 0; scores[3443] = 0; scores[3444] = 0; scores[3445] = 0; scores[3446] = 0; scores[3447] = 0; scores[3448] = 0; scores[3449] = 0; scores[3450] = 0; scores[3451] = 0; scores[3452] = 0; scores[3453] = 0; scores[3454] = 0; scores[3455] = 0; scores[3456] = 0; scores[3457] = 0; scores[3458] = 0; scores[3459] = 0; scores[3460] = 0; scores[3461] = 0; scores[3462] = 0; scores[3463] = 0; scores[3464] = 0; scores[3465] = 0; scores[3466] = 0; scores[3467] = 0;                         case 43:
+                scores[6408] = 0; scores[6409] = 0; scores[6410] = 0; scores[6411] = 0; scores[6412] = 0; scores[6413] = 0; scores[6414] = 0; scores[6415] = 0; scores[6416] = 0; scores[6417] = 0; scores[6418] = 0; scores[6419] = 0; scores[6420] = 0; scores[6421] = 0; scores[6422] = 0; scores[6423] = 0; scores[6424] = 0; scores[6425] = 0; scores[6426] = 0; scores[6427] = 0; scores[6428] = 0; scores[6429] = 0; scores[6430] = 0; scores[6431] = 0; scores[6432] = 0; scores[6433] = 0; scores[6434] = 0; scores[6435] = 0; scores[6436] = 0; scores[6437] = 0; scores[6438] = 0; scores[6439] = 0; scores[6440] = 0; scores[6441] = 0; scores[6442] = 0; scores[6443] = 0; scores[6444] = 0; scores[6445] = 0; scores[6446] = 0; scores[6447] = 0; scores[6448] = 0; scores[6449] = 0; scores[6450] = 0; scores[6451] = 0; scores[6452] = 0; scores[6453] = 0; scores[6454] = 0; scores[6455] = 0; scores[6456] = 0; scores[6457] = 0; scores[6458] = 0; scores[6459] = 0; scores[6460] = 0; scores[6461] = 0; scores[6462] = 0; scores[6463] = 0; scores[6464] = 0; scores[6465] = 0; scores[6466] = 0; scores[6467] = 0;                         case 43:
                 if(43 == height + 8){break;}
-                scores[3476] = 0; scores[3477] = 0; scores[3478] = 0; scores[3479] = 0; scores[3480] = 0; scores[3481] = 0; scores[3482] = 0; scores[3483] = 0; scores[3484] = 0; scores[3485] = 0; scores[3486] = 0; scores[3487] = 0; scores[3488] = 0; scores[3489] = 0; scores[3490] = 0; scores[3491] = 0; scores[3492] = 0; scores[3493] = 0; scores[3494] = 0; scores[3495] = 0; scores[3496] = 0; scores[3497] = 0; scores[3498] = 0; scores[3499] = 0; scores[3500] = 0; scores[3501] = 0; scores[3502] = 0; scores[3503] = 0; scores[3504] = 0; scores[3505] = 0; scores[3506] = 0; scores[3507] = 0; scores[3508] = 0; scores[3509] = 0; scores[3510] = 0; scores[3511] = 0; scores[3512] = 0; scores[3513] = 0; scores[3514] = 0; scores[3515] = 0; scores[3516] = 0; scores[3517] = 0; scores[3518] = 0; scores[3519] = 0; scores[3520] = 0; scores[3521] = 0; scores[3522] = 0; scores[3523] = 0; scores[3524] = 0; scores[3525] = 0; scores[3526] = 0; scores[3527] = 0; scores[3528] = 0; scores[3529] = 0; scores[3530] = 0; scores[3531] = 0; scores[3532] = 0; scores[3533] = 0; scores[3534] = 0; scores[3535] = 0;                         case 44:
+                scores[6536] = 0; scores[6537] = 0; scores[6538] = 0; scores[6539] = 0; scores[6540] = 0; scores[6541] = 0; scores[6542] = 0; scores[6543] = 0; scores[6544] = 0; scores[6545] = 0; scores[6546] = 0; scores[6547] = 0; scores[6548] = 0; scores[6549] = 0; scores[6550] = 0; scores[6551] = 0; scores[6552] = 0; scores[6553] = 0; scores[6554] = 0; scores[6555] = 0; scores[6556] = 0; scores[6557] = 0; scores[6558] = 0; scores[6559] = 0; scores[6560] = 0; scores[6561] = 0; scores[6562] = 0; scores[6563] = 0; scores[6564] = 0; scores[6565] = 0; scores[6566] = 0; scores[6567] = 0; scores[6568] = 0; scores[6569] = 0; scores[6570] = 0; scores[6571] = 0; scores[6572] = 0; scores[6573] = 0; scores[6574] = 0; scores[6575] = 0; scores[6576] = 0; scores[6577] = 0; scores[6578] = 0; scores[6579] = 0; scores[6580] = 0; scores[6581] = 0; scores[6582] = 0; scores[6583] = 0; scores[6584] = 0; scores[6585] = 0; scores[6586] = 0; scores[6587] = 0; scores[6588] = 0; scores[6589] = 0; scores[6590] = 0; scores[6591] = 0; scores[6592] = 0; scores[6593] = 0; scores[6594] = 0; scores[6595] = 0;                         case 44:
                 if(44 == height + 8){break;}
-                scores[3544] = 0; scores[3545] = 0; scores[3546] = 0; scores[3547] = 0; scores[3548] = 0; scores[3549] = 0; scores[3550] = 0; scores[3551] = 0; scores[3552] = 0; scores[3553] = 0; scores[3554] = 0; scores[3555] = 0; scores[3556] = 0; scores[3557] = 0; scores[3558] = 0; scores[3559] = 0; scores[3560] = 0; scores[3561] = 0; scores[3562] = 0; scores[3563] = 0; scores[3564] = 0; scores[3565] = 0; scores[3566] = 0; scores[3567] = 0; scores[3568] = 0; scores[3569] = 0; scores[3570] = 0; scores[3571] = 0; scores[3572] = 0; scores[3573] = 0; scores[3574] = 0; scores[3575] = 0; scores[3576] = 0; scores[3577] = 0; scores[3578] = 0; scores[3579] = 0; scores[3580] = 0; scores[3581] = 0; scores[3582] = 0; scores[3583] = 0; scores[3584] = 0; scores[3585] = 0; scores[3586] = 0; scores[3587] = 0; scores[3588] = 0; scores[3589] = 0; scores[3590] = 0; scores[3591] = 0; scores[3592] = 0; scores[3593] = 0; scores[3594] = 0; scores[3595] = 0; scores[3596] = 0; scores[3597] = 0; scores[3598] = 0; scores[3599] = 0; scores[3600] = 0; scores[3601] = 0; scores[3602] = 0; scores[3603] = 0;                         case 45:
+                scores[6664] = 0; scores[6665] = 0; scores[6666] = 0; scores[6667] = 0; scores[6668] = 0; scores[6669] = 0; scores[6670] = 0; scores[6671] = 0; scores[6672] = 0; scores[6673] = 0; scores[6674] = 0; scores[6675] = 0; scores[6676] = 0; scores[6677] = 0; scores[6678] = 0; scores[6679] = 0; scores[6680] = 0; scores[6681] = 0; scores[6682] = 0; scores[6683] = 0; scores[6684] = 0; scores[6685] = 0; scores[6686] = 0; scores[6687] = 0; scores[6688] = 0; scores[6689] = 0; scores[6690] = 0; scores[6691] = 0; scores[6692] = 0; scores[6693] = 0; scores[6694] = 0; scores[6695] = 0; scores[6696] = 0; scores[6697] = 0; scores[6698] = 0; scores[6699] = 0; scores[6700] = 0; scores[6701] = 0; scores[6702] = 0; scores[6703] = 0; scores[6704] = 0; scores[6705] = 0; scores[6706] = 0; scores[6707] = 0; scores[6708] = 0; scores[6709] = 0; scores[6710] = 0; scores[6711] = 0; scores[6712] = 0; scores[6713] = 0; scores[6714] = 0; scores[6715] = 0; scores[6716] = 0; scores[6717] = 0; scores[6718] = 0; scores[6719] = 0; scores[6720] = 0; scores[6721] = 0; scores[6722] = 0; scores[6723] = 0;                         case 45:
                 if(45 == height + 8){break;}
-                scores[3612] = 0; scores[3613] = 0; scores[3614] = 0; scores[3615] = 0; scores[3616] = 0; scores[3617] = 0; scores[3618] = 0; scores[3619] = 0; scores[3620] = 0; scores[3621] = 0; scores[3622] = 0; scores[3623] = 0; scores[3624] = 0; scores[3625] = 0; scores[3626] = 0; scores[3627] = 0; scores[3628] = 0; scores[3629] = 0; scores[3630] = 0; scores[3631] = 0; scores[3632] = 0; scores[3633] = 0; scores[3634] = 0; scores[3635] = 0; scores[3636] = 0; scores[3637] = 0; scores[3638] = 0; scores[3639] = 0; scores[3640] = 0; scores[3641] = 0; scores[3642] = 0; scores[3643] = 0; scores[3644] = 0; scores[3645] = 0; scores[3646] = 0; scores[3647] = 0; scores[3648] = 0; scores[3649] = 0; scores[3650] = 0; scores[3651] = 0; scores[3652] = 0; scores[3653] = 0; scores[3654] = 0; scores[3655] = 0; scores[3656] = 0; scores[3657] = 0; scores[3658] = 0; scores[3659] = 0; scores[3660] = 0; scores[3661] = 0; scores[3662] = 0; scores[3663] = 0; scores[3664] = 0; scores[3665] = 0; scores[3666] = 0; scores[3667] = 0; scores[3668] = 0; scores[3669] = 0; scores[3670] = 0; scores[3671] = 0;                         case 46:
+                scores[6792] = 0; scores[6793] = 0; scores[6794] = 0; scores[6795] = 0; scores[6796] = 0; scores[6797] = 0; scores[6798] = 0; scores[6799] = 0; scores[6800] = 0; scores[6801] = 0; scores[6802] = 0; scores[6803] = 0; scores[6804] = 0; scores[6805] = 0; scores[6806] = 0; scores[6807] = 0; scores[6808] = 0; scores[6809] = 0; scores[6810] = 0; scores[6811] = 0; scores[6812] = 0; scores[6813] = 0; scores[6814] = 0; scores[6815] = 0; scores[6816] = 0; scores[6817] = 0; scores[6818] = 0; scores[6819] = 0; scores[6820] = 0; scores[6821] = 0; scores[6822] = 0; scores[6823] = 0; scores[6824] = 0; scores[6825] = 0; scores[6826] = 0; scores[6827] = 0; scores[6828] = 0; scores[6829] = 0; scores[6830] = 0; scores[6831] = 0; scores[6832] = 0; scores[6833] = 0; scores[6834] = 0; scores[6835] = 0; scores[6836] = 0; scores[6837] = 0; scores[6838] = 0; scores[6839] = 0; scores[6840] = 0; scores[6841] = 0; scores[6842] = 0; scores[6843] = 0; scores[6844] = 0; scores[6845] = 0; scores[6846] = 0; scores[6847] = 0; scores[6848] = 0; scores[6849] = 0; scores[6850] = 0; scores[6851] = 0;                         case 46:
                 if(46 == height + 8){break;}
-                scores[3680] = 0; scores[3681] = 0; scores[3682] = 0; scores[3683] = 0; scores[3684] = 0; scores[3685] = 0; scores[3686] = 0; scores[3687] = 0; scores[3688] = 0; scores[3689] = 0; scores[3690] = 0; scores[3691] = 0; scores[3692] = 0; scores[3693] = 0; scores[3694] = 0; scores[3695] = 0; scores[3696] = 0; scores[3697] = 0; scores[3698] = 0; scores[3699] = 0; scores[3700] = 0; scores[3701] = 0; scores[3702] = 0; scores[3703] = 0; scores[3704] = 0; scores[3705] = 0; scores[3706] = 0; scores[3707] = 0; scores[3708] = 0; scores[3709] = 0; scores[3710] = 0; scores[3711] = 0; scores[3712] = 0; scores[3713] = 0; scores[3714] = 0; scores[3715] = 0; scores[3716] = 0; scores[3717] = 0; scores[3718] = 0; scores[3719] = 0; scores[3720] = 0; scores[3721] = 0; scores[3722] = 0; scores[3723] = 0; scores[3724] = 0; scores[3725] = 0; scores[3726] = 0; scores[3727] = 0; scores[3728] = 0; scores[3729] = 0; scores[3730] = 0; scores[3731] = 0; scores[3732] = 0; scores[3733] = 0; scores[3734] = 0; scores[3735] = 0; scores[3736] = 0; scores[3737] = 0; scores[3738] = 0; scores[3739] = 0;                         case 47:
+                scores[6920] = 0; scores[6921] = 0; scores[6922] = 0; scores[6923] = 0; scores[6924] = 0; scores[6925] = 0; scores[6926] = 0; scores[6927] = 0; scores[6928] = 0; scores[6929] = 0; scores[6930] = 0; scores[6931] = 0; scores[6932] = 0; scores[6933] = 0; scores[6934] = 0; scores[6935] = 0; scores[6936] = 0; scores[6937] = 0; scores[6938] = 0; scores[6939] = 0; scores[6940] = 0; scores[6941] = 0; scores[6942] = 0; scores[6943] = 0; scores[6944] = 0; scores[6945] = 0; scores[6946] = 0; scores[6947] = 0; scores[6948] = 0; scores[6949] = 0; scores[6950] = 0; scores[6951] = 0; scores[6952] = 0; scores[6953] = 0; scores[6954] = 0; scores[6955] = 0; scores[6956] = 0; scores[6957] = 0; scores[6958] = 0; scores[6959] = 0; scores[6960] = 0; scores[6961] = 0; scores[6962] = 0; scores[6963] = 0; scores[6964] = 0; scores[6965] = 0; scores[6966] = 0; scores[6967] = 0; scores[6968] = 0; scores[6969] = 0; scores[6970] = 0; scores[6971] = 0; scores[6972] = 0; scores[6973] = 0; scores[6974] = 0; scores[6975] = 0; scores[6976] = 0; scores[6977] = 0; scores[6978] = 0; scores[6979] = 0;                         case 47:
                 if(47 == height + 8){break;}
-                scores[3748] = 0; scores[3749] = 0; scores[3750] = 0; scores[3751] = 0; scores[3752] = 0; scores[3753] = 0; scores[3754] = 0; scores[3755] = 0; scores[3756] = 0; scores[3757] = 0; scores[3758] = 0; scores[3759] = 0; scores[3760] = 0; scores[3761] = 0; scores[3762] = 0; scores[3763] = 0; scores[3764] = 0; scores[3765] = 0; scores[3766] = 0; scores[3767] = 0; scores[3768] = 0; scores[3769] = 0; scores[3770] = 0; scores[3771] = 0; scores[3772] = 0; scores[3773] = 0; scores[3774] = 0; scores[3775] = 0; scores[3776] = 0; scores[3777] = 0; scores[3778] = 0; scores[3779] = 0; scores[3780] = 0; scores[3781] = 0; scores[3782] = 0; scores[3783] = 0; scores[3784] = 0; scores[3785] = 0; scores[3786] = 0; scores[3787] = 0; scores[3788] = 0; scores[3789] = 0; scores[3790] = 0; scores[3791] = 0; scores[3792] = 0; scores[3793] = 0; scores[3794] = 0; scores[3795] = 0; scores[3796] = 0; scores[3797] = 0; scores[3798] = 0; scores[3799] = 0; scores[3800] = 0; scores[3801] = 0; scores[3802] = 0; scores[3803] = 0; scores[3804] = 0; scores[3805] = 0; scores[3806] = 0; scores[3807] = 0;                         case 48:
+                scores[7048] = 0; scores[7049] = 0; scores[7050] = 0; scores[7051] = 0; scores[7052] = 0; scores[7053] = 0; scores[7054] = 0; scores[7055] = 0; scores[7056] = 0; scores[7057] = 0; scores[7058] = 0; scores[7059] = 0; scores[7060] = 0; scores[7061] = 0; scores[7062] = 0; scores[7063] = 0; scores[7064] = 0; scores[7065] = 0; scores[7066] = 0; scores[7067] = 0; scores[7068] = 0; scores[7069] = 0; scores[7070] = 0; scores[7071] = 0; scores[7072] = 0; scores[7073] = 0; scores[7074] = 0; scores[7075] = 0; scores[7076] = 0; scores[7077] = 0; scores[7078] = 0; scores[7079] = 0; scores[7080] = 0; scores[7081] = 0; scores[7082] = 0; scores[7083] = 0; scores[7084] = 0; scores[7085] = 0; scores[7086] = 0; scores[7087] = 0; scores[7088] = 0; scores[7089] = 0; scores[7090] = 0; scores[7091] = 0; scores[7092] = 0; scores[7093] = 0; scores[7094] = 0; scores[7095] = 0; scores[7096] = 0; scores[7097] = 0; scores[7098] = 0; scores[7099] = 0; scores[7100] = 0; scores[7101] = 0; scores[7102] = 0; scores[7103] = 0; scores[7104] = 0; scores[7105] = 0; scores[7106] = 0; scores[7107] = 0;                         case 48:
                 if(48 == height + 8){break;}
-                scores[3816] = 0; scores[3817] = 0; scores[3818] = 0; scores[3819] = 0; scores[3820] = 0; scores[3821] = 0; scores[3822] = 0; scores[3823] = 0; scores[3824] = 0; scores[3825] = 0; scores[3826] = 0; scores[3827] = 0; scores[3828] = 0; scores[3829] = 0; scores[3830] = 0; scores[3831] = 0; scores[3832] = 0; scores[3833] = 0; scores[3834] = 0; scores[3835] = 0; scores[3836] = 0; scores[3837] = 0; scores[3838] = 0; scores[3839] = 0; scores[3840] = 0; scores[3841] = 0; scores[3842] = 0; scores[3843] = 0; scores[3844] = 0; scores[3845] = 0; scores[3846] = 0; scores[3847] = 0; scores[3848] = 0; scores[3849] = 0; scores[3850] = 0; scores[3851] = 0; scores[3852] = 0; scores[3853] = 0; scores[3854] = 0; scores[3855] = 0; scores[3856] = 0; scores[3857] = 0; scores[3858] = 0; scores[3859] = 0; scores[3860] = 0; scores[3861] = 0; scores[3862] = 0; scores[3863] = 0; scores[3864] = 0; scores[3865] = 0; scores[3866] = 0; scores[3867] = 0; scores[3868] = 0; scores[3869] = 0; scores[3870] = 0; scores[3871] = 0; scores[3872] = 0; scores[3873] = 0; scores[3874] = 0; scores[3875] = 0;                         case 49:
+                scores[7176] = 0; scores[7177] = 0; scores[7178] = 0; scores[7179] = 0; scores[7180] = 0; scores[7181] = 0; scores[7182] = 0; scores[7183] = 0; scores[7184] = 0; scores[7185] = 0; scores[7186] = 0; scores[7187] = 0; scores[7188] = 0; scores[7189] = 0; scores[7190] = 0; scores[7191] = 0; scores[7192] = 0; scores[7193] = 0; scores[7194] = 0; scores[7195] = 0; scores[7196] = 0; scores[7197] = 0; scores[7198] = 0; scores[7199] = 0; scores[7200] = 0; scores[7201] = 0; scores[7202] = 0; scores[7203] = 0; scores[7204] = 0; scores[7205] = 0; scores[7206] = 0; scores[7207] = 0; scores[7208] = 0; scores[7209] = 0; scores[7210] = 0; scores[7211] = 0; scores[7212] = 0; scores[7213] = 0; scores[7214] = 0; scores[7215] = 0; scores[7216] = 0; scores[7217] = 0; scores[7218] = 0; scores[7219] = 0; scores[7220] = 0; scores[7221] = 0; scores[7222] = 0; scores[7223] = 0; scores[7224] = 0; scores[7225] = 0; scores[7226] = 0; scores[7227] = 0; scores[7228] = 0; scores[7229] = 0; scores[7230] = 0; scores[7231] = 0; scores[7232] = 0; scores[7233] = 0; scores[7234] = 0; scores[7235] = 0;                         case 49:
                 if(49 == height + 8){break;}
-                scores[3884] = 0; scores[3885] = 0; scores[3886] = 0; scores[3887] = 0; scores[3888] = 0; scores[3889] = 0; scores[3890] = 0; scores[3891] = 0; scores[3892] = 0; scores[3893] = 0; scores[3894] = 0; scores[3895] = 0; scores[3896] = 0; scores[3897] = 0; scores[3898] = 0; scores[3899] = 0; scores[3900] = 0; scores[3901] = 0; scores[3902] = 0; scores[3903] = 0; scores[3904] = 0; scores[3905] = 0; scores[3906] = 0; scores[3907] = 0; scores[3908] = 0; scores[3909] = 0; scores[3910] = 0; scores[3911] = 0; scores[3912] = 0; scores[3913] = 0; scores[3914] = 0; scores[3915] = 0; scores[3916] = 0; scores[3917] = 0; scores[3918] = 0; scores[3919] = 0; scores[3920] = 0; scores[3921] = 0; scores[3922] = 0; scores[3923] = 0; scores[3924] = 0; scores[3925] = 0; scores[3926] = 0; scores[3927] = 0; scores[3928] = 0; scores[3929] = 0; scores[3930] = 0; scores[3931] = 0; scores[3932] = 0; scores[3933] = 0; scores[3934] = 0; scores[3935] = 0; scores[3936] = 0; scores[3937] = 0; scores[3938] = 0; scores[3939] = 0; scores[3940] = 0; scores[3941] = 0; scores[3942] = 0; scores[3943] = 0;                         case 50:
+                scores[7304] = 0; scores[7305] = 0; scores[7306] = 0; scores[7307] = 0; scores[7308] = 0; scores[7309] = 0; scores[7310] = 0; scores[7311] = 0; scores[7312] = 0; scores[7313] = 0; scores[7314] = 0; scores[7315] = 0; scores[7316] = 0; scores[7317] = 0; scores[7318] = 0; scores[7319] = 0; scores[7320] = 0; scores[7321] = 0; scores[7322] = 0; scores[7323] = 0; scores[7324] = 0; scores[7325] = 0; scores[7326] = 0; scores[7327] = 0; scores[7328] = 0; scores[7329] = 0; scores[7330] = 0; scores[7331] = 0; scores[7332] = 0; scores[7333] = 0; scores[7334] = 0; scores[7335] = 0; scores[7336] = 0; scores[7337] = 0; scores[7338] = 0; scores[7339] = 0; scores[7340] = 0; scores[7341] = 0; scores[7342] = 0; scores[7343] = 0; scores[7344] = 0; scores[7345] = 0; scores[7346] = 0; scores[7347] = 0; scores[7348] = 0; scores[7349] = 0; scores[7350] = 0; scores[7351] = 0; scores[7352] = 0; scores[7353] = 0; scores[7354] = 0; scores[7355] = 0; scores[7356] = 0; scores[7357] = 0; scores[7358] = 0; scores[7359] = 0; scores[7360] = 0; scores[7361] = 0; scores[7362] = 0; scores[7363] = 0;                         case 50:
                 if(50 == height + 8){break;}
-                scores[3952] = 0; scores[3953] = 0; scores[3954] = 0; scores[3955] = 0; scores[3956] = 0; scores[3957] = 0; scores[3958] = 0; scores[3959] = 0; scores[3960] = 0; scores[3961] = 0; scores[3962] = 0; scores[3963] = 0; scores[3964] = 0; scores[3965] = 0; scores[3966] = 0; scores[3967] = 0; scores[3968] = 0; scores[3969] = 0; scores[3970] = 0; scores[3971] = 0; scores[3972] = 0; scores[3973] = 0; scores[3974] = 0; scores[3975] = 0; scores[3976] = 0; scores[3977] = 0; scores[3978] = 0; scores[3979] = 0; scores[3980] = 0; scores[3981] = 0; scores[3982] = 0; scores[3983] = 0; scores[3984] = 0; scores[3985] = 0; scores[3986] = 0; scores[3987] = 0; scores[3988] = 0; scores[3989] = 0; scores[3990] = 0; scores[3991] = 0; scores[3992] = 0; scores[3993] = 0; scores[3994] = 0; scores[3995] = 0; scores[3996] = 0; scores[3997] = 0; scores[3998] = 0; scores[3999] = 0; scores[4000] = 0; scores[4001] = 0; scores[4002] = 0; scores[4003] = 0; scores[4004] = 0; scores[4005] = 0; scores[4006] = 0; scores[4007] = 0; scores[4008] = 0; scores[4009] = 0; scores[4010] = 0; scores[4011] = 0;                         case 51:
+                scores[7432] = 0; scores[7433] = 0; scores[7434] = 0; scores[7435] = 0; scores[7436] = 0; scores[7437] = 0; scores[7438] = 0; scores[7439] = 0; scores[7440] = 0; scores[7441] = 0; scores[7442] = 0; scores[7443] = 0; scores[7444] = 0; scores[7445] = 0; scores[7446] = 0; scores[7447] = 0; scores[7448] = 0; scores[7449] = 0; scores[7450] = 0; scores[7451] = 0; scores[7452] = 0; scores[7453] = 0; scores[7454] = 0; scores[7455] = 0; scores[7456] = 0; scores[7457] = 0; scores[7458] = 0; scores[7459] = 0; scores[7460] = 0; scores[7461] = 0; scores[7462] = 0; scores[7463] = 0; scores[7464] = 0; scores[7465] = 0; scores[7466] = 0; scores[7467] = 0; scores[7468] = 0; scores[7469] = 0; scores[7470] = 0; scores[7471] = 0; scores[7472] = 0; scores[7473] = 0; scores[7474] = 0; scores[7475] = 0; scores[7476] = 0; scores[7477] = 0; scores[7478] = 0; scores[7479] = 0; scores[7480] = 0; scores[7481] = 0; scores[7482] = 0; scores[7483] = 0; scores[7484] = 0; scores[7485] = 0; scores[7486] = 0; scores[7487] = 0; scores[7488] = 0; scores[7489] = 0; scores[7490] = 0; scores[7491] = 0;                         case 51:
                 if(51 == height + 8){break;}
-                scores[4020] = 0; scores[4021] = 0; scores[4022] = 0; scores[4023] = 0; scores[4024] = 0; scores[4025] = 0; scores[4026] = 0; scores[4027] = 0; scores[4028] = 0; scores[4029] = 0; scores[4030] = 0; scores[4031] = 0; scores[4032] = 0; scores[4033] = 0; scores[4034] = 0; scores[4035] = 0; scores[4036] = 0; scores[4037] = 0; scores[4038] = 0; scores[4039] = 0; scores[4040] = 0; scores[4041] = 0; scores[4042] = 0; scores[4043] = 0; scores[4044] = 0; scores[4045] = 0; scores[4046] = 0; scores[4047] = 0; scores[4048] = 0; scores[4049] = 0; scores[4050] = 0; scores[4051] = 0; scores[4052] = 0; scores[4053] = 0; scores[4054] = 0; scores[4055] = 0; scores[4056] = 0; scores[4057] = 0; scores[4058] = 0; scores[4059] = 0; scores[4060] = 0; scores[4061] = 0; scores[4062] = 0; scores[4063] = 0; scores[4064] = 0; scores[4065] = 0; scores[4066] = 0; scores[4067] = 0; scores[4068] = 0; scores[4069] = 0; scores[4070] = 0; scores[4071] = 0; scores[4072] = 0; scores[4073] = 0; scores[4074] = 0; scores[4075] = 0; scores[4076] = 0; scores[4077] = 0; scores[4078] = 0; scores[4079] = 0;                         case 52:
+                scores[7560] = 0; scores[7561] = 0; scores[7562] = 0; scores[7563] = 0; scores[7564] = 0; scores[7565] = 0; scores[7566] = 0; scores[7567] = 0; scores[7568] = 0; scores[7569] = 0; scores[7570] = 0; scores[7571] = 0; scores[7572] = 0; scores[7573] = 0; scores[7574] = 0; scores[7575] = 0; scores[7576] = 0; scores[7577] = 0; scores[7578] = 0; scores[7579] = 0; scores[7580] = 0; scores[7581] = 0; scores[7582] = 0; scores[7583] = 0; scores[7584] = 0; scores[7585] = 0; scores[7586] = 0; scores[7587] = 0; scores[7588] = 0; scores[7589] = 0; scores[7590] = 0; scores[7591] = 0; scores[7592] = 0; scores[7593] = 0; scores[7594] = 0; scores[7595] = 0; scores[7596] = 0; scores[7597] = 0; scores[7598] = 0; scores[7599] = 0; scores[7600] = 0; scores[7601] = 0; scores[7602] = 0; scores[7603] = 0; scores[7604] = 0; scores[7605] = 0; scores[7606] = 0; scores[7607] = 0; scores[7608] = 0; scores[7609] = 0; scores[7610] = 0; scores[7611] = 0; scores[7612] = 0; scores[7613] = 0; scores[7614] = 0; scores[7615] = 0; scores[7616] = 0; scores[7617] = 0; scores[7618] = 0; scores[7619] = 0;                         case 52:
                 if(52 == height + 8){break;}
-                scores[4088] = 0; scores[4089] = 0; scores[4090] = 0; scores[4091] = 0; scores[4092] = 0; scores[4093] = 0; scores[4094] = 0; scores[4095] = 0; scores[4096] = 0; scores[4097] = 0; scores[4098] = 0; scores[4099] = 0; scores[4100] = 0; scores[4101] = 0; scores[4102] = 0; scores[4103] = 0; scores[4104] = 0; scores[4105] = 0; scores[4106] = 0; scores[4107] = 0; scores[4108] = 0; scores[4109] = 0; scores[4110] = 0; scores[4111] = 0; scores[4112] = 0; scores[4113] = 0; scores[4114] = 0; scores[4115] = 0; scores[4116] = 0; scores[4117] = 0; scores[4118] = 0; scores[4119] = 0; scores[4120] = 0; scores[4121] = 0; scores[4122] = 0; scores[4123] = 0; scores[4124] = 0; scores[4125] = 0; scores[4126] = 0; scores[4127] = 0; scores[4128] = 0; scores[4129] = 0; scores[4130] = 0; scores[4131] = 0; scores[4132] = 0; scores[4133] = 0; scores[4134] = 0; scores[4135] = 0; scores[4136] = 0; scores[4137] = 0; scores[4138] = 0; scores[4139] = 0; scores[4140] = 0; scores[4141] = 0; scores[4142] = 0; scores[4143] = 0; scores[4144] = 0; scores[4145] = 0; scores[4146] = 0; scores[4147] = 0;                         case 53:
+                scores[7688] = 0; scores[7689] = 0; scores[7690] = 0; scores[7691] = 0; scores[7692] = 0; scores[7693] = 0; scores[7694] = 0; scores[7695] = 0; scores[7696] = 0; scores[7697] = 0; scores[7698] = 0; scores[7699] = 0; scores[7700] = 0; scores[7701] = 0; scores[7702] = 0; scores[7703] = 0; scores[7704] = 0; scores[7705] = 0; scores[7706] = 0; scores[7707] = 0; scores[7708] = 0; scores[7709] = 0; scores[7710] = 0; scores[7711] = 0; scores[7712] = 0; scores[7713] = 0; scores[7714] = 0; scores[7715] = 0; scores[7716] = 0; scores[7717] = 0; scores[7718] = 0; scores[7719] = 0; scores[7720] = 0; scores[7721] = 0; scores[7722] = 0; scores[7723] = 0; scores[7724] = 0; scores[7725] = 0; scores[7726] = 0; scores[7727] = 0; scores[7728] = 0; scores[7729] = 0; scores[7730] = 0; scores[7731] = 0; scores[7732] = 0; scores[7733] = 0; scores[7734] = 0; scores[7735] = 0; scores[7736] = 0; scores[7737] = 0; scores[7738] = 0; scores[7739] = 0; scores[7740] = 0; scores[7741] = 0; scores[7742] = 0; scores[7743] = 0; scores[7744] = 0; scores[7745] = 0; scores[7746] = 0; scores[7747] = 0;                         case 53:
                 if(53 == height + 8){break;}
-                scores[4156] = 0; scores[4157] = 0; scores[4158] = 0; scores[4159] = 0; scores[4160] = 0; scores[4161] = 0; scores[4162] = 0; scores[4163] = 0; scores[4164] = 0; scores[4165] = 0; scores[4166] = 0; scores[4167] = 0; scores[4168] = 0; scores[4169] = 0; scores[4170] = 0; scores[4171] = 0; scores[4172] = 0; scores[4173] = 0; scores[4174] = 0; scores[4175] = 0; scores[4176] = 0; scores[4177] = 0; scores[4178] = 0; scores[4179] = 0; scores[4180] = 0; scores[4181] = 0; scores[4182] = 0; scores[4183] = 0; scores[4184] = 0; scores[4185] = 0; scores[4186] = 0; scores[4187] = 0; scores[4188] = 0; scores[4189] = 0; scores[4190] = 0; scores[4191] = 0; scores[4192] = 0; scores[4193] = 0; scores[4194] = 0; scores[4195] = 0; scores[4196] = 0; scores[4197] = 0; scores[4198] = 0; scores[4199] = 0; scores[4200] = 0; scores[4201] = 0; scores[4202] = 0; scores[4203] = 0; scores[4204] = 0; scores[4205] = 0; scores[4206] = 0; scores[4207] = 0; scores[4208] = 0; scores[4209] = 0; scores[4210] = 0; scores[4211] = 0; scores[4212] = 0; scores[4213] = 0; scores[4214] = 0; scores[4215] = 0;                         case 54:
+                scores[7816] = 0; scores[7817] = 0; scores[7818] = 0; scores[7819] = 0; scores[7820] = 0; scores[7821] = 0; scores[7822] = 0; scores[7823] = 0; scores[7824] = 0; scores[7825] = 0; scores[7826] = 0; scores[7827] = 0; scores[7828] = 0; scores[7829] = 0; scores[7830] = 0; scores[7831] = 0; scores[7832] = 0; scores[7833] = 0; scores[7834] = 0; scores[7835] = 0; scores[7836] = 0; scores[7837] = 0; scores[7838] = 0; scores[7839] = 0; scores[7840] = 0; scores[7841] = 0; scores[7842] = 0; scores[7843] = 0; scores[7844] = 0; scores[7845] = 0; scores[7846] = 0; scores[7847] = 0; scores[7848] = 0; scores[7849] = 0; scores[7850] = 0; scores[7851] = 0; scores[7852] = 0; scores[7853] = 0; scores[7854] = 0; scores[7855] = 0; scores[7856] = 0; scores[7857] = 0; scores[7858] = 0; scores[7859] = 0; scores[7860] = 0; scores[7861] = 0; scores[7862] = 0; scores[7863] = 0; scores[7864] = 0; scores[7865] = 0; scores[7866] = 0; scores[7867] = 0; scores[7868] = 0; scores[7869] = 0; scores[7870] = 0; scores[7871] = 0; scores[7872] = 0; scores[7873] = 0; scores[7874] = 0; scores[7875] = 0;                         case 54:
                 if(54 == height + 8){break;}
-                scores[4224] = 0; scores[4225] = 0; scores[4226] = 0; scores[4227] = 0; scores[4228] = 0; scores[4229] = 0; scores[4230] = 0; scores[4231] = 0; scores[4232] = 0; scores[4233] = 0; scores[4234] = 0; scores[4235] = 0; scores[4236] = 0; scores[4237] = 0; scores[4238] = 0; scores[4239] = 0; scores[4240] = 0; scores[4241] = 0; scores[4242] = 0; scores[4243] = 0; scores[4244] = 0; scores[4245] = 0; scores[4246] = 0; scores[4247] = 0; scores[4248] = 0; scores[4249] = 0; scores[4250] = 0; scores[4251] = 0; scores[4252] = 0; scores[4253] = 0; scores[4254] = 0; scores[4255] = 0; scores[4256] = 0; scores[4257] = 0; scores[4258] = 0; scores[4259] = 0; scores[4260] = 0; scores[4261] = 0; scores[4262] = 0; scores[4263] = 0; scores[4264] = 0; scores[4265] = 0; scores[4266] = 0; scores[4267] = 0; scores[4268] = 0; scores[4269] = 0; scores[4270] = 0; scores[4271] = 0; scores[4272] = 0; scores[4273] = 0; scores[4274] = 0; scores[4275] = 0; scores[4276] = 0; scores[4277] = 0; scores[4278] = 0; scores[4279] = 0; scores[4280] = 0; scores[4281] = 0; scores[4282] = 0; scores[4283] = 0;                         case 55:
+                scores[7944] = 0; scores[7945] = 0; scores[7946] = 0; scores[7947] = 0; scores[7948] = 0; scores[7949] = 0; scores[7950] = 0; scores[7951] = 0; scores[7952] = 0; scores[7953] = 0; scores[7954] = 0; scores[7955] = 0; scores[7956] = 0; scores[7957] = 0; scores[7958] = 0; scores[7959] = 0; scores[7960] = 0; scores[7961] = 0; scores[7962] = 0; scores[7963] = 0; scores[7964] = 0; scores[7965] = 0; scores[7966] = 0; scores[7967] = 0; scores[7968] = 0; scores[7969] = 0; scores[7970] = 0; scores[7971] = 0; scores[7972] = 0; scores[7973] = 0; scores[7974] = 0; scores[7975] = 0; scores[7976] = 0; scores[7977] = 0; scores[7978] = 0; scores[7979] = 0; scores[7980] = 0; scores[7981] = 0; scores[7982] = 0; scores[7983] = 0; scores[7984] = 0; scores[7985] = 0; scores[7986] = 0; scores[7987] = 0; scores[7988] = 0; scores[7989] = 0; scores[7990] = 0; scores[7991] = 0; scores[7992] = 0; scores[7993] = 0; scores[7994] = 0; scores[7995] = 0; scores[7996] = 0; scores[7997] = 0; scores[7998] = 0; scores[7999] = 0; scores[8000] = 0; scores[8001] = 0; scores[8002] = 0; scores[8003] = 0;                         case 55:
                 if(55 == height + 8){break;}
-                scores[4292] = 0; scores[4293] = 0; scores[4294] = 0; scores[4295] = 0; scores[4296] = 0; scores[4297] = 0; scores[4298] = 0; scores[4299] = 0; scores[4300] = 0; scores[4301] = 0; scores[4302] = 0; scores[4303] = 0; scores[4304] = 0; scores[4305] = 0; scores[4306] = 0; scores[4307] = 0; scores[4308] = 0; scores[4309] = 0; scores[4310] = 0; scores[4311] = 0; scores[4312] = 0; scores[4313] = 0; scores[4314] = 0; scores[4315] = 0; scores[4316] = 0; scores[4317] = 0; scores[4318] = 0; scores[4319] = 0; scores[4320] = 0; scores[4321] = 0; scores[4322] = 0; scores[4323] = 0; scores[4324] = 0; scores[4325] = 0; scores[4326] = 0; scores[4327] = 0; scores[4328] = 0; scores[4329] = 0; scores[4330] = 0; scores[4331] = 0; scores[4332] = 0; scores[4333] = 0; scores[4334] = 0; scores[4335] = 0; scores[4336] = 0; scores[4337] = 0; scores[4338] = 0; scores[4339] = 0; scores[4340] = 0; scores[4341] = 0; scores[4342] = 0; scores[4343] = 0; scores[4344] = 0; scores[4345] = 0; scores[4346] = 0; scores[4347] = 0; scores[4348] = 0; scores[4349] = 0; scores[4350] = 0; scores[4351] = 0;                         case 56:
+                scores[8072] = 0; scores[8073] = 0; scores[8074] = 0; scores[8075] = 0; scores[8076] = 0; scores[8077] = 0; scores[8078] = 0; scores[8079] = 0; scores[8080] = 0; scores[8081] = 0; scores[8082] = 0; scores[8083] = 0; scores[8084] = 0; scores[8085] = 0; scores[8086] = 0; scores[8087] = 0; scores[8088] = 0; scores[8089] = 0; scores[8090] = 0; scores[8091] = 0; scores[8092] = 0; scores[8093] = 0; scores[8094] = 0; scores[8095] = 0; scores[8096] = 0; scores[8097] = 0; scores[8098] = 0; scores[8099] = 0; scores[8100] = 0; scores[8101] = 0; scores[8102] = 0; scores[8103] = 0; scores[8104] = 0; scores[8105] = 0; scores[8106] = 0; scores[8107] = 0; scores[8108] = 0; scores[8109] = 0; scores[8110] = 0; scores[8111] = 0; scores[8112] = 0; scores[8113] = 0; scores[8114] = 0; scores[8115] = 0; scores[8116] = 0; scores[8117] = 0; scores[8118] = 0; scores[8119] = 0; scores[8120] = 0; scores[8121] = 0; scores[8122] = 0; scores[8123] = 0; scores[8124] = 0; scores[8125] = 0; scores[8126] = 0; scores[8127] = 0; scores[8128] = 0; scores[8129] = 0; scores[8130] = 0; scores[8131] = 0;                         case 56:
                 if(56 == height + 8){break;}
-                scores[4360] = 0; scores[4361] = 0; scores[4362] = 0; scores[4363] = 0; scores[4364] = 0; scores[4365] = 0; scores[4366] = 0; scores[4367] = 0; scores[4368] = 0; scores[4369] = 0; scores[4370] = 0; scores[4371] = 0; scores[4372] = 0; scores[4373] = 0; scores[4374] = 0; scores[4375] = 0; scores[4376] = 0; scores[4377] = 0; scores[4378] = 0; scores[4379] = 0; scores[4380] = 0; scores[4381] = 0; scores[4382] = 0; scores[4383] = 0; scores[4384] = 0; scores[4385] = 0; scores[4386] = 0; scores[4387] = 0; scores[4388] = 0; scores[4389] = 0; scores[4390] = 0; scores[4391] = 0; scores[4392] = 0; scores[4393] = 0; scores[4394] = 0; scores[4395] = 0; scores[4396] = 0; scores[4397] = 0; scores[4398] = 0; scores[4399] = 0; scores[4400] = 0; scores[4401] = 0; scores[4402] = 0; scores[4403] = 0; scores[4404] = 0; scores[4405] = 0; scores[4406] = 0; scores[4407] = 0; scores[4408] = 0; scores[4409] = 0; scores[4410] = 0; scores[4411] = 0; scores[4412] = 0; scores[4413] = 0; scores[4414] = 0; scores[4415] = 0; scores[4416] = 0; scores[4417] = 0; scores[4418] = 0; scores[4419] = 0;                         case 57:
+                scores[8200] = 0; scores[8201] = 0; scores[8202] = 0; scores[8203] = 0; scores[8204] = 0; scores[8205] = 0; scores[8206] = 0; scores[8207] = 0; scores[8208] = 0; scores[8209] = 0; scores[8210] = 0; scores[8211] = 0; scores[8212] = 0; scores[8213] = 0; scores[8214] = 0; scores[8215] = 0; scores[8216] = 0; scores[8217] = 0; scores[8218] = 0; scores[8219] = 0; scores[8220] = 0; scores[8221] = 0; scores[8222] = 0; scores[8223] = 0; scores[8224] = 0; scores[8225] = 0; scores[8226] = 0; scores[8227] = 0; scores[8228] = 0; scores[8229] = 0; scores[8230] = 0; scores[8231] = 0; scores[8232] = 0; scores[8233] = 0; scores[8234] = 0; scores[8235] = 0; scores[8236] = 0; scores[8237] = 0; scores[8238] = 0; scores[8239] = 0; scores[8240] = 0; scores[8241] = 0; scores[8242] = 0; scores[8243] = 0; scores[8244] = 0; scores[8245] = 0; scores[8246] = 0; scores[8247] = 0; scores[8248] = 0; scores[8249] = 0; scores[8250] = 0; scores[8251] = 0; scores[8252] = 0; scores[8253] = 0; scores[8254] = 0; scores[8255] = 0; scores[8256] = 0; scores[8257] = 0; scores[8258] = 0; scores[8259] = 0;                         case 57:
                 if(57 == height + 8){break;}
-                scores[4428] = 0; scores[4429] = 0; scores[4430] = 0; scores[4431] = 0; scores[4432] = 0; scores[4433] = 0; scores[4434] = 0; scores[4435] = 0; scores[4436] = 0; scores[4437] = 0; scores[4438] = 0; scores[4439] = 0; scores[4440] = 0; scores[4441] = 0; scores[4442] = 0; scores[4443] = 0; scores[4444] = 0; scores[4445] = 0; scores[4446] = 0; scores[4447] = 0; scores[4448] = 0; scores[4449] = 0; scores[4450] = 0; scores[4451] = 0; scores[4452] = 0; scores[4453] = 0; scores[4454] = 0; scores[4455] = 0; scores[4456] = 0; scores[4457] = 0; scores[4458] = 0; scores[4459] = 0; scores[4460] = 0; scores[4461] = 0; scores[4462] = 0; scores[4463] = 0; scores[4464] = 0; scores[4465] = 0; scores[4466] = 0; scores[4467] = 0; scores[4468] = 0; scores[4469] = 0; scores[4470] = 0; scores[4471] = 0; scores[4472] = 0; scores[4473] = 0; scores[4474] = 0; scores[4475] = 0; scores[4476] = 0; scores[4477] = 0; scores[4478] = 0; scores[4479] = 0; scores[4480] = 0; scores[4481] = 0; scores[4482] = 0; scores[4483] = 0; scores[4484] = 0; scores[4485] = 0; scores[4486] = 0; scores[4487] = 0;                         case 58:
+                scores[8328] = 0; scores[8329] = 0; scores[8330] = 0; scores[8331] = 0; scores[8332] = 0; scores[8333] = 0; scores[8334] = 0; scores[8335] = 0; scores[8336] = 0; scores[8337] = 0; scores[8338] = 0; scores[8339] = 0; scores[8340] = 0; scores[8341] = 0; scores[8342] = 0; scores[8343] = 0; scores[8344] = 0; scores[8345] = 0; scores[8346] = 0; scores[8347] = 0; scores[8348] = 0; scores[8349] = 0; scores[8350] = 0; scores[8351] = 0; scores[8352] = 0; scores[8353] = 0; scores[8354] = 0; scores[8355] = 0; scores[8356] = 0; scores[8357] = 0; scores[8358] = 0; scores[8359] = 0; scores[8360] = 0; scores[8361] = 0; scores[8362] = 0; scores[8363] = 0; scores[8364] = 0; scores[8365] = 0; scores[8366] = 0; scores[8367] = 0; scores[8368] = 0; scores[8369] = 0; scores[8370] = 0; scores[8371] = 0; scores[8372] = 0; scores[8373] = 0; scores[8374] = 0; scores[8375] = 0; scores[8376] = 0; scores[8377] = 0; scores[8378] = 0; scores[8379] = 0; scores[8380] = 0; scores[8381] = 0; scores[8382] = 0; scores[8383] = 0; scores[8384] = 0; scores[8385] = 0; scores[8386] = 0; scores[8387] = 0;                         case 58:
                 if(58 == height + 8){break;}
-                scores[4496] = 0; scores[4497] = 0; scores[4498] = 0; scores[4499] = 0; scores[4500] = 0; scores[4501] = 0; scores[4502] = 0; scores[4503] = 0; scores[4504] = 0; scores[4505] = 0; scores[4506] = 0; scores[4507] = 0; scores[4508] = 0; scores[4509] = 0; scores[4510] = 0; scores[4511] = 0; scores[4512] = 0; scores[4513] = 0; scores[4514] = 0; scores[4515] = 0; scores[4516] = 0; scores[4517] = 0; scores[4518] = 0; scores[4519] = 0; scores[4520] = 0; scores[4521] = 0; scores[4522] = 0; scores[4523] = 0; scores[4524] = 0; scores[4525] = 0; scores[4526] = 0; scores[4527] = 0; scores[4528] = 0; scores[4529] = 0; scores[4530] = 0; scores[4531] = 0; scores[4532] = 0; scores[4533] = 0; scores[4534] = 0; scores[4535] = 0; scores[4536] = 0; scores[4537] = 0; scores[4538] = 0; scores[4539] = 0; scores[4540] = 0; scores[4541] = 0; scores[4542] = 0; scores[4543] = 0; scores[4544] = 0; scores[4545] = 0; scores[4546] = 0; scores[4547] = 0; scores[4548] = 0; scores[4549] = 0; scores[4550] = 0; scores[4551] = 0; scores[4552] = 0; scores[4553] = 0; scores[4554] = 0; scores[4555] = 0;                         case 59:
+                scores[8456] = 0; scores[8457] = 0; scores[8458] = 0; scores[8459] = 0; scores[8460] = 0; scores[8461] = 0; scores[8462] = 0; scores[8463] = 0; scores[8464] = 0; scores[8465] = 0; scores[8466] = 0; scores[8467] = 0; scores[8468] = 0; scores[8469] = 0; scores[8470] = 0; scores[8471] = 0; scores[8472] = 0; scores[8473] = 0; scores[8474] = 0; scores[8475] = 0; scores[8476] = 0; scores[8477] = 0; scores[8478] = 0; scores[8479] = 0; scores[8480] = 0; scores[8481] = 0; scores[8482] = 0; scores[8483] = 0; scores[8484] = 0; scores[8485] = 0; scores[8486] = 0; scores[8487] = 0; scores[8488] = 0; scores[8489] = 0; scores[8490] = 0; scores[8491] = 0; scores[8492] = 0; scores[8493] = 0; scores[8494] = 0; scores[8495] = 0; scores[8496] = 0; scores[8497] = 0; scores[8498] = 0; scores[8499] = 0; scores[8500] = 0; scores[8501] = 0; scores[8502] = 0; scores[8503] = 0; scores[8504] = 0; scores[8505] = 0; scores[8506] = 0; scores[8507] = 0; scores[8508] = 0; scores[8509] = 0; scores[8510] = 0; scores[8511] = 0; scores[8512] = 0; scores[8513] = 0; scores[8514] = 0; scores[8515] = 0;                         case 59:
                 if(59 == height + 8){break;}
-                scores[4564] = 0; scores[4565] = 0; scores[4566] = 0; scores[4567] = 0; scores[4568] = 0; scores[4569] = 0; scores[4570] = 0; scores[4571] = 0; scores[4572] = 0; scores[4573] = 0; scores[4574] = 0; scores[4575] = 0; scores[4576] = 0; scores[4577] = 0; scores[4578] = 0; scores[4579] = 0; scores[4580] = 0; scores[4581] = 0; scores[4582] = 0; scores[4583] = 0; scores[4584] = 0; scores[4585] = 0; scores[4586] = 0; scores[4587] = 0; scores[4588] = 0; scores[4589] = 0; scores[4590] = 0; scores[4591] = 0; scores[4592] = 0; scores[4593] = 0; scores[4594] = 0; scores[4595] = 0; scores[4596] = 0; scores[4597] = 0; scores[4598] = 0; scores[4599] = 0; scores[4600] = 0; scores[4601] = 0; scores[4602] = 0; scores[4603] = 0; scores[4604] = 0; scores[4605] = 0; scores[4606] = 0; scores[4607] = 0; scores[4608] = 0; scores[4609] = 0; scores[4610] = 0; scores[4611] = 0; scores[4612] = 0; scores[4613] = 0; scores[4614] = 0; scores[4615] = 0; scores[4616] = 0; scores[4617] = 0; scores[4618] = 0; scores[4619] = 0; scores[4620] = 0; scores[4621] = 0; scores[4622] = 0; scores[4623] = 0;                         case 60:
+                scores[8584] = 0; scores[8585] = 0; scores[8586] = 0; scores[8587] = 0; scores[8588] = 0; scores[8589] = 0; scores[8590] = 0; scores[8591] = 0; scores[8592] = 0; scores[8593] = 0; scores[8594] = 0; scores[8595] = 0; scores[8596] = 0; scores[8597] = 0; scores[8598] = 0; scores[8599] = 0; scores[8600] = 0; scores[8601] = 0; scores[8602] = 0; scores[8603] = 0; scores[8604] = 0; scores[8605] = 0; scores[8606] = 0; scores[8607] = 0; scores[8608] = 0; scores[8609] = 0; scores[8610] = 0; scores[8611] = 0; scores[8612] = 0; scores[8613] = 0; scores[8614] = 0; scores[8615] = 0; scores[8616] = 0; scores[8617] = 0; scores[8618] = 0; scores[8619] = 0; scores[8620] = 0; scores[8621] = 0; scores[8622] = 0; scores[8623] = 0; scores[8624] = 0; scores[8625] = 0; scores[8626] = 0; scores[8627] = 0; scores[8628] = 0; scores[8629] = 0; scores[8630] = 0; scores[8631] = 0; scores[8632] = 0; scores[8633] = 0; scores[8634] = 0; scores[8635] = 0; scores[8636] = 0; scores[8637] = 0; scores[8638] = 0; scores[8639] = 0; scores[8640] = 0; scores[8641] = 0; scores[8642] = 0; scores[8643] = 0;                         case 60:
                 if(60 == height + 8){break;}
-                scores[4632] = 0; scores[4633] = 0; scores[4634] = 0; scores[4635] = 0; scores[4636] = 0; scores[4637] = 0; scores[4638] = 0; scores[4639] = 0; scores[4640] = 0; scores[4641] = 0; scores[4642] = 0; scores[4643] = 0; scores[4644] = 0; scores[4645] = 0; scores[4646] = 0; scores[4647] = 0; scores[4648] = 0; scores[4649] = 0; scores[4650] = 0; scores[4651] = 0; scores[4652] = 0; scores[4653] = 0; scores[4654] = 0; scores[4655] = 0; scores[4656] = 0; scores[4657] = 0; scores[4658] = 0; scores[4659] = 0; scores[4660] = 0; scores[4661] = 0; scores[4662] = 0; scores[4663] = 0; scores[4664] = 0; scores[4665] = 0; scores[4666] = 0; scores[4667] = 0; scores[4668] = 0; scores[4669] = 0; scores[4670] = 0; scores[4671] = 0; scores[4672] = 0; scores[4673] = 0; scores[4674] = 0; scores[4675] = 0; scores[4676] = 0; scores[4677] = 0; scores[4678] = 0; scores[4679] = 0; scores[4680] = 0; scores[4681] = 0; scores[4682] = 0; scores[4683] = 0; scores[4684] = 0; scores[4685] = 0; scores[4686] = 0; scores[4687] = 0; scores[4688] = 0; scores[4689] = 0; scores[4690] = 0; scores[4691] = 0;                             break;
+                scores[8712] = 0; scores[8713] = 0; scores[8714] = 0; scores[8715] = 0; scores[8716] = 0; scores[8717] = 0; scores[8718] = 0; scores[8719] = 0; scores[8720] = 0; scores[8721] = 0; scores[8722] = 0; scores[8723] = 0; scores[8724] = 0; scores[8725] = 0; scores[8726] = 0; scores[8727] = 0; scores[8728] = 0; scores[8729] = 0; scores[8730] = 0; scores[8731] = 0; scores[8732] = 0; scores[8733] = 0; scores[8734] = 0; scores[8735] = 0; scores[8736] = 0; scores[8737] = 0; scores[8738] = 0; scores[8739] = 0; scores[8740] = 0; scores[8741] = 0; scores[8742] = 0; scores[8743] = 0; scores[8744] = 0; scores[8745] = 0; scores[8746] = 0; scores[8747] = 0; scores[8748] = 0; scores[8749] = 0; scores[8750] = 0; scores[8751] = 0; scores[8752] = 0; scores[8753] = 0; scores[8754] = 0; scores[8755] = 0; scores[8756] = 0; scores[8757] = 0; scores[8758] = 0; scores[8759] = 0; scores[8760] = 0; scores[8761] = 0; scores[8762] = 0; scores[8763] = 0; scores[8764] = 0; scores[8765] = 0; scores[8766] = 0; scores[8767] = 0; scores[8768] = 0; scores[8769] = 0; scores[8770] = 0; scores[8771] = 0;                             break;
             default:
                 System.out.println("ERR: Height is out of bounds");
                 break;
@@ -576,203 +576,207 @@ public class VisionUtils {
     public static void setScoreInRatVision(MapLocation from, Direction dir, int score){
         int x = from.x;
         int y = from.y;
-        int xy = x + y*68 + 552;
+        setScoreInRatVision(x + (y<<7) + 1032, dir, score);
+    }
+
+    // Same with xy already in Grid layout, like Grid.myXY
+    public static void setScoreInRatVision(int xy, Direction dir, int score){
         switch(dir){
                         
             case NORTH:
-            scores[xy + 201] = score;
-            scores[xy + 134] = score;
-            scores[xy + 202] = score;
-            scores[xy + 270] = score;
-            scores[xy + 67] = score;
-            scores[xy + 135] = score;
-            scores[xy + 203] = score;
-            scores[xy + 271] = score;
+            scores[xy + 381] = score;
+            scores[xy + 254] = score;
+            scores[xy + 382] = score;
+            scores[xy + 510] = score;
+            scores[xy + 127] = score;
+            scores[xy + 255] = score;
+            scores[xy + 383] = score;
+            scores[xy + 511] = score;
             scores[xy ] = score;
-            scores[xy + 68] = score;
-            scores[xy + 136] = score;
-            scores[xy + 204] = score;
-            scores[xy + 272] = score;
-            scores[xy + 69] = score;
-            scores[xy + 137] = score;
-            scores[xy + 205] = score;
-            scores[xy + 273] = score;
-            scores[xy + 138] = score;
-            scores[xy + 206] = score;
-            scores[xy + 274] = score;
-            scores[xy + 207] = score;
+            scores[xy + 128] = score;
+            scores[xy + 256] = score;
+            scores[xy + 384] = score;
+            scores[xy + 512] = score;
+            scores[xy + 129] = score;
+            scores[xy + 257] = score;
+            scores[xy + 385] = score;
+            scores[xy + 513] = score;
+            scores[xy + 258] = score;
+            scores[xy + 386] = score;
+            scores[xy + 514] = score;
+            scores[xy + 387] = score;
                         return;
                         
             case NORTHEAST:
             scores[xy ] = score;
-            scores[xy + 68] = score;
-            scores[xy + 136] = score;
-            scores[xy + 204] = score;
-            scores[xy + 272] = score;
+            scores[xy + 128] = score;
+            scores[xy + 256] = score;
+            scores[xy + 384] = score;
+            scores[xy + 512] = score;
             scores[xy + 1] = score;
-            scores[xy + 69] = score;
-            scores[xy + 137] = score;
-            scores[xy + 205] = score;
-            scores[xy + 273] = score;
+            scores[xy + 129] = score;
+            scores[xy + 257] = score;
+            scores[xy + 385] = score;
+            scores[xy + 513] = score;
             scores[xy + 2] = score;
-            scores[xy + 70] = score;
-            scores[xy + 138] = score;
-            scores[xy + 206] = score;
-            scores[xy + 274] = score;
+            scores[xy + 130] = score;
+            scores[xy + 258] = score;
+            scores[xy + 386] = score;
+            scores[xy + 514] = score;
             scores[xy + 3] = score;
-            scores[xy + 71] = score;
-            scores[xy + 139] = score;
-            scores[xy + 207] = score;
+            scores[xy + 131] = score;
+            scores[xy + 259] = score;
+            scores[xy + 387] = score;
             scores[xy + 4] = score;
-            scores[xy + 72] = score;
-            scores[xy + 140] = score;
+            scores[xy + 132] = score;
+            scores[xy + 260] = score;
                         return;
                         
             case EAST:
             scores[xy ] = score;
-            scores[xy - 67] = score;
+            scores[xy - 127] = score;
             scores[xy + 1] = score;
-            scores[xy + 69] = score;
-            scores[xy - 134] = score;
-            scores[xy - 66] = score;
+            scores[xy + 129] = score;
+            scores[xy - 254] = score;
+            scores[xy - 126] = score;
             scores[xy + 2] = score;
-            scores[xy + 70] = score;
-            scores[xy + 138] = score;
-            scores[xy - 201] = score;
-            scores[xy - 133] = score;
-            scores[xy - 65] = score;
+            scores[xy + 130] = score;
+            scores[xy + 258] = score;
+            scores[xy - 381] = score;
+            scores[xy - 253] = score;
+            scores[xy - 125] = score;
             scores[xy + 3] = score;
-            scores[xy + 71] = score;
-            scores[xy + 139] = score;
-            scores[xy + 207] = score;
-            scores[xy - 132] = score;
-            scores[xy - 64] = score;
+            scores[xy + 131] = score;
+            scores[xy + 259] = score;
+            scores[xy + 387] = score;
+            scores[xy - 252] = score;
+            scores[xy - 124] = score;
             scores[xy + 4] = score;
-            scores[xy + 72] = score;
-            scores[xy + 140] = score;
+            scores[xy + 132] = score;
+            scores[xy + 260] = score;
                         return;
                         
             case SOUTHEAST:
-            scores[xy - 272] = score;
-            scores[xy - 204] = score;
-            scores[xy - 136] = score;
-            scores[xy - 68] = score;
+            scores[xy - 512] = score;
+            scores[xy - 384] = score;
+            scores[xy - 256] = score;
+            scores[xy - 128] = score;
             scores[xy ] = score;
-            scores[xy - 271] = score;
-            scores[xy - 203] = score;
-            scores[xy - 135] = score;
-            scores[xy - 67] = score;
+            scores[xy - 511] = score;
+            scores[xy - 383] = score;
+            scores[xy - 255] = score;
+            scores[xy - 127] = score;
             scores[xy + 1] = score;
-            scores[xy - 270] = score;
-            scores[xy - 202] = score;
-            scores[xy - 134] = score;
-            scores[xy - 66] = score;
+            scores[xy - 510] = score;
+            scores[xy - 382] = score;
+            scores[xy - 254] = score;
+            scores[xy - 126] = score;
             scores[xy + 2] = score;
-            scores[xy - 201] = score;
-            scores[xy - 133] = score;
-            scores[xy - 65] = score;
+            scores[xy - 381] = score;
+            scores[xy - 253] = score;
+            scores[xy - 125] = score;
             scores[xy + 3] = score;
-            scores[xy - 132] = score;
-            scores[xy - 64] = score;
+            scores[xy - 252] = score;
+            scores[xy - 124] = score;
             scores[xy + 4] = score;
                         return;
                         
             case SOUTH:
-            scores[xy - 207] = score;
-            scores[xy - 274] = score;
-            scores[xy - 206] = score;
-            scores[xy - 138] = score;
-            scores[xy - 273] = score;
-            scores[xy - 205] = score;
-            scores[xy - 137] = score;
-            scores[xy - 69] = score;
-            scores[xy - 272] = score;
-            scores[xy - 204] = score;
-            scores[xy - 136] = score;
-            scores[xy - 68] = score;
+            scores[xy - 387] = score;
+            scores[xy - 514] = score;
+            scores[xy - 386] = score;
+            scores[xy - 258] = score;
+            scores[xy - 513] = score;
+            scores[xy - 385] = score;
+            scores[xy - 257] = score;
+            scores[xy - 129] = score;
+            scores[xy - 512] = score;
+            scores[xy - 384] = score;
+            scores[xy - 256] = score;
+            scores[xy - 128] = score;
             scores[xy ] = score;
-            scores[xy - 271] = score;
-            scores[xy - 203] = score;
-            scores[xy - 135] = score;
-            scores[xy - 67] = score;
-            scores[xy - 270] = score;
-            scores[xy - 202] = score;
-            scores[xy - 134] = score;
-            scores[xy - 201] = score;
+            scores[xy - 511] = score;
+            scores[xy - 383] = score;
+            scores[xy - 255] = score;
+            scores[xy - 127] = score;
+            scores[xy - 510] = score;
+            scores[xy - 382] = score;
+            scores[xy - 254] = score;
+            scores[xy - 381] = score;
                         return;
                         
             case SOUTHWEST:
-            scores[xy - 140] = score;
-            scores[xy - 72] = score;
+            scores[xy - 260] = score;
+            scores[xy - 132] = score;
             scores[xy - 4] = score;
-            scores[xy - 207] = score;
-            scores[xy - 139] = score;
-            scores[xy - 71] = score;
+            scores[xy - 387] = score;
+            scores[xy - 259] = score;
+            scores[xy - 131] = score;
             scores[xy - 3] = score;
-            scores[xy - 274] = score;
-            scores[xy - 206] = score;
-            scores[xy - 138] = score;
-            scores[xy - 70] = score;
+            scores[xy - 514] = score;
+            scores[xy - 386] = score;
+            scores[xy - 258] = score;
+            scores[xy - 130] = score;
             scores[xy - 2] = score;
-            scores[xy - 273] = score;
-            scores[xy - 205] = score;
-            scores[xy - 137] = score;
-            scores[xy - 69] = score;
+            scores[xy - 513] = score;
+            scores[xy - 385] = score;
+            scores[xy - 257] = score;
+            scores[xy - 129] = score;
             scores[xy - 1] = score;
-            scores[xy - 272] = score;
-            scores[xy - 204] = score;
-            scores[xy - 136] = score;
-            scores[xy - 68] = score;
+            scores[xy - 512] = score;
+            scores[xy - 384] = score;
+            scores[xy - 256] = score;
+            scores[xy - 128] = score;
             scores[xy ] = score;
                         return;
                         
             case WEST:
-            scores[xy - 140] = score;
-            scores[xy - 72] = score;
+            scores[xy - 260] = score;
+            scores[xy - 132] = score;
             scores[xy - 4] = score;
-            scores[xy + 64] = score;
-            scores[xy + 132] = score;
-            scores[xy - 207] = score;
-            scores[xy - 139] = score;
-            scores[xy - 71] = score;
+            scores[xy + 124] = score;
+            scores[xy + 252] = score;
+            scores[xy - 387] = score;
+            scores[xy - 259] = score;
+            scores[xy - 131] = score;
             scores[xy - 3] = score;
-            scores[xy + 65] = score;
-            scores[xy + 133] = score;
-            scores[xy + 201] = score;
-            scores[xy - 138] = score;
-            scores[xy - 70] = score;
+            scores[xy + 125] = score;
+            scores[xy + 253] = score;
+            scores[xy + 381] = score;
+            scores[xy - 258] = score;
+            scores[xy - 130] = score;
             scores[xy - 2] = score;
-            scores[xy + 66] = score;
-            scores[xy + 134] = score;
-            scores[xy - 69] = score;
+            scores[xy + 126] = score;
+            scores[xy + 254] = score;
+            scores[xy - 129] = score;
             scores[xy - 1] = score;
-            scores[xy + 67] = score;
+            scores[xy + 127] = score;
             scores[xy ] = score;
                         return;
                         
             case NORTHWEST:
             scores[xy - 4] = score;
-            scores[xy + 64] = score;
-            scores[xy + 132] = score;
+            scores[xy + 124] = score;
+            scores[xy + 252] = score;
             scores[xy - 3] = score;
-            scores[xy + 65] = score;
-            scores[xy + 133] = score;
-            scores[xy + 201] = score;
+            scores[xy + 125] = score;
+            scores[xy + 253] = score;
+            scores[xy + 381] = score;
             scores[xy - 2] = score;
-            scores[xy + 66] = score;
-            scores[xy + 134] = score;
-            scores[xy + 202] = score;
-            scores[xy + 270] = score;
+            scores[xy + 126] = score;
+            scores[xy + 254] = score;
+            scores[xy + 382] = score;
+            scores[xy + 510] = score;
             scores[xy - 1] = score;
-            scores[xy + 67] = score;
-            scores[xy + 135] = score;
-            scores[xy + 203] = score;
-            scores[xy + 271] = score;
+            scores[xy + 127] = score;
+            scores[xy + 255] = score;
+            scores[xy + 383] = score;
+            scores[xy + 511] = score;
             scores[xy ] = score;
-            scores[xy + 68] = score;
-            scores[xy + 136] = score;
-            scores[xy + 204] = score;
-            scores[xy + 272] = score;
+            scores[xy + 128] = score;
+            scores[xy + 256] = score;
+            scores[xy + 384] = score;
+            scores[xy + 512] = score;
                         return;
             
             case CENTER:
@@ -784,203 +788,203 @@ public class VisionUtils {
     public static void divideScoreBy2InRatVision(MapLocation from, Direction dir){
         int x = from.x;
         int y = from.y;
-        int xy = x + y*68 + 552;
+        int xy = x + (y<<7) + 1032;
         switch(dir){
                         
             case NORTH:
-                            scores[xy + 201] /= 2;
-                            scores[xy + 134] /= 2;
-                            scores[xy + 202] /= 2;
-                            scores[xy + 270] /= 2;
-                            scores[xy + 67] /= 2;
-                            scores[xy + 135] /= 2;
-                            scores[xy + 203] /= 2;
-                            scores[xy + 271] /= 2;
+                            scores[xy + 381] /= 2;
+                            scores[xy + 254] /= 2;
+                            scores[xy + 382] /= 2;
+                            scores[xy + 510] /= 2;
+                            scores[xy + 127] /= 2;
+                            scores[xy + 255] /= 2;
+                            scores[xy + 383] /= 2;
+                            scores[xy + 511] /= 2;
                             scores[xy ] /= 2;
-                            scores[xy + 68] /= 2;
-                            scores[xy + 136] /= 2;
-                            scores[xy + 204] /= 2;
-                            scores[xy + 272] /= 2;
-                            scores[xy + 69] /= 2;
-                            scores[xy + 137] /= 2;
-                            scores[xy + 205] /= 2;
-                            scores[xy + 273] /= 2;
-                            scores[xy + 138] /= 2;
-                            scores[xy + 206] /= 2;
-                            scores[xy + 274] /= 2;
-                            scores[xy + 207] /= 2;
+                            scores[xy + 128] /= 2;
+                            scores[xy + 256] /= 2;
+                            scores[xy + 384] /= 2;
+                            scores[xy + 512] /= 2;
+                            scores[xy + 129] /= 2;
+                            scores[xy + 257] /= 2;
+                            scores[xy + 385] /= 2;
+                            scores[xy + 513] /= 2;
+                            scores[xy + 258] /= 2;
+                            scores[xy + 386] /= 2;
+                            scores[xy + 514] /= 2;
+                            scores[xy + 387] /= 2;
                         return;
                         
             case NORTHEAST:
                             scores[xy ] /= 2;
-                            scores[xy + 68] /= 2;
-                            scores[xy + 136] /= 2;
-                            scores[xy + 204] /= 2;
-                            scores[xy + 272] /= 2;
+                            scores[xy + 128] /= 2;
+                            scores[xy + 256] /= 2;
+                            scores[xy + 384] /= 2;
+                            scores[xy + 512] /= 2;
                             scores[xy + 1] /= 2;
-                            scores[xy + 69] /= 2;
-                            scores[xy + 137] /= 2;
-                            scores[xy + 205] /= 2;
-                            scores[xy + 273] /= 2;
+                            scores[xy + 129] /= 2;
+                            scores[xy + 257] /= 2;
+                            scores[xy + 385] /= 2;
+                            scores[xy + 513] /= 2;
                             scores[xy + 2] /= 2;
-                            scores[xy + 70] /= 2;
-                            scores[xy + 138] /= 2;
-                            scores[xy + 206] /= 2;
-                            scores[xy + 274] /= 2;
+                            scores[xy + 130] /= 2;
+                            scores[xy + 258] /= 2;
+                            scores[xy + 386] /= 2;
+                            scores[xy + 514] /= 2;
                             scores[xy + 3] /= 2;
-                            scores[xy + 71] /= 2;
-                            scores[xy + 139] /= 2;
-                            scores[xy + 207] /= 2;
+                            scores[xy + 131] /= 2;
+                            scores[xy + 259] /= 2;
+                            scores[xy + 387] /= 2;
                             scores[xy + 4] /= 2;
-                            scores[xy + 72] /= 2;
-                            scores[xy + 140] /= 2;
+                            scores[xy + 132] /= 2;
+                            scores[xy + 260] /= 2;
                         return;
                         
             case EAST:
                             scores[xy ] /= 2;
-                            scores[xy - 67] /= 2;
+                            scores[xy - 127] /= 2;
                             scores[xy + 1] /= 2;
-                            scores[xy + 69] /= 2;
-                            scores[xy - 134] /= 2;
-                            scores[xy - 66] /= 2;
+                            scores[xy + 129] /= 2;
+                            scores[xy - 254] /= 2;
+                            scores[xy - 126] /= 2;
                             scores[xy + 2] /= 2;
-                            scores[xy + 70] /= 2;
-                            scores[xy + 138] /= 2;
-                            scores[xy - 201] /= 2;
-                            scores[xy - 133] /= 2;
-                            scores[xy - 65] /= 2;
+                            scores[xy + 130] /= 2;
+                            scores[xy + 258] /= 2;
+                            scores[xy - 381] /= 2;
+                            scores[xy - 253] /= 2;
+                            scores[xy - 125] /= 2;
                             scores[xy + 3] /= 2;
-                            scores[xy + 71] /= 2;
-                            scores[xy + 139] /= 2;
-                            scores[xy + 207] /= 2;
-                            scores[xy - 132] /= 2;
-                            scores[xy - 64] /= 2;
+                            scores[xy + 131] /= 2;
+                            scores[xy + 259] /= 2;
+                            scores[xy + 387] /= 2;
+                            scores[xy - 252] /= 2;
+                            scores[xy - 124] /= 2;
                             scores[xy + 4] /= 2;
-                            scores[xy + 72] /= 2;
-                            scores[xy + 140] /= 2;
+                            scores[xy + 132] /= 2;
+                            scores[xy + 260] /= 2;
                         return;
                         
             case SOUTHEAST:
-                            scores[xy - 272] /= 2;
-                            scores[xy - 204] /= 2;
-                            scores[xy - 136] /= 2;
-                            scores[xy - 68] /= 2;
+                            scores[xy - 512] /= 2;
+                            scores[xy - 384] /= 2;
+                            scores[xy - 256] /= 2;
+                            scores[xy - 128] /= 2;
                             scores[xy ] /= 2;
-                            scores[xy - 271] /= 2;
-                            scores[xy - 203] /= 2;
-                            scores[xy - 135] /= 2;
-                            scores[xy - 67] /= 2;
+                            scores[xy - 511] /= 2;
+                            scores[xy - 383] /= 2;
+                            scores[xy - 255] /= 2;
+                            scores[xy - 127] /= 2;
                             scores[xy + 1] /= 2;
-                            scores[xy - 270] /= 2;
-                            scores[xy - 202] /= 2;
-                            scores[xy - 134] /= 2;
-                            scores[xy - 66] /= 2;
+                            scores[xy - 510] /= 2;
+                            scores[xy - 382] /= 2;
+                            scores[xy - 254] /= 2;
+                            scores[xy - 126] /= 2;
                             scores[xy + 2] /= 2;
-                            scores[xy - 201] /= 2;
-                            scores[xy - 133] /= 2;
-                            scores[xy - 65] /= 2;
+                            scores[xy - 381] /= 2;
+                            scores[xy - 253] /= 2;
+                            scores[xy - 125] /= 2;
                             scores[xy + 3] /= 2;
-                            scores[xy - 132] /= 2;
-                            scores[xy - 64] /= 2;
+                            scores[xy - 252] /= 2;
+                            scores[xy - 124] /= 2;
                             scores[xy + 4] /= 2;
                         return;
                         
             case SOUTH:
-                            scores[xy - 207] /= 2;
-                            scores[xy - 274] /= 2;
-                            scores[xy - 206] /= 2;
-                            scores[xy - 138] /= 2;
-                            scores[xy - 273] /= 2;
-                            scores[xy - 205] /= 2;
-                            scores[xy - 137] /= 2;
-                            scores[xy - 69] /= 2;
-                            scores[xy - 272] /= 2;
-                            scores[xy - 204] /= 2;
-                            scores[xy - 136] /= 2;
-                            scores[xy - 68] /= 2;
+                            scores[xy - 387] /= 2;
+                            scores[xy - 514] /= 2;
+                            scores[xy - 386] /= 2;
+                            scores[xy - 258] /= 2;
+                            scores[xy - 513] /= 2;
+                            scores[xy - 385] /= 2;
+                            scores[xy - 257] /= 2;
+                            scores[xy - 129] /= 2;
+                            scores[xy - 512] /= 2;
+                            scores[xy - 384] /= 2;
+                            scores[xy - 256] /= 2;
+                            scores[xy - 128] /= 2;
                             scores[xy ] /= 2;
-                            scores[xy - 271] /= 2;
-                            scores[xy - 203] /= 2;
-                            scores[xy - 135] /= 2;
-                            scores[xy - 67] /= 2;
-                            scores[xy - 270] /= 2;
-                            scores[xy - 202] /= 2;
-                            scores[xy - 134] /= 2;
-                            scores[xy - 201] /= 2;
+                            scores[xy - 511] /= 2;
+                            scores[xy - 383] /= 2;
+                            scores[xy - 255] /= 2;
+                            scores[xy - 127] /= 2;
+                            scores[xy - 510] /= 2;
+                            scores[xy - 382] /= 2;
+                            scores[xy - 254] /= 2;
+                            scores[xy - 381] /= 2;
                         return;
                         
             case SOUTHWEST:
-                            scores[xy - 140] /= 2;
-                            scores[xy - 72] /= 2;
+                            scores[xy - 260] /= 2;
+                            scores[xy - 132] /= 2;
                             scores[xy - 4] /= 2;
-                            scores[xy - 207] /= 2;
-                            scores[xy - 139] /= 2;
-                            scores[xy - 71] /= 2;
+                            scores[xy - 387] /= 2;
+                            scores[xy - 259] /= 2;
+                            scores[xy - 131] /= 2;
                             scores[xy - 3] /= 2;
-                            scores[xy - 274] /= 2;
-                            scores[xy - 206] /= 2;
-                            scores[xy - 138] /= 2;
-                            scores[xy - 70] /= 2;
+                            scores[xy - 514] /= 2;
+                            scores[xy - 386] /= 2;
+                            scores[xy - 258] /= 2;
+                            scores[xy - 130] /= 2;
                             scores[xy - 2] /= 2;
-                            scores[xy - 273] /= 2;
-                            scores[xy - 205] /= 2;
-                            scores[xy - 137] /= 2;
-                            scores[xy - 69] /= 2;
+                            scores[xy - 513] /= 2;
+                            scores[xy - 385] /= 2;
+                            scores[xy - 257] /= 2;
+                            scores[xy - 129] /= 2;
                             scores[xy - 1] /= 2;
-                            scores[xy - 272] /= 2;
-                            scores[xy - 204] /= 2;
-                            scores[xy - 136] /= 2;
-                            scores[xy - 68] /= 2;
+                            scores[xy - 512] /= 2;
+                            scores[xy - 384] /= 2;
+                            scores[xy - 256] /= 2;
+                            scores[xy - 128] /= 2;
                             scores[xy ] /= 2;
                         return;
                         
             case WEST:
-                            scores[xy - 140] /= 2;
-                            scores[xy - 72] /= 2;
+                            scores[xy - 260] /= 2;
+                            scores[xy - 132] /= 2;
                             scores[xy - 4] /= 2;
-                            scores[xy + 64] /= 2;
-                            scores[xy + 132] /= 2;
-                            scores[xy - 207] /= 2;
-                            scores[xy - 139] /= 2;
-                            scores[xy - 71] /= 2;
+                            scores[xy + 124] /= 2;
+                            scores[xy + 252] /= 2;
+                            scores[xy - 387] /= 2;
+                            scores[xy - 259] /= 2;
+                            scores[xy - 131] /= 2;
                             scores[xy - 3] /= 2;
-                            scores[xy + 65] /= 2;
-                            scores[xy + 133] /= 2;
-                            scores[xy + 201] /= 2;
-                            scores[xy - 138] /= 2;
-                            scores[xy - 70] /= 2;
+                            scores[xy + 125] /= 2;
+                            scores[xy + 253] /= 2;
+                            scores[xy + 381] /= 2;
+                            scores[xy - 258] /= 2;
+                            scores[xy - 130] /= 2;
                             scores[xy - 2] /= 2;
-                            scores[xy + 66] /= 2;
-                            scores[xy + 134] /= 2;
-                            scores[xy - 69] /= 2;
+                            scores[xy + 126] /= 2;
+                            scores[xy + 254] /= 2;
+                            scores[xy - 129] /= 2;
                             scores[xy - 1] /= 2;
-                            scores[xy + 67] /= 2;
+                            scores[xy + 127] /= 2;
                             scores[xy ] /= 2;
                         return;
                         
             case NORTHWEST:
                             scores[xy - 4] /= 2;
-                            scores[xy + 64] /= 2;
-                            scores[xy + 132] /= 2;
+                            scores[xy + 124] /= 2;
+                            scores[xy + 252] /= 2;
                             scores[xy - 3] /= 2;
-                            scores[xy + 65] /= 2;
-                            scores[xy + 133] /= 2;
-                            scores[xy + 201] /= 2;
+                            scores[xy + 125] /= 2;
+                            scores[xy + 253] /= 2;
+                            scores[xy + 381] /= 2;
                             scores[xy - 2] /= 2;
-                            scores[xy + 66] /= 2;
-                            scores[xy + 134] /= 2;
-                            scores[xy + 202] /= 2;
-                            scores[xy + 270] /= 2;
+                            scores[xy + 126] /= 2;
+                            scores[xy + 254] /= 2;
+                            scores[xy + 382] /= 2;
+                            scores[xy + 510] /= 2;
                             scores[xy - 1] /= 2;
-                            scores[xy + 67] /= 2;
-                            scores[xy + 135] /= 2;
-                            scores[xy + 203] /= 2;
-                            scores[xy + 271] /= 2;
+                            scores[xy + 127] /= 2;
+                            scores[xy + 255] /= 2;
+                            scores[xy + 383] /= 2;
+                            scores[xy + 511] /= 2;
                             scores[xy ] /= 2;
-                            scores[xy + 68] /= 2;
-                            scores[xy + 136] /= 2;
-                            scores[xy + 204] /= 2;
-                            scores[xy + 272] /= 2;
+                            scores[xy + 128] /= 2;
+                            scores[xy + 256] /= 2;
+                            scores[xy + 384] /= 2;
+                            scores[xy + 512] /= 2;
                         return;
                         case CENTER:
                 System.out.println("ERR: can't divideScoreBy2InRatVision for CENTER");
@@ -991,203 +995,203 @@ public class VisionUtils {
     public static void multiplyScoreBy2InRatVision(MapLocation from, Direction dir){
         int x = from.x;
         int y = from.y;
-        int xy = x + y*68 + 552;
+        int xy = x + (y<<7) + 1032;
         switch(dir){
                         
             case NORTH:
-                            scores[xy + 201] *= 2;
-                            scores[xy + 134] *= 2;
-                            scores[xy + 202] *= 2;
-                            scores[xy + 270] *= 2;
-                            scores[xy + 67] *= 2;
-                            scores[xy + 135] *= 2;
-                            scores[xy + 203] *= 2;
-                            scores[xy + 271] *= 2;
+                            scores[xy + 381] *= 2;
+                            scores[xy + 254] *= 2;
+                            scores[xy + 382] *= 2;
+                            scores[xy + 510] *= 2;
+                            scores[xy + 127] *= 2;
+                            scores[xy + 255] *= 2;
+                            scores[xy + 383] *= 2;
+                            scores[xy + 511] *= 2;
                             scores[xy ] *= 2;
-                            scores[xy + 68] *= 2;
-                            scores[xy + 136] *= 2;
-                            scores[xy + 204] *= 2;
-                            scores[xy + 272] *= 2;
-                            scores[xy + 69] *= 2;
-                            scores[xy + 137] *= 2;
-                            scores[xy + 205] *= 2;
-                            scores[xy + 273] *= 2;
-                            scores[xy + 138] *= 2;
-                            scores[xy + 206] *= 2;
-                            scores[xy + 274] *= 2;
-                            scores[xy + 207] *= 2;
+                            scores[xy + 128] *= 2;
+                            scores[xy + 256] *= 2;
+                            scores[xy + 384] *= 2;
+                            scores[xy + 512] *= 2;
+                            scores[xy + 129] *= 2;
+                            scores[xy + 257] *= 2;
+                            scores[xy + 385] *= 2;
+                            scores[xy + 513] *= 2;
+                            scores[xy + 258] *= 2;
+                            scores[xy + 386] *= 2;
+                            scores[xy + 514] *= 2;
+                            scores[xy + 387] *= 2;
                         return;
                         
             case NORTHEAST:
                             scores[xy ] *= 2;
-                            scores[xy + 68] *= 2;
-                            scores[xy + 136] *= 2;
-                            scores[xy + 204] *= 2;
-                            scores[xy + 272] *= 2;
+                            scores[xy + 128] *= 2;
+                            scores[xy + 256] *= 2;
+                            scores[xy + 384] *= 2;
+                            scores[xy + 512] *= 2;
                             scores[xy + 1] *= 2;
-                            scores[xy + 69] *= 2;
-                            scores[xy + 137] *= 2;
-                            scores[xy + 205] *= 2;
-                            scores[xy + 273] *= 2;
+                            scores[xy + 129] *= 2;
+                            scores[xy + 257] *= 2;
+                            scores[xy + 385] *= 2;
+                            scores[xy + 513] *= 2;
                             scores[xy + 2] *= 2;
-                            scores[xy + 70] *= 2;
-                            scores[xy + 138] *= 2;
-                            scores[xy + 206] *= 2;
-                            scores[xy + 274] *= 2;
+                            scores[xy + 130] *= 2;
+                            scores[xy + 258] *= 2;
+                            scores[xy + 386] *= 2;
+                            scores[xy + 514] *= 2;
                             scores[xy + 3] *= 2;
-                            scores[xy + 71] *= 2;
-                            scores[xy + 139] *= 2;
-                            scores[xy + 207] *= 2;
+                            scores[xy + 131] *= 2;
+                            scores[xy + 259] *= 2;
+                            scores[xy + 387] *= 2;
                             scores[xy + 4] *= 2;
-                            scores[xy + 72] *= 2;
-                            scores[xy + 140] *= 2;
+                            scores[xy + 132] *= 2;
+                            scores[xy + 260] *= 2;
                         return;
                         
             case EAST:
                             scores[xy ] *= 2;
-                            scores[xy - 67] *= 2;
+                            scores[xy - 127] *= 2;
                             scores[xy + 1] *= 2;
-                            scores[xy + 69] *= 2;
-                            scores[xy - 134] *= 2;
-                            scores[xy - 66] *= 2;
+                            scores[xy + 129] *= 2;
+                            scores[xy - 254] *= 2;
+                            scores[xy - 126] *= 2;
                             scores[xy + 2] *= 2;
-                            scores[xy + 70] *= 2;
-                            scores[xy + 138] *= 2;
-                            scores[xy - 201] *= 2;
-                            scores[xy - 133] *= 2;
-                            scores[xy - 65] *= 2;
+                            scores[xy + 130] *= 2;
+                            scores[xy + 258] *= 2;
+                            scores[xy - 381] *= 2;
+                            scores[xy - 253] *= 2;
+                            scores[xy - 125] *= 2;
                             scores[xy + 3] *= 2;
-                            scores[xy + 71] *= 2;
-                            scores[xy + 139] *= 2;
-                            scores[xy + 207] *= 2;
-                            scores[xy - 132] *= 2;
-                            scores[xy - 64] *= 2;
+                            scores[xy + 131] *= 2;
+                            scores[xy + 259] *= 2;
+                            scores[xy + 387] *= 2;
+                            scores[xy - 252] *= 2;
+                            scores[xy - 124] *= 2;
                             scores[xy + 4] *= 2;
-                            scores[xy + 72] *= 2;
-                            scores[xy + 140] *= 2;
+                            scores[xy + 132] *= 2;
+                            scores[xy + 260] *= 2;
                         return;
                         
             case SOUTHEAST:
-                            scores[xy - 272] *= 2;
-                            scores[xy - 204] *= 2;
-                            scores[xy - 136] *= 2;
-                            scores[xy - 68] *= 2;
+                            scores[xy - 512] *= 2;
+                            scores[xy - 384] *= 2;
+                            scores[xy - 256] *= 2;
+                            scores[xy - 128] *= 2;
                             scores[xy ] *= 2;
-                            scores[xy - 271] *= 2;
-                            scores[xy - 203] *= 2;
-                            scores[xy - 135] *= 2;
-                            scores[xy - 67] *= 2;
+                            scores[xy - 511] *= 2;
+                            scores[xy - 383] *= 2;
+                            scores[xy - 255] *= 2;
+                            scores[xy - 127] *= 2;
                             scores[xy + 1] *= 2;
-                            scores[xy - 270] *= 2;
-                            scores[xy - 202] *= 2;
-                            scores[xy - 134] *= 2;
-                            scores[xy - 66] *= 2;
+                            scores[xy - 510] *= 2;
+                            scores[xy - 382] *= 2;
+                            scores[xy - 254] *= 2;
+                            scores[xy - 126] *= 2;
                             scores[xy + 2] *= 2;
-                            scores[xy - 201] *= 2;
-                            scores[xy - 133] *= 2;
-                            scores[xy - 65] *= 2;
+                            scores[xy - 381] *= 2;
+                            scores[xy - 253] *= 2;
+                            scores[xy - 125] *= 2;
                             scores[xy + 3] *= 2;
-                            scores[xy - 132] *= 2;
-                            scores[xy - 64] *= 2;
+                            scores[xy - 252] *= 2;
+                            scores[xy - 124] *= 2;
                             scores[xy + 4] *= 2;
                         return;
                         
             case SOUTH:
-                            scores[xy - 207] *= 2;
-                            scores[xy - 274] *= 2;
-                            scores[xy - 206] *= 2;
-                            scores[xy - 138] *= 2;
-                            scores[xy - 273] *= 2;
-                            scores[xy - 205] *= 2;
-                            scores[xy - 137] *= 2;
-                            scores[xy - 69] *= 2;
-                            scores[xy - 272] *= 2;
-                            scores[xy - 204] *= 2;
-                            scores[xy - 136] *= 2;
-                            scores[xy - 68] *= 2;
+                            scores[xy - 387] *= 2;
+                            scores[xy - 514] *= 2;
+                            scores[xy - 386] *= 2;
+                            scores[xy - 258] *= 2;
+                            scores[xy - 513] *= 2;
+                            scores[xy - 385] *= 2;
+                            scores[xy - 257] *= 2;
+                            scores[xy - 129] *= 2;
+                            scores[xy - 512] *= 2;
+                            scores[xy - 384] *= 2;
+                            scores[xy - 256] *= 2;
+                            scores[xy - 128] *= 2;
                             scores[xy ] *= 2;
-                            scores[xy - 271] *= 2;
-                            scores[xy - 203] *= 2;
-                            scores[xy - 135] *= 2;
-                            scores[xy - 67] *= 2;
-                            scores[xy - 270] *= 2;
-                            scores[xy - 202] *= 2;
-                            scores[xy - 134] *= 2;
-                            scores[xy - 201] *= 2;
+                            scores[xy - 511] *= 2;
+                            scores[xy - 383] *= 2;
+                            scores[xy - 255] *= 2;
+                            scores[xy - 127] *= 2;
+                            scores[xy - 510] *= 2;
+                            scores[xy - 382] *= 2;
+                            scores[xy - 254] *= 2;
+                            scores[xy - 381] *= 2;
                         return;
                         
             case SOUTHWEST:
-                            scores[xy - 140] *= 2;
-                            scores[xy - 72] *= 2;
+                            scores[xy - 260] *= 2;
+                            scores[xy - 132] *= 2;
                             scores[xy - 4] *= 2;
-                            scores[xy - 207] *= 2;
-                            scores[xy - 139] *= 2;
-                            scores[xy - 71] *= 2;
+                            scores[xy - 387] *= 2;
+                            scores[xy - 259] *= 2;
+                            scores[xy - 131] *= 2;
                             scores[xy - 3] *= 2;
-                            scores[xy - 274] *= 2;
-                            scores[xy - 206] *= 2;
-                            scores[xy - 138] *= 2;
-                            scores[xy - 70] *= 2;
+                            scores[xy - 514] *= 2;
+                            scores[xy - 386] *= 2;
+                            scores[xy - 258] *= 2;
+                            scores[xy - 130] *= 2;
                             scores[xy - 2] *= 2;
-                            scores[xy - 273] *= 2;
-                            scores[xy - 205] *= 2;
-                            scores[xy - 137] *= 2;
-                            scores[xy - 69] *= 2;
+                            scores[xy - 513] *= 2;
+                            scores[xy - 385] *= 2;
+                            scores[xy - 257] *= 2;
+                            scores[xy - 129] *= 2;
                             scores[xy - 1] *= 2;
-                            scores[xy - 272] *= 2;
-                            scores[xy - 204] *= 2;
-                            scores[xy - 136] *= 2;
-                            scores[xy - 68] *= 2;
+                            scores[xy - 512] *= 2;
+                            scores[xy - 384] *= 2;
+                            scores[xy - 256] *= 2;
+                            scores[xy - 128] *= 2;
                             scores[xy ] *= 2;
                         return;
                         
             case WEST:
-                            scores[xy - 140] *= 2;
-                            scores[xy - 72] *= 2;
+                            scores[xy - 260] *= 2;
+                            scores[xy - 132] *= 2;
                             scores[xy - 4] *= 2;
-                            scores[xy + 64] *= 2;
-                            scores[xy + 132] *= 2;
-                            scores[xy - 207] *= 2;
-                            scores[xy - 139] *= 2;
-                            scores[xy - 71] *= 2;
+                            scores[xy + 124] *= 2;
+                            scores[xy + 252] *= 2;
+                            scores[xy - 387] *= 2;
+                            scores[xy - 259] *= 2;
+                            scores[xy - 131] *= 2;
                             scores[xy - 3] *= 2;
-                            scores[xy + 65] *= 2;
-                            scores[xy + 133] *= 2;
-                            scores[xy + 201] *= 2;
-                            scores[xy - 138] *= 2;
-                            scores[xy - 70] *= 2;
+                            scores[xy + 125] *= 2;
+                            scores[xy + 253] *= 2;
+                            scores[xy + 381] *= 2;
+                            scores[xy - 258] *= 2;
+                            scores[xy - 130] *= 2;
                             scores[xy - 2] *= 2;
-                            scores[xy + 66] *= 2;
-                            scores[xy + 134] *= 2;
-                            scores[xy - 69] *= 2;
+                            scores[xy + 126] *= 2;
+                            scores[xy + 254] *= 2;
+                            scores[xy - 129] *= 2;
                             scores[xy - 1] *= 2;
-                            scores[xy + 67] *= 2;
+                            scores[xy + 127] *= 2;
                             scores[xy ] *= 2;
                         return;
                         
             case NORTHWEST:
                             scores[xy - 4] *= 2;
-                            scores[xy + 64] *= 2;
-                            scores[xy + 132] *= 2;
+                            scores[xy + 124] *= 2;
+                            scores[xy + 252] *= 2;
                             scores[xy - 3] *= 2;
-                            scores[xy + 65] *= 2;
-                            scores[xy + 133] *= 2;
-                            scores[xy + 201] *= 2;
+                            scores[xy + 125] *= 2;
+                            scores[xy + 253] *= 2;
+                            scores[xy + 381] *= 2;
                             scores[xy - 2] *= 2;
-                            scores[xy + 66] *= 2;
-                            scores[xy + 134] *= 2;
-                            scores[xy + 202] *= 2;
-                            scores[xy + 270] *= 2;
+                            scores[xy + 126] *= 2;
+                            scores[xy + 254] *= 2;
+                            scores[xy + 382] *= 2;
+                            scores[xy + 510] *= 2;
                             scores[xy - 1] *= 2;
-                            scores[xy + 67] *= 2;
-                            scores[xy + 135] *= 2;
-                            scores[xy + 203] *= 2;
-                            scores[xy + 271] *= 2;
+                            scores[xy + 127] *= 2;
+                            scores[xy + 255] *= 2;
+                            scores[xy + 383] *= 2;
+                            scores[xy + 511] *= 2;
                             scores[xy ] *= 2;
-                            scores[xy + 68] *= 2;
-                            scores[xy + 136] *= 2;
-                            scores[xy + 204] *= 2;
-                            scores[xy + 272] *= 2;
+                            scores[xy + 128] *= 2;
+                            scores[xy + 256] *= 2;
+                            scores[xy + 384] *= 2;
+                            scores[xy + 512] *= 2;
                         return;
                         case CENTER:
                 System.out.println("ERR: can't divideScoreBy2InRatVision for CENTER");
@@ -1308,21 +1312,25 @@ public class VisionUtils {
     }
 
     public static int getScoreInView(MapLocation from, Direction direction, UnitType unit){
-        int[] scores = VisionUtils.scores;
         int x = from.x;
         int y = from.y;
-        int xy = x + y*68 + 552;
+        return getScoreInView(x + (y<<7) + 1032, direction, unit);
+    }
+
+    // Same with xy already in Grid layout, like Grid.myXY
+    public static int getScoreInView(int xy, Direction direction, UnitType unit){
+        int[] scores = VisionUtils.scores;
 
         return switch(unit){            case BABY_RAT -> switch(direction){
 
-                                case NORTH -> (int)( + scores[xy + 201] + scores[xy + 134] + scores[xy + 202] + scores[xy + 270] + scores[xy + 67] + scores[xy + 135] + scores[xy + 203] + scores[xy + 271] + scores[xy ] + scores[xy + 68] + scores[xy + 136] + scores[xy + 204] + scores[xy + 272] + scores[xy + 69] + scores[xy + 137] + scores[xy + 205] + scores[xy + 273] + scores[xy + 138] + scores[xy + 206] + scores[xy + 274] + scores[xy + 207]);
-                                case NORTHEAST -> (int)( + scores[xy ] + scores[xy + 68] + scores[xy + 136] + scores[xy + 204] + scores[xy + 272] + scores[xy + 1] + scores[xy + 69] + scores[xy + 137] + scores[xy + 205] + scores[xy + 273] + scores[xy + 2] + scores[xy + 70] + scores[xy + 138] + scores[xy + 206] + scores[xy + 274] + scores[xy + 3] + scores[xy + 71] + scores[xy + 139] + scores[xy + 207] + scores[xy + 4] + scores[xy + 72] + scores[xy + 140]);
-                                case EAST -> (int)( + scores[xy ] + scores[xy - 67] + scores[xy + 1] + scores[xy + 69] + scores[xy - 134] + scores[xy - 66] + scores[xy + 2] + scores[xy + 70] + scores[xy + 138] + scores[xy - 201] + scores[xy - 133] + scores[xy - 65] + scores[xy + 3] + scores[xy + 71] + scores[xy + 139] + scores[xy + 207] + scores[xy - 132] + scores[xy - 64] + scores[xy + 4] + scores[xy + 72] + scores[xy + 140]);
-                                case SOUTHEAST -> (int)( + scores[xy - 272] + scores[xy - 204] + scores[xy - 136] + scores[xy - 68] + scores[xy ] + scores[xy - 271] + scores[xy - 203] + scores[xy - 135] + scores[xy - 67] + scores[xy + 1] + scores[xy - 270] + scores[xy - 202] + scores[xy - 134] + scores[xy - 66] + scores[xy + 2] + scores[xy - 201] + scores[xy - 133] + scores[xy - 65] + scores[xy + 3] + scores[xy - 132] + scores[xy - 64] + scores[xy + 4]);
-                                case SOUTH -> (int)( + scores[xy - 207] + scores[xy - 274] + scores[xy - 206] + scores[xy - 138] + scores[xy - 273] + scores[xy - 205] + scores[xy - 137] + scores[xy - 69] + scores[xy - 272] + scores[xy - 204] + scores[xy - 136] + scores[xy - 68] + scores[xy ] + scores[xy - 271] + scores[xy - 203] + scores[xy - 135] + scores[xy - 67] + scores[xy - 270] + scores[xy - 202] + scores[xy - 134] + scores[xy - 201]);
-                                case SOUTHWEST -> (int)( + scores[xy - 140] + scores[xy - 72] + scores[xy - 4] + scores[xy - 207] + scores[xy - 139] + scores[xy - 71] + scores[xy - 3] + scores[xy - 274] + scores[xy - 206] + scores[xy - 138] + scores[xy - 70] + scores[xy - 2] + scores[xy - 273] + scores[xy - 205] + scores[xy - 137] + scores[xy - 69] + scores[xy - 1] + scores[xy - 272] + scores[xy - 204] + scores[xy - 136] + scores[xy - 68] + scores[xy ]);
-                                case WEST -> (int)( + scores[xy - 140] + scores[xy - 72] + scores[xy - 4] + scores[xy + 64] + scores[xy + 132] + scores[xy - 207] + scores[xy - 139] + scores[xy - 71] + scores[xy - 3] + scores[xy + 65] + scores[xy + 133] + scores[xy + 201] + scores[xy - 138] + scores[xy - 70] + scores[xy - 2] + scores[xy + 66] + scores[xy + 134] + scores[xy - 69] + scores[xy - 1] + scores[xy + 67] + scores[xy ]);
-                                case NORTHWEST -> (int)( + scores[xy - 4] + scores[xy + 64] + scores[xy + 132] + scores[xy - 3] + scores[xy + 65] + scores[xy + 133] + scores[xy + 201] + scores[xy - 2] + scores[xy + 66] + scores[xy + 134] + scores[xy + 202] + scores[xy + 270] + scores[xy - 1] + scores[xy + 67] + scores[xy + 135] + scores[xy + 203] + scores[xy + 271] + scores[xy ] + scores[xy + 68] + scores[xy + 136] + scores[xy + 204] + scores[xy + 272]);
+                                case NORTH -> (int)( + scores[xy + 381] + scores[xy + 254] + scores[xy + 382] + scores[xy + 510] + scores[xy + 127] + scores[xy + 255] + scores[xy + 383] + scores[xy + 511] + scores[xy ] + scores[xy + 128] + scores[xy + 256] + scores[xy + 384] + scores[xy + 512] + scores[xy + 129] + scores[xy + 257] + scores[xy + 385] + scores[xy + 513] + scores[xy + 258] + scores[xy + 386] + scores[xy + 514] + scores[xy + 387]);
+                                case NORTHEAST -> (int)( + scores[xy ] + scores[xy + 128] + scores[xy + 256] + scores[xy + 384] + scores[xy + 512] + scores[xy + 1] + scores[xy + 129] + scores[xy + 257] + scores[xy + 385] + scores[xy + 513] + scores[xy + 2] + scores[xy + 130] + scores[xy + 258] + scores[xy + 386] + scores[xy + 514] + scores[xy + 3] + scores[xy + 131] + scores[xy + 259] + scores[xy + 387] + scores[xy + 4] + scores[xy + 132] + scores[xy + 260]);
+                                case EAST -> (int)( + scores[xy ] + scores[xy - 127] + scores[xy + 1] + scores[xy + 129] + scores[xy - 254] + scores[xy - 126] + scores[xy + 2] + scores[xy + 130] + scores[xy + 258] + scores[xy - 381] + scores[xy - 253] + scores[xy - 125] + scores[xy + 3] + scores[xy + 131] + scores[xy + 259] + scores[xy + 387] + scores[xy - 252] + scores[xy - 124] + scores[xy + 4] + scores[xy + 132] + scores[xy + 260]);
+                                case SOUTHEAST -> (int)( + scores[xy - 512] + scores[xy - 384] + scores[xy - 256] + scores[xy - 128] + scores[xy ] + scores[xy - 511] + scores[xy - 383] + scores[xy - 255] + scores[xy - 127] + scores[xy + 1] + scores[xy - 510] + scores[xy - 382] + scores[xy - 254] + scores[xy - 126] + scores[xy + 2] + scores[xy - 381] + scores[xy - 253] + scores[xy - 125] + scores[xy + 3] + scores[xy - 252] + scores[xy - 124] + scores[xy + 4]);
+                                case SOUTH -> (int)( + scores[xy - 387] + scores[xy - 514] + scores[xy - 386] + scores[xy - 258] + scores[xy - 513] + scores[xy - 385] + scores[xy - 257] + scores[xy - 129] + scores[xy - 512] + scores[xy - 384] + scores[xy - 256] + scores[xy - 128] + scores[xy ] + scores[xy - 511] + scores[xy - 383] + scores[xy - 255] + scores[xy - 127] + scores[xy - 510] + scores[xy - 382] + scores[xy - 254] + scores[xy - 381]);
+                                case SOUTHWEST -> (int)( + scores[xy - 260] + scores[xy - 132] + scores[xy - 4] + scores[xy - 387] + scores[xy - 259] + scores[xy - 131] + scores[xy - 3] + scores[xy - 514] + scores[xy - 386] + scores[xy - 258] + scores[xy - 130] + scores[xy - 2] + scores[xy - 513] + scores[xy - 385] + scores[xy - 257] + scores[xy - 129] + scores[xy - 1] + scores[xy - 512] + scores[xy - 384] + scores[xy - 256] + scores[xy - 128] + scores[xy ]);
+                                case WEST -> (int)( + scores[xy - 260] + scores[xy - 132] + scores[xy - 4] + scores[xy + 124] + scores[xy + 252] + scores[xy - 387] + scores[xy - 259] + scores[xy - 131] + scores[xy - 3] + scores[xy + 125] + scores[xy + 253] + scores[xy + 381] + scores[xy - 258] + scores[xy - 130] + scores[xy - 2] + scores[xy + 126] + scores[xy + 254] + scores[xy - 129] + scores[xy - 1] + scores[xy + 127] + scores[xy ]);
+                                case NORTHWEST -> (int)( + scores[xy - 4] + scores[xy + 124] + scores[xy + 252] + scores[xy - 3] + scores[xy + 125] + scores[xy + 253] + scores[xy + 381] + scores[xy - 2] + scores[xy + 126] + scores[xy + 254] + scores[xy + 382] + scores[xy + 510] + scores[xy - 1] + scores[xy + 127] + scores[xy + 255] + scores[xy + 383] + scores[xy + 511] + scores[xy ] + scores[xy + 128] + scores[xy + 256] + scores[xy + 384] + scores[xy + 512]);
                 
                 case CENTER -> {
                     System.out.println("ERR: getScoreInViewCan't turn to center");
@@ -1331,14 +1339,14 @@ public class VisionUtils {
             };
                         case RAT_KING -> switch(direction){
 
-                                case NORTH -> (int)( + scores[xy - 5] + scores[xy - 208] + scores[xy - 140] + scores[xy - 72] + scores[xy - 4] + scores[xy + 64] + scores[xy + 132] + scores[xy + 200] + scores[xy - 275] + scores[xy - 207] + scores[xy - 139] + scores[xy - 71] + scores[xy - 3] + scores[xy + 65] + scores[xy + 133] + scores[xy + 201] + scores[xy + 269] + scores[xy - 274] + scores[xy - 206] + scores[xy - 138] + scores[xy - 70] + scores[xy - 2] + scores[xy + 66] + scores[xy + 134] + scores[xy + 202] + scores[xy + 270] + scores[xy - 273] + scores[xy - 205] + scores[xy - 137] + scores[xy - 69] + scores[xy - 1] + scores[xy + 67] + scores[xy + 135] + scores[xy + 203] + scores[xy + 271] + scores[xy - 340] + scores[xy - 272] + scores[xy - 204] + scores[xy - 136] + scores[xy - 68] + scores[xy ] + scores[xy + 68] + scores[xy + 136] + scores[xy + 204] + scores[xy + 272] + scores[xy + 340] + scores[xy - 271] + scores[xy - 203] + scores[xy - 135] + scores[xy - 67] + scores[xy + 1] + scores[xy + 69] + scores[xy + 137] + scores[xy + 205] + scores[xy + 273] + scores[xy - 270] + scores[xy - 202] + scores[xy - 134] + scores[xy - 66] + scores[xy + 2] + scores[xy + 70] + scores[xy + 138] + scores[xy + 206] + scores[xy + 274] + scores[xy - 269] + scores[xy - 201] + scores[xy - 133] + scores[xy - 65] + scores[xy + 3] + scores[xy + 71] + scores[xy + 139] + scores[xy + 207] + scores[xy + 275] + scores[xy - 200] + scores[xy - 132] + scores[xy - 64] + scores[xy + 4] + scores[xy + 72] + scores[xy + 140] + scores[xy + 208] + scores[xy + 5]);
-                                case NORTHEAST -> (int)( + scores[xy - 5] + scores[xy - 208] + scores[xy - 140] + scores[xy - 72] + scores[xy - 4] + scores[xy + 64] + scores[xy + 132] + scores[xy + 200] + scores[xy - 275] + scores[xy - 207] + scores[xy - 139] + scores[xy - 71] + scores[xy - 3] + scores[xy + 65] + scores[xy + 133] + scores[xy + 201] + scores[xy + 269] + scores[xy - 274] + scores[xy - 206] + scores[xy - 138] + scores[xy - 70] + scores[xy - 2] + scores[xy + 66] + scores[xy + 134] + scores[xy + 202] + scores[xy + 270] + scores[xy - 273] + scores[xy - 205] + scores[xy - 137] + scores[xy - 69] + scores[xy - 1] + scores[xy + 67] + scores[xy + 135] + scores[xy + 203] + scores[xy + 271] + scores[xy - 340] + scores[xy - 272] + scores[xy - 204] + scores[xy - 136] + scores[xy - 68] + scores[xy ] + scores[xy + 68] + scores[xy + 136] + scores[xy + 204] + scores[xy + 272] + scores[xy + 340] + scores[xy - 271] + scores[xy - 203] + scores[xy - 135] + scores[xy - 67] + scores[xy + 1] + scores[xy + 69] + scores[xy + 137] + scores[xy + 205] + scores[xy + 273] + scores[xy - 270] + scores[xy - 202] + scores[xy - 134] + scores[xy - 66] + scores[xy + 2] + scores[xy + 70] + scores[xy + 138] + scores[xy + 206] + scores[xy + 274] + scores[xy - 269] + scores[xy - 201] + scores[xy - 133] + scores[xy - 65] + scores[xy + 3] + scores[xy + 71] + scores[xy + 139] + scores[xy + 207] + scores[xy + 275] + scores[xy - 200] + scores[xy - 132] + scores[xy - 64] + scores[xy + 4] + scores[xy + 72] + scores[xy + 140] + scores[xy + 208] + scores[xy + 5]);
-                                case EAST -> (int)( + scores[xy - 5] + scores[xy - 208] + scores[xy - 140] + scores[xy - 72] + scores[xy - 4] + scores[xy + 64] + scores[xy + 132] + scores[xy + 200] + scores[xy - 275] + scores[xy - 207] + scores[xy - 139] + scores[xy - 71] + scores[xy - 3] + scores[xy + 65] + scores[xy + 133] + scores[xy + 201] + scores[xy + 269] + scores[xy - 274] + scores[xy - 206] + scores[xy - 138] + scores[xy - 70] + scores[xy - 2] + scores[xy + 66] + scores[xy + 134] + scores[xy + 202] + scores[xy + 270] + scores[xy - 273] + scores[xy - 205] + scores[xy - 137] + scores[xy - 69] + scores[xy - 1] + scores[xy + 67] + scores[xy + 135] + scores[xy + 203] + scores[xy + 271] + scores[xy - 340] + scores[xy - 272] + scores[xy - 204] + scores[xy - 136] + scores[xy - 68] + scores[xy ] + scores[xy + 68] + scores[xy + 136] + scores[xy + 204] + scores[xy + 272] + scores[xy + 340] + scores[xy - 271] + scores[xy - 203] + scores[xy - 135] + scores[xy - 67] + scores[xy + 1] + scores[xy + 69] + scores[xy + 137] + scores[xy + 205] + scores[xy + 273] + scores[xy - 270] + scores[xy - 202] + scores[xy - 134] + scores[xy - 66] + scores[xy + 2] + scores[xy + 70] + scores[xy + 138] + scores[xy + 206] + scores[xy + 274] + scores[xy - 269] + scores[xy - 201] + scores[xy - 133] + scores[xy - 65] + scores[xy + 3] + scores[xy + 71] + scores[xy + 139] + scores[xy + 207] + scores[xy + 275] + scores[xy - 200] + scores[xy - 132] + scores[xy - 64] + scores[xy + 4] + scores[xy + 72] + scores[xy + 140] + scores[xy + 208] + scores[xy + 5]);
-                                case SOUTHEAST -> (int)( + scores[xy - 5] + scores[xy - 208] + scores[xy - 140] + scores[xy - 72] + scores[xy - 4] + scores[xy + 64] + scores[xy + 132] + scores[xy + 200] + scores[xy - 275] + scores[xy - 207] + scores[xy - 139] + scores[xy - 71] + scores[xy - 3] + scores[xy + 65] + scores[xy + 133] + scores[xy + 201] + scores[xy + 269] + scores[xy - 274] + scores[xy - 206] + scores[xy - 138] + scores[xy - 70] + scores[xy - 2] + scores[xy + 66] + scores[xy + 134] + scores[xy + 202] + scores[xy + 270] + scores[xy - 273] + scores[xy - 205] + scores[xy - 137] + scores[xy - 69] + scores[xy - 1] + scores[xy + 67] + scores[xy + 135] + scores[xy + 203] + scores[xy + 271] + scores[xy - 340] + scores[xy - 272] + scores[xy - 204] + scores[xy - 136] + scores[xy - 68] + scores[xy ] + scores[xy + 68] + scores[xy + 136] + scores[xy + 204] + scores[xy + 272] + scores[xy + 340] + scores[xy - 271] + scores[xy - 203] + scores[xy - 135] + scores[xy - 67] + scores[xy + 1] + scores[xy + 69] + scores[xy + 137] + scores[xy + 205] + scores[xy + 273] + scores[xy - 270] + scores[xy - 202] + scores[xy - 134] + scores[xy - 66] + scores[xy + 2] + scores[xy + 70] + scores[xy + 138] + scores[xy + 206] + scores[xy + 274] + scores[xy - 269] + scores[xy - 201] + scores[xy - 133] + scores[xy - 65] + scores[xy + 3] + scores[xy + 71] + scores[xy + 139] + scores[xy + 207] + scores[xy + 275] + scores[xy - 200] + scores[xy - 132] + scores[xy - 64] + scores[xy + 4] + scores[xy + 72] + scores[xy + 140] + scores[xy + 208] + scores[xy + 5]);
-                                case SOUTH -> (int)( + scores[xy - 5] + scores[xy - 208] + scores[xy - 140] + scores[xy - 72] + scores[xy - 4] + scores[xy + 64] + scores[xy + 132] + scores[xy + 200] + scores[xy - 275] + scores[xy - 207] + scores[xy - 139] + scores[xy - 71] + scores[xy - 3] + scores[xy + 65] + scores[xy + 133] + scores[xy + 201] + scores[xy + 269] + scores[xy - 274] + scores[xy - 206] + scores[xy - 138] + scores[xy - 70] + scores[xy - 2] + scores[xy + 66] + scores[xy + 134] + scores[xy + 202] + scores[xy + 270] + scores[xy - 273] + scores[xy - 205] + scores[xy - 137] + scores[xy - 69] + scores[xy - 1] + scores[xy + 67] + scores[xy + 135] + scores[xy + 203] + scores[xy + 271] + scores[xy - 340] + scores[xy - 272] + scores[xy - 204] + scores[xy - 136] + scores[xy - 68] + scores[xy ] + scores[xy + 68] + scores[xy + 136] + scores[xy + 204] + scores[xy + 272] + scores[xy + 340] + scores[xy - 271] + scores[xy - 203] + scores[xy - 135] + scores[xy - 67] + scores[xy + 1] + scores[xy + 69] + scores[xy + 137] + scores[xy + 205] + scores[xy + 273] + scores[xy - 270] + scores[xy - 202] + scores[xy - 134] + scores[xy - 66] + scores[xy + 2] + scores[xy + 70] + scores[xy + 138] + scores[xy + 206] + scores[xy + 274] + scores[xy - 269] + scores[xy - 201] + scores[xy - 133] + scores[xy - 65] + scores[xy + 3] + scores[xy + 71] + scores[xy + 139] + scores[xy + 207] + scores[xy + 275] + scores[xy - 200] + scores[xy - 132] + scores[xy - 64] + scores[xy + 4] + scores[xy + 72] + scores[xy + 140] + scores[xy + 208] + scores[xy + 5]);
-                                case SOUTHWEST -> (int)( + scores[xy - 5] + scores[xy - 208] + scores[xy - 140] + scores[xy - 72] + scores[xy - 4] + scores[xy + 64] + scores[xy + 132] + scores[xy + 200] + scores[xy - 275] + scores[xy - 207] + scores[xy - 139] + scores[xy - 71] + scores[xy - 3] + scores[xy + 65] + scores[xy + 133] + scores[xy + 201] + scores[xy + 269] + scores[xy - 274] + scores[xy - 206] + scores[xy - 138] + scores[xy - 70] + scores[xy - 2] + scores[xy + 66] + scores[xy + 134] + scores[xy + 202] + scores[xy + 270] + scores[xy - 273] + scores[xy - 205] + scores[xy - 137] + scores[xy - 69] + scores[xy - 1] + scores[xy + 67] + scores[xy + 135] + scores[xy + 203] + scores[xy + 271] + scores[xy - 340] + scores[xy - 272] + scores[xy - 204] + scores[xy - 136] + scores[xy - 68] + scores[xy ] + scores[xy + 68] + scores[xy + 136] + scores[xy + 204] + scores[xy + 272] + scores[xy + 340] + scores[xy - 271] + scores[xy - 203] + scores[xy - 135] + scores[xy - 67] + scores[xy + 1] + scores[xy + 69] + scores[xy + 137] + scores[xy + 205] + scores[xy + 273] + scores[xy - 270] + scores[xy - 202] + scores[xy - 134] + scores[xy - 66] + scores[xy + 2] + scores[xy + 70] + scores[xy + 138] + scores[xy + 206] + scores[xy + 274] + scores[xy - 269] + scores[xy - 201] + scores[xy - 133] + scores[xy - 65] + scores[xy + 3] + scores[xy + 71] + scores[xy + 139] + scores[xy + 207] + scores[xy + 275] + scores[xy - 200] + scores[xy - 132] + scores[xy - 64] + scores[xy + 4] + scores[xy + 72] + scores[xy + 140] + scores[xy + 208] + scores[xy + 5]);
-                                case WEST -> (int)( + scores[xy - 5] + scores[xy - 208] + scores[xy - 140] + scores[xy - 72] + scores[xy - 4] + scores[xy + 64] + scores[xy + 132] + scores[xy + 200] + scores[xy - 275] + scores[xy - 207] + scores[xy - 139] + scores[xy - 71] + scores[xy - 3] + scores[xy + 65] + scores[xy + 133] + scores[xy + 201] + scores[xy + 269] + scores[xy - 274] + scores[xy - 206] + scores[xy - 138] + scores[xy - 70] + scores[xy - 2] + scores[xy + 66] + scores[xy + 134] + scores[xy + 202] + scores[xy + 270] + scores[xy - 273] + scores[xy - 205] + scores[xy - 137] + scores[xy - 69] + scores[xy - 1] + scores[xy + 67] + scores[xy + 135] + scores[xy + 203] + scores[xy + 271] + scores[xy - 340] + scores[xy - 272] + scores[xy - 204] + scores[xy - 136] + scores[xy - 68] + scores[xy ] + scores[xy + 68] + scores[xy + 136] + scores[xy + 204] + scores[xy + 272] + scores[xy + 340] + scores[xy - 271] + scores[xy - 203] + scores[xy - 135] + scores[xy - 67] + scores[xy + 1] + scores[xy + 69] + scores[xy + 137] + scores[xy + 205] + scores[xy + 273] + scores[xy - 270] + scores[xy - 202] + scores[xy - 134] + scores[xy - 66] + scores[xy + 2] + scores[xy + 70] + scores[xy + 138] + scores[xy + 206] + scores[xy + 274] + scores[xy - 269] + scores[xy - 201] + scores[xy - 133] + scores[xy - 65] + scores[xy + 3] + scores[xy + 71] + scores[xy + 139] + scores[xy + 207] + scores[xy + 275] + scores[xy - 200] + scores[xy - 132] + scores[xy - 64] + scores[xy + 4] + scores[xy + 72] + scores[xy + 140] + scores[xy + 208] + scores[xy + 5]);
-                                case NORTHWEST -> (int)( + scores[xy - 5] + scores[xy - 208] + scores[xy - 140] + scores[xy - 72] + scores[xy - 4] + scores[xy + 64] + scores[xy + 132] + scores[xy + 200] + scores[xy - 275] + scores[xy - 207] + scores[xy - 139] + scores[xy - 71] + scores[xy - 3] + scores[xy + 65] + scores[xy + 133] + scores[xy + 201] + scores[xy + 269] + scores[xy - 274] + scores[xy - 206] + scores[xy - 138] + scores[xy - 70] + scores[xy - 2] + scores[xy + 66] + scores[xy + 134] + scores[xy + 202] + scores[xy + 270] + scores[xy - 273] + scores[xy - 205] + scores[xy - 137] + scores[xy - 69] + scores[xy - 1] + scores[xy + 67] + scores[xy + 135] + scores[xy + 203] + scores[xy + 271] + scores[xy - 340] + scores[xy - 272] + scores[xy - 204] + scores[xy - 136] + scores[xy - 68] + scores[xy ] + scores[xy + 68] + scores[xy + 136] + scores[xy + 204] + scores[xy + 272] + scores[xy + 340] + scores[xy - 271] + scores[xy - 203] + scores[xy - 135] + scores[xy - 67] + scores[xy + 1] + scores[xy + 69] + scores[xy + 137] + scores[xy + 205] + scores[xy + 273] + scores[xy - 270] + scores[xy - 202] + scores[xy - 134] + scores[xy - 66] + scores[xy + 2] + scores[xy + 70] + scores[xy + 138] + scores[xy + 206] + scores[xy + 274] + scores[xy - 269] + scores[xy - 201] + scores[xy - 133] + scores[xy - 65] + scores[xy + 3] + scores[xy + 71] + scores[xy + 139] + scores[xy + 207] + scores[xy + 275] + scores[xy - 200] + scores[xy - 132] + scores[xy - 64] + scores[xy + 4] + scores[xy + 72] + scores[xy + 140] + scores[xy + 208] + scores[xy + 5]);
+                                case NORTH -> (int)( + scores[xy - 5] + scores[xy - 388] + scores[xy - 260] + scores[xy - 132] + scores[xy - 4] + scores[xy + 124] + scores[xy + 252] + scores[xy + 380] + scores[xy - 515] + scores[xy - 387] + scores[xy - 259] + scores[xy - 131] + scores[xy - 3] + scores[xy + 125] + scores[xy + 253] + scores[xy + 381] + scores[xy + 509] + scores[xy - 514] + scores[xy - 386] + scores[xy - 258] + scores[xy - 130] + scores[xy - 2] + scores[xy + 126] + scores[xy + 254] + scores[xy + 382] + scores[xy + 510] + scores[xy - 513] + scores[xy - 385] + scores[xy - 257] + scores[xy - 129] + scores[xy - 1] + scores[xy + 127] + scores[xy + 255] + scores[xy + 383] + scores[xy + 511] + scores[xy - 640] + scores[xy - 512] + scores[xy - 384] + scores[xy - 256] + scores[xy - 128] + scores[xy ] + scores[xy + 128] + scores[xy + 256] + scores[xy + 384] + scores[xy + 512] + scores[xy + 640] + scores[xy - 511] + scores[xy - 383] + scores[xy - 255] + scores[xy - 127] + scores[xy + 1] + scores[xy + 129] + scores[xy + 257] + scores[xy + 385] + scores[xy + 513] + scores[xy - 510] + scores[xy - 382] + scores[xy - 254] + scores[xy - 126] + scores[xy + 2] + scores[xy + 130] + scores[xy + 258] + scores[xy + 386] + scores[xy + 514] + scores[xy - 509] + scores[xy - 381] + scores[xy - 253] + scores[xy - 125] + scores[xy + 3] + scores[xy + 131] + scores[xy + 259] + scores[xy + 387] + scores[xy + 515] + scores[xy - 380] + scores[xy - 252] + scores[xy - 124] + scores[xy + 4] + scores[xy + 132] + scores[xy + 260] + scores[xy + 388] + scores[xy + 5]);
+                                case NORTHEAST -> (int)( + scores[xy - 5] + scores[xy - 388] + scores[xy - 260] + scores[xy - 132] + scores[xy - 4] + scores[xy + 124] + scores[xy + 252] + scores[xy + 380] + scores[xy - 515] + scores[xy - 387] + scores[xy - 259] + scores[xy - 131] + scores[xy - 3] + scores[xy + 125] + scores[xy + 253] + scores[xy + 381] + scores[xy + 509] + scores[xy - 514] + scores[xy - 386] + scores[xy - 258] + scores[xy - 130] + scores[xy - 2] + scores[xy + 126] + scores[xy + 254] + scores[xy + 382] + scores[xy + 510] + scores[xy - 513] + scores[xy - 385] + scores[xy - 257] + scores[xy - 129] + scores[xy - 1] + scores[xy + 127] + scores[xy + 255] + scores[xy + 383] + scores[xy + 511] + scores[xy - 640] + scores[xy - 512] + scores[xy - 384] + scores[xy - 256] + scores[xy - 128] + scores[xy ] + scores[xy + 128] + scores[xy + 256] + scores[xy + 384] + scores[xy + 512] + scores[xy + 640] + scores[xy - 511] + scores[xy - 383] + scores[xy - 255] + scores[xy - 127] + scores[xy + 1] + scores[xy + 129] + scores[xy + 257] + scores[xy + 385] + scores[xy + 513] + scores[xy - 510] + scores[xy - 382] + scores[xy - 254] + scores[xy - 126] + scores[xy + 2] + scores[xy + 130] + scores[xy + 258] + scores[xy + 386] + scores[xy + 514] + scores[xy - 509] + scores[xy - 381] + scores[xy - 253] + scores[xy - 125] + scores[xy + 3] + scores[xy + 131] + scores[xy + 259] + scores[xy + 387] + scores[xy + 515] + scores[xy - 380] + scores[xy - 252] + scores[xy - 124] + scores[xy + 4] + scores[xy + 132] + scores[xy + 260] + scores[xy + 388] + scores[xy + 5]);
+                                case EAST -> (int)( + scores[xy - 5] + scores[xy - 388] + scores[xy - 260] + scores[xy - 132] + scores[xy - 4] + scores[xy + 124] + scores[xy + 252] + scores[xy + 380] + scores[xy - 515] + scores[xy - 387] + scores[xy - 259] + scores[xy - 131] + scores[xy - 3] + scores[xy + 125] + scores[xy + 253] + scores[xy + 381] + scores[xy + 509] + scores[xy - 514] + scores[xy - 386] + scores[xy - 258] + scores[xy - 130] + scores[xy - 2] + scores[xy + 126] + scores[xy + 254] + scores[xy + 382] + scores[xy + 510] + scores[xy - 513] + scores[xy - 385] + scores[xy - 257] + scores[xy - 129] + scores[xy - 1] + scores[xy + 127] + scores[xy + 255] + scores[xy + 383] + scores[xy + 511] + scores[xy - 640] + scores[xy - 512] + scores[xy - 384] + scores[xy - 256] + scores[xy - 128] + scores[xy ] + scores[xy + 128] + scores[xy + 256] + scores[xy + 384] + scores[xy + 512] + scores[xy + 640] + scores[xy - 511] + scores[xy - 383] + scores[xy - 255] + scores[xy - 127] + scores[xy + 1] + scores[xy + 129] + scores[xy + 257] + scores[xy + 385] + scores[xy + 513] + scores[xy - 510] + scores[xy - 382] + scores[xy - 254] + scores[xy - 126] + scores[xy + 2] + scores[xy + 130] + scores[xy + 258] + scores[xy + 386] + scores[xy + 514] + scores[xy - 509] + scores[xy - 381] + scores[xy - 253] + scores[xy - 125] + scores[xy + 3] + scores[xy + 131] + scores[xy + 259] + scores[xy + 387] + scores[xy + 515] + scores[xy - 380] + scores[xy - 252] + scores[xy - 124] + scores[xy + 4] + scores[xy + 132] + scores[xy + 260] + scores[xy + 388] + scores[xy + 5]);
+                                case SOUTHEAST -> (int)( + scores[xy - 5] + scores[xy - 388] + scores[xy - 260] + scores[xy - 132] + scores[xy - 4] + scores[xy + 124] + scores[xy + 252] + scores[xy + 380] + scores[xy - 515] + scores[xy - 387] + scores[xy - 259] + scores[xy - 131] + scores[xy - 3] + scores[xy + 125] + scores[xy + 253] + scores[xy + 381] + scores[xy + 509] + scores[xy - 514] + scores[xy - 386] + scores[xy - 258] + scores[xy - 130] + scores[xy - 2] + scores[xy + 126] + scores[xy + 254] + scores[xy + 382] + scores[xy + 510] + scores[xy - 513] + scores[xy - 385] + scores[xy - 257] + scores[xy - 129] + scores[xy - 1] + scores[xy + 127] + scores[xy + 255] + scores[xy + 383] + scores[xy + 511] + scores[xy - 640] + scores[xy - 512] + scores[xy - 384] + scores[xy - 256] + scores[xy - 128] + scores[xy ] + scores[xy + 128] + scores[xy + 256] + scores[xy + 384] + scores[xy + 512] + scores[xy + 640] + scores[xy - 511] + scores[xy - 383] + scores[xy - 255] + scores[xy - 127] + scores[xy + 1] + scores[xy + 129] + scores[xy + 257] + scores[xy + 385] + scores[xy + 513] + scores[xy - 510] + scores[xy - 382] + scores[xy - 254] + scores[xy - 126] + scores[xy + 2] + scores[xy + 130] + scores[xy + 258] + scores[xy + 386] + scores[xy + 514] + scores[xy - 509] + scores[xy - 381] + scores[xy - 253] + scores[xy - 125] + scores[xy + 3] + scores[xy + 131] + scores[xy + 259] + scores[xy + 387] + scores[xy + 515] + scores[xy - 380] + scores[xy - 252] + scores[xy - 124] + scores[xy + 4] + scores[xy + 132] + scores[xy + 260] + scores[xy + 388] + scores[xy + 5]);
+                                case SOUTH -> (int)( + scores[xy - 5] + scores[xy - 388] + scores[xy - 260] + scores[xy - 132] + scores[xy - 4] + scores[xy + 124] + scores[xy + 252] + scores[xy + 380] + scores[xy - 515] + scores[xy - 387] + scores[xy - 259] + scores[xy - 131] + scores[xy - 3] + scores[xy + 125] + scores[xy + 253] + scores[xy + 381] + scores[xy + 509] + scores[xy - 514] + scores[xy - 386] + scores[xy - 258] + scores[xy - 130] + scores[xy - 2] + scores[xy + 126] + scores[xy + 254] + scores[xy + 382] + scores[xy + 510] + scores[xy - 513] + scores[xy - 385] + scores[xy - 257] + scores[xy - 129] + scores[xy - 1] + scores[xy + 127] + scores[xy + 255] + scores[xy + 383] + scores[xy + 511] + scores[xy - 640] + scores[xy - 512] + scores[xy - 384] + scores[xy - 256] + scores[xy - 128] + scores[xy ] + scores[xy + 128] + scores[xy + 256] + scores[xy + 384] + scores[xy + 512] + scores[xy + 640] + scores[xy - 511] + scores[xy - 383] + scores[xy - 255] + scores[xy - 127] + scores[xy + 1] + scores[xy + 129] + scores[xy + 257] + scores[xy + 385] + scores[xy + 513] + scores[xy - 510] + scores[xy - 382] + scores[xy - 254] + scores[xy - 126] + scores[xy + 2] + scores[xy + 130] + scores[xy + 258] + scores[xy + 386] + scores[xy + 514] + scores[xy - 509] + scores[xy - 381] + scores[xy - 253] + scores[xy - 125] + scores[xy + 3] + scores[xy + 131] + scores[xy + 259] + scores[xy + 387] + scores[xy + 515] + scores[xy - 380] + scores[xy - 252] + scores[xy - 124] + scores[xy + 4] + scores[xy + 132] + scores[xy + 260] + scores[xy + 388] + scores[xy + 5]);
+                                case SOUTHWEST -> (int)( + scores[xy - 5] + scores[xy - 388] + scores[xy - 260] + scores[xy - 132] + scores[xy - 4] + scores[xy + 124] + scores[xy + 252] + scores[xy + 380] + scores[xy - 515] + scores[xy - 387] + scores[xy - 259] + scores[xy - 131] + scores[xy - 3] + scores[xy + 125] + scores[xy + 253] + scores[xy + 381] + scores[xy + 509] + scores[xy - 514] + scores[xy - 386] + scores[xy - 258] + scores[xy - 130] + scores[xy - 2] + scores[xy + 126] + scores[xy + 254] + scores[xy + 382] + scores[xy + 510] + scores[xy - 513] + scores[xy - 385] + scores[xy - 257] + scores[xy - 129] + scores[xy - 1] + scores[xy + 127] + scores[xy + 255] + scores[xy + 383] + scores[xy + 511] + scores[xy - 640] + scores[xy - 512] + scores[xy - 384] + scores[xy - 256] + scores[xy - 128] + scores[xy ] + scores[xy + 128] + scores[xy + 256] + scores[xy + 384] + scores[xy + 512] + scores[xy + 640] + scores[xy - 511] + scores[xy - 383] + scores[xy - 255] + scores[xy - 127] + scores[xy + 1] + scores[xy + 129] + scores[xy + 257] + scores[xy + 385] + scores[xy + 513] + scores[xy - 510] + scores[xy - 382] + scores[xy - 254] + scores[xy - 126] + scores[xy + 2] + scores[xy + 130] + scores[xy + 258] + scores[xy + 386] + scores[xy + 514] + scores[xy - 509] + scores[xy - 381] + scores[xy - 253] + scores[xy - 125] + scores[xy + 3] + scores[xy + 131] + scores[xy + 259] + scores[xy + 387] + scores[xy + 515] + scores[xy - 380] + scores[xy - 252] + scores[xy - 124] + scores[xy + 4] + scores[xy + 132] + scores[xy + 260] + scores[xy + 388] + scores[xy + 5]);
+                                case WEST -> (int)( + scores[xy - 5] + scores[xy - 388] + scores[xy - 260] + scores[xy - 132] + scores[xy - 4] + scores[xy + 124] + scores[xy + 252] + scores[xy + 380] + scores[xy - 515] + scores[xy - 387] + scores[xy - 259] + scores[xy - 131] + scores[xy - 3] + scores[xy + 125] + scores[xy + 253] + scores[xy + 381] + scores[xy + 509] + scores[xy - 514] + scores[xy - 386] + scores[xy - 258] + scores[xy - 130] + scores[xy - 2] + scores[xy + 126] + scores[xy + 254] + scores[xy + 382] + scores[xy + 510] + scores[xy - 513] + scores[xy - 385] + scores[xy - 257] + scores[xy - 129] + scores[xy - 1] + scores[xy + 127] + scores[xy + 255] + scores[xy + 383] + scores[xy + 511] + scores[xy - 640] + scores[xy - 512] + scores[xy - 384] + scores[xy - 256] + scores[xy - 128] + scores[xy ] + scores[xy + 128] + scores[xy + 256] + scores[xy + 384] + scores[xy + 512] + scores[xy + 640] + scores[xy - 511] + scores[xy - 383] + scores[xy - 255] + scores[xy - 127] + scores[xy + 1] + scores[xy + 129] + scores[xy + 257] + scores[xy + 385] + scores[xy + 513] + scores[xy - 510] + scores[xy - 382] + scores[xy - 254] + scores[xy - 126] + scores[xy + 2] + scores[xy + 130] + scores[xy + 258] + scores[xy + 386] + scores[xy + 514] + scores[xy - 509] + scores[xy - 381] + scores[xy - 253] + scores[xy - 125] + scores[xy + 3] + scores[xy + 131] + scores[xy + 259] + scores[xy + 387] + scores[xy + 515] + scores[xy - 380] + scores[xy - 252] + scores[xy - 124] + scores[xy + 4] + scores[xy + 132] + scores[xy + 260] + scores[xy + 388] + scores[xy + 5]);
+                                case NORTHWEST -> (int)( + scores[xy - 5] + scores[xy - 388] + scores[xy - 260] + scores[xy - 132] + scores[xy - 4] + scores[xy + 124] + scores[xy + 252] + scores[xy + 380] + scores[xy - 515] + scores[xy - 387] + scores[xy - 259] + scores[xy - 131] + scores[xy - 3] + scores[xy + 125] + scores[xy + 253] + scores[xy + 381] + scores[xy + 509] + scores[xy - 514] + scores[xy - 386] + scores[xy - 258] + scores[xy - 130] + scores[xy - 2] + scores[xy + 126] + scores[xy + 254] + scores[xy + 382] + scores[xy + 510] + scores[xy - 513] + scores[xy - 385] + scores[xy - 257] + scores[xy - 129] + scores[xy - 1] + scores[xy + 127] + scores[xy + 255] + scores[xy + 383] + scores[xy + 511] + scores[xy - 640] + scores[xy - 512] + scores[xy - 384] + scores[xy - 256] + scores[xy - 128] + scores[xy ] + scores[xy + 128] + scores[xy + 256] + scores[xy + 384] + scores[xy + 512] + scores[xy + 640] + scores[xy - 511] + scores[xy - 383] + scores[xy - 255] + scores[xy - 127] + scores[xy + 1] + scores[xy + 129] + scores[xy + 257] + scores[xy + 385] + scores[xy + 513] + scores[xy - 510] + scores[xy - 382] + scores[xy - 254] + scores[xy - 126] + scores[xy + 2] + scores[xy + 130] + scores[xy + 258] + scores[xy + 386] + scores[xy + 514] + scores[xy - 509] + scores[xy - 381] + scores[xy - 253] + scores[xy - 125] + scores[xy + 3] + scores[xy + 131] + scores[xy + 259] + scores[xy + 387] + scores[xy + 515] + scores[xy - 380] + scores[xy - 252] + scores[xy - 124] + scores[xy + 4] + scores[xy + 132] + scores[xy + 260] + scores[xy + 388] + scores[xy + 5]);
                 
                 case CENTER -> {
                     System.out.println("ERR: getScoreInViewCan't turn to center");
@@ -1362,16 +1370,23 @@ public class VisionUtils {
 
         for(MapInfo infos: rc.senseNearbyMapInfos()){
             MapLocation loc = infos.getMapLocation();
-            int xy = loc.x + (loc.y<<7) + 129;
+            int xy = loc.x + (loc.y<<7) + 1032;
+            char score;
             if (infos.getTrap() != TrapType.NONE) {
-                scores[xy] = wall;
+                score = wall;
             } else if (infos.isPassable()) {
-                scores[xy] = passable;
+                score = passable;
             } else if (infos.isDirt()) {
-                scores[xy] = dirt;
+                score = dirt;
             } else {
-                scores[xy] = wall;
+                score = wall;
+            }
+
+            // Saved path is only valid until first cell with an higher cost
+            if (score > scores[xy]) {
+                BugNavLmx.costChanged(xy);
             }
+            scores[xy] = score;
         }
     }
 }
\ No newline at end of file
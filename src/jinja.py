@@ -81,10 +81,6 @@ dirsDelta = {
 }
 reverseDirsDelta = {v: k for k, v in dirsDelta.items()}
 
-dirsShift60xy = {}
-for dir, coo in dirsDelta.items():
-    dirsShift60xy[dir] = coo[0] + 60 * coo[1]
-
 dirsShift7Bxy = {}
 for dir, coo in dirsDelta.items():
     dirsShift7Bxy[dir] = coo[0] + (coo[1] << 7)
@@ -101,23 +97,31 @@ def rotate(direction, indicator, amount):
 
     return anglesToDirections[(directionsToAngle[direction] + shift * amount) % 360]
 
+# Single layout of every per cell array (BugNavLmx.mapCosts, VisionUtils.scores, Micro.mapInfos, ...), Grid.java in Java:
+#   xy = (x + GRID_PAD) + ((y + GRID_PAD) << 7) = x + (y << 7) + GRID_OFFSET
+# Vision shifts go up to 8 cells out of the map, GRID_PAD cells on each side keep them in the array
+GRID_PAD = 8
+GRID_OFFSET = GRID_PAD + (GRID_PAD << 7)
+GRID_SIZE = (60 + 2 * GRID_PAD) << 7
+
 def encodeCellPathfinding(x, y):
     if type(x) == int and type(y) == int:
-        return (x + 1) + ((y + 1) << 7)
+        return (x + GRID_PAD) + ((y + GRID_PAD) << 7)
     if(type(x) == str and type(y) == str):
-        return f"{x} + ({y}<<7) + {1 + (1<<7)}"
+        return f"{x} + ({y}<<7) + {GRID_OFFSET}"
     return "INVALID_XY"
 
 def dirsToNeirbyCell(cellFrom, cellTo):
     return reverseDirsDelta[(cellTo[0] - cellFrom[0], cellTo[1] - cellFrom[1])]
 
 def addDelimiter(xy):
+    # Added rather than or-ed: x + GRID_PAD can use bit 6, the hash then only depends on end - start
     if type(xy) == int:
         #   32109876543210
         # 0b10000001000000
-        return xy | 0b10000001000000
+        return xy + 0b10000001000000
     if type(xy) == str:
-        return f"({xy}) | {0b10000001000000}"
+        return f"({xy}) + {0b10000001000000}"
     return "INVALID_XY"
 
 # Direction from start to end
@@ -214,16 +218,16 @@ def genDirectionCharArray():
 
 def xyToMapLocation(xy):
     if type(xy) == int:
-        return f"new MapLocation({(xy & 0b111111) - 1}, {(xy >> 7) - 1})"
+        return f"new MapLocation({(xy & 0b1111111) - GRID_PAD}, {(xy >> 7) - GRID_PAD})"
     if type(xy) == str:
-        return f"new MapLocation(({xy} & 0b111111) - 1, ({xy} >> 7) - 1)"
+        return f"new MapLocation(({xy} & 0b1111111) - {GRID_PAD}, ({xy} >> 7) - {GRID_PAD})"
     return "INVALID_XY"
 
 def generateEmptyMapCosts7B(passableValue, mod2value, borderValue, invalidValue):
-    costs = [invalidValue for _ in range(encodeCellPathfinding(61, 61) + 1)]
+    costs = [invalidValue for _ in range(GRID_SIZE)]
     for x in range(-1, 62):
         for y in range(-1, 62):
-            # Valid cells are between 1 and 60
+            # Map cells are between 0 and 59, setWidth() and setHeight() add the real border
             if x == -1 or x == 61 or y == -1 or y == 61:
                 costs[encodeCellPathfinding(x, y)] = borderValue
             elif x % 2 == 0 and y % 2 == 0:
@@ -249,32 +253,19 @@ def shiftCell(cell, direction):
 def reverseRange(n):
     return reversed(list(range(n)))
 
-def encodeXY(cell, gap):
-    x, y = cell
-    return (x+gap) + (y+gap)*(60+gap)
+def encodeXY(cell):
+    return encodeCellPathfinding(*cell)
 
-def encodeShift(cell, gap): # Same has encode, but we dont have to shift to place the cell [0, 0] to [gap, gap]
+def encodeShift(cell): # Same has encode, but we dont have to shift to place the cell [0, 0] to [GRID_PAD, GRID_PAD]
     x, y = cell
-    shift = x + y*(60 + gap)
-
     # Since the value on witch we are calling the shift is an int, dont need to use overflow
-    # if shift < 0:
-    #    return 2**16 - shift
+    return x + (y << 7)
 
-    return shift
+def encodeXYString():
+    return encodeCellPathfinding("x", "y")
 
-def encodeXYString(gap):
-    # return (x+gap) + (y+gap)*(60+gap)
-    # return x + y*(60+gap) + gap + gap*(60+gap)
-    if gap != 0:
-        constShift = gap + gap*(60+gap)
-        return f"x + y*{(60 + gap)} + {constShift}"
-    return f"x + y*60"
-
-def encodeXYLoc(gap):
-    if gap != 0:
-        return f"loc.x + loc.y*{(60 + gap)} + {gap + gap*(60+gap)}"
-    return f"loc.x + loc.y*60"
+def encodeXYLoc():
+    return encodeCellPathfinding("loc.x", "loc.y")
 
 def intToChar(valeur):
     return "\\u"+hex(valeur)[2:].zfill(4)
@@ -383,8 +374,8 @@ def visionCells(unit, direction):
             cells.append((x, y))
     return cells
 
-def visionCellsXY(unit, direction, gap):
-    return [encodeShift(cell, gap) for cell in visionCells(unit, direction)]
+def visionCellsXY(unit, direction):
+    return [encodeShift(cell) for cell in visionCells(unit, direction)]
 
 def cellsInRadius(r):
     cells = []
@@ -413,28 +404,28 @@ def genVisionCell(unit, direction, movement):
         ) + "}"
     )
 
-def genScoreInView(unit, direction, movement, gap=8):
+def genScoreInView(unit, direction, movement):
     result = ""
     for cell in shiftCells(visionCells(unit, direction), movement):
-        result += f" + scores[xy + { encodeShift(cell, gap) }]"
+        result += f" + scores[xy + { encodeShift(cell) }]"
 
     return sanitizeOperation(result)
-def genMemoryCharArray(defaultValue, gapValue, gap):
+def genMemoryCharArray(defaultValue, gapValue):
     # Convert gapValue to hex \u0000
     gapValue = "\\u"+hex(gapValue)[2:].zfill(4)
     defaultValue = "\\u"+hex(defaultValue)[2:].zfill(4)
 
-    array = [gapValue for _ in range((60 + gap*2) * (60 + gap*2))]
+    array = [gapValue for _ in range(GRID_SIZE)]
     for x in range(60):
         for y in range(60):
-            array[encodeXY((x, y), gap)] = defaultValue
+            array[encodeXY((x, y))] = defaultValue
     return  '"' + "".join(array) + '".toCharArray()'
 
-def genMemoryIntArray(defaultValue, gapValue, gap):
-    array = [gapValue for _ in range((60 + gap*2) * (60 + gap*2))]
+def genMemoryIntArray(defaultValue, gapValue):
+    array = [gapValue for _ in range(GRID_SIZE)]
     for x in range(60):
         for y in range(60):
-            array[encodeXY((x, y), gap)] = defaultValue
+            array[encodeXY((x, y))] = defaultValue
     return  '{' + ",".join(map(str, array)) + '}'
 
 def cellsSquareRadius(radius):
@@ -445,6 +436,101 @@ def cellsSquareRadius(radius):
 
     return list(set(cells))
 
+############################### Message schema ###############################
+# Single definition of messages, rendered by Messages.java.jinja2 (types, encoders and decoder).
+# A message is its type in bits 24-28 and its fields packed from bit 0, in the order they are listed.
+# Squeaks add the direction of the sender in bits 29-31.
+# decode : extra arguments given to the handler after the fields, None if the message needs
+#          the squeak it came from (sender location) and is decoded in Communication.readFromSqueak
+# handler: method called by Messages.decode, Communication.on<Name> if not set
+
+MESSAGE_PAYLOAD_BITS = 24
+MESSAGE_TYPE_BITS = 4 # Type of a shared array record is 4 bits, so codes are in [1, 15]
+
+MESSAGES = [
+    dict(name="CAT",           code=1,  fields=[("x", 6), ("y", 6), ("id", 12)], decode=[]),
+    dict(name="KING",          code=2,  fields=[("x", 6), ("y", 6), ("id", 12)], decode=[]),
+    dict(name="ENEMY_KING",    code=3,  fields=[("x", 6), ("y", 6), ("id", 12)], decode=[]),
+    dict(name="MINE",          code=4,  fields=[("x", 6), ("y", 6)],            decode=["isFromArray"]),
+    dict(name="ENEMY_RAT",     code=5,  fields=[("x", 6), ("y", 6), ("id", 12)], decode=[]),
+    dict(name="ALLY_RAT",      code=6,  fields=[("x", 6), ("y", 6), ("id", 12)], decode=[]),
+    dict(name="MICRO",         code=7,  fields=[("relative", 8), ("dirTarget", 3), ("targetId", 12)], decode=None),
+    dict(name="MAKE_KING",     code=8,  fields=[("x", 6), ("y", 6)],            decode=[]),
+    dict(name="DEFEND",        code=9,  fields=[("x", 6), ("y", 6), ("id", 12)], decode=[]),
+    dict(name="SECTOR",        code=10, fields=[("hints", 16), ("row", 3), ("half", 1), ("field", 1)], decode=[],
+         handler="SectorHints.onSector"),
+    dict(name="SECTOR_TARGET", code=11, fields=[("x", 6), ("y", 6), ("field", 1)], decode=[],
+         handler="SectorHints.onSectorTarget"),
+    dict(name="MINES_PAIR",    code=12, fields=[("first", 12), ("second", 12)], decode=None),
+    dict(name="MINES_NEAR",    code=13, fields=[("near1", 8), ("near2", 8), ("near3", 8)], decode=None),
+]
+
+def messageSchema():
+    # MESSAGES validated, with shift and mask of each field
+    schema = []
+    codes = set()
+    for message in MESSAGES:
+        name = message["name"]
+        code = message["code"]
+        if not re.fullmatch(r"[A-Z][A-Z0-9_]*", name):
+            raise ValueError(f"Message schema: invalid name {name}")
+        if not 1 <= code < (1 << MESSAGE_TYPE_BITS):
+            raise ValueError(f"Message schema: code of {name} should be in [1, {(1 << MESSAGE_TYPE_BITS) - 1}], got {code}")
+        if code in codes:
+            raise ValueError(f"Message schema: code {code} of {name} already used")
+        codes.add(code)
+
+        fields = []
+        shift = 0
+        for fieldName, bits in message["fields"]:
+            if bits <= 0 or fieldName in [field["name"] for field in fields]:
+                raise ValueError(f"Message schema: invalid field {fieldName} in {name}")
+            fields.append(dict(name=fieldName, bits=bits, shift=shift, mask="0b" + "1" * bits))
+            shift += bits
+        if shift > MESSAGE_PAYLOAD_BITS:
+            raise ValueError(f"Message schema: {name} is {shift} bits, max is {MESSAGE_PAYLOAD_BITS}")
+
+        camel = "".join(word.capitalize() for word in name.split("_"))
+        schema.append(dict(
+            name=name, camel=camel, code=code, fields=fields, bits=shift, decode=message["decode"],
+            handler=message.get("handler", "Communication.on" + camel)
+        ))
+    return schema
+
+def messagePayloadBits():
+    # Indexed by code
+    bits = [0] * (1 << MESSAGE_TYPE_BITS)
+    for message in messageSchema():
+        bits[message["code"]] = message["bits"]
+    return bits
+
+def messageLayout(message):
+    # Comment of the layout, ex "x (0-5), y (6-11), id (12-23)"
+    return ", ".join(f"{field['name']} ({field['shift']}-{field['shift'] + field['bits'] - 1})" for field in message["fields"])
+
+def messageParams(message):
+    return ", ".join("int " + field["name"] for field in message["fields"])
+
+def messageOutOfRange(message):
+    # Not 0 if a field doesn't fit in its bits
+    return " | ".join(f"({field['name']} >>> {field['bits']})" for field in message["fields"])
+
+def messageEncode(message):
+    # Field at bit 0 is not shifted
+    return " | ".join([f"TYPE_{message['name']}"] + [
+        field["name"] if field["shift"] == 0 else f"({field['name']} << {field['shift']})"
+        for field in reversed(message["fields"])
+    ])
+
+def messageField(field, msg="msg"):
+    # Field at bit 0 is not shifted
+    if field["shift"] == 0:
+        return f"{msg} & {field['mask']}"
+    return f"({msg} >> {field['shift']}) & {field['mask']}"
+
+def messageDecodeArgs(message):
+    return ", ".join([messageField(field) for field in message["fields"]] + message["decode"])
+
 ############################### Jinja toolchain ###############################
 
 def extract_destination(template_path):
@@ -529,7 +615,9 @@ def process_template(template_path, base_dir, is_prod, params_dict=None, force_p
         dirsWithoutCenter=directionsWhitoutCenter,
         dirsOrdsOpposite=dirsOrdsOpposite,
         genMemoryIntArray=genMemoryIntArray,
-        dirsShift60xy=dirsShift60xy,
+        GRID_OFFSET=GRID_OFFSET,
+        GRID_PAD=GRID_PAD,
+        GRID_SIZE=GRID_SIZE,
         dirsShift7Bxy=dirsShift7Bxy,
         dirsShift7BxyArray=dirsShift7BxyArray,
         dirsToNeirbyCell=dirsToNeirbyCell,
@@ -544,6 +632,14 @@ def process_template(template_path, base_dir, is_prod, params_dict=None, force_p
         dirsOpposite=dirsOpposite,
         genDirectionCharArray=genDirectionCharArray,
         genMemoryCharArray=genMemoryCharArray,
+        messageDecodeArgs=messageDecodeArgs,
+        messageEncode=messageEncode,
+        messageField=messageField,
+        messageLayout=messageLayout,
+        messageOutOfRange=messageOutOfRange,
+        messageParams=messageParams,
+        messagePayloadBits=messagePayloadBits,
+        messageSchema=messageSchema,
         genScoreInView=genScoreInView,
         genVisionCell=genVisionCell,
         generateEmptyMapCosts7B=generateEmptyMapCosts7B,